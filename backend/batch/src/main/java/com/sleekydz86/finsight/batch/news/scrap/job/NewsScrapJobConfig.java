@@ -1,11 +1,18 @@
 package com.sleekydz86.finsight.batch.news.scrap.job;
 
-import com.sleekydz86.finsight.batch.news.scrap.tasklet.DjlAnalysisTasklet;
+import com.sleekydz86.finsight.batch.news.scrap.step.AiAnalysisItemWriter;
+import com.sleekydz86.finsight.batch.news.scrap.step.NewsAnalysisItem;
+import com.sleekydz86.finsight.batch.news.scrap.step.DjlAnalysisItemProcessor;
+import com.sleekydz86.finsight.batch.news.scrap.step.DjlAnalysisItemWriter;
+import com.sleekydz86.finsight.batch.news.scrap.step.DjlModelAvailabilityDecider;
+import com.sleekydz86.finsight.batch.news.scrap.step.NewsIdRangePartitioner;
 import com.sleekydz86.finsight.batch.news.scrap.tasklet.NewsCrawlingTasklet;
-import com.sleekydz86.finsight.batch.news.scrap.tasklet.OpenAiAnalysisTasklet;
 import com.sleekydz86.finsight.batch.news.scrap.tasklet.SentimentAnalysisTasklet;
-import com.sleekydz86.finsight.core.news.adapter.persistence.command.NewsJpaEntity;
+import com.sleekydz86.finsight.core.global.AiModel;
 import com.sleekydz86.finsight.core.news.domain.port.out.DjlSentimentAnalysisPort;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsAiAnalysisRequesterPort;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsCacheInvalidationPort;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsStreamPublishPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.*;
@@ -15,19 +22,22 @@ import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.database.JpaPagingItemReader;
-import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.transaction.PlatformTransactionManager;
 
-import jakarta.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -38,30 +48,51 @@ public class NewsScrapJobConfig {
 
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
-    private final EntityManagerFactory entityManagerFactory;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
     private final NewsCrawlingTasklet newsCrawlingTasklet;
-    private final OpenAiAnalysisTasklet openAiAnalysisTasklet;
-    private final DjlAnalysisTasklet djlAnalysisTasklet;
+    private final NewsAiAnalysisRequesterPort newsAiAnalysisRequesterPort;
+    private final NewsCacheInvalidationPort newsCacheInvalidationPort;
+    private final NewsStreamPublishPort newsStreamPublishPort;
+    private final DjlSentimentAnalysisPort djlSentimentAnalysisPort;
     private final SentimentAnalysisTasklet sentimentAnalysisTasklet;
 
+    @Value("${batch.ai-analysis.chunk-size:100}")
+    private int aiAnalysisChunkSize;
+
+    @Value("${batch.ai-analysis.model:CHATGPT}")
+    private AiModel aiAnalysisModel;
+
+    @Value("${batch.djl-analysis.grid-size:4}")
+    private int djlAnalysisGridSize;
+
+    @Value("${batch.djl-analysis.chunk-size:64}")
+    private int djlAnalysisChunkSize;
+
     private final ConcurrentHashMap<String, AtomicLong> stepExecutionMetrics = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, AtomicLong> errorMetrics = new ConcurrentHashMap<>();
 
     public NewsScrapJobConfig(
             JobRepository jobRepository,
             PlatformTransactionManager transactionManager,
-            EntityManagerFactory entityManagerFactory,
+            DataSource dataSource,
+            JdbcTemplate jdbcTemplate,
             NewsCrawlingTasklet newsCrawlingTasklet,
-            OpenAiAnalysisTasklet openAiAnalysisTasklet,
-            DjlAnalysisTasklet djlAnalysisTasklet,
+            NewsAiAnalysisRequesterPort newsAiAnalysisRequesterPort,
+            NewsCacheInvalidationPort newsCacheInvalidationPort,
+            NewsStreamPublishPort newsStreamPublishPort,
+            DjlSentimentAnalysisPort djlSentimentAnalysisPort,
             SentimentAnalysisTasklet sentimentAnalysisTasklet) {
 
         this.jobRepository = jobRepository;
         this.transactionManager = transactionManager;
-        this.entityManagerFactory = entityManagerFactory;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
         this.newsCrawlingTasklet = newsCrawlingTasklet;
-        this.openAiAnalysisTasklet = openAiAnalysisTasklet;
-        this.djlAnalysisTasklet = djlAnalysisTasklet;
+        this.newsAiAnalysisRequesterPort = newsAiAnalysisRequesterPort;
+        this.newsCacheInvalidationPort = newsCacheInvalidationPort;
+        this.newsStreamPublishPort = newsStreamPublishPort;
+        this.djlSentimentAnalysisPort = djlSentimentAnalysisPort;
         this.sentimentAnalysisTasklet = sentimentAnalysisTasklet;
     }
 
@@ -121,9 +152,8 @@ public class NewsScrapJobConfig {
     @Bean
     public Step aiAnalysisStep() {
         return new StepBuilder("aiAnalysisStep", jobRepository)
-                .<NewsJpaEntity, NewsJpaEntity>chunk(10, transactionManager)
+                .<NewsAnalysisItem, NewsAnalysisItem>chunk(aiAnalysisChunkSize, transactionManager)
                 .reader(aiAnalysisReader())
-                .processor(aiAnalysisProcessor())
                 .writer(aiAnalysisWriter())
                 .listener(new ChunkListener() {
                     @Override
@@ -149,39 +179,31 @@ public class NewsScrapJobConfig {
 
     @Bean
     @StepScope
-    public JpaPagingItemReader<NewsJpaEntity> aiAnalysisReader() {
-        return new JpaPagingItemReaderBuilder<NewsJpaEntity>()
+    public JdbcPagingItemReader<NewsAnalysisItem> aiAnalysisReader() {
+        // 쓰기로 ai_overview 가 채워진 행이 빠져도 id 키셋 기준이라 건너뛰는 행이 없다
+        return new JdbcPagingItemReaderBuilder<NewsAnalysisItem>()
                 .name("aiAnalysisReader")
-                .entityManagerFactory(entityManagerFactory)
-                .queryString("SELECT n FROM NewsJpaEntity n WHERE n.overview IS NULL")
-                .pageSize(10)
+                .dataSource(dataSource)
+                .selectClause("SELECT id, original_title, original_content")
+                .fromClause("FROM news")
+                .whereClause("WHERE ai_overview IS NULL")
+                .sortKeys(Map.of("id", Order.ASCENDING))
+                .pageSize(aiAnalysisChunkSize)
+                .rowMapper(newsAnalysisItemRowMapper())
                 .build();
     }
 
     @Bean
-    public ItemProcessor<NewsJpaEntity, NewsJpaEntity> aiAnalysisProcessor() {
-        return newsEntity -> {
-            try {
-                if (newsEntity.getOverview() == null) {
-                    log.debug("Processing news for AI analysis: {}", newsEntity.getId());
-                    stepExecutionMetrics.computeIfAbsent("news_processed", k -> new AtomicLong(0)).incrementAndGet();
-                    return newsEntity;
-                }
-                return null;
-            } catch (Exception e) {
-                log.error("Error processing news entity: {}", newsEntity.getId(), e);
-                errorMetrics.computeIfAbsent("processing_errors", k -> new AtomicLong(0)).incrementAndGet();
-                throw e;
-            }
-        };
-    }
-
-    @Bean
-    public ItemWriter<NewsJpaEntity> aiAnalysisWriter() {
+    public ItemWriter<NewsAnalysisItem> aiAnalysisWriter() {
+        AiAnalysisItemWriter delegate =
+                new AiAnalysisItemWriter(newsAiAnalysisRequesterPort, jdbcTemplate,
+                        newsCacheInvalidationPort, newsStreamPublishPort, aiAnalysisModel);
         return items -> {
             try {
                 log.info("Writing {} processed news items", items.size());
-                stepExecutionMetrics.computeIfAbsent("news_written", k -> new AtomicLong(0)).incrementAndGet();
+                stepExecutionMetrics.computeIfAbsent("news_processed", k -> new AtomicLong(0)).addAndGet(items.size());
+                delegate.write(items);
+                stepExecutionMetrics.computeIfAbsent("news_written", k -> new AtomicLong(0)).addAndGet(items.size());
             } catch (Exception e) {
                 log.error("Error writing news items", e);
                 errorMetrics.computeIfAbsent("writing_errors", k -> new AtomicLong(0)).incrementAndGet();
@@ -236,7 +258,10 @@ public class NewsScrapJobConfig {
     @Bean
     public Step djlAnalysisStep() {
         return new StepBuilder("djlAnalysisStep", jobRepository)
-                .tasklet(djlAnalysisTasklet, transactionManager)
+                .partitioner("djlAnalysisWorkerStep", newsIdRangePartitioner())
+                .step(djlAnalysisWorkerStep())
+                .gridSize(djlAnalysisGridSize)
+                .taskExecutor(djlAnalysisTaskExecutor())
                 .listener(new StepExecutionListener() {
                     @Override
                     public void beforeStep(StepExecution stepExecution) {
@@ -245,21 +270,90 @@ public class NewsScrapJobConfig {
 
                     @Override
                     public ExitStatus afterStep(StepExecution stepExecution) {
-                        DjlAnalysisTasklet.DjlAnalysisMetrics metrics = djlAnalysisTasklet.getAnalysisMetrics();
-                        log.info("DJL 감정분석 단계 완료 - 성공률: {:.2f}%, 평균 처리시간: {:.2f}ms",
-                                metrics.getSuccessRate(), metrics.getAverageProcessingTime());
-                        return ExitStatus.COMPLETED;
+                        log.info("DJL 감정분석 단계 완료 - 읽기: {}, 쓰기: {}, 상태: {}",
+                                stepExecution.getReadCount(), stepExecution.getWriteCount(),
+                                stepExecution.getStatus());
+                        return stepExecution.getExitStatus();
                     }
                 })
                 .build();
     }
 
+    @Bean
+    public Step djlAnalysisWorkerStep() {
+        return new StepBuilder("djlAnalysisWorkerStep", jobRepository)
+                .<NewsAnalysisItem, DjlAnalysisItemProcessor.PendingAnalysis>chunk(djlAnalysisChunkSize, transactionManager)
+                .reader(djlAnalysisReader(null, null))
+                .processor(djlAnalysisProcessor())
+                .writer(djlAnalysisWriter())
+                .build();
+    }
+
+    @Bean
+    public NewsIdRangePartitioner newsIdRangePartitioner() {
+        return new NewsIdRangePartitioner(jdbcTemplate);
+    }
+
+    @Bean
+    public SimpleAsyncTaskExecutor djlAnalysisTaskExecutor() {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("djl-analysis-");
+        taskExecutor.setConcurrencyLimit(djlAnalysisGridSize);
+        return taskExecutor;
+    }
+
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<NewsAnalysisItem> djlAnalysisReader(
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId) {
+        // id 키셋 페이징: 처리한 행이 조건에서 빠져도 다음 페이지가 밀리지 않고, 마지막 id 가 재시작 지점으로 저장된다
+        return new JdbcPagingItemReaderBuilder<NewsAnalysisItem>()
+                .name("djlAnalysisReader")
+                .dataSource(dataSource)
+                .selectClause("SELECT id, original_title, original_content")
+                .fromClause("FROM news")
+                .whereClause("WHERE ai_overview IS NULL AND id BETWEEN :minId AND :maxId")
+                .parameterValues(Map.of(
+                        NewsIdRangePartitioner.MIN_ID, minId,
+                        NewsIdRangePartitioner.MAX_ID, maxId))
+                .sortKeys(Map.of("id", Order.ASCENDING))
+                .pageSize(djlAnalysisChunkSize)
+                .rowMapper(newsAnalysisItemRowMapper())
+                .build();
+    }
+
+    private RowMapper<NewsAnalysisItem> newsAnalysisItemRowMapper() {
+        return (rs, rowNum) -> new NewsAnalysisItem(
+                rs.getLong("id"),
+                rs.getString("original_title"),
+                rs.getString("original_content"));
+    }
+
+    @Bean
+    public DjlAnalysisItemProcessor djlAnalysisProcessor() {
+        return new DjlAnalysisItemProcessor(djlSentimentAnalysisPort);
+    }
+
+    @Bean
+    public DjlAnalysisItemWriter djlAnalysisWriter() {
+        return new DjlAnalysisItemWriter(jdbcTemplate);
+    }
+
+    @Bean
+    public DjlModelAvailabilityDecider djlModelAvailabilityDecider() {
+        return new DjlModelAvailabilityDecider(djlSentimentAnalysisPort);
+    }
+
     @Bean
     public Job newsScrapJobWithDjl() {
         return new JobBuilder("newsScrapJobWithDjl", jobRepository)
                 .incrementer(jobParametersIncrementer())
                 .start(newsCrawlingStep())
-                .next(djlAnalysisStep())
+                .next(djlModelAvailabilityDecider())
+                .on(DjlModelAvailabilityDecider.SKIP.getName()).end()
+                .from(djlModelAvailabilityDecider())
+                .on(DjlModelAvailabilityDecider.RUN.getName()).to(djlAnalysisStep())
+                .end()
                 .listener(new JobExecutionListener() {
                     @Override
                     public void beforeJob(JobExecution jobExecution) {
@@ -0,0 +1,148 @@
+package com.sleekydz86.finsight.batch.news.scrap.step;
+
+import com.sleekydz86.finsight.core.global.AiModel;
+import com.sleekydz86.finsight.core.news.domain.News;
+import com.sleekydz86.finsight.core.news.domain.event.NewsCacheInvalidationEvent;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsAiAnalysisRequesterPort;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsCacheInvalidationPort;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsStreamPublishPort;
+import com.sleekydz86.finsight.core.news.domain.vo.AiOverview;
+import com.sleekydz86.finsight.core.news.domain.vo.Content;
+import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 청크 전체를 한 번에 AI 분석 포트로 넘기고(포트가 토큰 예산 단위로 묶어 동시 호출),
+ * 결과를 JDBC 배치 UPDATE 로 반영한다.
+ * 폴백(기본 분석) 결과는 저장하지 않아 ai_overview 가 NULL 로 남고 다음 실행에서 다시 분석된다.
+ */
+public class AiAnalysisItemWriter implements ItemWriter<NewsAnalysisItem> {
+
+    private static final Logger log = LoggerFactory.getLogger(AiAnalysisItemWriter.class);
+
+    private static final String UPDATE_SQL =
+            "UPDATE news SET ai_overview = ?, ai_translated_title = ?, ai_translated_content = ?, " +
+            "ai_sentiment_type = ?, ai_sentiment_score = ?, updated_at = ? " +
+            "WHERE id = ? AND ai_overview IS NULL";
+    private static final String DELETE_CATEGORIES_SQL = "DELETE FROM news_target_categories WHERE news_id = ?";
+    private static final String INSERT_CATEGORY_SQL =
+            "INSERT INTO news_target_categories (news_id, category) VALUES (?, ?)";
+    private static final String UPDATE_CATEGORY_MASK_SQL = "UPDATE news SET category_mask = ? WHERE id = ?";
+
+    private final NewsAiAnalysisRequesterPort newsAiAnalysisRequesterPort;
+    private final JdbcTemplate jdbcTemplate;
+    private final NewsCacheInvalidationPort newsCacheInvalidationPort;
+    private final NewsStreamPublishPort newsStreamPublishPort;
+    private final AiModel aiModel;
+
+    public AiAnalysisItemWriter(NewsAiAnalysisRequesterPort newsAiAnalysisRequesterPort,
+                                JdbcTemplate jdbcTemplate,
+                                NewsCacheInvalidationPort newsCacheInvalidationPort,
+                                NewsStreamPublishPort newsStreamPublishPort,
+                                AiModel aiModel) {
+        this.newsAiAnalysisRequesterPort = newsAiAnalysisRequesterPort;
+        this.jdbcTemplate = jdbcTemplate;
+        this.newsCacheInvalidationPort = newsCacheInvalidationPort;
+        this.newsStreamPublishPort = newsStreamPublishPort;
+        this.aiModel = aiModel;
+    }
+
+    @Override
+    public void write(Chunk<? extends NewsAnalysisItem> chunk) {
+        List<? extends NewsAnalysisItem> items = chunk.getItems();
+        List<Content> contents = items.stream()
+                .map(item -> new Content(item.title(), item.content()))
+                .toList();
+
+        // ItemWriter 는 동기 계약이므로 청크를 커밋하기 전에 포트의 결과를 여기서 한 번만 기다린다
+        List<News> analyzed = newsAiAnalysisRequesterPort.analyseNewsesBatchAsync(aiModel, contents).join();
+        if (analyzed.size() != items.size()) {
+            throw new IllegalStateException("AI 분석 결과 건수가 청크 크기와 다릅니다: "
+                    + analyzed.size() + " / " + items.size());
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> updateArgs = new ArrayList<>(items.size());
+        List<Integer> updateIndexes = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            News news = analyzed.get(i);
+            if (NewsAiAnalysisRequesterPort.isFallbackResult(news)) {
+                continue;
+            }
+            updateIndexes.add(i);
+            AiOverview overview = news.getAiOverView();
+            Content translated = news.getTranslatedContent();
+            updateArgs.add(new Object[] {
+                    overview != null ? overview.getOverview() : null,
+                    translated != null ? translated.getTitle() : null,
+                    translated != null ? translated.getContent() : null,
+                    overview != null && overview.getSentimentType() != null ? overview.getSentimentType().name() : null,
+                    overview != null ? overview.getSentimentScore() : null,
+                    now,
+                    items.get(i).id()
+            });
+        }
+
+        int skipped = items.size() - updateIndexes.size();
+        if (updateArgs.isEmpty()) {
+            log.warn("AI 분석 결과가 모두 폴백이라 저장하지 않습니다: {}건", skipped);
+            return;
+        }
+
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, updateArgs);
+
+        List<Object[]> deleteArgs = new ArrayList<>();
+        List<Object[]> insertArgs = new ArrayList<>();
+        List<Object[]> maskArgs = new ArrayList<>();
+        Set<Long> updatedIds = new HashSet<>();
+        Set<TargetCategory> updatedCategories = EnumSet.noneOf(TargetCategory.class);
+        for (int u = 0; u < updateIndexes.size(); u++) {
+            if (updated[u] == 0) {
+                continue;
+            }
+            int i = updateIndexes.get(u);
+            Long newsId = items.get(i).id();
+            updatedIds.add(newsId);
+            AiOverview overview = analyzed.get(i).getAiOverView();
+            if (overview == null || overview.getTargetCategories() == null
+                    || overview.getTargetCategories().isEmpty()) {
+                continue;
+            }
+            updatedCategories.addAll(overview.getTargetCategories());
+            deleteArgs.add(new Object[] {newsId});
+            for (TargetCategory category : overview.getTargetCategories()) {
+                insertArgs.add(new Object[] {newsId, category.name()});
+            }
+            maskArgs.add(new Object[] {TargetCategory.maskOf(overview.getTargetCategories()), newsId});
+        }
+        if (!deleteArgs.isEmpty()) {
+            // news.category_mask 는 컬렉션 테이블과 같이 바꿔야 조회와 필터가 어긋나지 않는다
+            jdbcTemplate.batchUpdate(DELETE_CATEGORIES_SQL, deleteArgs);
+            jdbcTemplate.batchUpdate(INSERT_CATEGORY_SQL, insertArgs);
+            jdbcTemplate.batchUpdate(UPDATE_CATEGORY_MASK_SQL, maskArgs);
+        }
+
+        if (!updatedIds.isEmpty()) {
+            // 분석 결과에는 제공자 정보가 없으므로 providers 를 비워 모든 제공자 필터에 영향을 주도록 한다
+            newsCacheInvalidationPort.publish(
+                    new NewsCacheInvalidationEvent(Set.of(), updatedCategories, updatedIds));
+            // 대량 적재된 기사는 id 없이 저장되므로 분석이 끝난 이 시점에 스트림으로 나간다
+            newsStreamPublishPort.publish(updatedIds);
+        }
+
+        log.info("AI 분석 결과 저장: {}건 (카테고리 갱신 {}건, 폴백으로 다음 실행에 재시도 {}건)",
+                updateArgs.size(), deleteArgs.size(), skipped);
+    }
+}
@@ -0,0 +1,29 @@
+package com.sleekydz86.finsight.batch.news.scrap.step;
+
+import com.sleekydz86.finsight.core.news.domain.port.out.DjlSentimentAnalysisPort;
+import com.sleekydz86.finsight.core.news.domain.vo.DjlSentimentResult;
+import org.springframework.batch.item.ItemProcessor;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 추론 요청만 제출하고 결과 Future 를 넘긴다.
+ * 한 청크의 요청이 모두 큐에 쌓인 뒤 writer 에서 join 하므로 DJL 추론기가 청크 단위로 배치 추론한다.
+ */
+public class DjlAnalysisItemProcessor
+        implements ItemProcessor<NewsAnalysisItem, DjlAnalysisItemProcessor.PendingAnalysis> {
+
+    private final DjlSentimentAnalysisPort djlSentimentAnalysisPort;
+
+    public DjlAnalysisItemProcessor(DjlSentimentAnalysisPort djlSentimentAnalysisPort) {
+        this.djlSentimentAnalysisPort = djlSentimentAnalysisPort;
+    }
+
+    @Override
+    public PendingAnalysis process(NewsAnalysisItem item) {
+        return new PendingAnalysis(item.id(), djlSentimentAnalysisPort.analyzeSentimentAsync(item.text()));
+    }
+
+    public record PendingAnalysis(Long newsId, CompletableFuture<DjlSentimentResult> result) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.sleekydz86.finsight.batch.news.scrap.step;
+
+import com.sleekydz86.finsight.core.news.domain.vo.DjlSentimentResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 청크의 분석 결과를 한 번의 JDBC 배치 UPDATE 로 반영한다.
+ * ai_overview IS NULL 조건을 걸어 재시작 등으로 같은 행이 다시 들어와도 결과를 덮어쓰지 않는다.
+ */
+public class DjlAnalysisItemWriter implements ItemWriter<DjlAnalysisItemProcessor.PendingAnalysis> {
+
+    private static final Logger log = LoggerFactory.getLogger(DjlAnalysisItemWriter.class);
+
+    private static final String UPDATE_SQL =
+            "UPDATE news SET ai_sentiment_type = ?, ai_sentiment_score = ?, ai_overview = ?, updated_at = ? " +
+            "WHERE id = ? AND ai_overview IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DjlAnalysisItemWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void write(Chunk<? extends DjlAnalysisItemProcessor.PendingAnalysis> chunk) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(chunk.size());
+        int failed = 0;
+
+        for (DjlAnalysisItemProcessor.PendingAnalysis pending : chunk) {
+            DjlSentimentResult result = pending.result().join();
+            if (!result.isSuccess()) {
+                failed++;
+                log.warn("뉴스 ID {} 감정분석 실패: {}", pending.newsId(), result.getErrorMessage());
+                continue;
+            }
+
+            String overview = String.format("감정분석 결과: %s (신뢰도: %.2f%%)",
+                    result.getLabel(), result.getConfidence() * 100);
+            batchArgs.add(new Object[] {
+                    result.toSentimentType().name(),
+                    result.getScore(),
+                    overview,
+                    now,
+                    pending.newsId()
+            });
+        }
+
+        if (!batchArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batchArgs);
+        }
+        log.debug("DJL 감정분석 결과 저장 - 성공: {}, 실패: {}", batchArgs.size(), failed);
+    }
+}
@@ -0,0 +1,36 @@
+package com.sleekydz86.finsight.batch.news.scrap.step;
+
+import com.sleekydz86.finsight.core.news.domain.port.out.DjlSentimentAnalysisPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.job.flow.FlowExecutionStatus;
+import org.springframework.batch.core.job.flow.JobExecutionDecider;
+
+/**
+ * DJL 모델을 쓸 수 없으면 감정분석 단계를 건너뛴다.
+ * 모델 없이 돌리면 미분석 기사 전체를 읽기만 하고 아무것도 쓰지 않는다.
+ */
+public class DjlModelAvailabilityDecider implements JobExecutionDecider {
+
+    private static final Logger log = LoggerFactory.getLogger(DjlModelAvailabilityDecider.class);
+
+    public static final FlowExecutionStatus RUN = new FlowExecutionStatus("RUN_DJL_ANALYSIS");
+    public static final FlowExecutionStatus SKIP = new FlowExecutionStatus("SKIP_DJL_ANALYSIS");
+
+    private final DjlSentimentAnalysisPort djlSentimentAnalysisPort;
+
+    public DjlModelAvailabilityDecider(DjlSentimentAnalysisPort djlSentimentAnalysisPort) {
+        this.djlSentimentAnalysisPort = djlSentimentAnalysisPort;
+    }
+
+    @Override
+    public FlowExecutionStatus decide(JobExecution jobExecution, StepExecution stepExecution) {
+        if (!djlSentimentAnalysisPort.isModelAvailable()) {
+            log.warn("DJL 모델을 사용할 수 없습니다. 감정분석 단계를 건너뜁니다.");
+            return SKIP;
+        }
+        return RUN;
+    }
+}
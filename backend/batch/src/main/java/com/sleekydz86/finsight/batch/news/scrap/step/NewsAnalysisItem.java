@@ -0,0 +1,8 @@
+package com.sleekydz86.finsight.batch.news.scrap.step;
+
+public record NewsAnalysisItem(Long id, String title, String content) {
+
+    public String text() {
+        return title + ". " + content;
+    }
+}
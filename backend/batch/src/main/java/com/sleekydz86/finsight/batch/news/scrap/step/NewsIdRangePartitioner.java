@@ -0,0 +1,68 @@
+package com.sleekydz86.finsight.batch.news.scrap.step;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 미분석 뉴스(ai_overview IS NULL)의 id 범위를 gridSize 개 구간으로 나눈다.
+ * 구간은 첫 실행 시 ExecutionContext 에 저장되므로 재시작 시에도 같은 범위로 이어서 처리된다.
+ */
+public class NewsIdRangePartitioner implements Partitioner {
+
+    private static final Logger log = LoggerFactory.getLogger(NewsIdRangePartitioner.class);
+
+    public static final String MIN_ID = "minId";
+    public static final String MAX_ID = "maxId";
+
+    private static final String RANGE_QUERY =
+            "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM news WHERE ai_overview IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NewsIdRangePartitioner(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        long[] range = jdbcTemplate.queryForObject(RANGE_QUERY, (rs, rowNum) -> {
+            long minId = rs.getLong("min_id");
+            return rs.wasNull() ? null : new long[] {minId, rs.getLong("max_id")};
+        });
+
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        if (range == null) {
+            partitions.put("partition0", rangeContext(1L, 0L));
+            log.info("분석 대상 뉴스가 없습니다");
+            return partitions;
+        }
+
+        long minId = range[0];
+        long maxId = range[1];
+        int partitionCount = (int) Math.max(1, Math.min(gridSize, maxId - minId + 1));
+        long rangeSize = (maxId - minId) / partitionCount + 1;
+
+        long start = minId;
+        for (int i = 0; i < partitionCount && start <= maxId; i++) {
+            long end = Math.min(maxId, start + rangeSize - 1);
+            partitions.put("partition" + i, rangeContext(start, end));
+            start = end + 1;
+        }
+
+        log.info("뉴스 id 범위 [{}, {}] 를 {}개 파티션으로 분할", minId, maxId, partitions.size());
+        return partitions;
+    }
+
+    private ExecutionContext rangeContext(long minId, long maxId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(MIN_ID, minId);
+        context.putLong(MAX_ID, maxId);
+        return context;
+    }
+}
@@ -1,94 +1,136 @@
 package com.sleekydz86.finsight.batch.news.scrap.tasklet;
 
 import com.sleekydz86.finsight.core.global.NewsProvider;
-import com.sleekydz86.finsight.core.news.adapter.requester.NewsScrapRequester;
 import com.sleekydz86.finsight.core.news.domain.News;
+import com.sleekydz86.finsight.core.news.domain.event.NewsCacheInvalidationEvent;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsCacheInvalidationPort;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsIngestResult;
 import com.sleekydz86.finsight.core.news.domain.port.out.NewsPersistencePort;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsScrapPage;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsScrapRequesterPort;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsScrapWatermarkPersistencePort;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsStreamPublishPort;
+import com.sleekydz86.finsight.core.news.service.NewsDeduplicationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
 public class NewsCrawlingTasklet implements Tasklet {
 
     private static final Logger log = LoggerFactory.getLogger(NewsCrawlingTasklet.class);
 
-    private final Map<NewsProvider, NewsScrapRequester> newsScrapRequesters;
+    private final NewsScrapRequesterPort newsScrapRequesterPort;
+    private final NewsScrapWatermarkPersistencePort newsScrapWatermarkPersistencePort;
     private final NewsPersistencePort newsPersistencePort;
+    private final NewsDeduplicationService newsDeduplicationService;
+    private final NewsCacheInvalidationPort newsCacheInvalidationPort;
+    private final NewsStreamPublishPort newsStreamPublishPort;
 
     private final ConcurrentHashMap<NewsProvider, AtomicInteger> scrapedNewsCount = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<NewsProvider, AtomicInteger> errorCount = new ConcurrentHashMap<>();
     private final AtomicInteger totalScrapedCount = new AtomicInteger(0);
+    private final AtomicLong totalBytesDownloaded = new AtomicLong(0);
+    private final AtomicInteger totalRowsAlreadyStored = new AtomicInteger(0);
 
     public NewsCrawlingTasklet(
-            List<NewsScrapRequester> newsScrapRequesters,
-            NewsPersistencePort newsPersistencePort) {
-        this.newsScrapRequesters = newsScrapRequesters.stream()
-                .collect(Collectors.toMap(
-                        NewsScrapRequester::supports,
-                        requester -> requester
-                ));
+            NewsScrapRequesterPort newsScrapRequesterPort,
+            NewsScrapWatermarkPersistencePort newsScrapWatermarkPersistencePort,
+            NewsPersistencePort newsPersistencePort,
+            NewsDeduplicationService newsDeduplicationService,
+            NewsCacheInvalidationPort newsCacheInvalidationPort,
+            NewsStreamPublishPort newsStreamPublishPort) {
+        this.newsScrapRequesterPort = newsScrapRequesterPort;
+        this.newsScrapWatermarkPersistencePort = newsScrapWatermarkPersistencePort;
         this.newsPersistencePort = newsPersistencePort;
+        this.newsDeduplicationService = newsDeduplicationService;
+        this.newsCacheInvalidationPort = newsCacheInvalidationPort;
+        this.newsStreamPublishPort = newsStreamPublishPort;
     }
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
         log.info("Starting news crawling tasklet");
 
-        LocalDateTime publishTimeAfter = LocalDateTime.now().minusHours(24);
-        int limit = 100;
-
         try {
-            List<CompletableFuture<List<News>>> scrapingFutures = newsScrapRequesters.entrySet().stream()
-                    .map(entry -> {
-                        NewsProvider provider = entry.getKey();
-                        NewsScrapRequester requester = entry.getValue();
-
-                        return executeScrapingForProvider(provider, requester, publishTimeAfter, limit)
-                                .whenComplete((result, throwable) -> {
-                                    if (throwable != null) {
-                                        log.error("Error scraping news from provider: {}", provider, throwable);
-                                        errorCount.computeIfAbsent(provider, k -> new AtomicInteger(0)).incrementAndGet();
-                                    } else {
-                                        log.info("Successfully scraped {} news from provider: {}",
-                                                result.size(), provider);
-                                        scrapedNewsCount.computeIfAbsent(provider, k -> new AtomicInteger(0))
-                                                .addAndGet(result.size());
-                                        totalScrapedCount.addAndGet(result.size());
-                                    }
-                                });
-                    })
+            List<CompletableFuture<List<NewsScrapPage>>> scrapingFutures = newsScrapRequesterPort.supportedProviders()
+                    .stream()
+                    .map(provider -> executeScrapingForProvider(provider)
+                            .whenComplete((pages, throwable) -> {
+                                if (throwable != null) {
+                                    log.error("Error scraping news from provider: {}", provider, throwable);
+                                    errorCount.computeIfAbsent(provider, k -> new AtomicInteger(0)).incrementAndGet();
+                                } else {
+                                    int scraped = pages.stream().mapToInt(page -> page.newses().size()).sum();
+                                    log.info("Successfully scraped {} news from provider: {} ({} pages)",
+                                            scraped, provider, pages.size());
+                                    scrapedNewsCount.computeIfAbsent(provider, k -> new AtomicInteger(0))
+                                            .addAndGet(scraped);
+                                    totalScrapedCount.addAndGet(scraped);
+                                }
+                            })
+                            // 한 공급자의 실패가 나머지 공급자의 적재를 막지 않도록 한다. 워터마크는 그대로 남는다
+                            .exceptionally(throwable -> List.of()))
                     .toList();
 
             CompletableFuture.allOf(scrapingFutures.toArray(new CompletableFuture[0])).join();
 
-            List<News> allScrapedNews = scrapingFutures.stream()
+            List<NewsScrapPage> pages = scrapingFutures.stream()
                     .map(CompletableFuture::join)
                     .flatMap(List::stream)
                     .toList();
-
-            if (!allScrapedNews.isEmpty()) {
-                log.info("Saving {} scraped news articles", allScrapedNews.size());
-                newsPersistencePort.saveAllNews(allScrapedNews);
-                log.info("Successfully saved all scraped news articles");
+            List<News> allScrapedNews = pages.stream()
+                    .flatMap(page -> page.newses().stream())
+                    .toList();
+            long bytesDownloaded = pages.stream().mapToLong(NewsScrapPage::bytes).sum();
+            totalBytesDownloaded.addAndGet(bytesDownloaded);
+
+            List<News> uniqueNews = newsDeduplicationService.deduplicate(allScrapedNews);
+            contribution.incrementFilterCount(allScrapedNews.size() - uniqueNews.size());
+
+            int written = 0;
+            int alreadyStored = 0;
+            if (!uniqueNews.isEmpty()) {
+                log.info("Saving {} scraped news articles ({} duplicates skipped)",
+                        uniqueNews.size(), allScrapedNews.size() - uniqueNews.size());
+                NewsIngestResult ingestResult = newsPersistencePort.bulkInsertNews(uniqueNews);
+                contribution.incrementFilterCount(ingestResult.duplicates());
+                written = ingestResult.inserted();
+                alreadyStored = ingestResult.duplicates();
+                if (ingestResult.inserted() > 0) {
+                    newsCacheInvalidationPort.publish(NewsCacheInvalidationEvent.of(ingestResult.insertedNews()));
+                    // 이미 저장돼 있던 기사는 스트림에 다시 내보내지 않는다
+                    newsStreamPublishPort.publish(ingestResult.insertedNews().stream().map(News::getId).toList());
+                }
+                log.info("Successfully saved {} scraped news articles ({} already stored)",
+                        ingestResult.inserted(), ingestResult.duplicates());
             } else {
                 log.warn("No news articles were scraped");
             }
+            totalRowsAlreadyStored.addAndGet(alreadyStored);
 
-            contribution.incrementWriteCount(allScrapedNews.size());
-            log.info("News crawling tasklet completed successfully. Total scraped: {}", totalScrapedCount.get());
+            // 적재가 끝난 뒤에만 워터마크를 옮겨 실패한 실행의 기사를 다음 실행에서 다시 받게 한다
+            newsScrapWatermarkPersistencePort.advance(allScrapedNews);
+
+            ExecutionContext executionContext = contribution.getStepExecution().getExecutionContext();
+            executionContext.putLong("scrap.bytesDownloaded", bytesDownloaded);
+            executionContext.putInt("scrap.pagesFetched", pages.size());
+            executionContext.putInt("scrap.rowsAlreadyStored", alreadyStored);
+
+            contribution.incrementWriteCount(written);
+            log.info("News crawling tasklet completed successfully. Total scraped: {}, downloaded: {} bytes in {} pages, "
+                    + "already stored: {}", totalScrapedCount.get(), bytesDownloaded, pages.size(), alreadyStored);
 
         } catch (Exception e) {
             log.error("Error during news crawling tasklet execution", e);
@@ -98,28 +140,11 @@ public class NewsCrawlingTasklet implements Tasklet {
         return RepeatStatus.FINISHED;
     }
 
-    private CompletableFuture<List<News>> executeScrapingForProvider(
-            NewsProvider provider,
-            NewsScrapRequester requester,
-            LocalDateTime publishTimeAfter,
-            int limit) {
-
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                log.debug("Starting scraping for provider: {} with limit: {}", provider, limit);
-
-                List<News> scrapedNews = requester.scrap(publishTimeAfter, limit).get();
-
-                log.debug("Completed scraping for provider: {}. Found {} articles",
-                        provider, scrapedNews.size());
-
-                return scrapedNews;
-
-            } catch (Exception e) {
-                log.error("Failed to scrape news from provider: {}", provider, e);
-                throw new RuntimeException("Scraping failed for provider: " + provider, e);
-            }
-        });
+    private CompletableFuture<List<NewsScrapPage>> executeScrapingForProvider(NewsProvider provider) {
+        log.debug("Starting incremental scraping for provider: {}", provider);
+        return newsScrapRequesterPort.scrapNewPages(provider)
+                .collectList()
+                .toFuture();
     }
 
     public CrawlingMetrics getCrawlingMetrics() {
@@ -132,7 +157,9 @@ public class NewsCrawlingTasklet implements Tasklet {
                         .collect(ConcurrentHashMap::new,
                                 (map, entry) -> map.put(entry.getKey(), entry.getValue().get()),
                                 ConcurrentHashMap::putAll),
-                totalScrapedCount.get()
+                totalScrapedCount.get(),
+                totalBytesDownloaded.get(),
+                totalRowsAlreadyStored.get()
         );
     }
 
@@ -140,13 +167,17 @@ public class NewsCrawlingTasklet implements Tasklet {
         scrapedNewsCount.clear();
         errorCount.clear();
         totalScrapedCount.set(0);
+        totalBytesDownloaded.set(0);
+        totalRowsAlreadyStored.set(0);
         log.info("Crawling metrics reset");
     }
 
     public record CrawlingMetrics(
             ConcurrentHashMap<NewsProvider, Integer> scrapedNewsCount,
             ConcurrentHashMap<NewsProvider, Integer> errorCount,
-            int totalScrapedCount
+            int totalScrapedCount,
+            long totalBytesDownloaded,
+            int totalRowsAlreadyStored
     ) {
         public int getTotalErrors() {
             return errorCount.values().stream().mapToInt(Integer::intValue).sum();
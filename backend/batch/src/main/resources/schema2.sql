@@ -113,6 +113,17 @@ CREATE TABLE IF NOT EXISTS user_watchlist (
     INDEX idx_category (category)
 );
 
+-- 7. 공급자별 스크랩 워터마크 테이블 생성
+CREATE TABLE IF NOT EXISTS news_scrap_watermark (
+    id BIGINT NOT NULL PRIMARY KEY AUTO_INCREMENT,
+    news_provider VARCHAR(50) NOT NULL,
+    last_published_time TIMESTAMP NOT NULL,
+    last_source_url VARCHAR(500) NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    UNIQUE KEY uk_news_scrap_watermark_provider (news_provider)
+);
+
 -- 4. 사용자 알림 설정 테이블 생성
 CREATE TABLE IF NOT EXISTS user_notification_preferences (
     user_id BIGINT NOT NULL,
@@ -160,6 +171,25 @@ CREATE TABLE IF NOT EXISTS news_target_categories (
     INDEX idx_category (category)
 );
 
+-- 8. 뉴스 원문 URL 유니크 제약 추가 (벌크 적재의 중복 판정 기준)
+ALTER TABLE news ADD CONSTRAINT uk_news_source_url UNIQUE (source_url);
+
+-- 9. 반영한 카운터 배치 기록 테이블 생성 (조회수 증가분 재전송 시 중복 반영 방지)
+CREATE TABLE IF NOT EXISTS counter_flush_batches (
+    batch_id VARCHAR(36) NOT NULL PRIMARY KEY,
+    flushed_at TIMESTAMP NOT NULL,
+    INDEX idx_counter_flush_batches_flushed_at (flushed_at)
+);
+
+-- 10. 뉴스 카테고리 비트마스크 컬럼 추가 (TargetCategory.bit() 합, 목록/필터 조회가 카테고리 테이블을 읽지 않도록 함)
+ALTER TABLE news ADD COLUMN category_mask BIGINT NOT NULL DEFAULT 0;
+
+-- 11. 커서(keyset) 페이지네이션용 복합 인덱스 생성 (발행 시각, id 순 정렬을 filesort 없이 읽도록 함)
+CREATE INDEX idx_news_published_time_id ON news(news_published_time, id);
+CREATE INDEX idx_news_provider_published_time_id ON news(news_provider, news_published_time, id);
+CREATE INDEX idx_news_sentiment_published_time_id ON news(ai_sentiment_type, news_published_time, id);
+CREATE INDEX idx_news_target_categories_category_news_id ON news_target_categories(category, news_id);
+
 -- ========================================
 -- 대용량 더미데이터 생성 시작
 -- ========================================
@@ -360,6 +390,15 @@ WHERE n.id <= 5000
         END
   );
 
+-- 5-1. 뉴스 카테고리 비트마스크 채우기 (비트 순서는 TargetCategory 선언 순서와 같아야 함)
+UPDATE news n
+SET n.category_mask = (
+    SELECT COALESCE(BIT_OR(1 << (FIELD(ntc.category, 'GENERAL', 'SPY', 'QQQ', 'BTC', 'AAPL', 'MSFT', 'NVDA',
+                                       'GOOGL', 'META', 'TSLA', 'BITCOIN', 'NONE') - 1)), 0)
+    FROM news_target_categories ntc
+    WHERE ntc.news_id = n.id
+);
+
 -- 6. Spring Batch 작업 실행 기록 더미데이터 생성
 INSERT INTO BATCH_JOB_INSTANCE (VERSION, JOB_NAME, JOB_KEY)
 SELECT 
@@ -0,0 +1,82 @@
+package com.sleekydz86.finsight.batch.news.scrap.step;
+
+import com.sleekydz86.finsight.core.news.domain.port.out.DjlSentimentAnalysisPort;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.ResourcelessJobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DjlModelAvailabilityDeciderTest {
+
+    private final JobRepository jobRepository = new ResourcelessJobRepository();
+    private final List<String> executedSteps = new ArrayList<>();
+
+    @Test
+    void 모델을_쓸_수_없으면_감정분석_단계를_건너뛰고_정상_종료한다() throws Exception {
+        // given
+        DjlSentimentAnalysisPort port = mock(DjlSentimentAnalysisPort.class);
+        when(port.isModelAvailable()).thenReturn(false);
+
+        // when
+        JobExecution execution = launch(new DjlModelAvailabilityDecider(port));
+
+        // then
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(executedSteps).containsExactly("crawlingStep");
+    }
+
+    @Test
+    void 모델을_쓸_수_있으면_감정분석_단계를_실행한다() throws Exception {
+        // given
+        DjlSentimentAnalysisPort port = mock(DjlSentimentAnalysisPort.class);
+        when(port.isModelAvailable()).thenReturn(true);
+
+        // when
+        JobExecution execution = launch(new DjlModelAvailabilityDecider(port));
+
+        // then
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(executedSteps).containsExactly("crawlingStep", "djlAnalysisStep");
+    }
+
+    private JobExecution launch(DjlModelAvailabilityDecider decider) throws Exception {
+        Job job = new JobBuilder("newsScrapJobWithDjl", jobRepository)
+                .start(recordingStep("crawlingStep"))
+                .next(decider)
+                .on(DjlModelAvailabilityDecider.SKIP.getName()).end()
+                .from(decider)
+                .on(DjlModelAvailabilityDecider.RUN.getName()).to(recordingStep("djlAnalysisStep"))
+                .end()
+                .build();
+
+        TaskExecutorJobLauncher launcher = new TaskExecutorJobLauncher();
+        launcher.setJobRepository(jobRepository);
+        launcher.afterPropertiesSet();
+        return launcher.run(job, new JobParameters());
+    }
+
+    private Step recordingStep(String name) {
+        return new StepBuilder(name, jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    executedSteps.add(name);
+                    return RepeatStatus.FINISHED;
+                }, new ResourcelessTransactionManager())
+                .build();
+    }
+}
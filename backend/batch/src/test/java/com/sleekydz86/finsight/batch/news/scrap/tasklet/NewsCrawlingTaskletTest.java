@@ -0,0 +1,96 @@
+package com.sleekydz86.finsight.batch.news.scrap.tasklet;
+
+import com.sleekydz86.finsight.core.global.NewsProvider;
+import com.sleekydz86.finsight.core.news.domain.News;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsCacheInvalidationPort;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsIngestResult;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsPersistencePort;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsScrapPage;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsScrapRequesterPort;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsScrapWatermarkPersistencePort;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsStreamPublishPort;
+import com.sleekydz86.finsight.core.news.service.NewsDeduplicationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NewsCrawlingTaskletTest {
+
+    private final NewsScrapRequesterPort newsScrapRequesterPort = mock(NewsScrapRequesterPort.class);
+    private final NewsPersistencePort newsPersistencePort = mock(NewsPersistencePort.class);
+    private final NewsDeduplicationService newsDeduplicationService = mock(NewsDeduplicationService.class);
+    private final NewsStreamPublishPort newsStreamPublishPort = mock(NewsStreamPublishPort.class);
+
+    private NewsCrawlingTasklet tasklet;
+
+    @BeforeEach
+    void setUp() {
+        tasklet = new NewsCrawlingTasklet(
+                newsScrapRequesterPort,
+                mock(NewsScrapWatermarkPersistencePort.class),
+                newsPersistencePort,
+                newsDeduplicationService,
+                mock(NewsCacheInvalidationPort.class),
+                newsStreamPublishPort);
+        when(newsDeduplicationService.deduplicate(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void 새로_저장된_기사만_스트림에_알린다() throws Exception {
+        // given
+        List<News> scraped = List.of(news(0L), news(0L), news(0L));
+        givenScraped(scraped);
+        when(newsPersistencePort.bulkInsertNews(scraped))
+                .thenReturn(new NewsIngestResult(3, 2, 1, List.of(news(11L), news(12L))));
+
+        // when
+        tasklet.execute(contribution(), null);
+
+        // then
+        verify(newsStreamPublishPort).publish(List.of(11L, 12L));
+    }
+
+    @Test
+    void 모두_이미_저장된_기사면_스트림에_알리지_않는다() throws Exception {
+        // given
+        List<News> scraped = List.of(news(0L), news(0L));
+        givenScraped(scraped);
+        when(newsPersistencePort.bulkInsertNews(scraped))
+                .thenReturn(new NewsIngestResult(2, 0, 2, List.of()));
+
+        // when
+        tasklet.execute(contribution(), null);
+
+        // then
+        verify(newsStreamPublishPort, never()).publish(any());
+    }
+
+    private void givenScraped(List<News> scraped) {
+        when(newsScrapRequesterPort.supportedProviders()).thenReturn(Set.of(NewsProvider.MARKETAUX));
+        when(newsScrapRequesterPort.scrapNewPages(NewsProvider.MARKETAUX))
+                .thenReturn(Flux.just(new NewsScrapPage(NewsProvider.MARKETAUX, 1, scraped, 0L, false)));
+    }
+
+    private StepContribution contribution() {
+        return new StepContribution(MetaDataInstanceFactory.createStepExecution());
+    }
+
+    private News news(Long id) {
+        return News.builder()
+                .id(id)
+                .newsProvider(NewsProvider.MARKETAUX)
+                .build();
+    }
+}
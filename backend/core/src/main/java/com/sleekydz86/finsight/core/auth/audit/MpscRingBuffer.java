@@ -0,0 +1,58 @@
+package com.sleekydz86.finsight.core.auth.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 여러 요청 스레드가 넣고 한 스레드만 꺼내는 고정 크기 링 버퍼. 락 없이 tail CAS 로 칸을 잡는다.
+ * 칸을 잡은 생산자가 아직 값을 쓰지 않았으면 소비자는 그 칸에서 멈췄다가 다음 poll 에서 다시 본다.
+ */
+final class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    // 소비자 스레드만 쓴다
+    private volatile long head;
+
+    MpscRingBuffer(int requestedCapacity) {
+        int size = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.capacity = size;
+        this.mask = size - 1;
+    }
+
+    boolean offer(E element) {
+        while (true) {
+            long t = tail.get();
+            if (t - head >= capacity) {
+                return false;
+            }
+            if (tail.compareAndSet(t, t + 1)) {
+                slots.lazySet((int) t & mask, element);
+                return true;
+            }
+        }
+    }
+
+    E poll() {
+        long h = head;
+        int index = (int) h & mask;
+        E element = slots.get(index);
+        if (element == null) {
+            return null;
+        }
+        slots.lazySet(index, null);
+        head = h + 1;
+        return element;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
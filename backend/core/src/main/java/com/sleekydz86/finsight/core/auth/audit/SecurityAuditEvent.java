@@ -0,0 +1,69 @@
+package com.sleekydz86.finsight.core.auth.audit;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 보안 감사 한 건. 요청 스레드는 값만 담고, 시각 포맷과 직렬화는 기록 스레드에서 한다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"timestamp", "requestId", "eventType"})
+public record SecurityAuditEvent(@JsonIgnore long epochMillis,
+                                 String requestId,
+                                 String eventType,
+                                 String clientIp,
+                                 String method,
+                                 String uri,
+                                 String queryString,
+                                 String userAgent,
+                                 String referer,
+                                 String contentType,
+                                 Integer contentLength,
+                                 Integer statusCode,
+                                 Long duration,
+                                 String username,
+                                 String authorities,
+                                 String exceptionType,
+                                 String exceptionMessage,
+                                 String requestBody) {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    public static SecurityAuditEvent requestStart(String requestId, String clientIp, String method, String uri,
+                                                  String queryString, String userAgent, String referer,
+                                                  String contentType, int contentLength) {
+        return new SecurityAuditEvent(System.currentTimeMillis(), requestId, "REQUEST_START", clientIp, method, uri,
+                queryString, userAgent, referer, contentType, contentLength, null, null, null, null, null, null, null);
+    }
+
+    public static SecurityAuditEvent requestEnd(String requestId, String clientIp, String method, String uri,
+                                                int statusCode, long duration, String username, String authorities,
+                                                String requestBody) {
+        return new SecurityAuditEvent(System.currentTimeMillis(), requestId, "REQUEST_END", clientIp, method, uri,
+                null, null, null, null, null, statusCode, duration, username, authorities, null, null, requestBody);
+    }
+
+    public static SecurityAuditEvent securityException(String requestId, String clientIp, String method, String uri,
+                                                       Exception exception) {
+        return new SecurityAuditEvent(System.currentTimeMillis(), requestId, "SECURITY_EXCEPTION", clientIp, method,
+                uri, null, null, null, null, null, null, null, null, null,
+                exception.getClass().getSimpleName(), exception.getMessage(), null);
+    }
+
+    @JsonProperty("timestamp")
+    public String timestamp() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault()).format(DATE_FORMATTER);
+    }
+
+    @JsonIgnore
+    public boolean isError() {
+        return exceptionType != null;
+    }
+}
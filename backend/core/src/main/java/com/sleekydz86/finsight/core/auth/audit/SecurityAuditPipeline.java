@@ -0,0 +1,185 @@
+package com.sleekydz86.finsight.core.auth.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 요청 스레드가 넘긴 보안 감사 이벤트를 링 버퍼에 넣고, 전용 기록 스레드가 batchSize 개씩 모아
+ * 한 번의 로그 출력으로 남긴다. 버퍼가 가득 차면 정책에 따라 버리거나(DROP) 잠시 기다린다(BLOCK).
+ */
+@Component
+public class SecurityAuditPipeline {
+
+    private static final Logger auditLogger = LoggerFactory.getLogger("SECURITY_AUDIT");
+    private static final Logger log = LoggerFactory.getLogger(SecurityAuditPipeline.class);
+
+    private static final ObjectWriter EVENT_WRITER = new ObjectMapper().writerFor(SecurityAuditEvent.class);
+    private static final String LINE_PREFIX = "SECURITY_AUDIT: ";
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    public enum OverflowPolicy {
+        DROP,
+        BLOCK
+    }
+
+    interface Sink {
+        void append(String lines, boolean error);
+    }
+
+    private final MpscRingBuffer<SecurityAuditEvent> buffer;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final Sink sink;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+
+    // 아래는 기록 스레드만 쓴다
+    private final StringBuilder infoLines = new StringBuilder(4096);
+    private final StringBuilder errorLines = new StringBuilder(1024);
+
+    private volatile boolean running;
+    private volatile Thread writer;
+
+    @Autowired
+    public SecurityAuditPipeline(MeterRegistry meterRegistry,
+                                 @Value("${security.audit.buffer-size:8192}") int bufferSize,
+                                 @Value("${security.audit.batch-size:256}") int batchSize,
+                                 @Value("${security.audit.overflow-policy:DROP}") OverflowPolicy overflowPolicy,
+                                 @Value("${security.audit.block-timeout-millis:5}") long blockTimeoutMillis) {
+        this(meterRegistry, bufferSize, batchSize, overflowPolicy, blockTimeoutMillis, (lines, error) -> {
+            if (error) {
+                auditLogger.error(lines);
+            } else {
+                auditLogger.info(lines);
+            }
+        });
+    }
+
+    SecurityAuditPipeline(MeterRegistry meterRegistry, int bufferSize, int batchSize, OverflowPolicy overflowPolicy,
+                          long blockTimeoutMillis, Sink sink) {
+        this.buffer = new MpscRingBuffer<>(bufferSize);
+        this.batchSize = Math.max(1, batchSize);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, blockTimeoutMillis));
+        this.sink = sink;
+        Gauge.builder("security.audit.buffer.size", buffer, MpscRingBuffer::size)
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("security.audit.dropped")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("security.audit.written")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::runWriter, "security-audit-writer");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+    }
+
+    /**
+     * @return 버퍼에 넣었으면 true, 정책에 따라 버렸으면 false
+     */
+    public boolean publish(SecurityAuditEvent event) {
+        if (buffer.offer(event)) {
+            return true;
+        }
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            long deadline = System.nanoTime() + blockTimeoutNanos;
+            while (System.nanoTime() < deadline) {
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                if (buffer.offer(event)) {
+                    return true;
+                }
+            }
+        }
+        droppedCounter.increment();
+        return false;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        Thread thread = writer;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (buffer.size() > 0) {
+            log.warn("종료 시 기록하지 못한 보안 감사 이벤트: {}건", buffer.size());
+        }
+    }
+
+    private void runWriter() {
+        while (running || buffer.size() > 0) {
+            try {
+                if (drainBatch() == 0) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            } catch (Exception e) {
+                log.error("보안 감사 기록 실패", e);
+            }
+        }
+    }
+
+    int drainBatch() {
+        int drained = 0;
+        SecurityAuditEvent event;
+        while (drained < batchSize && (event = buffer.poll()) != null) {
+            drained++;
+            StringBuilder lines = event.isError() ? errorLines : infoLines;
+            try {
+                String json = EVENT_WRITER.writeValueAsString(event);
+                if (!lines.isEmpty()) {
+                    lines.append(System.lineSeparator());
+                }
+                lines.append(LINE_PREFIX).append(json);
+            } catch (Exception e) {
+                log.error("보안 감사 이벤트 직렬화 실패: {}", event.eventType(), e);
+            }
+        }
+        try {
+            flush(infoLines, false);
+        } finally {
+            flush(errorLines, true);
+        }
+        if (drained > 0) {
+            writtenCounter.increment(drained);
+        }
+        return drained;
+    }
+
+    private void flush(StringBuilder lines, boolean error) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        // 출력이 실패해도 버퍼를 비워, 다음 배치에 같은 줄이 다시 붙어 계속 커지지 않게 한다
+        try {
+            sink.append(lines.toString(), error);
+        } finally {
+            lines.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.sleekydz86.finsight.core.auth.domain;
+
+import com.sleekydz86.finsight.core.user.domain.User;
+import com.sleekydz86.finsight.core.user.domain.UserRole;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인증된 요청의 주체. 요청마다 필요한 사용자 상태만 담고 비밀번호는 들고 있지 않는다.
+ */
+public class UserPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final String nickname;
+    private final UserRole role;
+    private final boolean enabled;
+    private final List<GrantedAuthority> authorities;
+
+    public UserPrincipal(Long id, String email, String nickname, UserRole role, boolean enabled) {
+        this.id = id;
+        this.email = email;
+        this.nickname = nickname;
+        this.role = role;
+        this.enabled = enabled;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(user.getId(), user.getEmail(), user.getUsername(), user.getRole(), user.isActive());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+
+    public UserRole getRole() {
+        return role;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public String toString() {
+        return "UserPrincipal{" +
+                "id=" + id +
+                ", email='" + email + '\'' +
+                ", role=" + role +
+                ", enabled=" + enabled +
+                '}';
+    }
+}
@@ -1,7 +1,10 @@
 
 package com.sleekydz86.finsight.core.auth.filter;
 
+import com.sleekydz86.finsight.core.auth.domain.UserPrincipal;
+import com.sleekydz86.finsight.core.auth.service.UserPrincipalCache;
 import com.sleekydz86.finsight.core.auth.util.JwtTokenUtil;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -12,8 +15,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -27,11 +28,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
     private final JwtTokenUtil jwtTokenUtil;
-    private final UserDetailsService userDetailsService;
+    private final UserPrincipalCache userPrincipalCache;
 
-    public JwtAuthenticationFilter(JwtTokenUtil jwtTokenUtil, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtTokenUtil jwtTokenUtil, UserPrincipalCache userPrincipalCache) {
         this.jwtTokenUtil = jwtTokenUtil;
-        this.userDetailsService = userDetailsService;
+        this.userPrincipalCache = userPrincipalCache;
     }
 
     @Override
@@ -44,11 +45,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String token = extractTokenFromRequest(request);
 
             if (StringUtils.hasText(token)) {
-                if (jwtTokenUtil.validateToken(token)) {
-                    String tokenType = jwtTokenUtil.getTokenType(token);
+                // 서명 검증은 요청당 한 번만 하고 이후에는 클레임만 읽는다
+                Claims claims = jwtTokenUtil.parseClaims(token);
+                if (claims != null) {
+                    String tokenType = claims.get("tokenType", String.class);
 
                     if ("ACCESS".equals(tokenType)) {
-                        Authentication authentication = getAuthentication(token);
+                        Authentication authentication = getAuthentication(claims);
 
                         if (authentication != null && authentication.isAuthenticated()) {
                             SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -93,15 +96,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 
-    private Authentication getAuthentication(String token) {
+    private Authentication getAuthentication(Claims claims) {
         try {
-            String email = jwtTokenUtil.getEmailFromToken(token);
-            if (email != null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-                return new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
+            String email = claims.getSubject();
+            if (email == null) {
+                return null;
             }
-            return null;
+            UserPrincipal principal = userPrincipalCache.get(email).orElse(null);
+            if (principal == null || !principal.isEnabled()) {
+                log.warn("인증할 수 없는 사용자: {}", email);
+                return null;
+            }
+            return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
         } catch (Exception e) {
             log.error("토큰에서 인증 생성 실패: {}", e.getMessage());
             return null;
@@ -1,33 +1,41 @@
 package com.sleekydz86.finsight.core.auth.filter;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sleekydz86.finsight.core.auth.audit.SecurityAuditEvent;
+import com.sleekydz86.finsight.core.auth.audit.SecurityAuditPipeline;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.UUID;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicLong;
-
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 요청마다 보안 감사 이벤트를 만들어 {@link SecurityAuditPipeline} 에 넘긴다. 직렬화와 출력은 기록 스레드가 맡는다.
+ * 요청 본문은 샘플링 규칙(경로 접두사 + 비율)에 걸린 요청만 버퍼링해 maxBytes 까지 남긴다.
+ * 인증 API 본문은 샘플링하지 않으며, 남기는 본문에서도 비밀번호/토큰/OTP 류 필드 값은 가린다.
+ */
 @Component
 public class SecurityAuditFilter extends OncePerRequestFilter {
 
     private static final Logger auditLogger = LoggerFactory.getLogger("SECURITY_AUDIT");
     private static final Logger logger = LoggerFactory.getLogger(SecurityAuditFilter.class);
 
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-
     private static final AtomicLong requestCounter = new AtomicLong(0);
 
     private static final ConcurrentHashMap<String, IpRequestPattern> ipPatterns = new ConcurrentHashMap<>();
@@ -36,6 +44,32 @@ public class SecurityAuditFilter extends OncePerRequestFilter {
     private static final int SUSPICIOUS_ERROR_THRESHOLD = 20;
     private static final long SUSPICIOUS_TIME_WINDOW = 60000;
 
+    private static final String AUTH_PATH_PREFIX = "/api/v1/auth/";
+    // JSON("password": "...") 과 폼(password=...) 형식 모두에서 민감한 필드의 값만 잡는다. 잘린 값도 끝까지 가린다
+    private static final Pattern SENSITIVE_FIELD = Pattern.compile(
+            "(\"?[\\w-]*(?:password|passwd|token|otp|secret|credential)[\\w-]*\"?\\s*[:=]\\s*)"
+                    + "(\"(?:[^\"\\\\]|\\\\.)*\"?|[^,&}\\s]+)",
+            Pattern.CASE_INSENSITIVE);
+    private static final String REDACTED = "\"***\"";
+
+    private final SecurityAuditPipeline auditPipeline;
+    private final List<String> bodySamplingPathPrefixes;
+    private final double bodySamplingRate;
+    private final int bodySamplingMaxBytes;
+
+    public SecurityAuditFilter(SecurityAuditPipeline auditPipeline,
+                               @Value("${security.audit.body-sampling.path-prefixes:}") List<String> bodySamplingPathPrefixes,
+                               @Value("${security.audit.body-sampling.rate:0.0}") double bodySamplingRate,
+                               @Value("${security.audit.body-sampling.max-bytes:2048}") int bodySamplingMaxBytes) {
+        this.auditPipeline = auditPipeline;
+        this.bodySamplingPathPrefixes = bodySamplingPathPrefixes.stream()
+                .filter(StringUtils::hasText)
+                .map(String::trim)
+                .toList();
+        this.bodySamplingRate = bodySamplingRate;
+        this.bodySamplingMaxBytes = Math.max(0, bodySamplingMaxBytes);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
@@ -48,92 +82,92 @@ public class SecurityAuditFilter extends OncePerRequestFilter {
 
         analyzeIpPattern(clientIp, request);
 
-        ContentCachingRequestWrapper wrappedRequest = new ContentCachingRequestWrapper(request);
-        ContentCachingResponseWrapper wrappedResponse = new ContentCachingResponseWrapper(response);
+        HttpServletRequest auditedRequest = shouldSampleBody(request)
+                ? new ContentCachingRequestWrapper(request, bodySamplingMaxBytes)
+                : request;
 
         try {
-            filterChain.doFilter(wrappedRequest, wrappedResponse);
+            filterChain.doFilter(auditedRequest, response);
 
             long duration = System.currentTimeMillis() - startTime;
-            logRequestEnd(wrappedRequest, wrappedResponse, requestId, duration, clientIp);
+            logRequestEnd(auditedRequest, response, requestId, duration, clientIp);
 
             detectSuspiciousPatterns(clientIp, request, response, duration);
 
         } catch (Exception e) {
-            logSecurityException(wrappedRequest, requestId, e, clientIp);
+            logSecurityException(request, requestId, e, clientIp);
             throw e;
-        } finally {
-            wrappedResponse.copyBodyToResponse();
         }
     }
 
     private void logRequestStart(HttpServletRequest request, String requestId, String clientIp) {
-        try {
-            SecurityAuditEvent event = SecurityAuditEvent.builder()
-                    .timestamp(LocalDateTime.now().format(DATE_FORMATTER))
-                    .requestId(requestId)
-                    .eventType("REQUEST_START")
-                    .clientIp(clientIp)
-                    .method(request.getMethod())
-                    .uri(request.getRequestURI())
-                    .queryString(request.getQueryString())
-                    .userAgent(request.getHeader("User-Agent"))
-                    .referer(request.getHeader("Referer"))
-                    .contentType(request.getContentType())
-                    .contentLength(request.getContentLength())
-                    .build();
-
-            auditLogger.info("SECURITY_AUDIT: {}", new ObjectMapper().writeValueAsString(event));
-
-        } catch (Exception e) {
-            logger.error("보안 감사 로깅 실패", e);
-        }
+        auditPipeline.publish(SecurityAuditEvent.requestStart(
+                requestId,
+                clientIp,
+                request.getMethod(),
+                request.getRequestURI(),
+                request.getQueryString(),
+                request.getHeader("User-Agent"),
+                request.getHeader("Referer"),
+                request.getContentType(),
+                request.getContentLength()));
     }
 
     private void logRequestEnd(HttpServletRequest request, HttpServletResponse response,
                                String requestId, long duration, String clientIp) {
-        try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-            SecurityAuditEvent event = SecurityAuditEvent.builder()
-                    .timestamp(LocalDateTime.now().format(DATE_FORMATTER))
-                    .requestId(requestId)
-                    .eventType("REQUEST_END")
-                    .clientIp(clientIp)
-                    .method(request.getMethod())
-                    .uri(request.getRequestURI())
-                    .statusCode(response.getStatus())
-                    .duration(duration)
-                    .username(authentication != null ? authentication.getName() : "anonymous")
-                    .authorities(authentication != null ? authentication.getAuthorities().toString() : "none")
-                    .build();
-
-            auditLogger.info("SECURITY_AUDIT: {}", new ObjectMapper().writeValueAsString(event));
-
-        } catch (Exception e) {
-            logger.error("보안 감사 로깅 실패", e);
-        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        auditPipeline.publish(SecurityAuditEvent.requestEnd(
+                requestId,
+                clientIp,
+                request.getMethod(),
+                request.getRequestURI(),
+                response.getStatus(),
+                duration,
+                authentication != null ? authentication.getName() : "anonymous",
+                authentication != null ? authentication.getAuthorities().toString() : "none",
+                sampledBody(request)));
     }
 
     private void logSecurityException(HttpServletRequest request, String requestId,
                                       Exception e, String clientIp) {
-        try {
-            SecurityAuditEvent event = SecurityAuditEvent.builder()
-                    .timestamp(LocalDateTime.now().format(DATE_FORMATTER))
-                    .requestId(requestId)
-                    .eventType("SECURITY_EXCEPTION")
-                    .clientIp(clientIp)
-                    .method(request.getMethod())
-                    .uri(request.getRequestURI())
-                    .exceptionType(e.getClass().getSimpleName())
-                    .exceptionMessage(e.getMessage())
-                    .build();
-
-            auditLogger.error("SECURITY_AUDIT: {}", new ObjectMapper().writeValueAsString(event));
-
-        } catch (Exception ex) {
-            logger.error("보안 예외 로깅 실패", ex);
+        auditPipeline.publish(SecurityAuditEvent.securityException(
+                requestId, clientIp, request.getMethod(), request.getRequestURI(), e));
+    }
+
+    private boolean shouldSampleBody(HttpServletRequest request) {
+        if (bodySamplingPathPrefixes.isEmpty() || bodySamplingRate <= 0) {
+            return false;
+        }
+        String path = request.getRequestURI();
+        if (path.startsWith(AUTH_PATH_PREFIX)) {
+            return false;
         }
+        for (String prefix : bodySamplingPathPrefixes) {
+            if (path.startsWith(prefix)) {
+                return bodySamplingRate >= 1 || ThreadLocalRandom.current().nextDouble() < bodySamplingRate;
+            }
+        }
+        return false;
+    }
+
+    private String sampledBody(HttpServletRequest request) {
+        if (!(request instanceof ContentCachingRequestWrapper wrapper)) {
+            return null;
+        }
+        byte[] body = wrapper.getContentAsByteArray();
+        if (body.length == 0) {
+            return null;
+        }
+        String encoding = wrapper.getCharacterEncoding();
+        String sampled = new String(body, 0, Math.min(body.length, bodySamplingMaxBytes),
+                encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8);
+        return redact(sampled);
+    }
+
+    private static String redact(String body) {
+        return SENSITIVE_FIELD.matcher(body).replaceAll(match ->
+                Matcher.quoteReplacement(match.group(1) + REDACTED));
     }
 
     private void analyzeIpPattern(String clientIp, HttpServletRequest request) {
@@ -186,9 +220,9 @@ public class SecurityAuditFilter extends OncePerRequestFilter {
     }
 
     private String generateRequestId() {
-        return String.format("REQ_%d_%s",
-                requestCounter.incrementAndGet(),
-                UUID.randomUUID().toString().substring(0, 8));
+        // 형식은 이전과 같고(REQ_번호_8자리 16진수), 요청마다 UUID 를 만들지 않는다
+        String suffix = Integer.toHexString(ThreadLocalRandom.current().nextInt() | 0x10000000);
+        return "REQ_" + requestCounter.incrementAndGet() + "_" + suffix;
     }
 
     private String getClientIpAddress(HttpServletRequest request) {
@@ -261,121 +295,4 @@ public class SecurityAuditFilter extends OncePerRequestFilter {
                     requestCount, errorCount, requestPaths.size(), userAgents.size());
         }
     }
-
-    private static class SecurityAuditEvent {
-        private String timestamp;
-        private String requestId;
-        private String eventType;
-        private String clientIp;
-        private String method;
-        private String uri;
-        private String queryString;
-        private String userAgent;
-        private String referer;
-        private String contentType;
-        private Integer contentLength;
-        private Integer statusCode;
-        private Long duration;
-        private String username;
-        private String authorities;
-        private String exceptionType;
-        private String exceptionMessage;
-
-        public static SecurityAuditEventBuilder builder() {
-            return new SecurityAuditEventBuilder();
-        }
-
-        public static class SecurityAuditEventBuilder {
-            private SecurityAuditEvent event = new SecurityAuditEvent();
-
-            public SecurityAuditEventBuilder timestamp(String timestamp) {
-                event.timestamp = timestamp;
-                return this;
-            }
-
-            public SecurityAuditEventBuilder requestId(String requestId) {
-                event.requestId = requestId;
-                return this;
-            }
-
-            public SecurityAuditEventBuilder eventType(String eventType) {
-                event.eventType = eventType;
-                return this;
-            }
-
-            public SecurityAuditEventBuilder clientIp(String clientIp) {
-                event.clientIp = clientIp;
-                return this;
-            }
-
-            public SecurityAuditEventBuilder method(String method) {
-                event.method = method;
-                return this;
-            }
-
-            public SecurityAuditEventBuilder uri(String uri) {
-                event.uri = uri;
-                return this;
-            }
-
-            public SecurityAuditEventBuilder queryString(String queryString) {
-                event.queryString = queryString;
-                return this;
-            }
-
-            public SecurityAuditEventBuilder userAgent(String userAgent) {
-                event.userAgent = userAgent;
-                return this;
-            }
-
-            public SecurityAuditEventBuilder referer(String referer) {
-                event.referer = referer;
-                return this;
-            }
-
-            public SecurityAuditEventBuilder contentType(String contentType) {
-                event.contentType = contentType;
-                return this;
-            }
-
-            public SecurityAuditEventBuilder contentLength(Integer contentLength) {
-                event.contentLength = contentLength;
-                return this;
-            }
-
-            public SecurityAuditEventBuilder statusCode(Integer statusCode) {
-                event.statusCode = statusCode;
-                return this;
-            }
-
-            public SecurityAuditEventBuilder duration(Long duration) {
-                event.duration = duration;
-                return this;
-            }
-
-            public SecurityAuditEventBuilder username(String username) {
-                event.username = username;
-                return this;
-            }
-
-            public SecurityAuditEventBuilder authorities(String authorities) {
-                event.authorities = authorities;
-                return this;
-            }
-
-            public SecurityAuditEventBuilder exceptionType(String exceptionType) {
-                event.exceptionType = exceptionType;
-                return this;
-            }
-
-            public SecurityAuditEventBuilder exceptionMessage(String exceptionMessage) {
-                event.exceptionMessage = exceptionMessage;
-                return this;
-            }
-
-            public SecurityAuditEvent build() {
-                return event;
-            }
-        }
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,69 @@
+package com.sleekydz86.finsight.core.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sleekydz86.finsight.core.auth.domain.UserPrincipal;
+import com.sleekydz86.finsight.core.user.domain.event.UserChangedEvent;
+import com.sleekydz86.finsight.core.user.domain.port.out.UserPersistencePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * JWT 로 인증된 요청이 매번 users 를 조회하지 않도록 이메일별 사용자 상태를 짧게 캐싱한다.
+ * 사용자 저장(잠금, 권한, 비밀번호 변경 포함)이 커밋되면 이 인스턴스의 항목을 바로 비우고,
+ * 다른 인스턴스는 TTL 이 지나면 다시 읽는다.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private static final Logger log = LoggerFactory.getLogger(UserPrincipalCache.class);
+
+    private final UserPersistencePort userPersistencePort;
+    private final Cache<String, UserPrincipal> cache;
+
+    public UserPrincipalCache(UserPersistencePort userPersistencePort,
+                              MeterRegistry meterRegistry,
+                              @Value("${auth.principal-cache.max-size:10000}") long maxSize,
+                              @Value("${auth.principal-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.userPersistencePort = userPersistencePort;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.principal");
+    }
+
+    /**
+     * 없는 사용자는 캐싱하지 않는다. 적재 중에 비우기가 들어오면 적재가 끝난 뒤 비워지므로 옛 상태가 남지 않는다.
+     */
+    public Optional<UserPrincipal> get(String email) {
+        return Optional.ofNullable(cache.get(email, this::load));
+    }
+
+    public void invalidate(String email) {
+        if (email != null) {
+            cache.invalidate(email);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        log.debug("사용자 변경으로 인증 캐시 비움: {}", event.email());
+        invalidate(event.email());
+    }
+
+    private UserPrincipal load(String email) {
+        return userPersistencePort.findByEmail(email)
+                .map(UserPrincipal::from)
+                .orElse(null);
+    }
+}
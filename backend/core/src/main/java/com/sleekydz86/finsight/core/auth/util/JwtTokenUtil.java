@@ -36,14 +36,46 @@ public class JwtTokenUtil {
     @Value("${jwt.issuer:finsight}")
     private String issuer;
 
+    // 설정값으로 한 번 만든 뒤 재사용한다. 경합 시 같은 값을 두 번 만들 수 있지만 결과는 동일하다
+    private volatile SecretKey signingKey;
+    private volatile JwtParser parser;
+
     private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        if (keyBytes.length < 32) {
-            byte[] paddedKeyBytes = new byte[32];
-            System.arraycopy(keyBytes, 0, paddedKeyBytes, 0, keyBytes.length);
-            return Keys.hmacShaKeyFor(paddedKeyBytes);
+        SecretKey key = signingKey;
+        if (key == null) {
+            byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+            if (keyBytes.length < 32) {
+                byte[] paddedKeyBytes = new byte[32];
+                System.arraycopy(keyBytes, 0, paddedKeyBytes, 0, keyBytes.length);
+                keyBytes = paddedKeyBytes;
+            }
+            key = Keys.hmacShaKeyFor(keyBytes);
+            signingKey = key;
+        }
+        return key;
+    }
+
+    private JwtParser parser() {
+        JwtParser jwtParser = parser;
+        if (jwtParser == null) {
+            jwtParser = Jwts.parser()
+                    .verifyWith(getSigningKey())
+                    .build();
+            parser = jwtParser;
+        }
+        return jwtParser;
+    }
+
+    /**
+     * 서명과 만료를 한 번만 검증하고 클레임을 돌려준다. 유효하지 않으면 null.
+     */
+    public Claims parseClaims(String token) {
+        try {
+            return parser().parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("JWT token validation failed: {}", e.getMessage());
+            return null;
         }
-        return Keys.hmacShaKeyFor(keyBytes);
     }
 
     public String generateAccessToken(String email, UserRole role) {
@@ -72,23 +104,12 @@ public class JwtTokenUtil {
     }
 
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            log.warn("JWT token validation failed: {}", e.getMessage());
-            return false;
-        }
+        return parseClaims(token) != null;
     }
 
     public boolean isTokenExpired(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
+            Claims claims = parser()
                     .parseSignedClaims(token)
                     .getPayload();
             return claims.getExpiration().before(new Date());
@@ -103,9 +124,7 @@ public class JwtTokenUtil {
 
     public String getEmailFromToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
+            Claims claims = parser()
                     .parseSignedClaims(token)
                     .getPayload();
             return claims.getSubject();
@@ -117,9 +136,7 @@ public class JwtTokenUtil {
 
     public UserRole getRoleFromToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
+            Claims claims = parser()
                     .parseSignedClaims(token)
                     .getPayload();
             String roleStr = claims.get("role", String.class);
@@ -131,9 +148,7 @@ public class JwtTokenUtil {
     }
 
     private Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return parser()
                 .parseSignedClaims(token)
                 .getPayload();
     }
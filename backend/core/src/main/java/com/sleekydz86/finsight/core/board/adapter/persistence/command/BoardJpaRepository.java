@@ -84,10 +84,6 @@ public interface BoardJpaRepository extends JpaRepository<BoardJpaEntity, Long>
     long countByBoardTypeAndStatus(BoardType boardType, BoardStatus status);
     long countByAuthorEmailAndStatus(String authorEmail, BoardStatus status);
 
-    @Modifying
-    @Query("UPDATE BoardJpaEntity b SET b.viewCount = b.viewCount + 1 WHERE b.id = :boardId")
-    void incrementViewCount(@Param("boardId") Long boardId);
-
     @Modifying
     @Query("UPDATE BoardJpaEntity b SET b.likeCount = b.likeCount + 1 WHERE b.id = :boardId")
     void incrementLikeCount(@Param("boardId") Long boardId);
@@ -103,4 +99,6 @@ public interface BoardJpaRepository extends JpaRepository<BoardJpaEntity, Long>
     @Modifying
     @Query("UPDATE BoardJpaEntity b SET b.reportCount = b.reportCount + 1 WHERE b.id = :boardId")
     void incrementReportCount(@Param("boardId") Long boardId);
-}
\ No newline at end of file
+
+    List<BoardJpaEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+}
@@ -2,6 +2,8 @@ package com.sleekydz86.finsight.core.board.adapter.persistence.command;
 
 import com.sleekydz86.finsight.core.board.domain.BoardReaction;
 import com.sleekydz86.finsight.core.board.domain.port.out.BoardReactionPersistencePort;
+import com.sleekydz86.finsight.core.comment.adapter.persistence.command.ReactionToggleRepository;
+import com.sleekydz86.finsight.core.comment.domain.ReactionToggleResult;
 import com.sleekydz86.finsight.core.comment.domain.ReactionType;
 import org.springframework.stereotype.Component;
 
@@ -12,11 +14,14 @@ public class BoardReactionRepositoryImpl implements BoardReactionPersistencePort
 
     private final BoardReactionJpaRepository boardReactionJpaRepository;
     private final BoardReactionJpaMapper boardReactionJpaMapper;
+    private final ReactionToggleRepository reactionToggleRepository;
 
     public BoardReactionRepositoryImpl(BoardReactionJpaRepository boardReactionJpaRepository,
-                                       BoardReactionJpaMapper boardReactionJpaMapper) {
+                                       BoardReactionJpaMapper boardReactionJpaMapper,
+                                       ReactionToggleRepository reactionToggleRepository) {
         this.boardReactionJpaRepository = boardReactionJpaRepository;
         this.boardReactionJpaMapper = boardReactionJpaMapper;
+        this.reactionToggleRepository = reactionToggleRepository;
     }
 
     @Override
@@ -41,4 +46,10 @@ public class BoardReactionRepositoryImpl implements BoardReactionPersistencePort
     public long countByBoardIdAndReactionType(Long boardId, ReactionType reactionType) {
         return boardReactionJpaRepository.countByBoardIdAndReactionType(boardId, reactionType);
     }
+
+    @Override
+    public Optional<ReactionToggleResult> toggle(Long boardId, String userEmail, ReactionType reactionType) {
+        return reactionToggleRepository.toggle(ReactionToggleRepository.Target.BOARD, boardId, userEmail,
+                reactionType);
+    }
 }
\ No newline at end of file
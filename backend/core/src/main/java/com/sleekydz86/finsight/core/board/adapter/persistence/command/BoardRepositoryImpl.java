@@ -4,31 +4,42 @@ import com.sleekydz86.finsight.core.board.domain.Board;
 import com.sleekydz86.finsight.core.board.domain.BoardType;
 import com.sleekydz86.finsight.core.board.domain.BoardStatus;
 import com.sleekydz86.finsight.core.board.domain.Boards;
+import com.sleekydz86.finsight.core.board.domain.event.BoardChangedEvent;
 import com.sleekydz86.finsight.core.board.domain.port.out.BoardPersistencePort;
 import com.sleekydz86.finsight.core.board.domain.port.in.dto.BoardSearchRequest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 public class BoardRepositoryImpl implements BoardPersistencePort {
 
     private final BoardJpaRepository boardJpaRepository;
     private final BoardJpaMapper boardJpaMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public BoardRepositoryImpl(BoardJpaRepository boardJpaRepository, BoardJpaMapper boardJpaMapper) {
+    public BoardRepositoryImpl(BoardJpaRepository boardJpaRepository, BoardJpaMapper boardJpaMapper,
+                               ApplicationEventPublisher eventPublisher) {
         this.boardJpaRepository = boardJpaRepository;
         this.boardJpaMapper = boardJpaMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     public Board save(Board board) {
         BoardJpaEntity entity = boardJpaMapper.toEntity(board);
         BoardJpaEntity savedEntity = boardJpaRepository.save(entity);
+        eventPublisher.publishEvent(new BoardChangedEvent(savedEntity.getId()));
         return boardJpaMapper.toDomain(savedEntity);
     }
 
@@ -38,6 +49,34 @@ public class BoardRepositoryImpl implements BoardPersistencePort {
                 .map(boardJpaMapper::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Board> findAllByIds(List<Long> boardIds) {
+        if (boardIds == null || boardIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, BoardJpaEntity> entities = boardJpaRepository.findAllById(boardIds).stream()
+                .collect(Collectors.toMap(BoardJpaEntity::getId, Function.identity()));
+        // IN 조회는 순서를 보장하지 않으므로 요청한 id 순서(검색 순위)대로 되돌린다
+        List<Board> boards = new ArrayList<>(boardIds.size());
+        for (Long boardId : boardIds) {
+            BoardJpaEntity entity = entities.get(boardId);
+            if (entity != null) {
+                boards.add(boardJpaMapper.toDomain(entity));
+            }
+        }
+        return boards;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Board> findAllByIdAfter(Long afterId, int limit) {
+        return boardJpaRepository.findByIdGreaterThanOrderByIdAsc(
+                        afterId != null ? afterId : 0L, PageRequest.of(0, limit)).stream()
+                .map(boardJpaMapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Boards findBySearchRequest(BoardSearchRequest request) {
         Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
@@ -118,6 +157,7 @@ public class BoardRepositoryImpl implements BoardPersistencePort {
     @Override
     public void deleteById(Long boardId) {
         boardJpaRepository.deleteById(boardId);
+        eventPublisher.publishEvent(new BoardChangedEvent(boardId));
     }
 
     @Override
@@ -139,7 +179,7 @@ public class BoardRepositoryImpl implements BoardPersistencePort {
         List<BoardJpaEntity> next = boardJpaRepository.findNextBoard(
                 boardType, BoardStatus.ACTIVE, boardId, pageable);
 
-        List<Board> result = new java.util.ArrayList<>();
+        List<Board> result = new ArrayList<>();
         if (!previous.isEmpty()) {
             result.add(boardJpaMapper.toDomain(previous.get(0)));
         }
@@ -150,11 +190,6 @@ public class BoardRepositoryImpl implements BoardPersistencePort {
         return result;
     }
 
-    @Override
-    public void incrementViewCount(Long boardId) {
-        boardJpaRepository.incrementViewCount(boardId);
-    }
-
     private Boards searchByKeyword(BoardSearchRequest request, Pageable pageable) {
         var pageResult = boardJpaRepository.findByBoardTypeAndStatusAndTitleContainingOrContentContaining(
                 request.getBoardType(), BoardStatus.ACTIVE, request.getKeyword(), pageable);
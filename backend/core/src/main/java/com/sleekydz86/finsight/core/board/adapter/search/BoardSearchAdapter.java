@@ -0,0 +1,224 @@
+package com.sleekydz86.finsight.core.board.adapter.search;
+
+import com.sleekydz86.finsight.core.board.domain.Board;
+import com.sleekydz86.finsight.core.board.domain.event.BoardChangedEvent;
+import com.sleekydz86.finsight.core.board.domain.port.in.dto.BoardSearchRequest;
+import com.sleekydz86.finsight.core.board.domain.port.out.BoardPersistencePort;
+import com.sleekydz86.finsight.core.board.domain.port.out.BoardSearchPort;
+import com.sleekydz86.finsight.core.global.exception.SystemException;
+import com.sleekydz86.finsight.core.global.search.SearchIndex;
+import com.sleekydz86.finsight.core.global.search.SearchIndexFactory;
+import com.sleekydz86.finsight.core.global.search.SearchPage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 게시글 전문 검색 색인. 활성 글의 제목, 본문, 해시태그만 색인하고 게시판 종류와 작성 시각을 필터로 둔다.
+ * 게시글은 저장소를 거쳐서만 바뀌므로 커밋 뒤 {@link BoardChangedEvent} 로 해당 글만 다시 색인한다.
+ */
+@Component
+public class BoardSearchAdapter implements BoardSearchPort {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardSearchAdapter.class);
+
+    private static final String INDEX_NAME = "board";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final String HASHTAG = "hashtag";
+    private static final String BOARD_TYPE = "boardType";
+
+    private final BoardPersistencePort boardPersistencePort;
+    private final SearchIndex index;
+    private final int loadBatchSize;
+
+    public BoardSearchAdapter(BoardPersistencePort boardPersistencePort,
+                              SearchIndexFactory searchIndexFactory,
+                              @Value("${search.index.load-batch-size:500}") int loadBatchSize) {
+        this.boardPersistencePort = boardPersistencePort;
+        this.index = searchIndexFactory.open(INDEX_NAME).orElse(null);
+        this.loadBatchSize = Math.max(1, loadBatchSize);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (index != null && !index.isReady()) {
+            rebuild();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        if (index != null) {
+            index.close();
+        }
+    }
+
+    @Override
+    public String indexName() {
+        return INDEX_NAME;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return index != null && index.isReady();
+    }
+
+    @Override
+    public boolean supports(BoardSearchRequest request) {
+        return request.getKeyword() != null && !request.getKeyword().isBlank() && isAvailable();
+    }
+
+    @Override
+    public SearchPage search(BoardSearchRequest request) {
+        Query query = queryOf(request);
+        if (query == null) {
+            return new SearchPage(List.of(), 0, null);
+        }
+        try {
+            return index.search(query, Math.multiplyExact(request.getPage(), request.getSize()), request.getSize());
+        } catch (IOException | ArithmeticException e) {
+            throw new SystemException("게시글 검색 중 오류가 발생했습니다", "BOARD_SEARCH_ERROR", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (index == null || event.boardId() == null) {
+            return;
+        }
+        long changedAtMillis = System.currentTimeMillis();
+        index.submit(() -> {
+            List<Board> boards = boardPersistencePort.findAllByIds(List.of(event.boardId()));
+            if (boards.isEmpty()) {
+                index.delete(event.boardId(), changedAtMillis);
+            } else {
+                upsert(boards.get(0), changedAtMillis);
+            }
+            return event.boardId();
+        }).exceptionally(e -> {
+            log.warn("게시글 검색 색인 갱신 실패: boardId={}, {}", event.boardId(), e.getMessage());
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Long> rebuild() {
+        if (index == null) {
+            return CompletableFuture.failedFuture(
+                    new SystemException("게시글 검색 색인이 비활성화되어 있습니다", "SEARCH_INDEX_DISABLED"));
+        }
+        return index.rebuild(target -> {
+            long indexed = 0;
+            long lastId = 0L;
+            while (true) {
+                List<Board> batch = boardPersistencePort.findAllByIdAfter(lastId, loadBatchSize);
+                long now = System.currentTimeMillis();
+                for (Board board : batch) {
+                    upsert(board, now);
+                    lastId = board.getId();
+                }
+                indexed += batch.size();
+                if (batch.size() < loadBatchSize) {
+                    return indexed;
+                }
+            }
+        });
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        if (index == null) {
+            return Map.of("enabled", false);
+        }
+        Map<String, Object> stats = new HashMap<>(index.getStatistics());
+        stats.put("enabled", true);
+        return stats;
+    }
+
+    private void upsert(Board board, long changedAtMillis) throws IOException {
+        // 삭제/차단된 글은 검색에 나오지 않도록 색인에서 뺀다
+        if (!board.isActive()) {
+            index.delete(board.getId(), changedAtMillis);
+            return;
+        }
+        Document document = new Document();
+        addText(document, TITLE, board.getTitle());
+        addText(document, CONTENT, board.getContent());
+        for (String hashtag : board.getHashtags()) {
+            addText(document, HASHTAG, hashtag);
+        }
+        if (board.getBoardType() != null) {
+            document.add(new StringField(BOARD_TYPE, board.getBoardType().name(), Field.Store.NO));
+        }
+        long createdAt = board.getCreatedAt() != null ? toMillis(board.getCreatedAt()) : 0L;
+        index.upsert(board.getId(), createdAt, document, changedAtMillis);
+    }
+
+    private Query queryOf(BoardSearchRequest request) {
+        Query keyword = index.keywordQuery(request.getKeyword().trim(), fieldBoosts(request.getSearchType()));
+        if (keyword == null) {
+            return null;
+        }
+        BooleanQuery.Builder query = new BooleanQuery.Builder().add(keyword, BooleanClause.Occur.MUST);
+        if (request.getBoardType() != null) {
+            query.add(new TermQuery(new Term(BOARD_TYPE, request.getBoardType().name())), BooleanClause.Occur.FILTER);
+        }
+        if (request.getStartDate() != null || request.getEndDate() != null) {
+            query.add(LongPoint.newRangeQuery(SearchIndex.TIME,
+                    request.getStartDate() != null ? toMillis(request.getStartDate()) : Long.MIN_VALUE,
+                    request.getEndDate() != null ? toMillis(request.getEndDate()) : Long.MAX_VALUE),
+                    BooleanClause.Occur.FILTER);
+        }
+        return query.build();
+    }
+
+    private static Map<String, Float> fieldBoosts(BoardSearchRequest.SearchType searchType) {
+        Map<String, Float> boosts = new LinkedHashMap<>();
+        if (searchType == BoardSearchRequest.SearchType.TITLE) {
+            boosts.put(TITLE, 1.0f);
+        } else if (searchType == BoardSearchRequest.SearchType.CONTENT) {
+            boosts.put(CONTENT, 1.0f);
+        } else if (searchType == BoardSearchRequest.SearchType.HASHTAG) {
+            boosts.put(HASHTAG, 1.0f);
+        } else {
+            boosts.put(TITLE, 2.0f);
+            boosts.put(CONTENT, 1.0f);
+            boosts.put(HASHTAG, 1.5f);
+        }
+        return boosts;
+    }
+
+    private static void addText(Document document, String field, String text) {
+        if (text != null && !text.isBlank()) {
+            document.add(new TextField(field, text, Field.Store.NO));
+        }
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -85,6 +85,13 @@ public class Board {
                 this.createdAt, this.updatedAt, this.replies);
     }
 
+    public Board addViewCount(long delta) {
+        return new Board(this.id, this.title, this.content, this.authorEmail, this.boardType,
+                this.status, (int) (this.viewCount + delta), this.likeCount, this.dislikeCount,
+                this.commentCount, this.reportCount, this.hashtags, this.files,
+                this.createdAt, this.updatedAt, this.replies);
+    }
+
     public Board incrementLike() {
         return new Board(this.id, this.title, this.content, this.authorEmail, this.boardType,
                 this.status, this.viewCount, this.likeCount + 1, this.dislikeCount,
@@ -0,0 +1,7 @@
+package com.sleekydz86.finsight.core.board.domain.event;
+
+/**
+ * 게시글이 저장되거나 삭제됐음을 알린다. 검색 색인은 커밋 뒤 이 id 의 글을 다시 읽어 반영한다.
+ */
+public record BoardChangedEvent(Long boardId) {
+}
@@ -6,6 +6,7 @@ import com.sleekydz86.finsight.core.board.domain.BoardScrap;
 import com.sleekydz86.finsight.core.board.domain.port.in.dto.BoardCreateRequest;
 import com.sleekydz86.finsight.core.board.domain.port.in.dto.BoardReportRequest;
 import com.sleekydz86.finsight.core.board.domain.port.in.dto.BoardUpdateRequest;
+import com.sleekydz86.finsight.core.comment.domain.ReactionToggleResult;
 
 public interface BoardCommandUseCase {
     Board createBoard(String userEmail, BoardCreateRequest request);
@@ -14,9 +15,9 @@ public interface BoardCommandUseCase {
 
     void deleteBoard(String userEmail, Long boardId);
 
-    Board likeBoard(String userEmail, Long boardId);
+    ReactionToggleResult likeBoard(String userEmail, Long boardId);
 
-    Board dislikeBoard(String userEmail, Long boardId);
+    ReactionToggleResult dislikeBoard(String userEmail, Long boardId);
 
     void reportBoard(String userEmail, Long boardId, BoardReportRequest request);
 
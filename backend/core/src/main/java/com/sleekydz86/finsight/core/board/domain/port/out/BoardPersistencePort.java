@@ -13,6 +13,10 @@ public interface BoardPersistencePort {
 
     Optional<Board> findById(Long boardId);
 
+    List<Board> findAllByIds(List<Long> boardIds);
+
+    List<Board> findAllByIdAfter(Long afterId, int limit);
+
     Boards findBySearchRequest(BoardSearchRequest request);
 
     Boards findByBoardType(BoardType boardType, int page, int size);
@@ -32,6 +36,4 @@ public interface BoardPersistencePort {
     long countByAuthorEmail(String authorEmail);
 
     List<Board> findPreviousAndNext(Long boardId, BoardType boardType);
-
-    void incrementViewCount(Long boardId);
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.sleekydz86.finsight.core.board.domain.port.out;
 
 import com.sleekydz86.finsight.core.board.domain.BoardReaction;
+import com.sleekydz86.finsight.core.comment.domain.ReactionToggleResult;
 import com.sleekydz86.finsight.core.comment.domain.ReactionType;
 
 import java.util.Optional;
@@ -10,4 +11,7 @@ public interface BoardReactionPersistencePort {
     Optional<BoardReaction> findByBoardIdAndUserEmail(Long boardId, String userEmail);
     void deleteByBoardIdAndUserEmail(Long boardId, String userEmail);
     long countByBoardIdAndReactionType(Long boardId, ReactionType reactionType);
+
+    /** 게시글이 없으면 빈 값 */
+    Optional<ReactionToggleResult> toggle(Long boardId, String userEmail, ReactionType reactionType);
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.sleekydz86.finsight.core.board.domain.port.out;
+
+import com.sleekydz86.finsight.core.board.domain.port.in.dto.BoardSearchRequest;
+import com.sleekydz86.finsight.core.global.search.SearchIndexPort;
+import com.sleekydz86.finsight.core.global.search.SearchPage;
+
+public interface BoardSearchPort extends SearchIndexPort {
+
+    /**
+     * 키워드가 있고 색인을 쓸 수 있을 때만 true. 아니면 DB 조회로 처리한다.
+     */
+    boolean supports(BoardSearchRequest request);
+
+    SearchPage search(BoardSearchRequest request);
+}
@@ -11,12 +11,15 @@ import com.sleekydz86.finsight.core.board.domain.port.out.BoardReactionPersisten
 import com.sleekydz86.finsight.core.board.domain.port.out.BoardReportPersistencePort;
 import com.sleekydz86.finsight.core.board.domain.port.out.BoardScrapPersistencePort;
 import com.sleekydz86.finsight.core.comment.domain.ReactionType;
+import com.sleekydz86.finsight.core.comment.domain.ReactionToggleResult;
+import com.sleekydz86.finsight.core.global.exception.BoardNotFoundException;
 import com.sleekydz86.finsight.core.global.exception.InsufficientPermissionException;
 import com.sleekydz86.finsight.core.global.exception.UserNotFoundException;
 import com.sleekydz86.finsight.core.global.exception.CommentAlreadyReportedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -103,80 +106,24 @@ public class BoardCommandService implements BoardCommandUseCase {
     }
 
     @Override
-    public Board likeBoard(String userEmail, Long boardId) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ReactionToggleResult likeBoard(String userEmail, Long boardId) {
         log.info("User {} liking board {}", userEmail, boardId);
-
-        Board board = boardPersistencePort.findById(boardId)
-                .orElseThrow(() -> new UserNotFoundException("게시글을 찾을 수 없습니다"));
-
-        Optional<BoardReaction> existingReaction = boardReactionPersistencePort
-                .findByBoardIdAndUserEmail(boardId, userEmail);
-
-        if (existingReaction.isPresent()) {
-            BoardReaction reaction = existingReaction.get();
-            if (reaction.getReactionType() == ReactionType.LIKE) {
-                boardReactionPersistencePort.deleteByBoardIdAndUserEmail(boardId, userEmail);
-                Board updatedBoard = board.decrementLike();
-                return boardPersistencePort.save(updatedBoard);
-            } else {
-                boardReactionPersistencePort.deleteByBoardIdAndUserEmail(boardId, userEmail);
-                Board updatedBoard = board.decrementDislike().incrementLike();
-                boardReactionPersistencePort.save(BoardReaction.builder()
-                        .boardId(boardId)
-                        .userEmail(userEmail)
-                        .reactionType(ReactionType.LIKE)
-                        .build());
-                return boardPersistencePort.save(updatedBoard);
-            }
-        } else {
-            // User hasn't reacted, add like
-            Board updatedBoard = board.incrementLike();
-            boardReactionPersistencePort.save(BoardReaction.builder()
-                    .boardId(boardId)
-                    .userEmail(userEmail)
-                    .reactionType(ReactionType.LIKE)
-                    .build());
-
-            return boardPersistencePort.save(updatedBoard);
-        }
+        return toggleReaction(userEmail, boardId, ReactionType.LIKE);
     }
 
     @Override
-    public Board dislikeBoard(String userEmail, Long boardId) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ReactionToggleResult dislikeBoard(String userEmail, Long boardId) {
         log.info("User {} disliking board {}", userEmail, boardId);
+        return toggleReaction(userEmail, boardId, ReactionType.DISLIKE);
+    }
 
-        Board board = boardPersistencePort.findById(boardId)
-                .orElseThrow(() -> new UserNotFoundException("게시글을 찾을 수 없습니다"));
-
-        Optional<BoardReaction> existingReaction = boardReactionPersistencePort
-                .findByBoardIdAndUserEmail(boardId, userEmail);
-
-        if (existingReaction.isPresent()) {
-            BoardReaction reaction = existingReaction.get();
-            if (reaction.getReactionType() == ReactionType.DISLIKE) {
-                boardReactionPersistencePort.deleteByBoardIdAndUserEmail(boardId, userEmail);
-                Board updatedBoard = board.decrementDislike();
-                return boardPersistencePort.save(updatedBoard);
-            } else {
-                boardReactionPersistencePort.deleteByBoardIdAndUserEmail(boardId, userEmail);
-                Board updatedBoard = board.decrementLike().incrementDislike();
-                boardReactionPersistencePort.save(BoardReaction.builder()
-                        .boardId(boardId)
-                        .userEmail(userEmail)
-                        .reactionType(ReactionType.DISLIKE)
-                        .build());
-                return boardPersistencePort.save(updatedBoard);
-            }
-        } else {
-            Board updatedBoard = board.incrementDislike();
-            boardReactionPersistencePort.save(BoardReaction.builder()
-                    .boardId(boardId)
-                    .userEmail(userEmail)
-                    .reactionType(ReactionType.DISLIKE)
-                    .build());
-
-            return boardPersistencePort.save(updatedBoard);
-        }
+    // 게시글을 읽어 저장하지 않고 반응 행과 카운터만 원자적으로 바꾼다
+    // 교착 시 토글 단위로 재시도할 수 있도록 트랜잭션은 ReactionToggleRepository 가 직접 연다
+    private ReactionToggleResult toggleReaction(String userEmail, Long boardId, ReactionType reactionType) {
+        return boardReactionPersistencePort.toggle(boardId, userEmail, reactionType)
+                .orElseThrow(() -> new BoardNotFoundException(boardId));
     }
 
     @Override
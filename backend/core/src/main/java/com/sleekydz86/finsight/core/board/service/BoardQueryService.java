@@ -8,10 +8,14 @@ import com.sleekydz86.finsight.core.board.domain.port.in.dto.*;
 import com.sleekydz86.finsight.core.board.domain.port.out.BoardPersistencePort;
 import com.sleekydz86.finsight.core.board.domain.port.out.BoardReactionPersistencePort;
 import com.sleekydz86.finsight.core.board.domain.port.out.BoardScrapPersistencePort;
+import com.sleekydz86.finsight.core.board.domain.port.out.BoardSearchPort;
 import com.sleekydz86.finsight.core.board.domain.BoardScrap;
 import com.sleekydz86.finsight.core.comment.domain.ReactionType;
+import com.sleekydz86.finsight.core.global.counter.CounterType;
+import com.sleekydz86.finsight.core.global.counter.WriteBehindCounter;
 import com.sleekydz86.finsight.core.global.dto.PaginationResponse;
 import com.sleekydz86.finsight.core.global.exception.BoardNotFoundException;
+import com.sleekydz86.finsight.core.global.search.SearchPage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -31,19 +35,38 @@ public class BoardQueryService implements BoardQueryUseCase {
         private final BoardPersistencePort boardPersistencePort;
         private final BoardReactionPersistencePort boardReactionPersistencePort;
         private final BoardScrapPersistencePort boardScrapPersistencePort;
+        private final WriteBehindCounter writeBehindCounter;
+        private final BoardSearchPort boardSearchPort;
 
         public BoardQueryService(BoardPersistencePort boardPersistencePort,
                         BoardReactionPersistencePort boardReactionPersistencePort,
-                        BoardScrapPersistencePort boardScrapPersistencePort) {
+                        BoardScrapPersistencePort boardScrapPersistencePort,
+                        WriteBehindCounter writeBehindCounter,
+                        BoardSearchPort boardSearchPort) {
                 this.boardPersistencePort = boardPersistencePort;
                 this.boardReactionPersistencePort = boardReactionPersistencePort;
                 this.boardScrapPersistencePort = boardScrapPersistencePort;
+                this.writeBehindCounter = writeBehindCounter;
+                this.boardSearchPort = boardSearchPort;
         }
 
         @Override
         public PaginationResponse<BoardListResponse> getBoards(BoardSearchRequest request) {
                 log.info("게시판 목록 조회 요청: {}", request);
 
+                // 키워드 검색은 전문 검색 색인에서 순위를 정하고 글만 DB 에서 id 로 읽는다
+                if (boardSearchPort.supports(request)) {
+                        SearchPage hits = boardSearchPort.search(request);
+                        return PaginationResponse.<BoardListResponse>builder()
+                                        .content(boardPersistencePort.findAllByIds(hits.ids()).stream()
+                                                        .map(BoardListResponse::from)
+                                                        .collect(Collectors.toList()))
+                                        .page(request.getPage())
+                                        .size(request.getSize())
+                                        .totalElements(hits.totalHits())
+                                        .build();
+                }
+
                 var boards = boardPersistencePort.findBySearchRequest(request);
                 List<BoardListResponse> responses = boards.getBoards().stream()
                                 .map(BoardListResponse::from)
@@ -64,9 +87,7 @@ public class BoardQueryService implements BoardQueryUseCase {
                 Board board = boardPersistencePort.findById(boardId)
                                 .orElseThrow(() -> new BoardNotFoundException(boardId));
 
-                boardPersistencePort.incrementViewCount(boardId);
-
-                return BoardDetailResponse.from(board);
+                return BoardDetailResponse.from(countView(board));
         }
 
         @Override
@@ -95,9 +116,7 @@ public class BoardQueryService implements BoardQueryUseCase {
                                                         next.getCreatedAt().toString()));
                 }
 
-                boardPersistencePort.incrementViewCount(boardId);
-
-                return BoardDetailResponse.from(board, navigation);
+                return BoardDetailResponse.from(countView(board), navigation);
         }
 
         @Override
@@ -251,4 +270,10 @@ public class BoardQueryService implements BoardQueryUseCase {
                                                 100.0,
                                                 50.0));
         }
-}
\ No newline at end of file
+
+        // 조회수는 요청마다 UPDATE 하지 않고 모아서 반영하며, 응답에는 아직 반영 전인 증가분까지 더해 보여준다
+        private Board countView(Board board) {
+                writeBehindCounter.increment(CounterType.BOARD_VIEW, board.getId());
+                return board.addViewCount(writeBehindCounter.pendingDelta(CounterType.BOARD_VIEW, board.getId()));
+        }
+}
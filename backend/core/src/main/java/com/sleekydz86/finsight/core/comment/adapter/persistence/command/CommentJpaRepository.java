@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -26,6 +28,34 @@ public interface CommentJpaRepository extends JpaRepository<CommentJpaEntity, Lo
     List<CommentJpaEntity> findByParentIdAndStatusOrderByCreatedAtAsc(
             Long parentId, CommentStatus status);
 
+    List<CommentJpaEntity> findByTargetIdAndCommentTypeAndStatusAndParentIdIsNullOrderByCreatedAtDescIdDesc(
+            Long targetId, CommentType commentType, CommentStatus status);
+
+    // Page 가 아닌 List 로 받아 전체 건수 COUNT 쿼리를 따로 보내지 않는다
+    List<CommentJpaEntity> findByTargetIdAndCommentTypeAndStatusAndParentIdIsNullOrderByCreatedAtDescIdDesc(
+            Long targetId, CommentType commentType, CommentStatus status, Pageable pageable);
+
+    @Query(value = "SELECT r.* FROM ("
+            + "SELECT c.*, ROW_NUMBER() OVER (PARTITION BY c.parent_id ORDER BY c.created_at, c.id) AS reply_rank "
+            + "FROM comments c WHERE c.parent_id IN (:parentIds) AND c.status = :status) r "
+            + "WHERE r.reply_rank <= :limitPerParent ORDER BY r.parent_id, r.created_at, r.id",
+            nativeQuery = true)
+    List<CommentJpaEntity> findRepliesByParentIds(@Param("parentIds") Collection<Long> parentIds,
+                                                  @Param("status") String status,
+                                                  @Param("limitPerParent") int limitPerParent);
+
+    List<CommentJpaEntity> findByParentIdAndStatusOrderByCreatedAtAscIdAsc(
+            Long parentId, CommentStatus status, Pageable pageable);
+
+    @Query("SELECT c FROM CommentJpaEntity c WHERE c.parentId = :parentId AND c.status = :status "
+            + "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) "
+            + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentJpaEntity> findRepliesAfter(@Param("parentId") Long parentId,
+                                            @Param("status") CommentStatus status,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
     List<CommentJpaEntity> findByStatusOrderByReportCountDesc(CommentStatus status);
 
     @Query("SELECT c FROM CommentJpaEntity c WHERE c.status = :status AND c.reportCount > 0 ORDER BY c.reportCount DESC")
@@ -1,6 +1,7 @@
 package com.sleekydz86.finsight.core.comment.adapter.persistence.command;
 
 import com.sleekydz86.finsight.core.comment.domain.CommentReaction;
+import com.sleekydz86.finsight.core.comment.domain.ReactionToggleResult;
 import com.sleekydz86.finsight.core.comment.domain.ReactionType;
 import com.sleekydz86.finsight.core.comment.domain.port.out.CommentReactionPersistencePort;
 import org.springframework.stereotype.Component;
@@ -12,11 +13,14 @@ public class CommentReactionRepositoryImpl implements CommentReactionPersistence
 
     private final CommentReactionJpaRepository commentReactionJpaRepository;
     private final CommentReactionJpaMapper commentReactionJpaMapper;
+    private final ReactionToggleRepository reactionToggleRepository;
 
     public CommentReactionRepositoryImpl(CommentReactionJpaRepository commentReactionJpaRepository,
-                                         CommentReactionJpaMapper commentReactionJpaMapper) {
+                                         CommentReactionJpaMapper commentReactionJpaMapper,
+                                         ReactionToggleRepository reactionToggleRepository) {
         this.commentReactionJpaRepository = commentReactionJpaRepository;
         this.commentReactionJpaMapper = commentReactionJpaMapper;
+        this.reactionToggleRepository = reactionToggleRepository;
     }
 
     @Override
@@ -41,4 +45,10 @@ public class CommentReactionRepositoryImpl implements CommentReactionPersistence
     public long countByCommentIdAndReactionType(Long commentId, ReactionType reactionType) {
         return commentReactionJpaRepository.countByCommentIdAndReactionType(commentId, reactionType);
     }
+
+    @Override
+    public Optional<ReactionToggleResult> toggle(Long commentId, String userEmail, ReactionType reactionType) {
+        return reactionToggleRepository.toggle(ReactionToggleRepository.Target.COMMENT, commentId, userEmail,
+                reactionType);
+    }
 }
\ No newline at end of file
@@ -5,11 +5,13 @@ import com.sleekydz86.finsight.core.comment.domain.CommentStatus;
 import com.sleekydz86.finsight.core.comment.domain.CommentType;
 import com.sleekydz86.finsight.core.comment.domain.Comments;
 import com.sleekydz86.finsight.core.comment.domain.port.out.CommentPersistencePort;
+import com.sleekydz86.finsight.core.comment.domain.vo.CommentCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -78,6 +80,44 @@ public class CommentRepositoryImpl implements CommentPersistencePort {
                 .toList();
     }
 
+    @Override
+    public Comments findRootsByTargetIdAndType(Long targetId, CommentType commentType) {
+        return commentJpaMapper.toDomainList(commentJpaRepository
+                .findByTargetIdAndCommentTypeAndStatusAndParentIdIsNullOrderByCreatedAtDescIdDesc(
+                        targetId, commentType, CommentStatus.ACTIVE));
+    }
+
+    @Override
+    public Comments findRootsByTargetIdAndType(Long targetId, CommentType commentType, int page, int size) {
+        return commentJpaMapper.toDomainList(commentJpaRepository
+                .findByTargetIdAndCommentTypeAndStatusAndParentIdIsNullOrderByCreatedAtDescIdDesc(
+                        targetId, commentType, CommentStatus.ACTIVE, PageRequest.of(page, size)));
+    }
+
+    @Override
+    public List<Comment> findRepliesByParentIds(Collection<Long> parentIds, int limitPerParent) {
+        if (parentIds == null || parentIds.isEmpty()) {
+            return List.of();
+        }
+        return commentJpaRepository
+                .findRepliesByParentIds(parentIds, CommentStatus.ACTIVE.name(), limitPerParent).stream()
+                .map(commentJpaMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Comment> findRepliesByParentIdAfter(Long parentId, CommentCursor cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        List<CommentJpaEntity> entities = cursor == null
+                ? commentJpaRepository.findByParentIdAndStatusOrderByCreatedAtAscIdAsc(
+                        parentId, CommentStatus.ACTIVE, pageable)
+                : commentJpaRepository.findRepliesAfter(
+                        parentId, CommentStatus.ACTIVE, cursor.getCreatedAt(), cursor.getId(), pageable);
+        return entities.stream()
+                .map(commentJpaMapper::toDomain)
+                .toList();
+    }
+
     @Override
     public void deleteById(Long commentId) {
         commentJpaRepository.deleteById(commentId);
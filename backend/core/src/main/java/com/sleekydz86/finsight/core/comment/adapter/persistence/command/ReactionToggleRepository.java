@@ -0,0 +1,142 @@
+package com.sleekydz86.finsight.core.comment.adapter.persistence.command;
+
+import com.sleekydz86.finsight.core.comment.domain.ReactionToggleResult;
+import com.sleekydz86.finsight.core.comment.domain.ReactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 게시글/댓글 반응 토글을 집계 객체를 읽지 않고 조건부 DELETE/UPDATE/INSERT 한 번과 카운터 증감 UPDATE 로 처리한다.
+ * (대상, 사용자) 유니크 제약이 중복 반응을 막고, 카운터는 대상 행 잠금 아래에서 증감하므로 동시 요청에도 유실되지 않는다.
+ * 토글마다 자체 트랜잭션을 열고, 교착 상태로 롤백되면 새 트랜잭션으로 다시 시도한다.
+ * 이미 열린 트랜잭션 안에서 호출되면 그 트랜잭션에 참여하며, 이때는 교착 시 재시도하지 않고 예외를 그대로 던진다.
+ */
+@Repository
+public class ReactionToggleRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactionToggleRepository.class);
+
+    // 같은 사용자의 동시 요청이 먼저 행을 넣은 경우에만 다시 시도한다
+    private static final int MAX_ATTEMPTS = 3;
+    // 교착 상태로 트랜잭션이 롤백된 경우 전체 토글을 다시 시도하는 횟수
+    private static final int MAX_DEADLOCK_ATTEMPTS = 3;
+
+    public enum Target {
+        BOARD("board_reactions", "board_id", "boards"),
+        COMMENT("comment_reactions", "comment_id", "comments");
+
+        private final String deleteSql;
+        private final String switchSql;
+        private final String insertSql;
+        private final String counterSql;
+        private final String countsSql;
+
+        Target(String reactionTable, String targetColumn, String targetTable) {
+            String columns = targetColumn + ", user_email, reaction_type, created_at, updated_at";
+            this.deleteSql = "DELETE FROM " + reactionTable
+                    + " WHERE " + targetColumn + " = ? AND user_email = ? AND reaction_type = ?";
+            this.switchSql = "UPDATE " + reactionTable + " SET reaction_type = ?, updated_at = ?"
+                    + " WHERE " + targetColumn + " = ? AND user_email = ? AND reaction_type <> ?";
+            // 동시 요청이 먼저 행을 넣었으면 유니크 제약 위반으로 실패하고, 그 문장만 되돌려진다
+            this.insertSql = "INSERT INTO " + reactionTable + " (" + columns + ") VALUES (?, ?, ?, ?, ?)";
+            this.counterSql = "UPDATE " + targetTable
+                    + " SET like_count = like_count + ?, dislike_count = dislike_count + ? WHERE id = ?";
+            this.countsSql = "SELECT like_count, dislike_count FROM " + targetTable + " WHERE id = ?";
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReactionToggleRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 같은 반응이 있으면 취소하고, 반대 반응이 있으면 바꾸고, 없으면 추가한다.
+     * 대상이 없으면 반응 변경을 되돌리고 빈 값을 돌려준다.
+     */
+    public Optional<ReactionToggleResult> toggle(Target target, Long targetId, String userEmail,
+                                                 ReactionType reactionType) {
+        // 바깥 트랜잭션은 교착으로 이미 롤백됐으므로 그 안에서는 다시 시도할 수 없다
+        int maxAttempts = TransactionSynchronizationManager.isActualTransactionActive() ? 1 : MAX_DEADLOCK_ATTEMPTS;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    Optional<ReactionToggleResult> result = toggleOnce(target, targetId, userEmail, reactionType);
+                    if (result.isEmpty()) {
+                        status.setRollbackOnly();
+                    }
+                    return result;
+                });
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.warn("반응 토글 교착 상태로 재시도 ({}/{}): target={}, id={}",
+                        attempt, maxAttempts, target, targetId);
+            }
+        }
+    }
+
+    private Optional<ReactionToggleResult> toggleOnce(Target target, Long targetId, String userEmail,
+                                                      ReactionType reactionType) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        ReactionType result = null;
+        int delta = 0;
+        int oppositeDelta = 0;
+        boolean toggled = false;
+        for (int attempt = 0; attempt < MAX_ATTEMPTS && !toggled; attempt++) {
+            if (jdbcTemplate.update(target.deleteSql, targetId, userEmail, reactionType.name()) == 1) {
+                delta = -1;
+                toggled = true;
+            } else if (jdbcTemplate.update(target.switchSql, reactionType.name(), now,
+                    targetId, userEmail, reactionType.name()) == 1) {
+                result = reactionType;
+                delta = 1;
+                oppositeDelta = -1;
+                toggled = true;
+            } else if (insert(target, targetId, userEmail, reactionType, now)) {
+                result = reactionType;
+                delta = 1;
+                toggled = true;
+            }
+        }
+        if (!toggled) {
+            throw new IllegalStateException("반응 토글 경합이 계속되어 처리하지 못했습니다: " + targetId);
+        }
+
+        boolean like = reactionType == ReactionType.LIKE;
+        int likeDelta = like ? delta : oppositeDelta;
+        int dislikeDelta = like ? oppositeDelta : delta;
+        if (jdbcTemplate.update(target.counterSql, likeDelta, dislikeDelta, targetId) == 0) {
+            return Optional.empty();
+        }
+        List<int[]> counts = jdbcTemplate.query(target.countsSql,
+                (rs, rowNum) -> new int[]{rs.getInt("like_count"), rs.getInt("dislike_count")}, targetId);
+        return Optional.of(new ReactionToggleResult(targetId, result, counts.get(0)[0], counts.get(0)[1]));
+    }
+
+    private boolean insert(Target target, Long targetId, String userEmail, ReactionType reactionType,
+                           Timestamp now) {
+        try {
+            return jdbcTemplate.update(target.insertSql, targetId, userEmail, reactionType.name(), now, now) == 1;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
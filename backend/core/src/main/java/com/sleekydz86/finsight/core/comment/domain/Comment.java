@@ -19,6 +19,8 @@ public class Comment {
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
     private final List<Comment> replies;
+    // 답글을 일부만 담았을 때 이어서 조회할 커서, 모두 담았으면 null
+    private final String nextReplyCursor;
 
     public Comment() {
         this.id = null;
@@ -34,12 +36,21 @@ public class Comment {
         this.createdAt = null;
         this.updatedAt = null;
         this.replies = new ArrayList<>();
+        this.nextReplyCursor = null;
     }
 
     public Comment(Long id, String content, String authorEmail, CommentType commentType,
             Long targetId, Long parentId, CommentStatus status, int likeCount,
             int dislikeCount, int reportCount, LocalDateTime createdAt,
             LocalDateTime updatedAt, List<Comment> replies) {
+        this(id, content, authorEmail, commentType, targetId, parentId, status, likeCount,
+                dislikeCount, reportCount, createdAt, updatedAt, replies, null);
+    }
+
+    public Comment(Long id, String content, String authorEmail, CommentType commentType,
+            Long targetId, Long parentId, CommentStatus status, int likeCount,
+            int dislikeCount, int reportCount, LocalDateTime createdAt,
+            LocalDateTime updatedAt, List<Comment> replies, String nextReplyCursor) {
         this.id = id;
         this.content = content;
         this.authorEmail = authorEmail;
@@ -53,6 +64,13 @@ public class Comment {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.replies = replies != null ? replies : new ArrayList<>();
+        this.nextReplyCursor = nextReplyCursor;
+    }
+
+    public Comment withReplies(List<Comment> replies, String nextReplyCursor) {
+        return new Comment(this.id, this.content, this.authorEmail, this.commentType,
+                this.targetId, this.parentId, this.status, this.likeCount,
+                this.dislikeCount, this.reportCount, this.createdAt, this.updatedAt, replies, nextReplyCursor);
     }
 
     public Comment addReply(Comment reply) {
@@ -165,6 +183,10 @@ public class Comment {
         return replies;
     }
 
+    public String getNextReplyCursor() {
+        return nextReplyCursor;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -0,0 +1,7 @@
+package com.sleekydz86.finsight.core.comment.domain;
+
+/**
+ * 반응 토글 결과. reactionType 은 토글 후 사용자의 반응이며, 취소됐으면 null 이다.
+ */
+public record ReactionToggleResult(Long targetId, ReactionType reactionType, int likeCount, int dislikeCount) {
+}
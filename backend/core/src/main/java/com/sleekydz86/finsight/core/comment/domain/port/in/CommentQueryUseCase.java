@@ -4,6 +4,7 @@ import com.sleekydz86.finsight.core.comment.domain.Comment;
 import com.sleekydz86.finsight.core.comment.domain.Comments;
 import com.sleekydz86.finsight.core.comment.domain.CommentType;
 import com.sleekydz86.finsight.core.comment.domain.port.in.dto.CommentResponse;
+import com.sleekydz86.finsight.core.global.dto.PaginationResponse;
 
 import java.util.List;
 
@@ -12,6 +13,7 @@ public interface CommentQueryUseCase {
     Comments getCommentsByTargetIdWithPagination(Long targetId, CommentType commentType, int page, int size);
     Comment getCommentById(Long commentId);
     List<CommentResponse> getCommentReplies(Long parentId);
+    PaginationResponse<CommentResponse> getCommentReplies(Long parentId, String cursor, int size);
     Comments getCommentsByUser(String userEmail);
     Comments getReportedComments();
     boolean hasUserLikedComment(String userEmail, Long commentId);
@@ -22,6 +22,7 @@ public class CommentResponse {
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
     private final List<CommentResponse> replies;
+    private final String nextReplyCursor;
 
     public CommentResponse() {
         this.id = null;
@@ -37,12 +38,21 @@ public class CommentResponse {
         this.createdAt = null;
         this.updatedAt = null;
         this.replies = List.of();
+        this.nextReplyCursor = null;
     }
 
     public CommentResponse(Long id, String content, String authorEmail, CommentType commentType,
             Long targetId, Long parentId, CommentStatus status, int likeCount,
             int dislikeCount, int reportCount, LocalDateTime createdAt,
             LocalDateTime updatedAt, List<CommentResponse> replies) {
+        this(id, content, authorEmail, commentType, targetId, parentId, status, likeCount,
+                dislikeCount, reportCount, createdAt, updatedAt, replies, null);
+    }
+
+    public CommentResponse(Long id, String content, String authorEmail, CommentType commentType,
+            Long targetId, Long parentId, CommentStatus status, int likeCount,
+            int dislikeCount, int reportCount, LocalDateTime createdAt,
+            LocalDateTime updatedAt, List<CommentResponse> replies, String nextReplyCursor) {
         this.id = id;
         this.content = content;
         this.authorEmail = authorEmail;
@@ -56,6 +66,7 @@ public class CommentResponse {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.replies = replies != null ? replies : List.of();
+        this.nextReplyCursor = nextReplyCursor;
     }
 
     public static CommentResponse from(Comment comment) {
@@ -80,7 +91,8 @@ public class CommentResponse {
                 comment.getReportCount(),
                 comment.getCreatedAt(),
                 comment.getUpdatedAt(),
-                replies);
+                replies,
+                comment.getNextReplyCursor());
     }
 
     public Long getId() {
@@ -135,6 +147,10 @@ public class CommentResponse {
         return replies;
     }
 
+    public String getNextReplyCursor() {
+        return nextReplyCursor;
+    }
+
     @Override
     public String toString() {
         return "CommentResponse{" +
@@ -3,7 +3,9 @@ package com.sleekydz86.finsight.core.comment.domain.port.out;
 import com.sleekydz86.finsight.core.comment.domain.Comment;
 import com.sleekydz86.finsight.core.comment.domain.Comments;
 import com.sleekydz86.finsight.core.comment.domain.CommentType;
+import com.sleekydz86.finsight.core.comment.domain.vo.CommentCursor;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +17,16 @@ public interface CommentPersistencePort {
     Comments findByUserEmail(String userEmail);
     Comments findReportedComments();
     List<Comment> findRepliesByParentId(Long parentId);
+
+    /** 답글이 아닌 댓글만, 최신순 */
+    Comments findRootsByTargetIdAndType(Long targetId, CommentType commentType);
+    Comments findRootsByTargetIdAndType(Long targetId, CommentType commentType, int page, int size);
+
+    /** 부모마다 오래된 순으로 앞에서 limitPerParent 개까지의 답글을 한 번에 읽는다 */
+    List<Comment> findRepliesByParentIds(Collection<Long> parentIds, int limitPerParent);
+
+    /** cursor 가 null 이면 첫 답글부터 */
+    List<Comment> findRepliesByParentIdAfter(Long parentId, CommentCursor cursor, int limit);
     void deleteById(Long commentId);
     long countByTargetIdAndType(Long targetId, CommentType commentType);
 }
\ No newline at end of file
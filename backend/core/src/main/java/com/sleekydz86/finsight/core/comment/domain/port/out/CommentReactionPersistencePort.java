@@ -1,6 +1,7 @@
 package com.sleekydz86.finsight.core.comment.domain.port.out;
 
 import com.sleekydz86.finsight.core.comment.domain.CommentReaction;
+import com.sleekydz86.finsight.core.comment.domain.ReactionToggleResult;
 import com.sleekydz86.finsight.core.comment.domain.ReactionType;
 
 import java.util.Optional;
@@ -10,4 +11,7 @@ public interface CommentReactionPersistencePort {
     Optional<CommentReaction> findByCommentIdAndUserEmail(Long commentId, String userEmail);
     void deleteByCommentIdAndUserEmail(Long commentId, String userEmail);
     long countByCommentIdAndReactionType(Long commentId, ReactionType reactionType);
+
+    /** 댓글이 없으면 빈 값 */
+    Optional<ReactionToggleResult> toggle(Long commentId, String userEmail, ReactionType reactionType);
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.sleekydz86.finsight.core.comment.domain.vo;
+
+import com.sleekydz86.finsight.core.global.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 답글 목록 커서. 답글은 (작성 시각, id) 오름차순이므로 마지막으로 받은 답글의 두 값을 담는다.
+ */
+public class CommentCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public CommentCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = Objects.requireNonNull(createdAt, "createdAt");
+        this.id = Objects.requireNonNull(id, "id");
+    }
+
+    public static CommentCursor of(LocalDateTime createdAt, Long id) {
+        return new CommentCursor(createdAt, id);
+    }
+
+    public static CommentCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+            if (delimiterIndex <= 0) {
+                throw invalidCursor();
+            }
+            return new CommentCursor(
+                    LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+                    Long.parseLong(decoded.substring(delimiterIndex + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw invalidCursor();
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    private static ValidationException invalidCursor() {
+        return new ValidationException("유효하지 않은 커서입니다", "INVALID_CURSOR", List.of("cursor"));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CommentCursor that = (CommentCursor) o;
+        return Objects.equals(createdAt, that.createdAt) && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(createdAt, id);
+    }
+
+    @Override
+    public String toString() {
+        return "CommentCursor{" +
+                "createdAt=" + createdAt +
+                ", id=" + id +
+                '}';
+    }
+}
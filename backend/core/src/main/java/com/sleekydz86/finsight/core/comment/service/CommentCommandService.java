@@ -10,13 +10,15 @@ import com.sleekydz86.finsight.core.comment.domain.port.out.CommentPersistencePo
 import com.sleekydz86.finsight.core.comment.domain.port.out.CommentReactionPersistencePort;
 import com.sleekydz86.finsight.core.comment.domain.port.out.CommentReportPersistencePort;
 import com.sleekydz86.finsight.core.comment.domain.CommentReport;
-import com.sleekydz86.finsight.core.comment.domain.CommentReaction;
 import com.sleekydz86.finsight.core.comment.domain.ReactionType;
+import com.sleekydz86.finsight.core.comment.domain.ReactionToggleResult;
+import com.sleekydz86.finsight.core.global.exception.CommentNotFoundException;
 import com.sleekydz86.finsight.core.global.exception.InsufficientPermissionException;
 import com.sleekydz86.finsight.core.global.exception.NewsNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -100,89 +102,24 @@ public class CommentCommandService implements CommentCommandUseCase {
     }
 
     @Override
-    public Comment likeComment(String userEmail, Long commentId) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ReactionToggleResult likeComment(String userEmail, Long commentId) {
         log.info("Liking comment: {} by user: {}", commentId, userEmail);
-
-        Comment comment = commentPersistencePort.findById(commentId)
-                .orElseThrow(() -> new NewsNotFoundException(commentId));
-
-        Optional<CommentReaction> existingReaction = commentReactionPersistencePort
-                .findByCommentIdAndUserEmail(commentId, userEmail);
-
-        if (existingReaction.isPresent()) {
-            CommentReaction reaction = existingReaction.get();
-            if (reaction.isLike()) {
-                commentReactionPersistencePort.deleteByCommentIdAndUserEmail(commentId, userEmail);
-                Comment updatedComment = comment.incrementLike().incrementLike();
-                return commentPersistencePort.save(updatedComment);
-            } else {
-                commentReactionPersistencePort.deleteByCommentIdAndUserEmail(commentId, userEmail);
-                CommentReaction newReaction = CommentReaction.builder()
-                        .commentId(commentId)
-                        .userEmail(userEmail)
-                        .reactionType(ReactionType.LIKE)
-                        .createdAt(LocalDateTime.now())
-                        .build();
-                commentReactionPersistencePort.save(newReaction);
-
-                Comment updatedComment = comment.incrementLike().incrementDislike();
-                return commentPersistencePort.save(updatedComment);
-            }
-        } else {
-            CommentReaction reaction = CommentReaction.builder()
-                    .commentId(commentId)
-                    .userEmail(userEmail)
-                    .reactionType(ReactionType.LIKE)
-                    .createdAt(LocalDateTime.now())
-                    .build();
-            commentReactionPersistencePort.save(reaction);
-
-            Comment updatedComment = comment.incrementLike();
-            return commentPersistencePort.save(updatedComment);
-        }
+        return toggleReaction(userEmail, commentId, ReactionType.LIKE);
     }
 
     @Override
-    public Comment dislikeComment(String userEmail, Long commentId) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ReactionToggleResult dislikeComment(String userEmail, Long commentId) {
         log.info("Disliking comment: {} by user: {}", commentId, userEmail);
+        return toggleReaction(userEmail, commentId, ReactionType.DISLIKE);
+    }
 
-        Comment comment = commentPersistencePort.findById(commentId)
-                .orElseThrow(() -> new NewsNotFoundException(commentId));
-
-        Optional<CommentReaction> existingReaction = commentReactionPersistencePort
-                .findByCommentIdAndUserEmail(commentId, userEmail);
-
-        if (existingReaction.isPresent()) {
-            CommentReaction reaction = existingReaction.get();
-            if (reaction.isDislike()) {
-                commentReactionPersistencePort.deleteByCommentIdAndUserEmail(commentId, userEmail);
-                Comment updatedComment = comment.incrementDislike().incrementDislike();
-                return commentPersistencePort.save(updatedComment);
-            } else {
-                commentReactionPersistencePort.deleteByCommentIdAndUserEmail(commentId, userEmail);
-                CommentReaction newReaction = CommentReaction.builder()
-                        .commentId(commentId)
-                        .userEmail(userEmail)
-                        .reactionType(ReactionType.DISLIKE)
-                        .createdAt(LocalDateTime.now())
-                        .build();
-                commentReactionPersistencePort.save(newReaction);
-
-                Comment updatedComment = comment.incrementDislike().incrementLike(); // +1 싫어요, -1 좋아요
-                return commentPersistencePort.save(updatedComment);
-            }
-        } else {
-            CommentReaction reaction = CommentReaction.builder()
-                    .commentId(commentId)
-                    .userEmail(userEmail)
-                    .reactionType(ReactionType.DISLIKE)
-                    .createdAt(LocalDateTime.now())
-                    .build();
-            commentReactionPersistencePort.save(reaction);
-
-            Comment updatedComment = comment.incrementDislike();
-            return commentPersistencePort.save(updatedComment);
-        }
+    // 댓글을 읽어 저장하지 않고 반응 행과 카운터만 원자적으로 바꾼다
+    // 교착 시 토글 단위로 재시도할 수 있도록 트랜잭션은 ReactionToggleRepository 가 직접 연다
+    private ReactionToggleResult toggleReaction(String userEmail, Long commentId, ReactionType reactionType) {
+        return commentReactionPersistencePort.toggle(commentId, userEmail, reactionType)
+                .orElseThrow(() -> new CommentNotFoundException(commentId));
     }
 
     @Override
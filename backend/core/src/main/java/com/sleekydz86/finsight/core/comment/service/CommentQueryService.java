@@ -9,6 +9,8 @@ import com.sleekydz86.finsight.core.comment.domain.port.in.dto.CommentResponse;
 import com.sleekydz86.finsight.core.comment.domain.port.out.CommentPersistencePort;
 import com.sleekydz86.finsight.core.comment.domain.port.out.CommentReactionPersistencePort;
 import com.sleekydz86.finsight.core.comment.domain.port.out.CommentReportPersistencePort;
+import com.sleekydz86.finsight.core.comment.domain.vo.CommentCursor;
+import com.sleekydz86.finsight.core.global.dto.PaginationResponse;
 import com.sleekydz86.finsight.core.global.exception.NewsNotFoundException;
 import com.sleekydz86.finsight.core.global.exception.SystemException;
 import com.sleekydz86.finsight.core.news.domain.Newses;
@@ -16,9 +18,11 @@ import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsQueryRequest;
 import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -31,32 +35,23 @@ public class CommentQueryService implements CommentQueryUseCase {
     private final CommentPersistencePort commentPersistencePort;
     private final CommentReactionPersistencePort commentReactionPersistencePort;
     private final CommentReportPersistencePort commentReportPersistencePort;
+    private final int replyPreviewSize;
 
     public CommentQueryService(CommentPersistencePort commentPersistencePort,
                                CommentReactionPersistencePort commentReactionPersistencePort,
-                               CommentReportPersistencePort commentReportPersistencePort) {
+                               CommentReportPersistencePort commentReportPersistencePort,
+                               @Value("${comment.tree.reply-preview-size:20}") int replyPreviewSize) {
         this.commentPersistencePort = commentPersistencePort;
         this.commentReactionPersistencePort = commentReactionPersistencePort;
         this.commentReportPersistencePort = commentReportPersistencePort;
+        this.replyPreviewSize = Math.max(1, replyPreviewSize);
     }
 
     @Override
     public Comments getCommentsByTargetId(Long targetId, CommentType commentType) {
         log.info("Getting comments for targetId: {}, type: {}", targetId, commentType);
 
-        Comments comments = commentPersistencePort.findByTargetIdAndType(targetId, commentType);
-
-        Comments commentsWithReplies = new Comments();
-        for (Comment comment : comments.getComments()) {
-            List<Comment> replies = commentPersistencePort.findRepliesByParentId(comment.getId());
-            Comment commentWithReplies = comment;
-            for (Comment reply : replies) {
-                commentWithReplies = commentWithReplies.addReply(reply);
-            }
-            commentsWithReplies = commentsWithReplies.addComment(commentWithReplies);
-        }
-
-        return commentsWithReplies;
+        return withReplies(commentPersistencePort.findRootsByTargetIdAndType(targetId, commentType));
     }
 
     @Override
@@ -64,19 +59,7 @@ public class CommentQueryService implements CommentQueryUseCase {
         log.info("Getting comments with pagination for targetId: {}, type: {}, page: {}, size: {}",
                 targetId, commentType, page, size);
 
-        Comments comments = commentPersistencePort.findByTargetIdAndTypeWithPagination(targetId, commentType, page, size);
-
-        Comments commentsWithReplies = new Comments();
-        for (Comment comment : comments.getComments()) {
-            List<Comment> replies = commentPersistencePort.findRepliesByParentId(comment.getId());
-            Comment commentWithReplies = comment;
-            for (Comment reply : replies) {
-                commentWithReplies = commentWithReplies.addReply(reply);
-            }
-            commentsWithReplies = commentsWithReplies.addComment(commentWithReplies);
-        }
-
-        return commentsWithReplies;
+        return withReplies(commentPersistencePort.findRootsByTargetIdAndType(targetId, commentType, page, size));
     }
 
     @Override
@@ -97,6 +80,19 @@ public class CommentQueryService implements CommentQueryUseCase {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public PaginationResponse<CommentResponse> getCommentReplies(Long parentId, String cursor, int size) {
+        log.debug("답글 커서 조회: parentId={}, size={}", parentId, size);
+
+        CommentCursor after = cursor == null || cursor.isBlank() ? null : CommentCursor.decode(cursor);
+        List<Comment> replies = commentPersistencePort.findRepliesByParentIdAfter(parentId, after, size + 1);
+        boolean hasNext = replies.size() > size;
+        List<Comment> page = hasNext ? replies.subList(0, size) : replies;
+        return PaginationResponse.ofCursor(
+                page.stream().map(CommentResponse::from).collect(Collectors.toList()),
+                size, after == null, hasNext, hasNext ? cursorOf(page.get(page.size() - 1)) : null);
+    }
+
     @Override
     public Comments getCommentsByUser(String userEmail) {
         log.info("Getting comments by user: {}", userEmail);
@@ -143,4 +139,32 @@ public class CommentQueryService implements CommentQueryUseCase {
         }
     }
 
+    /**
+     * 루트 댓글들의 답글을 parent_id IN (...) 한 번으로 읽어 붙인다.
+     * 부모마다 앞쪽 replyPreviewSize 개만 담고, 더 있으면 그 뒤를 이어 볼 커서를 남긴다.
+     */
+    private Comments withReplies(Comments roots) {
+        List<Long> rootIds = roots.getComments().stream()
+                .map(Comment::getId)
+                .toList();
+        Map<Long, List<Comment>> repliesByParent = commentPersistencePort
+                .findRepliesByParentIds(rootIds, replyPreviewSize + 1).stream()
+                .collect(Collectors.groupingBy(Comment::getParentId));
+
+        Comments tree = new Comments();
+        for (Comment root : roots.getComments()) {
+            List<Comment> replies = repliesByParent.getOrDefault(root.getId(), List.of());
+            if (replies.size() > replyPreviewSize) {
+                List<Comment> preview = replies.subList(0, replyPreviewSize);
+                tree = tree.addComment(root.withReplies(preview, cursorOf(preview.get(preview.size() - 1))));
+            } else {
+                tree = tree.addComment(root.withReplies(replies, null));
+            }
+        }
+        return tree;
+    }
+
+    private static String cursorOf(Comment reply) {
+        return CommentCursor.of(reply.getCreatedAt(), reply.getId()).encode();
+    }
 }
@@ -1,9 +1,12 @@
 package com.sleekydz86.finsight.core.config;
 
 import com.sleekydz86.finsight.core.global.aspect.*;
+import com.sleekydz86.finsight.core.global.cache.AdvancedCacheManager;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @Configuration
 @EnableAspectJAutoProxy(proxyTargetClass = true)
@@ -25,7 +28,8 @@ public class AdvancedAopConfig {
     }
 
     @Bean
-    public CachingAspect cachingAspect() {
-        return new CachingAspect();
+    public CachingAspect cachingAspect(AdvancedCacheManager advancedCacheManager,
+                                       ObjectProvider<PlatformTransactionManager> transactionManagerProvider) {
+        return new CachingAspect(advancedCacheManager, transactionManagerProvider);
     }
 }
\ No newline at end of file
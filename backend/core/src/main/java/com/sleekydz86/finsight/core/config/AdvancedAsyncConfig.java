@@ -1,5 +1,6 @@
 package com.sleekydz86.finsight.core.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -14,8 +15,17 @@ import java.util.concurrent.ThreadPoolExecutor;
 @EnableAsync
 public class AdvancedAsyncConfig {
 
+    private final boolean virtualThreads;
+
+    public AdvancedAsyncConfig(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
     @Bean(name = "taskExecutor")
     public TaskExecutor taskExecutor() {
+        if (virtualThreads) {
+            return AsyncConfig.virtualThreadExecutor("async-", 20, 60);
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(10);
         executor.setMaxPoolSize(20);
@@ -30,6 +40,9 @@ public class AdvancedAsyncConfig {
 
     @Bean(name = "ioTaskExecutor")
     public TaskExecutor ioTaskExecutor() {
+        if (virtualThreads) {
+            return AsyncConfig.virtualThreadExecutor("io-async-", 15, 30);
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);
         executor.setMaxPoolSize(15);
@@ -42,6 +55,7 @@ public class AdvancedAsyncConfig {
         return executor;
     }
 
+    // CPU 작업은 가상 스레드로 바꿔도 이득이 없으므로 플랫폼 스레드 풀을 그대로 쓴다
     @Bean(name = "cpuIntensiveTaskExecutor")
     public TaskExecutor cpuIntensiveTaskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
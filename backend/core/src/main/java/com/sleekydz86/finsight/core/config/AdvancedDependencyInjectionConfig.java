@@ -2,6 +2,7 @@ package com.sleekydz86.finsight.core.config;
 
 import com.sleekydz86.finsight.core.auth.service.AuthenticationService;
 import com.sleekydz86.finsight.core.news.domain.port.out.NewsPersistencePort;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsSearchPort;
 import com.sleekydz86.finsight.core.news.domain.port.out.NewsStatisticsPersistencePort;
 import com.sleekydz86.finsight.core.news.domain.port.in.NewsCommandUseCase;
 import com.sleekydz86.finsight.core.news.domain.port.in.NewsQueryUseCase;
@@ -17,6 +18,7 @@ import com.sleekydz86.finsight.core.board.domain.port.out.BoardReactionPersisten
 import com.sleekydz86.finsight.core.board.domain.port.out.BoardScrapPersistencePort;
 import com.sleekydz86.finsight.core.board.domain.port.out.BoardReportPersistencePort;
 import com.sleekydz86.finsight.core.board.domain.port.out.BoardFilePersistencePort;
+import com.sleekydz86.finsight.core.board.domain.port.out.BoardSearchPort;
 import com.sleekydz86.finsight.core.board.service.BoardQueryService;
 import com.sleekydz86.finsight.core.board.service.BoardCommandService;
 import com.sleekydz86.finsight.core.comment.domain.port.out.CommentPersistencePort;
@@ -28,6 +30,7 @@ import com.sleekydz86.finsight.core.user.domain.port.out.UserPersistencePort;
 import com.sleekydz86.finsight.core.user.service.UserService;
 import com.sleekydz86.finsight.core.user.service.PasswordValidationService;
 import com.sleekydz86.finsight.core.auth.util.JwtTokenUtil;
+import com.sleekydz86.finsight.core.global.counter.WriteBehindCounter;
 import com.sleekydz86.finsight.core.health.domain.port.out.ExternalHealthCheckPort;
 import com.sleekydz86.finsight.core.health.domain.port.out.HealthPersistencePort;
 import com.sleekydz86.finsight.core.health.service.HealthQueryService;
@@ -35,6 +38,7 @@ import com.sleekydz86.finsight.core.health.service.HealthCommandService;
 import com.sleekydz86.finsight.core.notification.domain.port.out.NotificationSenderPort;
 import com.sleekydz86.finsight.core.notification.service.NotificationService;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
@@ -67,6 +71,10 @@ public class AdvancedDependencyInjectionConfig {
     private final HealthPersistencePort healthPersistencePort;
     private final NotificationSenderPort notificationSenderPort;
     private final Executor newsProcessingExecutor;
+    private final Executor notificationExecutor;
+    private final WriteBehindCounter writeBehindCounter;
+    private final NewsSearchPort newsSearchPort;
+    private final BoardSearchPort boardSearchPort;
 
     public AdvancedDependencyInjectionConfig(
             NewsPersistencePort newsPersistencePort,
@@ -90,7 +98,11 @@ public class AdvancedDependencyInjectionConfig {
             ExternalHealthCheckPort externalHealthCheckPort,
             HealthPersistencePort healthPersistencePort,
             NotificationSenderPort notificationSenderPort,
-            Executor newsProcessingExecutor) {
+            Executor newsProcessingExecutor,
+            @Qualifier("notificationExecutor") Executor notificationExecutor,
+            WriteBehindCounter writeBehindCounter,
+            NewsSearchPort newsSearchPort,
+            BoardSearchPort boardSearchPort) {
         this.newsPersistencePort = newsPersistencePort;
         this.newsStatisticsPersistencePort = newsStatisticsPersistencePort;
         this.newsScrapService = newsScrapService;
@@ -113,12 +125,16 @@ public class AdvancedDependencyInjectionConfig {
         this.healthPersistencePort = healthPersistencePort;
         this.notificationSenderPort = notificationSenderPort;
         this.newsProcessingExecutor = newsProcessingExecutor;
+        this.notificationExecutor = notificationExecutor;
+        this.writeBehindCounter = writeBehindCounter;
+        this.newsSearchPort = newsSearchPort;
+        this.boardSearchPort = boardSearchPort;
     }
 
     @Bean
     public NewsQueryUseCase newsQueryUseCase() {
         return new NewsQueryService(newsPersistencePort, newsStatisticsPersistencePort,
-                personalizedNewsService, userPersistencePort);
+                personalizedNewsService, userPersistencePort, writeBehindCounter, newsSearchPort);
     }
 
     @Bean
@@ -131,7 +147,7 @@ public class AdvancedDependencyInjectionConfig {
     @Qualifier("newsQueryService")
     public NewsQueryService newsQueryService() {
         return new NewsQueryService(newsPersistencePort, newsStatisticsPersistencePort,
-                personalizedNewsService, userPersistencePort);
+                personalizedNewsService, userPersistencePort, writeBehindCounter, newsSearchPort);
     }
 
     @Bean
@@ -142,7 +158,8 @@ public class AdvancedDependencyInjectionConfig {
 
     @Bean
     public BoardQueryService boardQueryService() {
-        return new BoardQueryService(boardPersistencePort, boardReactionPersistencePort, boardScrapPersistencePort);
+        return new BoardQueryService(boardPersistencePort, boardReactionPersistencePort, boardScrapPersistencePort,
+                writeBehindCounter, boardSearchPort);
     }
 
     @Bean
@@ -152,9 +169,10 @@ public class AdvancedDependencyInjectionConfig {
     }
 
     @Bean
-    public CommentQueryService commentQueryService() {
+    public CommentQueryService commentQueryService(
+            @Value("${comment.tree.reply-preview-size:20}") int replyPreviewSize) {
         return new CommentQueryService(commentPersistencePort, commentReactionPersistencePort,
-                commentReportPersistencePort);
+                commentReportPersistencePort, replyPreviewSize);
     }
 
     @Bean
@@ -186,6 +204,6 @@ public class AdvancedDependencyInjectionConfig {
 
     @Bean
     public NotificationService notificationService() {
-        return new NotificationService(userPersistencePort, notificationSenderPort);
+        return new NotificationService(userPersistencePort, notificationSenderPort, notificationExecutor);
     }
 }
\ No newline at end of file
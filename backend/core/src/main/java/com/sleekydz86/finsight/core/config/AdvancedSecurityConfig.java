@@ -3,7 +3,7 @@ package com.sleekydz86.finsight.core.config;
 import com.sleekydz86.finsight.core.auth.filter.JwtAuthenticationFilter;
 import com.sleekydz86.finsight.core.auth.handler.JwtAccessDeniedHandler;
 import com.sleekydz86.finsight.core.auth.handler.JwtAuthenticationEntryPoint;
-import com.sleekydz86.finsight.core.auth.service.CustomUserDetailsService;
+import com.sleekydz86.finsight.core.auth.service.UserPrincipalCache;
 import com.sleekydz86.finsight.core.auth.util.JwtTokenUtil;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -25,16 +25,16 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class AdvancedSecurityConfig {
 
     private final JwtTokenUtil jwtTokenUtil;
-    private final CustomUserDetailsService customUserDetailsService;
+    private final UserPrincipalCache userPrincipalCache;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
 
     public AdvancedSecurityConfig(JwtTokenUtil jwtTokenUtil,
-                                  CustomUserDetailsService customUserDetailsService,
+                                  UserPrincipalCache userPrincipalCache,
                                   JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint,
                                   JwtAccessDeniedHandler jwtAccessDeniedHandler) {
         this.jwtTokenUtil = jwtTokenUtil;
-        this.customUserDetailsService = customUserDetailsService;
+        this.userPrincipalCache = userPrincipalCache;
         this.jwtAuthenticationEntryPoint = jwtAuthenticationEntryPoint;
         this.jwtAccessDeniedHandler = jwtAccessDeniedHandler;
     }
@@ -66,7 +66,7 @@ public class AdvancedSecurityConfig {
                         .authenticationEntryPoint(jwtAuthenticationEntryPoint)
                         .accessDeniedHandler(jwtAccessDeniedHandler)
                 )
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenUtil, customUserDetailsService),
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenUtil, userPrincipalCache),
                         UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
@@ -1,7 +1,6 @@
 package com.sleekydz86.finsight.core.config;
 
 import com.sleekydz86.finsight.core.global.aspect.*;
-import com.sleekydz86.finsight.core.global.cache.AdvancedCacheManager;
 import com.sleekydz86.finsight.core.global.logging.StructuredLogger;
 import com.sleekydz86.finsight.core.global.metrics.MetricsCollector;
 import com.sleekydz86.finsight.core.global.security.SecurityAuditService;
@@ -43,9 +42,4 @@ public class ApplicationConfig {
     public ValidationService validationService() {
         return new ValidationService();
     }
-
-    @Bean
-    public AdvancedCacheManager advancedCacheManager() {
-        return new AdvancedCacheManager(null);
-    }
 }
\ No newline at end of file
@@ -1,20 +1,37 @@
 package com.sleekydz86.finsight.core.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
 
+/**
+ * 비동기 작업 실행기 설정.
+ * spring.threads.virtual.enabled 가 켜지면 작업마다 가상 스레드를 만들어 쓰고, 풀 크기 대신
+ * 동시 실행 수 한도만 둔다. 알림 실행기는 한도 없이 두고 외부 서비스별 벌크헤드가 동시 호출 수를 정한다.
+ */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    private final boolean virtualThreads;
+
+    public AsyncConfig(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
     @Bean(name = "applicationTaskExecutor")
     @Primary
     public Executor applicationTaskExecutor() {
+        if (virtualThreads) {
+            return virtualThreadExecutor("Application-", 20, 30);
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(8);
         executor.setMaxPoolSize(20);
@@ -31,6 +48,9 @@ public class AsyncConfig {
 
     @Bean(name = "newsProcessingExecutor")
     public Executor newsProcessingExecutor() {
+        if (virtualThreads) {
+            return virtualThreadExecutor("NewsProcessing-", 50, 30);
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(10);
         executor.setMaxPoolSize(50);
@@ -47,6 +67,9 @@ public class AsyncConfig {
 
     @Bean(name = "aiAnalysisExecutor")
     public Executor aiAnalysisExecutor() {
+        if (virtualThreads) {
+            return virtualThreadExecutor("AIAnalysis-", 20, 30);
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);
         executor.setMaxPoolSize(20);
@@ -63,6 +86,9 @@ public class AsyncConfig {
 
     @Bean(name = "notificationExecutor")
     public Executor notificationExecutor() {
+        if (virtualThreads) {
+            return virtualThreadExecutor("Notification-", SimpleAsyncTaskExecutor.UNBOUNDED_CONCURRENCY, 30);
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(3);
         executor.setMaxPoolSize(10);
@@ -77,8 +103,29 @@ public class AsyncConfig {
         return executor;
     }
 
+    // 뉴스 스트림(SSE) 응답 쓰기용. 스트림 연결마다 대기 중인 쓰기 작업은 최대 하나이므로 대기열은 연결 수를 넘지 않는다.
+    // 스레드 수를 고정해 연결이나 하트비트마다 스레드를 만들지 않고, CallerRunsPolicy 를 쓰지 않아 제출한 스레드가 쓰기를 떠안지 않는다
+    @Bean(name = "newsStreamExecutor")
+    public AsyncTaskExecutor newsStreamExecutor() {
+        if (virtualThreads) {
+            return virtualThreadExecutor("NewsStream-", SimpleAsyncTaskExecutor.UNBOUNDED_CONCURRENCY, 30);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(16);
+        executor.setMaxPoolSize(16);
+        executor.setThreadNamePrefix("NewsStream-");
+        executor.setKeepAliveSeconds(60);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
     @Bean(name = "webClientExecutor")
     public Executor webClientExecutor() {
+        if (virtualThreads) {
+            return virtualThreadExecutor("WebClient-", 30, 30);
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(8);
         executor.setMaxPoolSize(30);
@@ -92,4 +139,14 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    // 동시 실행 수가 한도에 닿으면 제출한 스레드가 빈자리가 날 때까지 기다린다
+    static SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix, int concurrencyLimit,
+                                                         int awaitTerminationSeconds) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setTaskTerminationTimeout(awaitTerminationSeconds * 1000L);
+        return executor;
+    }
+}
@@ -28,7 +28,7 @@ public class FallbackCacheConfig {
 
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
         cacheManager.setCacheNames(Arrays.asList(
-                "news", "news_list", "news_search", "board", "board_list",
+                "news", "board", "board_list",
                 "comment", "comment_list", "user", "user_profile",
                 "rate_limit", "session_cache", "api_cache"
         ));
@@ -40,6 +40,7 @@ public class FallbackCacheConfig {
                 .recordStats()
                 .removalListener((key, value, cause) ->
                         logger.debug("캐시 제거: key={}, cause={}", key, cause)));
+        UnifiedCacheConfig.registerCustomCaches(cacheManager);
 
         return cacheManager;
     }
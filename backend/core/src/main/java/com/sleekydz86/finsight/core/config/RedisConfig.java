@@ -1,5 +1,7 @@
 package com.sleekydz86.finsight.core.config;
 
+import com.sleekydz86.finsight.core.news.adapter.out.NewsCacheInvalidationAdapter;
+import com.sleekydz86.finsight.core.news.adapter.out.NewsStreamAdapter;
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.protocol.ProtocolVersion;
 import org.slf4j.Logger;
@@ -14,6 +16,8 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -113,4 +117,18 @@ public class RedisConfig {
             throw new RuntimeException("Redis 템플릿 설정 실패", e);
         }
     }
-}
\ No newline at end of file
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            NewsCacheInvalidationAdapter newsCacheInvalidationAdapter,
+            NewsStreamAdapter newsStreamAdapter) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(newsCacheInvalidationAdapter, new ChannelTopic(NewsCacheInvalidationAdapter.CHANNEL));
+        logger.info("뉴스 캐시 무효화 채널 구독: {}", NewsCacheInvalidationAdapter.CHANNEL);
+        container.addMessageListener(newsStreamAdapter, new ChannelTopic(NewsStreamAdapter.CHANNEL));
+        logger.info("뉴스 스트림 채널 구독: {}", NewsStreamAdapter.CHANNEL);
+        return container;
+    }
+}
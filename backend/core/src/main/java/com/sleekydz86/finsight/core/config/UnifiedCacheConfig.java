@@ -7,17 +7,26 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.cache.CacheManager;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @Configuration
 @EnableCaching
 public class UnifiedCacheConfig {
 
+    // 기본 설정과 TTL 이 다른 캐시. 값은 Caffeine 스펙 문자열이며 @Cacheable(value = ...) 의 이름과 맞춘다.
+    static final Map<String, String> CACHE_SPECS = Map.of(
+            "news_detail", "maximumSize=10000,expireAfterWrite=600s,recordStats",
+            "news_related", "maximumSize=5000,expireAfterWrite=300s,recordStats",
+            "news_list", "maximumSize=2000,expireAfterWrite=300s,recordStats",
+            "news_search", "maximumSize=5000,expireAfterWrite=300s,recordStats"
+    );
+
     @Bean
     public CacheManager cacheManager() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
         cacheManager.setCacheNames(Arrays.asList(
-                "news", "news_list", "news_search", "board", "board_list",
+                "news", "board", "board_list",
                 "comment", "comment_list", "user", "user_profile"
         ));
         cacheManager.setCaffeine(Caffeine.newBuilder()
@@ -25,6 +34,12 @@ public class UnifiedCacheConfig {
                 .expireAfterWrite(1, TimeUnit.HOURS)
                 .expireAfterAccess(30, TimeUnit.MINUTES)
                 .recordStats());
+        registerCustomCaches(cacheManager);
         return cacheManager;
     }
-}
\ No newline at end of file
+
+    static void registerCustomCaches(CaffeineCacheManager cacheManager) {
+        CACHE_SPECS.forEach((name, spec) ->
+                cacheManager.registerCustomCache(name, Caffeine.from(spec).build()));
+    }
+}
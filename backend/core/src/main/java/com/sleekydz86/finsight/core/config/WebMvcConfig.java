@@ -1,8 +1,11 @@
 package com.sleekydz86.finsight.core.config;
 
 import com.sleekydz86.finsight.core.global.resolver.CurrentUserArgumentResolver;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import java.util.List;
 
@@ -10,13 +13,23 @@ import java.util.List;
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private final CurrentUserArgumentResolver currentUserArgumentResolver;
+    private final AsyncTaskExecutor newsStreamExecutor;
 
-    public WebMvcConfig(CurrentUserArgumentResolver currentUserArgumentResolver) {
+    public WebMvcConfig(CurrentUserArgumentResolver currentUserArgumentResolver,
+                        @Qualifier("newsStreamExecutor") AsyncTaskExecutor newsStreamExecutor) {
         this.currentUserArgumentResolver = currentUserArgumentResolver;
+        this.newsStreamExecutor = newsStreamExecutor;
     }
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(currentUserArgumentResolver);
     }
+
+    // 비동기 반환형(Flux)을 쓰는 핸들러는 뉴스 스트림뿐이므로, SSE 쓰기가 공용 실행기를 채워
+    // CallerRunsPolicy 로 허브의 전달 스레드에서 실행되지 않도록 스트림 전용 실행기를 쓴다
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(newsStreamExecutor);
+    }
 }
\ No newline at end of file
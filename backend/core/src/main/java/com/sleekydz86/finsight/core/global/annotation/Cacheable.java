@@ -10,13 +10,35 @@ import java.lang.annotation.Target;
 public @interface Cacheable {
     String value() default "";
 
+    /**
+     * 캐시 키 템플릿. {@code "news:detail:#{#newsId}"} 처럼 #{...} 안에 SpEL 을 쓰면 평가 결과로 키를 만들고,
+     * 템플릿 식이 없는 문자열은 접두어로 취급해 메서드 인자 전체를 덧붙인다.
+     */
     String key() default "";
 
+    /**
+     * 캐시가 UnifiedCacheConfig 에 따로 정의되지 않은 경우 이 값으로 캐시를 생성한다.
+     */
     int expireSeconds() default 3600;
 
     boolean condition() default true;
 
+    /**
+     * true 로 평가되면 결과를 캐시에 남기지 않는다. #result 로 반환값을 참조할 수 있다.
+     */
     String unless() default "";
 
     boolean refresh() default false;
-}
\ No newline at end of file
+
+    /**
+     * null 결과도 캐시해 존재하지 않는 대상에 대한 반복 조회가 매번 원본까지 내려가지 않게 한다.
+     * 유지 시간은 expireSeconds 가 아니라 negativeExpireSeconds 를 따른다.
+     */
+    boolean cacheNull() default true;
+
+    /**
+     * null, 빈 Optional, 빈 컬렉션처럼 대상이 없다는 결과의 캐시 유지 시간(초).
+     * 곧 생길 수 있는 대상이 expireSeconds 동안 계속 없는 것으로 보이지 않도록 짧게 둔다.
+     */
+    int negativeExpireSeconds() default 30;
+}
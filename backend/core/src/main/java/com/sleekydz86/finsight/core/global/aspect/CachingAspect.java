@@ -2,16 +2,35 @@ package com.sleekydz86.finsight.core.global.aspect;
 
 import com.sleekydz86.finsight.core.global.annotation.Cacheable;
 import com.sleekydz86.finsight.core.global.cache.AdvancedCacheManager;
+import com.sleekydz86.finsight.core.global.cache.MethodCacheKey;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.common.TemplateParserContext;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Aspect
 @Component
@@ -19,37 +38,147 @@ public class CachingAspect {
 
     private static final Logger logger = LoggerFactory.getLogger(CachingAspect.class);
 
+    private static final TemplateParserContext KEY_TEMPLATE = new TemplateParserContext();
+
+    private final AdvancedCacheManager cacheManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final SpelExpressionParser parser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final Map<String, Expression> keyExpressions = new ConcurrentHashMap<>();
+    private final Map<String, Expression> unlessExpressions = new ConcurrentHashMap<>();
+
+    public CachingAspect(AdvancedCacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+        this.readOnlyTransaction = null;
+    }
+
     @Autowired
-    private AdvancedCacheManager cacheManager;
+    public CachingAspect(AdvancedCacheManager cacheManager,
+                         ObjectProvider<PlatformTransactionManager> transactionManagerProvider) {
+        this.cacheManager = cacheManager;
+        PlatformTransactionManager transactionManager = transactionManagerProvider.getIfUnique();
+        if (transactionManager != null) {
+            this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+            this.readOnlyTransaction.setReadOnly(true);
+        } else {
+            this.readOnlyTransaction = null;
+        }
+    }
 
     @Around("@annotation(cacheable)")
     public Object cache(ProceedingJoinPoint joinPoint, Cacheable cacheable) throws Throwable {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
+        if (!cacheable.condition()) {
+            return joinPoint.proceed();
+        }
+
+        Object target = joinPoint.getTarget();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        if (target != null) {
+            method = AopUtils.getMostSpecificMethod(method, target.getClass());
+        }
         String className = method.getDeclaringClass().getSimpleName();
         String methodName = method.getName();
         Object[] args = joinPoint.getArgs();
 
         String cacheName = getCacheName(cacheable, className);
-        String cacheKey = generateCacheKey(cacheable, className, methodName, args);
+        Cache cache = cacheManager.getCache(cacheName, cacheable.expireSeconds());
+        if (cache == null) {
+            logger.debug("Cache {} not available for {}.{}", cacheName, className, methodName);
+            return joinPoint.proceed();
+        }
+
+        Object cacheKey = generateCacheKey(cacheable, method, target, args, className, methodName);
+        Method invokedMethod = method;
 
         if (cacheable.refresh()) {
             logger.debug("Refreshing cache for {}.{}", className, methodName);
             Object result = joinPoint.proceed();
-            cacheManager.put(cacheName, cacheKey, result);
+            if (isStorable(cacheable, invokedMethod, target, args, result)) {
+                cache.put(cacheKey, toCacheValue(result, cacheable));
+            } else {
+                cache.evict(cacheKey);
+            }
             return result;
         }
 
-        Object cachedResult = cacheManager.get(cacheName, cacheKey, Object.class);
-        if (cachedResult != null) {
-            logger.debug("Cache hit for {}.{}", className, methodName);
-            return cachedResult;
+        Callable<Object> refreshLoader = refreshLoader(cacheable, invokedMethod, target, args);
+        boolean[] loaded = new boolean[1];
+        Object value = load(cache, cacheKey, joinPoint, refreshLoader, cacheable, invokedMethod, target, args, loaded);
+        if (!loaded[0] && value instanceof NegativeResult negative && negative.isExpired()) {
+            // 짧은 TTL 이 지난 부재 결과는 버리고 원본에서 다시 읽는다
+            cache.evict(cacheKey);
+            value = load(cache, cacheKey, joinPoint, refreshLoader, cacheable, invokedMethod, target, args, loaded);
+        }
+        return value instanceof NegativeResult negative ? negative.value() : value;
+    }
+
+    private Object load(Cache cache, Object cacheKey, ProceedingJoinPoint joinPoint, Callable<Object> refreshLoader,
+                        Cacheable cacheable, Method method, Object target, Object[] args, boolean[] loaded)
+            throws Throwable {
+        try {
+            return cacheManager.getOrLoad(cache, cacheKey,
+                    () -> {
+                        loaded[0] = true;
+                        return toCacheValue(proceed(joinPoint), cacheable);
+                    },
+                    refreshLoader,
+                    value -> isStorable(cacheable, method, target, args,
+                            value instanceof NegativeResult negative ? negative.value() : value));
+        } catch (Cache.ValueRetrievalException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UndeclaredThrowableException undeclared && undeclared.getCause() != null) {
+                throw undeclared.getCause();
+            }
+            throw cause != null ? cause : e;
         }
+    }
 
-        logger.debug("Cache miss for {}.{}", className, methodName);
-        Object result = joinPoint.proceed();
-        cacheManager.put(cacheName, cacheKey, result);
-        return result;
+    private static Object proceed(ProceedingJoinPoint joinPoint) throws Exception {
+        try {
+            return joinPoint.proceed();
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
+    /**
+     * 선갱신용 로더. 조인 포인트 대신 빈과 메서드, 인자 사본만 잡고 읽기 전용 트랜잭션 안에서 대상 메서드를 직접 호출한다.
+     * 선갱신 스레드에는 요청의 보안 컨텍스트가 없으므로 결과가 인증 정보에 따라 달라지는 메서드에는 쓰지 않는다.
+     */
+    private Callable<Object> refreshLoader(Cacheable cacheable, Method method, Object target, Object[] args) {
+        if (target == null) {
+            return null;
+        }
+        Object[] snapshot = args != null ? args.clone() : new Object[0];
+        return () -> {
+            if (readOnlyTransaction == null) {
+                return toCacheValue(invoke(target, method, snapshot), cacheable);
+            }
+            return readOnlyTransaction.execute(status -> toCacheValue(invoke(target, method, snapshot), cacheable));
+        };
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) {
+        try {
+            return AopUtils.invokeJoinpointUsingReflection(target, method, args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
+    private static Object toCacheValue(Object result, Cacheable cacheable) {
+        boolean negative = result == null
+                || result instanceof Optional<?> optional && optional.isEmpty()
+                || result instanceof Collection<?> collection && collection.isEmpty();
+        if (!negative) {
+            return result;
+        }
+        return new NegativeResult(result,
+                System.nanoTime() + TimeUnit.SECONDS.toNanos(Math.max(0, cacheable.negativeExpireSeconds())));
     }
 
     private String getCacheName(Cacheable cacheable, String className) {
@@ -59,22 +188,46 @@ public class CachingAspect {
         return className.toLowerCase() + "Cache";
     }
 
-    private String generateCacheKey(Cacheable cacheable, String className, String methodName, Object[] args) {
-        if (!cacheable.key().isEmpty()) {
-            return cacheable.key();
+    private Object generateCacheKey(Cacheable cacheable, Method method, Object target, Object[] args,
+                                    String className, String methodName) {
+        String key = cacheable.key();
+        if (key.contains(KEY_TEMPLATE.getExpressionPrefix())) {
+            Expression expression = keyExpressions.computeIfAbsent(key,
+                    template -> parser.parseExpression(template, KEY_TEMPLATE));
+            return expression.getValue(createContext(method, target, args));
         }
 
-        StringBuilder keyBuilder = new StringBuilder();
-        keyBuilder.append(className).append(".").append(methodName);
+        // 템플릿 식이 없으면 인자 전체를 키에 포함시켜 서로 다른 호출이 같은 항목을 공유하지 않게 한다
+        String prefix = key.isEmpty() ? className + "." + methodName : key;
+        if (args == null || args.length == 0) {
+            return prefix;
+        }
+        return MethodCacheKey.of(prefix, args);
+    }
 
-        if (args != null && args.length > 0) {
-            keyBuilder.append(":");
-            for (Object arg : args) {
-                keyBuilder.append(arg != null ? arg.toString() : "null").append(",");
-            }
-            keyBuilder.setLength(keyBuilder.length() - 1);
+    private boolean isStorable(Cacheable cacheable, Method method, Object target, Object[] args, Object result) {
+        if (result == null && !cacheable.cacheNull()) {
+            return false;
+        }
+        if (cacheable.unless().isEmpty()) {
+            return true;
         }
 
-        return keyBuilder.toString();
+        Expression expression = unlessExpressions.computeIfAbsent(cacheable.unless(), parser::parseExpression);
+        MethodBasedEvaluationContext context = createContext(method, target, args);
+        context.setVariable("result", result);
+        return !Boolean.TRUE.equals(expression.getValue(context, Boolean.class));
+    }
+
+    private MethodBasedEvaluationContext createContext(Method method, Object target, Object[] args) {
+        return new MethodBasedEvaluationContext(target, method, args, parameterNameDiscoverer);
+    }
+
+    // 캐시 TTL 은 캐시 단위라서 부재 결과는 만료 시각을 함께 저장해 조회 시점에 판단한다
+    private record NegativeResult(Object value, long expiresAtNanos) {
+
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos >= 0;
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,51 +1,258 @@
 package com.sleekydz86.finsight.core.global.cache;
 
-import com.sleekydz86.finsight.core.global.annotation.Cacheable;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
 
 @Component
 public class AdvancedCacheManager {
 
+    private static final Logger log = LoggerFactory.getLogger(AdvancedCacheManager.class);
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+    private static final int REFRESH_QUEUE_CAPACITY = 1_000;
+
     private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
     private final ConcurrentMap<String, CacheStatistics> cacheStats = new ConcurrentHashMap<>();
 
-    public AdvancedCacheManager(CacheManager cacheManager) {
+    // 무효화 시 다시 적재할 수 있도록 선갱신 로더를 키별로 보관한다. 조회 수는 refresh-ahead 대상(hot key) 판단에 쓴다.
+    private final com.github.benmanes.caffeine.cache.Cache<RefreshKey, Refresher> refreshers;
+    private final ThreadPoolExecutor refreshExecutor;
+    private final int hotKeyThreshold;
+
+    public AdvancedCacheManager(CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this(cacheManager, meterRegistry, 2, 3);
+    }
+
+    @Autowired
+    public AdvancedCacheManager(CacheManager cacheManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${cache.refresh-ahead.threads:2}") int refreshThreads,
+                                @Value("${cache.refresh-ahead.hot-key-threshold:3}") int hotKeyThreshold) {
         this.cacheManager = cacheManager;
+        this.meterRegistry = meterRegistry;
+        this.hotKeyThreshold = Math.max(1, hotKeyThreshold);
+        this.refreshers = Caffeine.newBuilder()
+                .maximumSize(DEFAULT_MAXIMUM_SIZE)
+                .expireAfterAccess(Duration.ofHours(1))
+                .build();
+
+        int threads = Math.max(1, refreshThreads);
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.refreshExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(REFRESH_QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, "cache-refresh-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
     }
 
-    public <T> T get(String cacheName, String key, Class<T> type) {
+    /**
+     * 설정에 없는 캐시 이름이면 expireSeconds 를 TTL 로 하는 Caffeine 캐시를 만들어 등록한다.
+     */
+    public Cache getCache(String cacheName, int expireSeconds) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null || !(cacheManager instanceof CaffeineCacheManager caffeineCacheManager)) {
+            return cache;
+        }
+
+        synchronized (this) {
+            cache = cacheManager.getCache(cacheName);
+            if (cache == null) {
+                caffeineCacheManager.registerCustomCache(cacheName, Caffeine.newBuilder()
+                        .maximumSize(DEFAULT_MAXIMUM_SIZE)
+                        .expireAfterWrite(Duration.ofSeconds(Math.max(1, expireSeconds)))
+                        .recordStats()
+                        .build());
+                log.info("캐시 생성: name={}, ttl={}s", cacheName, expireSeconds);
+                cache = cacheManager.getCache(cacheName);
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * 키마다 하나의 로더만 실행한다. 같은 키로 동시에 들어온 요청은 먼저 들어온 로더의 결과를 기다린다.
+     * storable 을 통과하지 못한 결과는 캐시에 남기지 않고 그대로 돌려준다.
+     * 로더에서 발생한 예외는 {@link Cache.ValueRetrievalException} 으로 감싸져 전달된다.
+     */
+    public Object getOrLoad(Cache cache, Object key, Callable<Object> loader, Predicate<Object> storable) {
+        return getOrLoad(cache, key, loader, loader, storable);
+    }
+
+    /**
+     * refreshLoader 는 무효화 시 선갱신 스레드에서 실행되므로 요청 스레드의 상태(조인 포인트, 트랜잭션,
+     * 보안 컨텍스트)에 기대지 않아야 한다. null 이면 이 키는 선갱신하지 않고 무효화 시 바로 지운다.
+     */
+    public Object getOrLoad(Cache cache, Object key, Callable<Object> loader, Callable<Object> refreshLoader,
+                            Predicate<Object> storable) {
+        CacheStatistics stats = statisticsOf(cache.getName());
+        boolean[] loaded = new boolean[1];
+
+        Object value;
+        try {
+            value = cache.get(key, () -> {
+                loaded[0] = true;
+                stats.recordMiss();
+                long startTime = System.nanoTime();
+                Object result;
+                try {
+                    result = loader.call();
+                } catch (Exception e) {
+                    stats.recordLoadFailure();
+                    throw e;
+                } finally {
+                    stats.recordLoad(System.nanoTime() - startTime);
+                }
+                if (!storable.test(result)) {
+                    throw new UnstoredResult(result);
+                }
+                return result;
+            });
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof UnstoredResult unstored) {
+                return unstored.result;
+            }
+            throw e;
+        }
+
+        RefreshKey refreshKey = new RefreshKey(cache.getName(), key);
+        if (loaded[0]) {
+            if (refreshLoader != null) {
+                refreshers.put(refreshKey, new Refresher(refreshLoader, storable));
+            } else {
+                refreshers.invalidate(refreshKey);
+            }
+        } else {
+            stats.recordHit();
+            Refresher refresher = refreshers.getIfPresent(refreshKey);
+            if (refresher != null) {
+                refresher.hits.increment();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * keyMatcher 에 해당하는 항목만 무효화한다. 무효화 직전까지 자주 조회된 항목은 지우지 않고
+     * 백그라운드에서 다시 적재해 교체하므로(refresh-ahead) 원본으로 요청이 몰리지 않는다.
+     * 키를 열거할 수 없는 캐시 구현체는 전체를 비운다.
+     *
+     * @return 영향을 받은 항목 수
+     */
+    public int invalidate(String cacheName, Predicate<Object> keyMatcher) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return 0;
+        }
+        if (!(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+            cache.clear();
+            return -1;
+        }
+
+        int affected = 0;
+        for (Object key : List.copyOf(nativeCache.asMap().keySet())) {
+            if (!keyMatcher.test(key)) {
+                continue;
+            }
+            affected++;
+            RefreshKey refreshKey = new RefreshKey(cacheName, key);
+            Refresher refresher = refreshers.getIfPresent(refreshKey);
+            if (refresher == null || refresher.hits.sum() < hotKeyThreshold || !refreshAsync(cache, key, refresher)) {
+                cache.evict(key);
+                refreshers.invalidate(refreshKey);
+            }
+        }
+        return affected;
+    }
+
+    private boolean refreshAsync(Cache cache, Object key, Refresher refresher) {
+        if (!refresher.refreshing.compareAndSet(false, true)) {
+            return true;
+        }
+
+        CacheStatistics stats = statisticsOf(cache.getName());
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Object value = refresher.loader.call();
+                    if (refresher.storable.test(value)) {
+                        cache.put(key, value);
+                    } else {
+                        cache.evict(key);
+                    }
+                    stats.recordRefresh();
+                } catch (Exception e) {
+                    log.warn("캐시 선갱신 실패, 항목 제거: cache={}, key={}, error={}", cache.getName(), key, e.getMessage());
+                    stats.recordLoadFailure();
+                    cache.evict(key);
+                } finally {
+                    // 다음 무효화 때도 선갱신되려면 그 사이에 다시 hot key 가 되어야 한다
+                    refresher.hits.reset();
+                    refresher.refreshing.set(false);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            refresher.refreshing.set(false);
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String cacheName, Object key, Class<T> type) {
         Cache cache = cacheManager.getCache(cacheName);
         if (cache == null) {
             return null;
         }
 
+        CacheStatistics stats = statisticsOf(cacheName);
         Cache.ValueWrapper wrapper = cache.get(key);
         if (wrapper != null) {
-            updateCacheStats(cacheName, true);
+            stats.recordHit();
             return (T) wrapper.get();
         }
 
-        updateCacheStats(cacheName, false);
+        stats.recordMiss();
         return null;
     }
 
-    public void put(String cacheName, String key, Object value) {
+    public void put(String cacheName, Object key, Object value) {
         Cache cache = cacheManager.getCache(cacheName);
         if (cache != null) {
             cache.put(key, value);
-            updateCacheStats(cacheName, true);
         }
     }
 
-    public void evict(String cacheName, String key) {
+    public void evict(String cacheName, Object key) {
         Cache cache = cacheManager.getCache(cacheName);
         if (cache != null) {
             cache.evict(key);
@@ -74,39 +281,134 @@ public class AdvancedCacheManager {
         return new HashMap<>(cacheStats);
     }
 
-    private void updateCacheStats(String cacheName, boolean hit) {
-        cacheStats.computeIfAbsent(cacheName, k -> new CacheStatistics())
-                .update(hit);
+    private CacheStatistics statisticsOf(String cacheName) {
+        return cacheStats.computeIfAbsent(cacheName, this::registerStatistics);
+    }
+
+    private CacheStatistics registerStatistics(String cacheName) {
+        CacheStatistics stats = new CacheStatistics();
+        FunctionCounter.builder("cache.aspect.requests", stats, CacheStatistics::getHits)
+                .description("캐시 조회 수")
+                .tags("cache", cacheName, "result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.aspect.requests", stats, CacheStatistics::getMisses)
+                .description("캐시 조회 수")
+                .tags("cache", cacheName, "result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.aspect.load.failures", stats, CacheStatistics::getLoadFailures)
+                .description("캐시 로더 실패 수")
+                .tags("cache", cacheName)
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.aspect.refreshes", stats, CacheStatistics::getRefreshes)
+                .description("무효화 시 선갱신된 캐시 항목 수")
+                .tags("cache", cacheName)
+                .register(meterRegistry);
+        FunctionTimer.builder("cache.aspect.loads", stats,
+                        CacheStatistics::getLoads, CacheStatistics::getTotalLoadNanos, TimeUnit.NANOSECONDS)
+                .description("캐시 미스 시 원본 로딩 시간")
+                .tags("cache", cacheName)
+                .register(meterRegistry);
+        return stats;
+    }
+
+    // 캐시 구현체가 로더 예외 시 값을 저장하지 않는 점을 이용해 저장만 건너뛰고 결과는 호출자에게 넘긴다
+    private static final class UnstoredResult extends RuntimeException {
+        private final transient Object result;
+
+        private UnstoredResult(Object result) {
+            super(null, null, false, false);
+            this.result = result;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private record RefreshKey(String cacheName, Object key) {
+    }
+
+    private static final class Refresher {
+        private final Callable<Object> loader;
+        private final Predicate<Object> storable;
+        private final LongAdder hits = new LongAdder();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Refresher(Callable<Object> loader, Predicate<Object> storable) {
+            this.loader = loader;
+            this.storable = storable;
+        }
     }
 
     public static class CacheStatistics {
-        private long hits = 0;
-        private long misses = 0;
-        private long totalRequests = 0;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder loads = new LongAdder();
+        private final LongAdder loadFailures = new LongAdder();
+        private final LongAdder totalLoadNanos = new LongAdder();
+        private final LongAdder refreshes = new LongAdder();
 
         public void update(boolean hit) {
-            totalRequests++;
             if (hit) {
-                hits++;
+                recordHit();
             } else {
-                misses++;
+                recordMiss();
             }
         }
 
+        void recordHit() {
+            hits.increment();
+        }
+
+        void recordMiss() {
+            misses.increment();
+        }
+
+        void recordLoad(long elapsedNanos) {
+            loads.increment();
+            totalLoadNanos.add(elapsedNanos);
+        }
+
+        void recordLoadFailure() {
+            loadFailures.increment();
+        }
+
+        void recordRefresh() {
+            refreshes.increment();
+        }
+
         public double getHitRate() {
-            return totalRequests == 0 ? 0.0 : (double) hits / totalRequests;
+            long totalRequests = getTotalRequests();
+            return totalRequests == 0 ? 0.0 : (double) getHits() / totalRequests;
         }
 
         public long getHits() {
-            return hits;
+            return hits.sum();
         }
 
         public long getMisses() {
-            return misses;
+            return misses.sum();
         }
 
         public long getTotalRequests() {
-            return totalRequests;
+            return getHits() + getMisses();
+        }
+
+        public long getLoads() {
+            return loads.sum();
+        }
+
+        public long getLoadFailures() {
+            return loadFailures.sum();
+        }
+
+        public long getRefreshes() {
+            return refreshes.sum();
+        }
+
+        public double getTotalLoadNanos() {
+            return totalLoadNanos.sum();
         }
     }
-}
\ No newline at end of file
+}
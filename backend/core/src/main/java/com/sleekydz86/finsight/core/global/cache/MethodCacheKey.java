@@ -0,0 +1,20 @@
+package com.sleekydz86.finsight.core.global.cache;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 키 템플릿에 식이 없을 때 접두어와 메서드 인자로 만드는 캐시 키.
+ * 무효화 시 인자를 다시 꺼내 어떤 항목이 영향을 받는지 판단할 수 있도록 인자를 그대로 보관한다.
+ */
+public record MethodCacheKey(String prefix, List<Object> arguments) {
+
+    public static MethodCacheKey of(String prefix, Object[] args) {
+        return new MethodCacheKey(prefix, Collections.unmodifiableList(Arrays.asList(args.clone())));
+    }
+
+    public Object argument(int index) {
+        return index < arguments.size() ? arguments.get(index) : null;
+    }
+}
@@ -0,0 +1,33 @@
+package com.sleekydz86.finsight.core.global.counter;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반영을 마친 카운터 배치 id 기록. 커밋 응답을 받지 못해 같은 배치를 다시 보낼 때 두 번 더하지 않도록
+ * 증가분과 같은 트랜잭션에서 남긴다. 테이블 생성(ddl-auto)과 스키마 검증용으로만 매핑하며 조회는 JDBC 로 한다.
+ */
+@Entity
+@Table(name = "counter_flush_batches", indexes = {
+        @Index(name = "idx_counter_flush_batches_flushed_at", columnList = "flushed_at")
+})
+public class CounterFlushBatchJpaEntity {
+
+    @Id
+    @Column(name = "batch_id", length = 36)
+    private String batchId;
+
+    @Column(name = "flushed_at", nullable = false)
+    private LocalDateTime flushedAt;
+
+    protected CounterFlushBatchJpaEntity() {
+    }
+
+    public String getBatchId() { return batchId; }
+    public LocalDateTime getFlushedAt() { return flushedAt; }
+}
@@ -0,0 +1,75 @@
+package com.sleekydz86.finsight.core.global.counter;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 모아 둔 카운터 증가분을 대상별 UPDATE 배치로 반영한다.
+ * 배치 id 를 counter_flush_batches 에 같은 트랜잭션으로 남겨, 이미 커밋된 배치를 재시도하면 건너뛴다.
+ */
+@Repository
+public class CounterFlushRepository {
+
+    private static final String EXISTS_BATCH_SQL = "SELECT COUNT(*) FROM counter_flush_batches WHERE batch_id = ?";
+    private static final String INSERT_BATCH_SQL = "INSERT INTO counter_flush_batches (batch_id, flushed_at) VALUES (?, ?)";
+    private static final String DELETE_BATCHES_SQL = "DELETE FROM counter_flush_batches WHERE flushed_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CounterFlushRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @return 이번 호출로 반영했으면 true, 같은 배치가 이미 반영돼 있었으면 false
+     */
+    @Transactional
+    public boolean apply(String batchId, Map<CounterType, Map<Long, Long>> deltas) {
+        Integer applied = jdbcTemplate.queryForObject(EXISTS_BATCH_SQL, Integer.class, batchId);
+        if (applied != null && applied > 0) {
+            return false;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(INSERT_BATCH_SQL, batchId, now);
+        deltas.forEach((type, byTarget) -> apply(type, byTarget, now));
+        return true;
+    }
+
+    public int deleteBatchesFlushedBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update(DELETE_BATCHES_SQL, Timestamp.valueOf(cutoff));
+    }
+
+    private void apply(CounterType type, Map<Long, Long> byTarget, Timestamp now) {
+        // 여러 인스턴스가 같은 행들을 갱신해도 교착되지 않도록 항상 id 오름차순으로 잠근다
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(new TreeMap<>(byTarget).entrySet());
+        List<Object[]> arguments = new ArrayList<>(entries.size());
+        for (Map.Entry<Long, Long> entry : entries) {
+            arguments.add(new Object[]{entry.getValue(), entry.getKey()});
+        }
+        int[] updated = jdbcTemplate.batchUpdate(type.updateSql(), arguments);
+        if (type.insertSql() == null) {
+            return;
+        }
+
+        // 통계 행이 아직 없는 대상은 증가분으로 새 행을 만든다 (드라이버가 건수를 주지 않는 경우(-2)는 갱신된 것으로 본다)
+        // 건수는 값이 바뀐 행이 아니라 WHERE 에 걸린 행 수여야 하므로 JDBC URL 에 useAffectedRows=true 를 두지 않는다
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                Map.Entry<Long, Long> entry = entries.get(i);
+                inserts.add(new Object[]{entry.getKey(), entry.getValue(), now, now});
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(type.insertSql(), inserts);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.sleekydz86.finsight.core.global.counter;
+
+/**
+ * 쓰기 지연(write-behind)으로 모아서 반영하는 카운터 종류.
+ * updateSql 은 (증가분, 대상 id) 순서로 바인딩하고, insertSql 이 있으면 갱신된 행이 없을 때
+ * (대상 id, 증가분, 생성 시각, 수정 시각) 으로 새 행을 만든다.
+ */
+public enum CounterType {
+
+    NEWS_VIEW("UPDATE news_statistics SET view_count = view_count + ? WHERE news_id = ?",
+            "INSERT INTO news_statistics (news_id, view_count, like_count, dislike_count, comment_count, "
+                    + "created_at, updated_at) VALUES (?, ?, 0, 0, 0, ?, ?)"),
+    BOARD_VIEW("UPDATE boards SET view_count = view_count + ? WHERE id = ?", null);
+
+    private final String updateSql;
+    private final String insertSql;
+
+    CounterType(String updateSql, String insertSql) {
+        this.updateSql = updateSql;
+        this.insertSql = insertSql;
+    }
+
+    String updateSql() {
+        return updateSql;
+    }
+
+    String insertSql() {
+        return insertSql;
+    }
+}
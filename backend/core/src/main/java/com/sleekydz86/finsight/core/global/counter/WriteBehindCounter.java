@@ -0,0 +1,246 @@
+package com.sleekydz86.finsight.core.global.counter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수처럼 자주 오르는 카운터를 요청마다 UPDATE 하지 않고 대상별 LongAdder 에 모았다가
+ * flushInterval 마다 한 트랜잭션의 배치 UPDATE 로 반영한다.
+ * 화면에 보여 줄 값은 DB 에 저장된 값 + {@link #pendingDelta} 로, 최대 한 주기만큼 늦게 맞춰진다.
+ *
+ * 반영 중인 배치는 성공할 때까지 같은 id 로 다시 보내고, 이미 커밋된 id 는 저장소가 건너뛰므로 두 번 더하지 않는다.
+ * 종료 시에는 남은 증가분을 반영하고 끝내며, 프로세스가 비정상 종료되면 마지막 주기의 증가분만 잃는다.
+ */
+@Component
+public class WriteBehindCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindCounter.class);
+
+    private final CounterFlushRepository flushRepository;
+    private final Duration flushInterval;
+    private final Duration ledgerRetention;
+    private final Counter flushedCounter;
+
+    private final Map<Key, LongAdder> active = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "counter-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 아래 필드는 flushLock 안에서만 바꾼다
+    private Map<Key, LongAdder> retired = new HashMap<>();
+    private volatile PendingBatch inFlight;
+    private long ledgerCleanedAtMillis;
+
+    public WriteBehindCounter(CounterFlushRepository flushRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${counter.write-behind.flush-interval-millis:1000}") long flushIntervalMillis,
+                              @Value("${counter.write-behind.ledger-retention-hours:24}") int ledgerRetentionHours) {
+        this.flushRepository = flushRepository;
+        this.flushInterval = Duration.ofMillis(Math.max(10, flushIntervalMillis));
+        this.ledgerRetention = Duration.ofHours(Math.max(1, ledgerRetentionHours));
+        this.ledgerCleanedAtMillis = System.currentTimeMillis();
+        Gauge.builder("counter.write-behind.pending.keys", active, Map::size)
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("counter.write-behind.flushed")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::flushQuietly,
+                flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void increment(CounterType type, Long targetId) {
+        if (targetId == null) {
+            return;
+        }
+        Key key = new Key(type, targetId);
+        LongAdder adder = active.get(key);
+        if (adder == null) {
+            adder = active.computeIfAbsent(key, k -> new LongAdder());
+        }
+        adder.increment();
+        if (active.get(key) != adder) {
+            // 집어 든 adder 가 그사이 맵에서 빠졌다. 마지막으로 비워진 뒤에 더했을 수 있으므로 남은 몫을 현재 adder 로 옮긴다
+            long stranded = adder.sumThenReset();
+            if (stranded != 0) {
+                active.computeIfAbsent(key, k -> new LongAdder()).add(stranded);
+            }
+        }
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 증가분. 반영 중인 배치에 들어간 몫도 포함한다.
+     */
+    public long pendingDelta(CounterType type, Long targetId) {
+        if (targetId == null) {
+            return 0L;
+        }
+        Key key = new Key(type, targetId);
+        LongAdder adder = active.get(key);
+        long pending = adder != null ? adder.sum() : 0L;
+        PendingBatch batch = inFlight;
+        return batch != null ? pending + batch.delta(key) : pending;
+    }
+
+    /**
+     * 모아 둔 증가분을 반영하고 반영한 합계를 돌려준다. 실패하면 배치를 그대로 두고 예외를 던지며,
+     * 다음 호출은 새 증가분을 모으기 전에 그 배치를 같은 id 로 먼저 다시 보낸다.
+     */
+    public long flush() {
+        synchronized (flushLock) {
+            PendingBatch batch = inFlight;
+            if (batch == null) {
+                batch = new PendingBatch(UUID.randomUUID().toString());
+                // 모으는 동안에도 pendingDelta 가 배치 몫을 보도록 먼저 걸어 둔다
+                inFlight = batch;
+                drainInto(batch);
+            }
+            if (batch.isEmpty()) {
+                inFlight = null;
+                return 0L;
+            }
+
+            boolean applied = flushRepository.apply(batch.id(), batch.byType());
+            inFlight = null;
+            if (!applied) {
+                log.warn("이미 반영된 카운터 배치를 다시 보내 건너뜀: {}", batch.id());
+            }
+            long total = batch.total();
+            flushedCounter.increment(total);
+            cleanLedgerIfDue();
+            return total;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(flushInterval.toMillis() * 2, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            // 실패한 배치를 다시 보낸 경우 그 사이 쌓인 증가분이 남으므로 한 번 더 반영한다
+            flush();
+            flush();
+        } catch (Exception e) {
+            log.error("종료 전 카운터 반영 실패: 미반영 키 {}개", active.size(), e);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            long flushed = flush();
+            if (flushed > 0) {
+                log.debug("카운터 반영: {}건", flushed);
+            }
+        } catch (Exception e) {
+            log.warn("카운터 반영 실패, 다음 주기에 같은 배치로 재시도: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * LongAdder.sumThenReset 은 셀마다 getAndSet 으로 비우므로 동시에 들어온 증가분은 이번 또는 다음 배치에 잡힌다.
+     * 한 주기 동안 증가가 없던 키는 맵에서 빼되, 빼기 직전에 adder 를 집어 간 요청이 있을 수 있어
+     * 다음 주기에 한 번 더 비운 뒤 버린다. 그보다 늦게 더해진 몫은 {@link #increment} 가 맵에 남은 adder 로 옮긴다.
+     */
+    private void drainInto(PendingBatch batch) {
+        for (Map.Entry<Key, LongAdder> entry : retired.entrySet()) {
+            batch.add(entry.getKey(), entry.getValue().sumThenReset());
+        }
+        retired = new HashMap<>();
+
+        Iterator<Map.Entry<Key, LongAdder>> iterator = active.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, LongAdder> entry = iterator.next();
+            long delta = entry.getValue().sumThenReset();
+            if (delta != 0) {
+                batch.add(entry.getKey(), delta);
+            } else if (active.remove(entry.getKey(), entry.getValue())) {
+                retired.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private void cleanLedgerIfDue() {
+        long now = System.currentTimeMillis();
+        if (now - ledgerCleanedAtMillis < Duration.ofHours(1).toMillis()) {
+            return;
+        }
+        ledgerCleanedAtMillis = now;
+        try {
+            int deleted = flushRepository.deleteBatchesFlushedBefore(LocalDateTime.now().minus(ledgerRetention));
+            log.debug("카운터 배치 기록 정리: {}건", deleted);
+        } catch (Exception e) {
+            log.warn("카운터 배치 기록 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private record Key(CounterType type, long targetId) {
+    }
+
+    private static final class PendingBatch {
+
+        private final String id;
+        private final Map<Key, Long> deltas = new ConcurrentHashMap<>();
+
+        private PendingBatch(String id) {
+            this.id = id;
+        }
+
+        private String id() {
+            return id;
+        }
+
+        private void add(Key key, long delta) {
+            if (delta != 0) {
+                deltas.merge(key, delta, Long::sum);
+            }
+        }
+
+        private long delta(Key key) {
+            return deltas.getOrDefault(key, 0L);
+        }
+
+        private boolean isEmpty() {
+            return deltas.isEmpty();
+        }
+
+        private long total() {
+            return deltas.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        private Map<CounterType, Map<Long, Long>> byType() {
+            Map<CounterType, Map<Long, Long>> byType = new EnumMap<>(CounterType.class);
+            deltas.forEach((key, delta) ->
+                    byType.computeIfAbsent(key.type(), type -> new HashMap<>()).put(key.targetId(), delta));
+            return byType;
+        }
+    }
+}
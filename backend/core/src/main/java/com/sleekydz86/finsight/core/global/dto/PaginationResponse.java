@@ -13,6 +13,7 @@ public class PaginationResponse<T> {
     private final boolean last;
     private final boolean hasNext;
     private final boolean hasPrevious;
+    private final String nextCursor;
 
     public PaginationResponse() {
         this.content = List.of();
@@ -24,6 +25,7 @@ public class PaginationResponse<T> {
         this.last = true;
         this.hasNext = false;
         this.hasPrevious = false;
+        this.nextCursor = null;
     }
 
     public PaginationResponse(List<T> content, int page, int size, long totalElements) {
@@ -36,6 +38,28 @@ public class PaginationResponse<T> {
         this.last = page >= totalPages - 1;
         this.hasNext = page < totalPages - 1;
         this.hasPrevious = page > 0;
+        this.nextCursor = null;
+    }
+
+    private PaginationResponse(List<T> content, int size, boolean first, boolean hasNext, String nextCursor) {
+        this.content = content != null ? content : List.of();
+        this.page = 0;
+        this.size = size;
+        this.totalElements = -1;
+        this.totalPages = -1;
+        this.first = first;
+        this.last = !hasNext;
+        this.hasNext = hasNext;
+        this.hasPrevious = !first;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * 커서 기반 페이지 응답. 전체 건수를 세지 않으므로 totalElements/totalPages 는 -1 이다.
+     */
+    public static <T> PaginationResponse<T> ofCursor(List<T> content, int size, boolean first,
+                                                     boolean hasNext, String nextCursor) {
+        return new PaginationResponse<>(content, size, first, hasNext, hasNext ? nextCursor : null);
     }
 
     public static <T> PaginationResponse<T> from(Page<T> page) {
@@ -117,6 +141,10 @@ public class PaginationResponse<T> {
         return hasPrevious;
     }
 
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
     @Override
     public String toString() {
         return "PaginationResponse{" +
@@ -129,6 +157,7 @@ public class PaginationResponse<T> {
                 ", last=" + last +
                 ", hasNext=" + hasNext +
                 ", hasPrevious=" + hasPrevious +
+                ", nextCursor='" + nextCursor + '\'' +
                 '}';
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.sleekydz86.finsight.core.global.resolver;
 
+import com.sleekydz86.finsight.core.auth.domain.UserPrincipal;
 import com.sleekydz86.finsight.core.global.annotation.CurrentUser;
 import com.sleekydz86.finsight.core.global.dto.AuthenticatedUser;
 import com.sleekydz86.finsight.core.user.domain.User;
@@ -59,6 +60,16 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
             return null;
         }
 
+        // JWT 필터가 넣은 주체에는 필요한 값이 이미 있으므로 다시 조회하지 않는다
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return AuthenticatedUser.builder()
+                    .id(principal.getId())
+                    .email(principal.getEmail())
+                    .nickname(principal.getNickname())
+                    .role(principal.getRole().name())
+                    .build();
+        }
+
         try {
             Optional<User> userOpt = userPersistencePort.findByEmail(email);
             if (userOpt.isEmpty()) {
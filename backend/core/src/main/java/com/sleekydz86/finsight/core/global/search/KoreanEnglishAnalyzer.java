@@ -0,0 +1,36 @@
+package com.sleekydz86.finsight.core.global.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.StopFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.cjk.CJKBigramFilter;
+import org.apache.lucene.analysis.cjk.CJKWidthFilter;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.analysis.en.PorterStemFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+
+/**
+ * 한글/영문 혼합 본문용 분석기.
+ * 한글은 형태소 사전 없이 바이그램으로 쪼개 "삼성전자가" 로 색인한 글을 "삼성전자" 로 찾을 수 있게 하고,
+ * 영문은 소문자화, 불용어 제거, 어간 추출을 거친다. 색인과 질의에 같은 분석기를 써야 한다.
+ */
+public final class KoreanEnglishAnalyzer extends Analyzer {
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        Tokenizer tokenizer = new StandardTokenizer();
+        TokenStream stream = new CJKWidthFilter(tokenizer);
+        stream = new LowerCaseFilter(stream);
+        stream = new CJKBigramFilter(stream, CJKBigramFilter.HANGUL | CJKBigramFilter.HAN);
+        stream = new StopFilter(stream, EnglishAnalyzer.ENGLISH_STOP_WORDS_SET);
+        stream = new PorterStemFilter(stream);
+        return new TokenStreamComponents(tokenizer, stream);
+    }
+
+    @Override
+    protected TokenStream normalize(String fieldName, TokenStream in) {
+        return new LowerCaseFilter(new CJKWidthFilter(in));
+    }
+}
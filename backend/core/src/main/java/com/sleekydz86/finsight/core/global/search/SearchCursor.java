@@ -0,0 +1,92 @@
+package com.sleekydz86.finsight.core.global.search;
+
+import com.sleekydz86.finsight.core.global.exception.ValidationException;
+import org.apache.lucene.search.FieldDoc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 검색 결과의 마지막 문서 위치(점수, 시각, id). 색인의 정렬 키와 같아서 search-after 로 그대로 이어 조회한다.
+ */
+public final class SearchCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final float score;
+    private final long timeMillis;
+    private final long id;
+
+    public SearchCursor(float score, long timeMillis, long id) {
+        this.score = score;
+        this.timeMillis = timeMillis;
+        this.id = id;
+    }
+
+    static SearchCursor of(FieldDoc fieldDoc) {
+        return new SearchCursor((Float) fieldDoc.fields[0], (Long) fieldDoc.fields[1], (Long) fieldDoc.fields[2]);
+    }
+
+    public static SearchCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + DELIMITER);
+            if (parts.length != 3) {
+                throw invalidCursor();
+            }
+            return new SearchCursor(Float.parseFloat(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw invalidCursor();
+        }
+    }
+
+    public String encode() {
+        String raw = score + DELIMITER + timeMillis + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 정렬 키가 id 까지 포함해 유일하므로 문서 번호는 같은 문서를 건너뛸 때만 쓰인다. 색인 범위 안의 마지막 번호를 둔다
+    FieldDoc toFieldDoc(int maxDoc) {
+        return new FieldDoc(maxDoc - 1, score, new Object[]{score, timeMillis, id});
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    private static ValidationException invalidCursor() {
+        return new ValidationException("유효하지 않은 커서입니다", "INVALID_CURSOR", List.of("cursor"));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SearchCursor that = (SearchCursor) o;
+        return Float.compare(score, that.score) == 0 && timeMillis == that.timeMillis && id == that.id;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(score, timeMillis, id);
+    }
+
+    @Override
+    public String toString() {
+        return "SearchCursor{" +
+                "score=" + score +
+                ", timeMillis=" + timeMillis +
+                ", id=" + id +
+                '}';
+    }
+}
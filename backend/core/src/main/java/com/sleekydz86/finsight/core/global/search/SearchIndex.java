@@ -0,0 +1,353 @@
+package com.sleekydz86.finsight.core.global.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MMapDirectory 에 둔 Lucene 색인 하나. 쓰기는 IndexWriter 하나로 받고 검색은 SearcherManager 의 스냅샷으로 한다.
+ * 쓴 내용은 refreshInterval 마다 검색에 보이고 commitInterval 마다 디스크에 확정된다.
+ * 갱신, 커밋, 재색인 같은 유지 작업은 색인 전용 스레드 하나에서만 돌아 서로 겹치지 않는다.
+ *
+ * 순위는 BM25 점수 → 시각 → id 내림차순으로 고정해, search-after 커서가 늘 한 위치를 가리키게 한다.
+ * 검색 지연(lag)은 검색에 아직 보이지 않는 변경 중 가장 오래된 것의 나이로 잰다.
+ */
+public class SearchIndex implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndex.class);
+
+    public static final String ID = "id";
+    public static final String TIME = "time";
+
+    private static final Sort RANKING = new Sort(
+            SortField.FIELD_SCORE,
+            new SortField(TIME, SortField.Type.LONG, true),
+            new SortField(ID, SortField.Type.LONG, true));
+
+    /**
+     * 재색인 때 DB 에서 읽은 문서를 색인에 넣는다. 넣은 문서 수를 돌려준다.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        long load(SearchIndex index) throws Exception;
+    }
+
+    private final String name;
+    private final Analyzer analyzer;
+    private final QueryBuilder queryBuilder;
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final ScheduledExecutorService maintainer;
+
+    private final AtomicLong writeSequence = new AtomicLong();
+    private final AtomicLong oldestUnrefreshedMillis = new AtomicLong();
+    private volatile boolean ready;
+
+    public SearchIndex(String name, Path path, MeterRegistry meterRegistry,
+                       Duration refreshInterval, Duration commitInterval) throws IOException {
+        this.name = name;
+        this.analyzer = new KoreanEnglishAnalyzer();
+        this.queryBuilder = new QueryBuilder(analyzer);
+        Files.createDirectories(path);
+        this.directory = new MMapDirectory(path);
+        try {
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            this.searcherManager = new SearcherManager(writer, null);
+        } catch (IOException e) {
+            directory.close();
+            throw e;
+        }
+        // 이미 문서가 있는 색인은 그대로 쓰고, 비어 있으면 재색인이 끝나야 쓸 수 있다
+        this.ready = writer.getDocStats().numDocs > 0;
+
+        this.maintainer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "search-index-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        long refreshMillis = Math.max(10, refreshInterval.toMillis());
+        long commitMillis = Math.max(refreshMillis, commitInterval.toMillis());
+        maintainer.scheduleWithFixedDelay(this::refreshQuietly, refreshMillis, refreshMillis, TimeUnit.MILLISECONDS);
+        maintainer.scheduleWithFixedDelay(this::commitQuietly, commitMillis, commitMillis, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("search.index.lag", this, SearchIndex::lagSeconds)
+                .tag("index", name)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("search.index.documents", writer, indexWriter -> indexWriter.getDocStats().numDocs)
+                .tag("index", name)
+                .register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 같은 id 의 문서를 바꿔 넣는다. id 와 시각 필드는 여기서 붙인다.
+     *
+     * @param changedAtMillis 원본이 바뀐 시각. 검색 지연 측정의 기준이 된다
+     */
+    public void upsert(long id, long timeMillis, Document document, long changedAtMillis) throws IOException {
+        document.add(new StringField(ID, Long.toString(id), Field.Store.NO));
+        document.add(new LongPoint(ID, id));
+        document.add(new NumericDocValuesField(ID, id));
+        document.add(new LongPoint(TIME, timeMillis));
+        document.add(new NumericDocValuesField(TIME, timeMillis));
+        writer.updateDocument(new Term(ID, Long.toString(id)), document);
+        markChanged(changedAtMillis);
+    }
+
+    public void delete(long id, long changedAtMillis) throws IOException {
+        writer.deleteDocuments(new Term(ID, Long.toString(id)));
+        markChanged(changedAtMillis);
+    }
+
+    /**
+     * 필드별 가중치를 둔 키워드 질의. 한 필드 안에 분석된 토큰이 모두 있어야 맞고, 점수는 맞은 필드의 BM25 합이다.
+     *
+     * @return 분석 후 남는 토큰이 없으면 null
+     */
+    public Query keywordQuery(String keyword, Map<String, Float> fieldBoosts) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        boolean matchable = false;
+        for (Map.Entry<String, Float> fieldBoost : fieldBoosts.entrySet()) {
+            Query fieldQuery = queryBuilder.createBooleanQuery(fieldBoost.getKey(), keyword, BooleanClause.Occur.MUST);
+            if (fieldQuery != null) {
+                builder.add(new BoostQuery(fieldQuery, fieldBoost.getValue()), BooleanClause.Occur.SHOULD);
+                matchable = true;
+            }
+        }
+        return matchable ? builder.build() : null;
+    }
+
+    /**
+     * 순위 기준 offset 부터 size 개. 깊은 페이지일수록 비싸므로 연속 조회는 {@link #searchAfter} 를 쓴다.
+     */
+    public SearchPage search(Query query, int offset, int size) throws IOException {
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            int maxDoc = searcher.getIndexReader().maxDoc();
+            if (maxDoc == 0 || offset >= maxDoc) {
+                return new SearchPage(List.of(), maxDoc == 0 ? 0 : searcher.count(query), null);
+            }
+            TopFieldDocs top = searcher.search(query, Math.min(offset + size, maxDoc), RANKING, true);
+            List<Long> ids = new ArrayList<>(size);
+            for (int i = offset; i < top.scoreDocs.length; i++) {
+                ids.add(idOf(top.scoreDocs[i]));
+            }
+            long totalHits = top.totalHits.relation == TotalHits.Relation.EQUAL_TO
+                    ? top.totalHits.value
+                    : searcher.count(query);
+            return new SearchPage(ids, totalHits, null);
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    public SearchPage searchAfter(Query query, SearchCursor after, int size) throws IOException {
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            int maxDoc = searcher.getIndexReader().maxDoc();
+            if (maxDoc == 0) {
+                return new SearchPage(List.of(), 0, null);
+            }
+            TopFieldDocs top = after == null
+                    ? searcher.search(query, size + 1, RANKING, true)
+                    : searcher.searchAfter(after.toFieldDoc(maxDoc), query, size + 1, RANKING, true);
+            int count = Math.min(size, top.scoreDocs.length);
+            List<Long> ids = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                ids.add(idOf(top.scoreDocs[i]));
+            }
+            String nextCursor = top.scoreDocs.length > size
+                    ? SearchCursor.of((FieldDoc) top.scoreDocs[size - 1]).encode()
+                    : null;
+            return new SearchPage(ids, top.totalHits.value, nextCursor);
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     * 검색에 보이는 문서 중 가장 큰 id. 삭제된 문서도 포함할 수 있어 이어서 색인할 기준점으로만 쓴다.
+     */
+    public long maxId() throws IOException {
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            byte[] packed = PointValues.getMaxPackedValue(searcher.getIndexReader(), ID);
+            return packed == null ? 0L : LongPoint.decodeDimension(packed, 0);
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     * 색인 전용 스레드에서 작업을 돌린다. 갱신/커밋/재색인과 겹치지 않는다.
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        maintainer.execute(() -> {
+            try {
+                future.complete(task.call());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    public void scheduleWithFixedDelay(Runnable task, Duration delay) {
+        long delayMillis = Math.max(10, delay.toMillis());
+        maintainer.scheduleWithFixedDelay(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.warn("검색 색인 작업 실패: index={}, {}", name, e.getMessage());
+            }
+        }, delayMillis, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 색인을 비우고 loader 로 다시 채운다. 끝나서 갱신하기 전까지 검색은 이전 스냅샷을 본다.
+     * 중간에 실패하면 일부만 찬 색인을 쓰지 않도록 다시 재색인될 때까지 사용할 수 없는 상태로 둔다.
+     */
+    public CompletableFuture<Long> rebuild(Loader loader) {
+        return submit(() -> {
+            long startNanos = System.nanoTime();
+            try {
+                writer.deleteAll();
+                long count = loader.load(this);
+                writer.commit();
+                refresh();
+                ready = true;
+                log.info("검색 색인 재구성 완료: index={}, {}건, {}ms", name, count,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+                return count;
+            } catch (Exception e) {
+                ready = false;
+                log.error("검색 색인 재구성 실패: index={}", name, e);
+                throw e;
+            }
+        });
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("ready", ready);
+        stats.put("documents", writer.getDocStats().numDocs);
+        stats.put("lagSeconds", lagSeconds());
+        return stats;
+    }
+
+    double lagSeconds() {
+        long oldest = oldestUnrefreshedMillis.get();
+        return oldest == 0 ? 0.0 : Math.max(0, System.currentTimeMillis() - oldest) / 1000.0;
+    }
+
+    void refresh() throws IOException {
+        long sequence = writeSequence.get();
+        long oldest = oldestUnrefreshedMillis.get();
+        searcherManager.maybeRefreshBlocking();
+        // 갱신하는 사이 새로 들어온 변경이 있으면 다음 갱신까지 지연으로 남겨 둔다
+        if (writeSequence.get() == sequence) {
+            oldestUnrefreshedMillis.compareAndSet(oldest, 0);
+        }
+    }
+
+    private void markChanged(long changedAtMillis) {
+        writeSequence.incrementAndGet();
+        oldestUnrefreshedMillis.accumulateAndGet(changedAtMillis,
+                (current, changed) -> current == 0 ? changed : Math.min(current, changed));
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("검색 색인 갱신 실패: index={}, {}", name, e.getMessage());
+        }
+    }
+
+    private void commitQuietly() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (Exception e) {
+            log.warn("검색 색인 커밋 실패: index={}, {}", name, e.getMessage());
+        }
+    }
+
+    private static long idOf(ScoreDoc scoreDoc) {
+        return (Long) ((FieldDoc) scoreDoc).fields[2];
+    }
+
+    @Override
+    public void close() throws IOException {
+        maintainer.shutdown();
+        try {
+            if (!maintainer.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("검색 색인 작업이 끝나지 않아 중단합니다: index={}", name);
+                maintainer.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            searcherManager.close();
+            writer.close();
+        } finally {
+            directory.close();
+            analyzer.close();
+        }
+    }
+}
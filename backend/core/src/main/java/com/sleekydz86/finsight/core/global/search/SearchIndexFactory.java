@@ -0,0 +1,55 @@
+package com.sleekydz86.finsight.core.global.search;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 설정에 따라 도메인별 색인 디렉터리를 연다.
+ * 색인 디렉터리는 한 프로세스만 쓸 수 있으므로, 검색을 하지 않는 JVM(batch)은 enabled 를 끄고
+ * 다른 프로세스가 이미 잡고 있으면 열지 않고 비워 둔다. 어느 경우든 호출 측은 DB 조회로 대신한다.
+ */
+@Component
+public class SearchIndexFactory {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexFactory.class);
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Path basePath;
+    private final Duration refreshInterval;
+    private final Duration commitInterval;
+
+    public SearchIndexFactory(MeterRegistry meterRegistry,
+                              @Value("${search.index.enabled:true}") boolean enabled,
+                              @Value("${search.index.path:data/search-index}") String basePath,
+                              @Value("${search.index.refresh-interval-millis:1000}") long refreshIntervalMillis,
+                              @Value("${search.index.commit-interval-seconds:30}") long commitIntervalSeconds) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.basePath = Path.of(basePath);
+        this.refreshInterval = Duration.ofMillis(refreshIntervalMillis);
+        this.commitInterval = Duration.ofSeconds(commitIntervalSeconds);
+    }
+
+    public Optional<SearchIndex> open(String name) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Path path = basePath.resolve(name).toAbsolutePath();
+        try {
+            SearchIndex index = new SearchIndex(name, path, meterRegistry, refreshInterval, commitInterval);
+            log.info("검색 색인 열림: index={}, path={}", name, path);
+            return Optional.of(index);
+        } catch (Exception e) {
+            log.warn("검색 색인을 열 수 없어 DB 검색으로 대신합니다: index={}, path={}, {}", name, path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.sleekydz86.finsight.core.global.search;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 도메인별 전문 검색 색인이 공통으로 여는 관리 기능.
+ */
+public interface SearchIndexPort {
+
+    String indexName();
+
+    /**
+     * 색인이 열려 있고 DB 와 맞춰진 상태인지. false 이면 호출 측은 DB 조회로 대신한다.
+     */
+    boolean isAvailable();
+
+    /**
+     * DB 의 전체 데이터로 색인을 다시 만든다. 끝나기 전까지 검색은 기존 색인으로 한다.
+     */
+    CompletableFuture<Long> rebuild();
+
+    Map<String, Object> getStatistics();
+}
@@ -0,0 +1,18 @@
+package com.sleekydz86.finsight.core.global.search;
+
+import java.util.List;
+
+/**
+ * 검색 결과 한 페이지. ids 는 순위 순서이고, 본문은 호출 측이 저장소에서 id 로 읽어 채운다.
+ * 커서 조회에서는 totalHits 가 하한값일 수 있고, 다음 페이지가 없으면 nextCursor 는 null 이다.
+ */
+public record SearchPage(List<Long> ids, long totalHits, String nextCursor) {
+
+    public SearchPage {
+        ids = ids == null ? List.of() : List.copyOf(ids);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,57 @@
+package com.sleekydz86.finsight.core.news.adapter.out;
+
+import com.sleekydz86.finsight.core.news.domain.vo.Content;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 여러 기사를 토큰 예산 안에서 하나의 다건 요청으로 묶는다.
+ * 응답에 본문 번역이 포함되므로 기사 하나의 비용은 입력 토큰의 두 배로 잡는다.
+ */
+public class AiChatRequestPacker {
+
+    // 영문 기준 약 4글자 = 1토큰, JSON 키/따옴표 등 기사별 고정 오버헤드
+    private static final int CHARS_PER_TOKEN = 4;
+    private static final int ITEM_OVERHEAD_TOKENS = 40;
+
+    private final int maxTokensPerRequest;
+    private final int maxItemsPerRequest;
+
+    public AiChatRequestPacker(int maxTokensPerRequest, int maxItemsPerRequest) {
+        this.maxTokensPerRequest = Math.max(1, maxTokensPerRequest);
+        this.maxItemsPerRequest = Math.max(1, maxItemsPerRequest);
+    }
+
+    public List<List<Content>> pack(List<Content> contents) {
+        List<List<Content>> batches = new ArrayList<>();
+        List<Content> current = new ArrayList<>();
+        int currentTokens = 0;
+
+        for (Content content : contents) {
+            int tokens = estimateTokens(content);
+            if (!current.isEmpty()
+                    && (currentTokens + tokens > maxTokensPerRequest || current.size() >= maxItemsPerRequest)) {
+                batches.add(current);
+                current = new ArrayList<>();
+                currentTokens = 0;
+            }
+            current.add(content);
+            currentTokens += tokens;
+        }
+
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+
+    static int estimateTokens(Content content) {
+        int chars = length(content.getTitle()) + length(content.getContent());
+        return (chars / CHARS_PER_TOKEN + ITEM_OVERHEAD_TOKENS) * 2;
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
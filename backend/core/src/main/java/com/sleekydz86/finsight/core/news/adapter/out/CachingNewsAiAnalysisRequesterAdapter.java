@@ -0,0 +1,391 @@
+package com.sleekydz86.finsight.core.news.adapter.out;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sleekydz86.finsight.core.global.AiModel;
+import com.sleekydz86.finsight.core.global.NewsProvider;
+import com.sleekydz86.finsight.core.news.domain.News;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsAiAnalysisRequesterPort;
+import com.sleekydz86.finsight.core.news.domain.vo.AiOverview;
+import com.sleekydz86.finsight.core.news.domain.vo.Content;
+import com.sleekydz86.finsight.core.news.domain.vo.NewsMeta;
+import com.sleekydz86.finsight.core.news.domain.vo.SentimentType;
+import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AI 분석 결과를 정규화된 제목+본문 해시(+모델, 프롬프트 버전)로 캐싱하는 포트 데코레이터.
+ * L1 은 Caffeine, L2 는 Redis 이며, 같은 키로 동시에 들어온 요청은 하나의 업스트림 호출을 공유한다.
+ */
+@Primary
+@Component
+public class CachingNewsAiAnalysisRequesterAdapter implements NewsAiAnalysisRequesterPort {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingNewsAiAnalysisRequesterAdapter.class);
+
+    private static final String REDIS_KEY_PREFIX = "ai:analysis:";
+
+    private final NewsAiAnalysisRequesterAdapter delegate;
+    private final ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider;
+    private final ObjectMapper objectMapper;
+    private final ConcurrentHashMap<String, CompletableFuture<CachedAnalysis>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder tokensSaved = new LongAdder();
+    private final Counter tokensSavedCounter;
+    private final MeterRegistry meterRegistry;
+    private final Executor aiAnalysisExecutor;
+
+    @Value("${ai.cache.prompt-version:v1}")
+    private String promptVersion;
+
+    @Value("${ai.cache.l2-ttl-hours:168}")
+    private long l2TtlHours;
+
+    @Value("${ai.cache.cost-per-1k-tokens:0.002}")
+    private double costPer1kTokens;
+
+    private final Cache<String, CachedAnalysis> l1Cache;
+
+    public CachingNewsAiAnalysisRequesterAdapter(
+            NewsAiAnalysisRequesterAdapter delegate,
+            ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Qualifier("aiAnalysisExecutor") Executor aiAnalysisExecutor,
+            @Value("${ai.cache.l1-max-size:10000}") long l1MaxSize,
+            @Value("${ai.cache.l1-ttl-hours:6}") long l1TtlHours) {
+        this.delegate = delegate;
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.aiAnalysisExecutor = aiAnalysisExecutor;
+        this.l1Cache = Caffeine.newBuilder()
+                .maximumSize(l1MaxSize)
+                .expireAfterWrite(Duration.ofHours(l1TtlHours))
+                .build();
+        this.tokensSavedCounter = Counter.builder("ai.analysis.cache.tokens.saved")
+                .description("캐시 적중으로 절약한 LLM 토큰 추정치")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<News> analyseNewses(AiModel model, Content content) {
+        String key = cacheKey(model, content);
+
+        CachedAnalysis cached = lookup(key, content);
+        if (cached != null) {
+            return List.of(cached.toNews(content));
+        }
+
+        CompletableFuture<CachedAnalysis> owned = new CompletableFuture<>();
+        CompletableFuture<CachedAnalysis> existing = inFlight.putIfAbsent(key, owned);
+        if (existing != null) {
+            CachedAnalysis shared = existing.join();
+            if (shared != null) {
+                recordHit(coalesced, "coalesced", content);
+                return List.of(shared.toNews(content));
+            }
+            return delegate.analyseNewses(model, content);
+        }
+
+        misses.increment();
+        record("miss");
+        try {
+            List<News> analyzed = delegate.analyseNewses(model, content);
+            complete(key, owned, analyzed.isEmpty() ? null : analyzed.get(0));
+            return analyzed;
+        } catch (RuntimeException e) {
+            inFlight.remove(key, owned);
+            owned.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<List<News>> analyseNewsesAsync(AiModel model, Content content) {
+        return CompletableFuture.supplyAsync(() -> analyseNewses(model, content), aiAnalysisExecutor);
+    }
+
+    @Override
+    public CompletableFuture<List<News>> analyseNewsesBatchAsync(AiModel model, List<Content> contents) {
+        if (contents == null || contents.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        News[] results = new News[contents.size()];
+        Map<String, CompletableFuture<CachedAnalysis>> waiting = new LinkedHashMap<>();
+        Map<String, List<Integer>> positions = new LinkedHashMap<>();
+        Map<String, CompletableFuture<CachedAnalysis>> owned = new LinkedHashMap<>();
+        List<Content> missContents = new ArrayList<>();
+
+        for (int i = 0; i < contents.size(); i++) {
+            Content content = contents.get(i);
+            String key = cacheKey(model, content);
+
+            if (positions.containsKey(key)) {
+                // 같은 배치 안의 중복 기사는 첫 기사 결과를 공유
+                positions.get(key).add(i);
+                recordHit(coalesced, "coalesced", content);
+                continue;
+            }
+
+            CachedAnalysis cached = lookup(key, content);
+            if (cached != null) {
+                results[i] = cached.toNews(content);
+                continue;
+            }
+
+            positions.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            CompletableFuture<CachedAnalysis> future = new CompletableFuture<>();
+            CompletableFuture<CachedAnalysis> existing = inFlight.putIfAbsent(key, future);
+            if (existing != null) {
+                waiting.put(key, existing);
+                recordHit(coalesced, "coalesced", content);
+            } else {
+                owned.put(key, future);
+                missContents.add(content);
+                misses.increment();
+                record("miss");
+            }
+        }
+
+        CompletableFuture<List<News>> upstream = missContents.isEmpty()
+                ? CompletableFuture.completedFuture(List.of())
+                : delegate.analyseNewsesBatchAsync(model, missContents);
+
+        return upstream
+                .handle((analyzed, failure) -> {
+                    if (failure != null) {
+                        owned.forEach((key, future) -> {
+                            inFlight.remove(key, future);
+                            future.completeExceptionally(failure);
+                        });
+                        throw failure instanceof CompletionException completion
+                                ? completion
+                                : new CompletionException(failure);
+                    }
+                    List<String> ownedKeys = new ArrayList<>(owned.keySet());
+                    for (int i = 0; i < ownedKeys.size(); i++) {
+                        String key = ownedKeys.get(i);
+                        News news = i < analyzed.size() ? analyzed.get(i) : null;
+                        fill(results, positions.get(key), contents, complete(key, owned.get(key), news));
+                    }
+                    return results;
+                })
+                // 다른 요청이 분석 중인 기사는 그 결과를 기다린다 (스레드를 붙잡지 않도록 allOf 로 이어 붙임)
+                .thenCompose(ignored -> CompletableFuture.allOf(waiting.values().toArray(new CompletableFuture[0])))
+                .thenCompose(ignored -> {
+                    waiting.forEach((key, future) -> fill(results, positions.get(key), contents, future.join()));
+                    return analyseUnresolved(model, contents, results);
+                });
+    }
+
+    /**
+     * 업스트림 결과가 비어 채워지지 않은 자리만 다시 묶어 요청하고 입력 순서대로 돌려준다.
+     */
+    private CompletableFuture<List<News>> analyseUnresolved(AiModel model, List<Content> contents, News[] results) {
+        List<Integer> unresolved = new ArrayList<>();
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                unresolved.add(i);
+            }
+        }
+        if (unresolved.isEmpty()) {
+            return CompletableFuture.completedFuture(Arrays.asList(results));
+        }
+
+        return delegate.analyseNewsesBatchAsync(model, unresolved.stream().map(contents::get).toList())
+                .thenApply(analyzed -> {
+                    for (int i = 0; i < unresolved.size() && i < analyzed.size(); i++) {
+                        results[unresolved.get(i)] = analyzed.get(i);
+                    }
+                    return Arrays.asList(results);
+                });
+    }
+
+    @Override
+    public boolean isModelAvailable(AiModel model) {
+        return delegate.isModelAvailable(model);
+    }
+
+    @Override
+    public List<AiModel> getAvailableModels() {
+        return delegate.getAvailableModels();
+    }
+
+    public Map<String, Object> getStatistics() {
+        long hits = l1Hits.sum() + l2Hits.sum() + coalesced.sum();
+        long total = hits + misses.sum();
+        long saved = tokensSaved.sum();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("l1Hits", l1Hits.sum());
+        stats.put("l2Hits", l2Hits.sum());
+        stats.put("coalesced", coalesced.sum());
+        stats.put("misses", misses.sum());
+        stats.put("hitRate", total > 0 ? (double) hits / total * 100 : 0.0);
+        stats.put("l1Size", l1Cache.estimatedSize());
+        stats.put("tokensSaved", saved);
+        stats.put("dollarsSaved", saved / 1000.0 * costPer1kTokens);
+        return stats;
+    }
+
+    private CachedAnalysis lookup(String key, Content content) {
+        CachedAnalysis cached = l1Cache.getIfPresent(key);
+        if (cached != null) {
+            recordHit(l1Hits, "l1_hit", content);
+            return cached;
+        }
+
+        cached = readL2(key);
+        if (cached != null) {
+            l1Cache.put(key, cached);
+            recordHit(l2Hits, "l2_hit", content);
+        }
+        return cached;
+    }
+
+    private CachedAnalysis complete(String key, CompletableFuture<CachedAnalysis> future, News analyzed) {
+        // 폴백(기본 분석) 결과는 캐시하지 않고 폴백 표시를 유지한 채 대기 중인 요청에만 전달한다
+        CachedAnalysis analysis = analyzed != null ? CachedAnalysis.from(analyzed) : null;
+        if (analysis != null && !analysis.fallback()) {
+            l1Cache.put(key, analysis);
+            writeL2(key, analysis);
+        }
+        inFlight.remove(key, future);
+        future.complete(analysis);
+        return analysis;
+    }
+
+    private void fill(News[] results, List<Integer> indexes, List<Content> contents, CachedAnalysis analysis) {
+        if (analysis == null) {
+            return;
+        }
+        for (int index : indexes) {
+            results[index] = analysis.toNews(contents.get(index));
+        }
+    }
+
+    private CachedAnalysis readL2(String key) {
+        RedisTemplate<String, Object> redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate == null) {
+            return null;
+        }
+        try {
+            Object value = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + key);
+            return value instanceof String json ? objectMapper.readValue(json, CachedAnalysis.class) : null;
+        } catch (Exception e) {
+            log.debug("AI 분석 캐시 L2 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeL2(String key, CachedAnalysis analysis) {
+        RedisTemplate<String, Object> redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(REDIS_KEY_PREFIX + key,
+                    objectMapper.writeValueAsString(analysis), Duration.ofHours(l2TtlHours));
+        } catch (Exception e) {
+            log.debug("AI 분석 캐시 L2 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void recordHit(LongAdder adder, String result, Content content) {
+        adder.increment();
+        record(result);
+        long tokens = AiChatRequestPacker.estimateTokens(content);
+        tokensSaved.add(tokens);
+        tokensSavedCounter.increment(tokens);
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("ai.analysis.cache.requests", "result", result).increment();
+    }
+
+    private String cacheKey(AiModel model, Content content) {
+        String normalized = normalize(content.getTitle()) + '\u0000' + normalize(content.getContent());
+        return model.name() + ':' + promptVersion + ':' + sha256(normalized);
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase();
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    record CachedAnalysis(
+            String overview,
+            String translatedTitle,
+            String translatedContent,
+            List<TargetCategory> categories,
+            SentimentType sentimentType,
+            Double sentimentScore,
+            boolean fallback) {
+
+        static CachedAnalysis from(News news) {
+            AiOverview overview = news.getAiOverView();
+            Content translated = news.getTranslatedContent();
+            return new CachedAnalysis(
+                    overview != null ? overview.getOverview() : null,
+                    translated != null ? translated.getTitle() : null,
+                    translated != null ? translated.getContent() : null,
+                    overview != null ? overview.getTargetCategories() : null,
+                    overview != null ? overview.getSentimentType() : null,
+                    overview != null ? overview.getSentimentScore() : null,
+                    NewsAiAnalysisRequesterPort.isFallbackResult(news));
+        }
+
+        News toNews(Content originalContent) {
+            return News.createWithoutAI(
+                    new NewsMeta(NewsProvider.ALL, LocalDateTime.now(),
+                            fallback ? NewsAiAnalysisRequesterPort.FALLBACK_SOURCE : "AI Generated"),
+                    originalContent
+            ).updateAiAnalysis(overview, translatedTitle, translatedContent, categories, sentimentType,
+                    sentimentScore);
+        }
+    }
+}
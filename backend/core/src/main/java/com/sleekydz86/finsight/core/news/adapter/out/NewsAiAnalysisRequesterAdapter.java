@@ -3,14 +3,20 @@ package com.sleekydz86.finsight.core.news.adapter.out;
 import com.sleekydz86.finsight.core.global.AiModel;
 import com.sleekydz86.finsight.core.global.NewsProvider;
 import com.sleekydz86.finsight.core.news.domain.port.out.requester.NewsAiRequester;
+import com.sleekydz86.finsight.core.news.domain.port.out.requester.dto.AiChatRequest;
 import com.sleekydz86.finsight.core.news.domain.News;
 import com.sleekydz86.finsight.core.news.domain.port.out.NewsAiAnalysisRequesterPort;
 import com.sleekydz86.finsight.core.news.domain.vo.*;
 import com.sleekydz86.finsight.core.news.service.AiModelSelectionService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -31,6 +37,18 @@ public class NewsAiAnalysisRequesterAdapter implements NewsAiAnalysisRequesterPo
     private final AtomicInteger successfulRequests = new AtomicInteger(0);
     private final AtomicInteger failedRequests = new AtomicInteger(0);
 
+    @Value("${ai.batch.max-tokens-per-request:6000}")
+    private int maxTokensPerRequest;
+
+    @Value("${ai.batch.max-items-per-request:20}")
+    private int maxItemsPerRequest;
+
+    @Value("${ai.batch.concurrency:4}")
+    private int batchConcurrency;
+
+    @Value("${ai.batch.request-timeout-seconds:120}")
+    private long batchRequestTimeoutSeconds;
+
     public NewsAiAnalysisRequesterAdapter(
             List<NewsAiRequester> aiRequesters,
             AiModelSelectionService aiModelSelectionService) {
@@ -146,7 +164,7 @@ public class NewsAiAnalysisRequesterAdapter implements NewsAiAnalysisRequesterPo
             );
 
             var news = News.createWithoutAI(
-                    new NewsMeta(NewsProvider.ALL, LocalDateTime.now(), "fallback"),
+                    new NewsMeta(NewsProvider.ALL, LocalDateTime.now(), FALLBACK_SOURCE),
                     content
             ).updateAiAnalysis(
                     basicOverview,
@@ -163,7 +181,7 @@ public class NewsAiAnalysisRequesterAdapter implements NewsAiAnalysisRequesterPo
             log.error("Basic analysis generation failed", e);
             // 최후의 수단: 원본 내용만 반환
             var news = News.createWithoutAI(
-                    new NewsMeta(NewsProvider.ALL, LocalDateTime.now(), "fallback"),
+                    new NewsMeta(NewsProvider.ALL, LocalDateTime.now(), FALLBACK_SOURCE),
                     content
             );
             return List.of(news);
@@ -253,14 +271,68 @@ public class NewsAiAnalysisRequesterAdapter implements NewsAiAnalysisRequesterPo
         return CompletableFuture.supplyAsync(() -> analyseNewses(model, content));
     }
 
+    /**
+     * 기사들을 토큰 예산 단위의 다건 요청으로 묶어 최대 batchConcurrency 개까지 동시에 호출한다.
+     * 반환 목록은 입력 contents 와 같은 순서, 같은 길이를 유지한다.
+     */
     @Override
-    public List<News> analyseNewsesBatch(AiModel model, List<Content> contents) {
-        log.info("Starting batch AI analysis with model: {} for {} contents", model, contents.size());
+    public CompletableFuture<List<News>> analyseNewsesBatchAsync(AiModel model, List<Content> contents) {
+        if (contents == null || contents.isEmpty()) {
+            return CompletableFuture.completedFuture(List.of());
+        }
 
-        return contents.parallelStream()
-                .map(content -> analyseNewses(model, content))
-                .flatMap(List::stream)
-                .collect(Collectors.toList());
+        NewsAiRequester requester = selectRequester(model);
+        if (requester == null) {
+            log.error("No available AI requester for model: {}", model);
+            return Mono.fromCallable(() -> contents.stream()
+                            .map(content -> executeFallbackStrategy(content, "No requester available").getFirst())
+                            .toList())
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .toFuture();
+        }
+
+        List<List<Content>> batches = new AiChatRequestPacker(maxTokensPerRequest, maxItemsPerRequest).pack(contents);
+        log.info("Starting batch AI analysis with model: {} for {} contents in {} requests",
+                requester.supports(), contents.size(), batches.size());
+
+        return Flux.fromIterable(batches)
+                .flatMapSequential(batch -> analyseBatchAsync(requester, batch), Math.max(1, batchConcurrency))
+                .flatMapIterable(analyzed -> analyzed)
+                .collectList()
+                .toFuture();
+    }
+
+    private Mono<List<News>> analyseBatchAsync(NewsAiRequester requester, List<Content> batch) {
+        totalRequests.incrementAndGet();
+        AiModel model = requester.supports();
+
+        return requester.requestAsync(createAiChatRequest(batch))
+                .timeout(Duration.ofSeconds(batchRequestTimeoutSeconds))
+                .map(aiChatResponse -> {
+                    if (aiChatResponse == null || aiChatResponse.getAnalyses() == null
+                            || aiChatResponse.getAnalyses().size() != batch.size()) {
+                        throw new IllegalStateException("AI 응답 건수가 요청 건수와 다릅니다");
+                    }
+
+                    List<News> analyzed = new ArrayList<>(batch.size());
+                    for (int i = 0; i < batch.size(); i++) {
+                        analyzed.add(toNews(aiChatResponse.getAnalyses().get(i), batch.get(i)));
+                    }
+                    successfulRequests.incrementAndGet();
+                    aiModelSelectionService.recordModelUsage(model);
+                    return analyzed;
+                })
+                .onErrorResume(e -> {
+                    log.warn("Batch AI analysis failed with model: {} for {} contents: {}",
+                            model, batch.size(), e.getMessage());
+                    failedRequests.incrementAndGet();
+                    aiModelSelectionService.recordModelError(model);
+                    // 한 건의 오류로 묶음 전체를 버리지 않도록 기사별 경로로 다시 처리
+                    return Mono.fromCallable(() -> batch.stream()
+                                    .map(content -> analyseNewses(model, content).getFirst())
+                                    .toList())
+                            .subscribeOn(Schedulers.boundedElastic());
+                });
     }
 
     @Override
@@ -282,6 +354,14 @@ public class NewsAiAnalysisRequesterAdapter implements NewsAiAnalysisRequesterPo
         return aiModelSelectionService.selectModelByPriority();
     }
 
+    private AiChatRequest createAiChatRequest(List<Content> contents) {
+        return new AiChatRequest(
+                "다음 뉴스 기사 " + contents.size() + "건을 입력 순서대로 분석해주세요",
+                contents.stream()
+                        .map(content -> new AiChatRequest.NewsItemRequest(content.getTitle(), content.getContent()))
+                        .toList());
+    }
+
     private com.sleekydz86.finsight.core.news.domain.port.out.requester.dto.AiChatRequest createAiChatRequest(
             Content content) {
         return new com.sleekydz86.finsight.core.news.domain.port.out.requester.dto.AiChatRequest(
@@ -321,34 +401,28 @@ public class NewsAiAnalysisRequesterAdapter implements NewsAiAnalysisRequesterPo
             Content originalContent) {
 
         return aiChatResponse.getAnalyses().stream()
-                .map(analysis -> {
-                    var aiOverview = new com.sleekydz86.finsight.core.news.domain.vo.AiOverview(
-                            analysis.getOverView(),
-                            analysis.getSentimentType(),
-                            analysis.getSentimentRatio(),
-                            analysis.getCategories());
-
-                    var translatedContent = new com.sleekydz86.finsight.core.news.domain.vo.Content(
-                            analysis.getTranslatedTitle(),
-                            analysis.getTranslatedContent());
-
-                    var newsMeta = new com.sleekydz86.finsight.core.news.domain.vo.NewsMeta(
-                            com.sleekydz86.finsight.core.global.NewsProvider.ALL,
-                            java.time.LocalDateTime.now(),
-                            "AI Generated");
-
-                    return News.createWithoutAI(newsMeta, originalContent)
-                            .updateAiAnalysis(
-                                    analysis.getOverView(),
-                                    analysis.getTranslatedTitle(),
-                                    analysis.getTranslatedContent(),
-                                    analysis.getCategories(),
-                                    analysis.getSentimentType(),
-                                    analysis.getSentimentRatio());
-                })
+                .map(analysis -> toNews(analysis, originalContent))
                 .collect(Collectors.toList());
     }
 
+    private News toNews(
+            com.sleekydz86.finsight.core.news.domain.port.out.requester.dto.AiChatResponse.NewsAnalysis analysis,
+            Content originalContent) {
+        var newsMeta = new com.sleekydz86.finsight.core.news.domain.vo.NewsMeta(
+                com.sleekydz86.finsight.core.global.NewsProvider.ALL,
+                java.time.LocalDateTime.now(),
+                "AI Generated");
+
+        return News.createWithoutAI(newsMeta, originalContent)
+                .updateAiAnalysis(
+                        analysis.getOverView(),
+                        analysis.getTranslatedTitle(),
+                        analysis.getTranslatedContent(),
+                        analysis.getCategories(),
+                        analysis.getSentimentType(),
+                        analysis.getSentimentRatio());
+    }
+
     private List<News> retryWithFallbackModel(Content content) {
         try {
             log.info("Retrying AI analysis with fallback model");
@@ -0,0 +1,104 @@
+package com.sleekydz86.finsight.core.news.adapter.out;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sleekydz86.finsight.core.news.domain.event.NewsCacheInvalidationEvent;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsCacheInvalidationPort;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsSearchPort;
+import com.sleekydz86.finsight.core.news.service.NewsCacheInvalidator;
+import com.sleekydz86.finsight.core.news.service.NewsFeedIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 뉴스 캐시 무효화 이벤트를 Redis pub/sub 으로 발행해 batch, web 등 모든 JVM 이 각자의 로컬 캐시를 무효화하게 한다.
+ * Redis 를 쓸 수 없으면 현재 JVM 의 캐시만 바로 무효화한다. 같은 이벤트로 개인화 피드 인덱스와 검색 색인도 갱신한다.
+ */
+@Component
+public class NewsCacheInvalidationAdapter implements NewsCacheInvalidationPort, MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(NewsCacheInvalidationAdapter.class);
+
+    public static final String CHANNEL = "news:cache:invalidate";
+
+    private final NewsCacheInvalidator newsCacheInvalidator;
+    private final NewsFeedIndex newsFeedIndex;
+    private final NewsSearchPort newsSearchPort;
+    private final ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider;
+    private final ObjectMapper objectMapper;
+
+    public NewsCacheInvalidationAdapter(NewsCacheInvalidator newsCacheInvalidator,
+                                        NewsFeedIndex newsFeedIndex,
+                                        NewsSearchPort newsSearchPort,
+                                        ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider,
+                                        ObjectMapper objectMapper) {
+        this.newsCacheInvalidator = newsCacheInvalidator;
+        this.newsFeedIndex = newsFeedIndex;
+        this.newsSearchPort = newsSearchPort;
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(NewsCacheInvalidationEvent event) {
+        // 커밋 전에 무효화하면 다른 JVM 이 아직 커밋되지 않은 이전 데이터로 캐시를 다시 채울 수 있다
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(event);
+                }
+            });
+            return;
+        }
+        send(event);
+    }
+
+    private void send(NewsCacheInvalidationEvent event) {
+        RedisTemplate<String, Object> redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate != null) {
+            try {
+                redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+                return;
+            } catch (Exception e) {
+                log.warn("캐시 무효화 이벤트 발행 실패, 로컬 캐시만 무효화합니다: {}", e.getMessage());
+            }
+        }
+        apply(event);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        RedisTemplate<String, Object> redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate == null) {
+            return;
+        }
+
+        try {
+            Object payload = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (!(payload instanceof String json)) {
+                log.warn("알 수 없는 캐시 무효화 메시지: {}", payload);
+                return;
+            }
+            apply(objectMapper.readValue(json, NewsCacheInvalidationEvent.class));
+        } catch (Exception e) {
+            log.error("캐시 무효화 메시지 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void apply(NewsCacheInvalidationEvent event) {
+        newsCacheInvalidator.invalidate(event);
+        try {
+            newsFeedIndex.refresh(event.newsIds());
+        } catch (Exception e) {
+            log.warn("개인화 피드 인덱스 갱신 실패: {}", e.getMessage());
+        }
+        newsSearchPort.index(event.newsIds());
+    }
+}
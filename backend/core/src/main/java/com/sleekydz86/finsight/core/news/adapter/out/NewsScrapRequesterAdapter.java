@@ -1,39 +1,202 @@
 package com.sleekydz86.finsight.core.news.adapter.out;
 
+import com.sleekydz86.finsight.core.news.adapter.requester.scrap.properties.NewsScrapProperties;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsScrapPage;
 import com.sleekydz86.finsight.core.news.domain.port.out.NewsScrapRequesterPort;
 import com.sleekydz86.finsight.core.news.adapter.requester.NewsScrapRequester;
 import com.sleekydz86.finsight.core.global.NewsProvider;
 import com.sleekydz86.finsight.core.news.domain.News;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsScrapWatermarkPersistencePort;
+import com.sleekydz86.finsight.core.news.domain.vo.ScrapWatermark;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 공급자별 스크랩 요청을 논블로킹으로 동시에 보낸다.
+ * 공급자마다 타임아웃과 재시도를 따로 걸고, 느린 공급자를 기다리지 않고 먼저 끝난 결과부터 내보낸다.
+ * 고정된 조회 구간 대신 공급자별 워터마크 이후 기사만 페이지를 넘기며 따라잡는다.
+ */
 @Component
 public class NewsScrapRequesterAdapter implements NewsScrapRequesterPort {
 
-    private final Set<NewsScrapRequester> newsScrapRequesters;
+    private static final Logger log = LoggerFactory.getLogger(NewsScrapRequesterAdapter.class);
 
-    public NewsScrapRequesterAdapter(Set<NewsScrapRequester> newsScrapRequesters) {
-        this.newsScrapRequesters = newsScrapRequesters;
+    private static final String LATENCY_METRIC = "news.scrap.provider.latency";
+    private static final String ERROR_METRIC = "news.scrap.provider.errors";
+    private static final String BYTES_METRIC = "news.scrap.provider.bytes";
+    private static final String PAGES_METRIC = "news.scrap.provider.pages";
+
+    private final Map<NewsProvider, NewsScrapRequester> newsScrapRequesters;
+    private final NewsScrapWatermarkPersistencePort newsScrapWatermarkPersistencePort;
+    private final MeterRegistry meterRegistry;
+    private final NewsScrapProperties properties;
+    private final Duration timeout;
+    private final Duration retryBackoff;
+
+    public NewsScrapRequesterAdapter(Set<NewsScrapRequester> newsScrapRequesters,
+                                     NewsScrapWatermarkPersistencePort newsScrapWatermarkPersistencePort,
+                                     MeterRegistry meterRegistry,
+                                     NewsScrapProperties properties) {
+        this.newsScrapRequesters = new EnumMap<>(NewsProvider.class);
+        newsScrapRequesters.forEach(requester -> this.newsScrapRequesters.put(requester.supports(), requester));
+        this.newsScrapWatermarkPersistencePort = newsScrapWatermarkPersistencePort;
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.timeout = Duration.ofSeconds(properties.getTimeoutSeconds());
+        this.retryBackoff = Duration.ofMillis(properties.getRetryBackoffMillis());
     }
 
     @Override
     public List<News> scrap(NewsProvider newsProvider) {
-        return newsScrapRequesters.stream()
-                .filter(requester -> requester.supports() == newsProvider)
-                .findFirst()
-                .map(requester -> {
-                    try {
-                        return requester.scrap(LocalDateTime.now().minusHours(1), 10)
-                                .get(); // CompletableFuture를 동기적으로 처리
-                    } catch (Exception e) {
-                        throw new RuntimeException("뉴스 스크래핑 중 오류 발생", e);
-                    }
+        if (!newsScrapRequesters.containsKey(newsProvider)) {
+            return List.of();
+        }
+        return scrapNewPages(newsProvider)
+                .flatMapIterable(NewsScrapPage::newses)
+                .onErrorResume(error -> {
+                    log.error("{}에서 뉴스 스크래핑 실패: {}", newsProvider, error.getMessage());
+                    return Flux.empty();
                 })
-                .orElse(List.of());
+                .collectList()
+                .block();
+    }
+
+    @Override
+    public Set<NewsProvider> supportedProviders() {
+        return newsScrapRequesters.keySet();
+    }
+
+    @Override
+    public Flux<NewsScrapPage> scrapNewPages(NewsProvider newsProvider) {
+        NewsScrapRequester requester = newsScrapRequesters.get(newsProvider);
+        if (requester == null) {
+            return Flux.empty();
+        }
+
+        return Mono.fromCallable(() -> newsScrapWatermarkPersistencePort.findByProvider(newsProvider)
+                        .orElseGet(() -> ScrapWatermark.initial(newsProvider,
+                                LocalDateTime.now().minusHours(properties.getInitialLookbackHours()))))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(watermark -> scrapSince(requester, watermark));
+    }
+
+    @Override
+    public Flux<News> scrapAll() {
+        // prefetch 로 공급자당 미리 받아둘 기사 수를 제한해 하류가 느리면 상류도 멈추게 한다
+        return Flux.fromIterable(newsScrapRequesters.keySet())
+                .flatMap(provider -> scrapNewPages(provider)
+                                .flatMapIterable(NewsScrapPage::newses)
+                                .onErrorResume(error -> {
+                                    log.error("{}에서 뉴스 스크래핑 실패: {}", provider, error.getMessage());
+                                    return Flux.empty();
+                                }),
+                        Math.max(1, properties.getConcurrency()), Math.max(1, properties.getPrefetch()));
+    }
+
+    private Flux<NewsScrapPage> scrapSince(NewsScrapRequester requester, ScrapWatermark watermark) {
+        NewsProvider provider = requester.supports();
+        int pageSize = Math.max(1, properties.getPageSize());
+        int maxPages = Math.max(1, properties.getMaxPages());
+
+        return Flux.defer(() -> {
+            AtomicInteger articles = new AtomicInteger();
+            AtomicLong bytes = new AtomicLong();
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return fetchPage(requester, watermark, pageSize, 1)
+                    .expand(page -> page.hasMore() && page.page() < maxPages
+                            ? fetchPage(requester, watermark, pageSize, page.page() + 1)
+                            : Mono.empty())
+                    .map(page -> page.withNewses(page.newses().stream()
+                            .filter(news -> !watermark.covers(news))
+                            .toList()))
+                    .doOnNext(page -> {
+                        articles.addAndGet(page.newses().size());
+                        bytes.addAndGet(page.bytes());
+                        Counter.builder(BYTES_METRIC).tag("provider", provider.name())
+                                .register(meterRegistry).increment(page.bytes());
+                        Counter.builder(PAGES_METRIC).tag("provider", provider.name())
+                                .register(meterRegistry).increment();
+                        if (page.hasMore() && page.page() >= maxPages) {
+                            log.warn("{} 스크랩이 최대 페이지({})에 도달했습니다. 나머지는 다음 실행에서 이어 받습니다",
+                                    provider, maxPages);
+                        }
+                    })
+                    .doOnComplete(() -> {
+                        long elapsed = sample.stop(latencyTimer(provider, "success"));
+                        log.info("{}에서 {}건의 뉴스 스크래핑 완료 (since={}, {}bytes, {}ms, {})", provider,
+                                articles.get(), watermark.lastPublishedTime(), bytes.get(),
+                                TimeUnit.NANOSECONDS.toMillis(elapsed), percentiles(provider));
+                    })
+                    .doOnError(error -> {
+                        sample.stop(latencyTimer(provider, "error"));
+                        Counter.builder(ERROR_METRIC)
+                                .tag("provider", provider.name())
+                                .tag("error", error.getClass().getSimpleName())
+                                .register(meterRegistry)
+                                .increment();
+                    });
+        });
+    }
+
+    private Mono<NewsScrapPage> fetchPage(NewsScrapRequester requester, ScrapWatermark watermark,
+                                          int pageSize, int page) {
+        NewsProvider provider = requester.supports();
+        return Mono.defer(() -> requester.scrapPage(watermark.lastPublishedTime(), pageSize, page))
+                .timeout(timeout)
+                .retryWhen(Retry.backoff(Math.max(0, properties.getMaxRetries()), retryBackoff)
+                        .filter(NewsScrapRequesterAdapter::isRetryable)
+                        .doBeforeRetry(signal -> log.warn("{} 스크랩 {}페이지 재시도 {}회: {}", provider, page,
+                                signal.totalRetries() + 1, signal.failure().getMessage()))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    private Timer latencyTimer(NewsProvider provider, String outcome) {
+        return Timer.builder(LATENCY_METRIC)
+                .description("공급자별 뉴스 스크랩 지연 시간(재시도 포함)")
+                .tag("provider", provider.name())
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    private String percentiles(NewsProvider provider) {
+        StringBuilder builder = new StringBuilder();
+        for (ValueAtPercentile value : latencyTimer(provider, "success").takeSnapshot().percentileValues()) {
+            if (!builder.isEmpty()) {
+                builder.append(", ");
+            }
+            builder.append(String.format("p%.0f=%.0fms", value.percentile() * 100, value.value(TimeUnit.MILLISECONDS)));
+        }
+        return builder.toString();
+    }
+
+    private static boolean isRetryable(Throwable error) {
+        // 429 를 제외한 4xx 는 다시 보내도 결과가 같으므로 재시도하지 않는다
+        if (error instanceof WebClientResponseException responseException) {
+            return !responseException.getStatusCode().is4xxClientError()
+                    || responseException.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+        return true;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,111 @@
+package com.sleekydz86.finsight.core.news.adapter.out;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sleekydz86.finsight.core.news.domain.NewsSummary;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsPersistencePort;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsStreamPublishPort;
+import com.sleekydz86.finsight.core.news.service.NewsStreamHub;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 새 기사 id 를 Redis pub/sub 으로 발행해 구독자가 붙어 있는 모든 JVM 의 스트림 허브로 보낸다.
+ * 채널에는 id 만 싣고, 받은 JVM 중 구독자가 있는 곳만 목록 요약을 읽어 허브에 넘긴다.
+ * Redis 를 쓸 수 없으면 현재 JVM 의 허브로 바로 보낸다.
+ */
+@Component
+public class NewsStreamAdapter implements NewsStreamPublishPort, MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(NewsStreamAdapter.class);
+
+    public static final String CHANNEL = "news:stream";
+
+    private final NewsStreamHub newsStreamHub;
+    private final NewsPersistencePort newsPersistencePort;
+    private final ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider;
+    private final ObjectMapper objectMapper;
+
+    public NewsStreamAdapter(NewsStreamHub newsStreamHub,
+                             NewsPersistencePort newsPersistencePort,
+                             ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider,
+                             ObjectMapper objectMapper) {
+        this.newsStreamHub = newsStreamHub;
+        this.newsPersistencePort = newsPersistencePort;
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void publish(Collection<Long> newsIds) {
+        if (newsIds == null || newsIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(newsIds);
+        // 커밋 전에 보내면 받는 쪽이 아직 보이지 않는 기사를 읽으려 한다
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(ids);
+                }
+            });
+            return;
+        }
+        send(ids);
+    }
+
+    private void send(List<Long> newsIds) {
+        RedisTemplate<String, Object> redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate != null) {
+            try {
+                redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(newsIds));
+                return;
+            } catch (Exception e) {
+                log.warn("뉴스 스트림 이벤트 발행 실패, 현재 JVM 구독자에게만 보냅니다: {}", e.getMessage());
+            }
+        }
+        deliver(newsIds);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        RedisTemplate<String, Object> redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate == null) {
+            return;
+        }
+
+        try {
+            Object payload = redisTemplate.getValueSerializer().deserialize(message.getBody());
+            if (!(payload instanceof String json)) {
+                log.warn("알 수 없는 뉴스 스트림 메시지: {}", payload);
+                return;
+            }
+            deliver(Arrays.asList(objectMapper.readValue(json, Long[].class)));
+        } catch (Exception e) {
+            log.error("뉴스 스트림 메시지 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void deliver(List<Long> newsIds) {
+        if (!newsStreamHub.hasSubscribers()) {
+            return;
+        }
+        try {
+            List<NewsSummary> summaries = newsPersistencePort.findSummariesByIds(newsIds);
+            newsStreamHub.emit(summaries);
+        } catch (Exception e) {
+            log.warn("뉴스 스트림 전달 실패: {}", e.getMessage());
+        }
+    }
+}
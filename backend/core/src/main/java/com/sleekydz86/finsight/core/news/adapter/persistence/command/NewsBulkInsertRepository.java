@@ -0,0 +1,207 @@
+package com.sleekydz86.finsight.core.news.adapter.persistence.command;
+
+import com.sleekydz86.finsight.core.news.domain.News;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsIngestResult;
+import com.sleekydz86.finsight.core.news.domain.vo.AiOverview;
+import com.sleekydz86.finsight.core.news.domain.vo.Content;
+import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 스크랩한 기사를 JPA 를 거치지 않고 다중 행 INSERT 로 적재한다.
+ * source_url 유니크 제약으로 DB 가 중복을 걸러내며, MySQL(및 H2 MySQL 모드)은 ON DUPLICATE KEY UPDATE,
+ * 그 외에는 표준 MERGE 를 사용한다. 한 문장에 flushSize 건씩 묶어 보낸다.
+ * 새로 저장된 행은 드라이버의 영향 행 수에 기대지 않고, 적재 전에 없던 URL 을 적재 후 다시 조회해 id 와 함께 가려낸다.
+ */
+@Repository
+public class NewsBulkInsertRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(NewsBulkInsertRepository.class);
+
+    private static final String COLUMNS = "news_provider, news_published_time, source_url, scraped_time, "
+            + "original_title, original_content, ai_translated_title, ai_translated_content, ai_overview, "
+            + "ai_sentiment_type, ai_sentiment_score, view_count, category_mask, created_at, updated_at";
+    private static final int COLUMN_COUNT = 15;
+    private static final String ROW_PLACEHOLDER = "(" + String.join(", ", Collections.nCopies(COLUMN_COUNT, "?")) + ")";
+
+    private static final String INSERT_CATEGORY_SQL =
+            "INSERT INTO news_target_categories (news_id, category) VALUES (?, ?)";
+
+    private static final String SELECT_URLS_SQL = "SELECT source_url FROM news WHERE source_url IN ";
+    private static final String SELECT_IDS_SQL = "SELECT id, source_url FROM news WHERE source_url IN ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int flushSize;
+    private volatile Boolean mysqlSyntax;
+
+    public NewsBulkInsertRepository(JdbcTemplate jdbcTemplate,
+                                    @Value("${news.ingest.flush-size:500}") int flushSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushSize = Math.max(1, flushSize);
+    }
+
+    public NewsIngestResult insertIgnoringDuplicates(List<News> newses) {
+        if (newses == null || newses.isEmpty()) {
+            return NewsIngestResult.empty();
+        }
+
+        // 같은 문장 안의 중복 URL 은 MERGE 에서 제약 위반이 되므로 먼저 걸러낸다
+        Map<String, News> uniqueByUrl = new LinkedHashMap<>();
+        for (News news : newses) {
+            uniqueByUrl.putIfAbsent(news.getNewsMeta().getSourceUrl(), news);
+        }
+        List<News> unique = new ArrayList<>(uniqueByUrl.values());
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<News> inserted = new ArrayList<>();
+        for (int from = 0; from < unique.size(); from += flushSize) {
+            List<News> chunk = unique.subList(from, Math.min(from + flushSize, unique.size()));
+            Set<String> existing = new HashSet<>(queryByUrls(SELECT_URLS_SQL, urlsOf(chunk),
+                    (rs, rowNum) -> rs.getString("source_url")));
+            jdbcTemplate.update(insertSql(chunk.size()), toArguments(chunk, now));
+
+            List<News> fresh = chunk.stream()
+                    .filter(news -> !existing.contains(news.getNewsMeta().getSourceUrl()))
+                    .toList();
+            inserted.addAll(withStoredIds(fresh));
+        }
+        insertCategories(inserted);
+
+        NewsIngestResult result = new NewsIngestResult(newses.size(), inserted.size(),
+                newses.size() - inserted.size(), inserted);
+        log.info("뉴스 대량 적재 완료: 요청 {}건, 저장 {}건, 중복 {}건", result.requested(), result.inserted(),
+                result.duplicates());
+        return result;
+    }
+
+    private String insertSql(int rows) {
+        String values = String.join(", ", Collections.nCopies(rows, ROW_PLACEHOLDER));
+        if (usesMysqlSyntax()) {
+            // 중복 행은 값을 바꾸지 않는 UPDATE 가 되어 그대로 남는다
+            return "INSERT INTO news (" + COLUMNS + ") VALUES " + values
+                    + " ON DUPLICATE KEY UPDATE source_url = source_url";
+        }
+        return "MERGE INTO news t USING (VALUES " + values + ") AS s (" + COLUMNS + ") "
+                + "ON t.source_url = s.source_url "
+                + "WHEN NOT MATCHED THEN INSERT (" + COLUMNS + ") VALUES (" + prefixed("s.") + ")";
+    }
+
+    private Object[] toArguments(List<News> chunk, Timestamp now) {
+        Object[] args = new Object[chunk.size() * COLUMN_COUNT];
+        int i = 0;
+        for (News news : chunk) {
+            Content translated = news.getTranslatedContent();
+            AiOverview overview = news.getAiOverView();
+            args[i++] = news.getNewsMeta().getNewsProvider().name();
+            args[i++] = toTimestamp(news.getNewsMeta().getNewsPublishedTime());
+            args[i++] = news.getNewsMeta().getSourceUrl();
+            args[i++] = toTimestamp(news.getScrapedTime());
+            args[i++] = news.getOriginalContent().getTitle();
+            args[i++] = news.getOriginalContent().getContent();
+            args[i++] = translated != null ? translated.getTitle() : null;
+            args[i++] = translated != null ? translated.getContent() : null;
+            args[i++] = overview != null ? overview.getOverview() : null;
+            args[i++] = overview != null && overview.getSentimentType() != null
+                    ? overview.getSentimentType().name() : null;
+            args[i++] = overview != null ? overview.getSentimentScore() : null;
+            args[i++] = 0;
+            args[i++] = overview != null ? TargetCategory.maskOf(overview.getTargetCategories()) : 0L;
+            args[i++] = now;
+            args[i++] = now;
+        }
+        return args;
+    }
+
+    private List<News> withStoredIds(List<News> fresh) {
+        if (fresh.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Long> ids = new HashMap<>();
+        queryByUrls(SELECT_IDS_SQL, urlsOf(fresh), (rs, rowNum) -> {
+            ids.put(rs.getString("source_url"), rs.getLong("id"));
+            return null;
+        });
+
+        List<News> stored = new ArrayList<>(fresh.size());
+        for (News news : fresh) {
+            Long id = ids.get(news.getNewsMeta().getSourceUrl());
+            if (id != null) {
+                stored.add(new News(id, news.getNewsMeta(), news.getScrapedTime(), news.getOriginalContent(),
+                        news.getTranslatedContent(), news.getAiOverView()));
+            }
+        }
+        return stored;
+    }
+
+    private <T> List<T> queryByUrls(String sql, List<String> urls, RowMapper<T> rowMapper) {
+        String placeholders = String.join(", ", Collections.nCopies(urls.size(), "?"));
+        return jdbcTemplate.query(sql + "(" + placeholders + ")", rowMapper, urls.toArray());
+    }
+
+    private static List<String> urlsOf(List<News> newses) {
+        return newses.stream().map(news -> news.getNewsMeta().getSourceUrl()).toList();
+    }
+
+    private void insertCategories(List<News> inserted) {
+        List<Object[]> categoryArgs = new ArrayList<>();
+        for (News news : inserted) {
+            AiOverview overview = news.getAiOverView();
+            if (overview == null || overview.getTargetCategories() == null) {
+                continue;
+            }
+            for (TargetCategory category : overview.getTargetCategories()) {
+                categoryArgs.add(new Object[] {news.getId(), category.name()});
+            }
+        }
+        if (!categoryArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_CATEGORY_SQL, categoryArgs);
+        }
+    }
+
+    private boolean usesMysqlSyntax() {
+        Boolean cached = mysqlSyntax;
+        if (cached == null) {
+            cached = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+                String product = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+                String url = connection.getMetaData().getURL();
+                return product.contains("mysql") || product.contains("mariadb")
+                        || (url != null && url.toUpperCase(Locale.ROOT).contains("MODE=MYSQL"));
+            }));
+            mysqlSyntax = cached;
+        }
+        return cached;
+    }
+
+    private static String prefixed(String prefix) {
+        StringBuilder builder = new StringBuilder();
+        for (String column : COLUMNS.split(", ")) {
+            if (!builder.isEmpty()) {
+                builder.append(", ");
+            }
+            builder.append(prefix).append(column);
+        }
+        return builder.toString();
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime time) {
+        return time != null ? Timestamp.valueOf(time) : null;
+    }
+}
@@ -0,0 +1,110 @@
+package com.sleekydz86.finsight.core.news.adapter.persistence.command;
+
+import com.sleekydz86.finsight.core.news.domain.event.NewsCacheInvalidationEvent;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsCacheInvalidationPort;
+import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * category_mask 컬럼이 생기기 전에 저장된 기사의 마스크를 news_target_categories 에서 채운다.
+ * 마스크가 0 인데 카테고리 행이 있는 기사만 id 순으로 batchSize 건씩 고치며, 다 채워진 뒤에는 첫 조회만 하고 끝난다.
+ * 고친 기사는 캐시 무효화 이벤트로 알려 캐시와 검색/피드 색인이 복원된 카테고리를 다시 읽게 한다.
+ */
+@Component
+public class NewsCategoryMaskBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(NewsCategoryMaskBackfill.class);
+
+    private static final String SELECT_IDS_SQL =
+            "SELECT n.id FROM news n WHERE n.category_mask = 0 AND n.id > ? "
+            + "AND EXISTS (SELECT 1 FROM news_target_categories c WHERE c.news_id = n.id) "
+            + "ORDER BY n.id LIMIT ?";
+    private static final String UPDATE_MASK_SQL = "UPDATE news SET category_mask = ? WHERE id = ? AND category_mask = 0";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NewsCacheInvalidationPort newsCacheInvalidationPort;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public NewsCategoryMaskBackfill(JdbcTemplate jdbcTemplate,
+                                    NewsCacheInvalidationPort newsCacheInvalidationPort,
+                                    @Value("${news.category-mask.backfill-enabled:true}") boolean enabled,
+                                    @Value("${news.category-mask.backfill-batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.newsCacheInvalidationPort = newsCacheInvalidationPort;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long filled = backfill();
+            if (filled > 0) {
+                log.info("뉴스 카테고리 마스크 채우기 완료: {}건", filled);
+            }
+        } catch (Exception e) {
+            log.warn("뉴스 카테고리 마스크 채우기 실패, 다음 기동 때 이어서 진행합니다: {}", e.getMessage());
+        }
+    }
+
+    public long backfill() {
+        long filled = 0;
+        long lastId = 0L;
+        while (true) {
+            List<Long> newsIds = jdbcTemplate.queryForList(SELECT_IDS_SQL, Long.class, lastId, batchSize);
+            if (newsIds.isEmpty()) {
+                return filled;
+            }
+            lastId = newsIds.get(newsIds.size() - 1);
+
+            Map<Long, Long> masks = new LinkedHashMap<>();
+            Set<TargetCategory> categories = EnumSet.noneOf(TargetCategory.class);
+            String placeholders = String.join(", ", Collections.nCopies(newsIds.size(), "?"));
+            jdbcTemplate.query("SELECT news_id, category FROM news_target_categories WHERE news_id IN ("
+                    + placeholders + ")", rs -> {
+                TargetCategory category = toTargetCategory(rs.getString("category"));
+                if (category != null) {
+                    masks.merge(rs.getLong("news_id"), category.bit(), (previous, bit) -> previous | bit);
+                    categories.add(category);
+                }
+            }, newsIds.toArray());
+
+            List<Object[]> updateArgs = new ArrayList<>(masks.size());
+            masks.forEach((newsId, mask) -> updateArgs.add(new Object[] {mask, newsId}));
+            if (updateArgs.isEmpty()) {
+                // 알 수 없는 카테고리 값만 가진 기사는 마스크를 만들 수 없으므로 건너뛴다
+                continue;
+            }
+            jdbcTemplate.batchUpdate(UPDATE_MASK_SQL, updateArgs);
+            filled += updateArgs.size();
+
+            newsCacheInvalidationPort.publish(new NewsCacheInvalidationEvent(Set.of(), categories, masks.keySet()));
+        }
+    }
+
+    private static TargetCategory toTargetCategory(String category) {
+        try {
+            return TargetCategory.valueOf(category);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return null;
+        }
+    }
+}
@@ -4,12 +4,20 @@ import com.sleekydz86.finsight.core.global.NewsProvider;
 import com.sleekydz86.finsight.core.news.domain.vo.SentimentType;
 import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
 import jakarta.persistence.*;
+import org.hibernate.Hibernate;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "news")
+@Table(name = "news", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_news_source_url", columnNames = "source_url")
+}, indexes = {
+        @Index(name = "idx_news_published_time_id", columnList = "news_published_time, id"),
+        @Index(name = "idx_news_provider_published_time_id", columnList = "news_provider, news_published_time, id"),
+        @Index(name = "idx_news_sentiment_published_time_id", columnList = "ai_sentiment_type, news_published_time, id")
+})
 public class NewsJpaEntity {
 
     @Id
@@ -58,11 +66,20 @@ public class NewsJpaEntity {
     private int viewCount = 0;
 
     @ElementCollection(targetClass = TargetCategory.class)
-    @CollectionTable(name = "news_target_categories", joinColumns = @JoinColumn(name = "news_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT)))
+    @CollectionTable(name = "news_target_categories",
+            joinColumns = @JoinColumn(name = "news_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT)),
+            indexes = @Index(name = "idx_news_target_categories_category_news_id", columnList = "category, news_id"))
     @Enumerated(EnumType.STRING)
     @Column(name = "category", nullable = false)
     private List<TargetCategory> targetCategories = new ArrayList<>();
 
+    /**
+     * targetCategories 의 TargetCategory.bit() 합. 목록을 읽을 때 컬렉션 테이블을 건드리지 않고 카테고리를 복원하고,
+     * 카테고리 필터도 이 컬럼의 비트 연산으로 한다. 컬렉션과 항상 함께 바뀐다.
+     */
+    @Column(name = "category_mask", nullable = false, columnDefinition = "bigint default 0")
+    private long categoryMask = 0L;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
@@ -90,6 +107,16 @@ public class NewsJpaEntity {
         this.sentimentScore = sentimentScore;
         this.viewCount = viewCount;
         this.targetCategories = targetCategories != null ? targetCategories : new ArrayList<>();
+        this.categoryMask = TargetCategory.maskOf(this.targetCategories);
+    }
+
+    @PrePersist
+    @PreUpdate
+    void syncCategoryMask() {
+        // 컬렉션을 읽지 않은 엔티티는 마스크도 그대로다. 여기서 지연 로딩을 일으키지 않는다
+        if (Hibernate.isInitialized(targetCategories)) {
+            this.categoryMask = TargetCategory.maskOf(targetCategories);
+        }
     }
 
     public Long getId() {
@@ -202,6 +229,11 @@ public class NewsJpaEntity {
 
     public void setTargetCategories(List<TargetCategory> targetCategories) {
         this.targetCategories = targetCategories != null ? targetCategories : new ArrayList<>();
+        this.categoryMask = TargetCategory.maskOf(this.targetCategories);
+    }
+
+    public long getCategoryMask() {
+        return categoryMask;
     }
 
     public LocalDateTime getCreatedAt() {
@@ -1,11 +1,18 @@
 package com.sleekydz86.finsight.core.news.adapter.persistence.command;
 
+import com.querydsl.core.Tuple;
 import com.sleekydz86.finsight.core.news.domain.News;
+import com.sleekydz86.finsight.core.news.domain.NewsSummary;
 import com.sleekydz86.finsight.core.news.domain.vo.AiOverview;
 import com.sleekydz86.finsight.core.news.domain.vo.Content;
 import com.sleekydz86.finsight.core.news.domain.vo.NewsMeta;
+import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+
+import static com.sleekydz86.finsight.core.news.adapter.persistence.command.QNewsJpaEntity.newsJpaEntity;
+
 @Component
 public class NewsJpaMapper {
 
@@ -26,7 +33,8 @@ public class NewsJpaMapper {
                     newsJpaEntity.getOverview(),
                     newsJpaEntity.getSentimentType(),
                     newsJpaEntity.getSentimentScore(),
-                    newsJpaEntity.getTargetCategories()
+                    // 컬렉션 대신 같은 행의 마스크에서 복원해 기사마다 컬렉션 조회가 나가지 않게 한다
+                    new ArrayList<>(TargetCategory.fromMask(newsJpaEntity.getCategoryMask()))
             );
         }
 
@@ -49,6 +57,24 @@ public class NewsJpaMapper {
         );
     }
 
+    /**
+     * {@link NewsQueryDslRepository#SUMMARY_COLUMNS} 로 읽은 행을 목록 요약으로 바꾼다.
+     */
+    public NewsSummary toSummary(Tuple row) {
+        Long categoryMask = row.get(newsJpaEntity.categoryMask);
+        return new NewsSummary(
+                row.get(newsJpaEntity.id),
+                row.get(newsJpaEntity.newsProvider),
+                row.get(newsJpaEntity.newsPublishedTime),
+                row.get(newsJpaEntity.originalTitle),
+                row.get(newsJpaEntity.translatedTitle),
+                row.get(newsJpaEntity.sentimentType),
+                row.get(newsJpaEntity.sentimentScore),
+                new ArrayList<>(TargetCategory.fromMask(categoryMask != null ? categoryMask : 0L)),
+                row.get(newsJpaEntity.sourceUrl)
+        );
+    }
+
     public NewsJpaEntity toEntity(News news) {
         return new NewsJpaEntity(
                 news.getId() == 0L ? null : news.getId(),
@@ -0,0 +1,206 @@
+package com.sleekydz86.finsight.core.news.adapter.persistence.command;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sleekydz86.finsight.core.global.NewsProvider;
+import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsQueryRequest;
+import com.sleekydz86.finsight.core.news.domain.vo.NewsCursor;
+import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static com.sleekydz86.finsight.core.news.adapter.persistence.command.QNewsJpaEntity.newsJpaEntity;
+
+@Repository
+public class NewsQueryDslRepository {
+
+    /**
+     * 목록 요약에 필요한 컬럼. 본문, 번역 본문, AI 요약 같은 TEXT/LOB 컬럼은 넣지 않는다.
+     */
+    static final Expression<?>[] SUMMARY_COLUMNS = {
+            newsJpaEntity.id,
+            newsJpaEntity.newsProvider,
+            newsJpaEntity.newsPublishedTime,
+            newsJpaEntity.originalTitle,
+            newsJpaEntity.translatedTitle,
+            newsJpaEntity.sentimentType,
+            newsJpaEntity.sentimentScore,
+            newsJpaEntity.categoryMask,
+            newsJpaEntity.sourceUrl
+    };
+
+    private final JPAQueryFactory queryFactory;
+
+    public NewsQueryDslRepository(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    public long countByFilters(NewsQueryRequest request) {
+        Long count = queryFactory
+                .select(newsJpaEntity.count())
+                .from(newsJpaEntity)
+                .where(filtersOf(request))
+                .fetchOne();
+        return count != null ? count : 0L;
+    }
+
+    public List<Tuple> findSummariesByFilters(NewsQueryRequest request, long offset, int limit) {
+        return queryFactory
+                .select(SUMMARY_COLUMNS)
+                .from(newsJpaEntity)
+                .where(filtersOf(request))
+                .orderBy(latestFirst())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    public List<Tuple> findSummariesByFiltersAfter(NewsQueryRequest request, NewsCursor cursor, int limit) {
+        BooleanBuilder where = new BooleanBuilder(filtersOf(request));
+        if (cursor != null) {
+            where.and(after(cursor));
+        }
+
+        return queryFactory
+                .select(SUMMARY_COLUMNS)
+                .from(newsJpaEntity)
+                .where(where)
+                .orderBy(latestFirst())
+                .limit(limit)
+                .fetch();
+    }
+
+    public List<Tuple> findSummariesByIds(Collection<Long> newsIds) {
+        return queryFactory
+                .select(SUMMARY_COLUMNS)
+                .from(newsJpaEntity)
+                .where(newsJpaEntity.id.in(newsIds))
+                .fetch();
+    }
+
+    public List<Tuple> findLatestSummaries(int limit) {
+        return queryFactory
+                .select(SUMMARY_COLUMNS)
+                .from(newsJpaEntity)
+                .orderBy(latestFirst())
+                .limit(limit)
+                .fetch();
+    }
+
+    public List<Tuple> findPopularSummaries(int limit) {
+        return queryFactory
+                .select(SUMMARY_COLUMNS)
+                .from(newsJpaEntity)
+                .orderBy(newsJpaEntity.viewCount.desc(),
+                        newsJpaEntity.newsPublishedTime.desc(),
+                        newsJpaEntity.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    public List<Tuple> findSummariesByCategories(List<TargetCategory> categories, NewsProvider provider,
+                                                 Long excludeNewsId, int limit) {
+        BooleanBuilder where = new BooleanBuilder(categoriesIn(categories));
+        if (provider != null && provider != NewsProvider.ALL) {
+            where.and(newsJpaEntity.newsProvider.eq(provider));
+        }
+        if (excludeNewsId != null) {
+            where.and(newsJpaEntity.id.ne(excludeNewsId));
+        }
+
+        return queryFactory
+                .select(SUMMARY_COLUMNS)
+                .from(newsJpaEntity)
+                .where(where)
+                .orderBy(latestFirst())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 피드 인덱스용으로 (id, 발행 시각, 카테고리 마스크) 만 읽는다. 카테고리가 없는 기사는 제외한다.
+     */
+    public List<Tuple> findCategoryPostingsPublishedAfter(LocalDateTime since, int limit) {
+        return queryFactory
+                .select(newsJpaEntity.id, newsJpaEntity.newsPublishedTime, newsJpaEntity.categoryMask)
+                .from(newsJpaEntity)
+                .where(newsJpaEntity.newsPublishedTime.goe(since),
+                        newsJpaEntity.categoryMask.ne(0L))
+                .orderBy(latestFirst())
+                .limit(limit)
+                .fetch();
+    }
+
+    public List<Tuple> findCategoryPostingsByIds(Collection<Long> newsIds) {
+        return queryFactory
+                .select(newsJpaEntity.id, newsJpaEntity.newsPublishedTime, newsJpaEntity.categoryMask)
+                .from(newsJpaEntity)
+                .where(newsJpaEntity.id.in(newsIds),
+                        newsJpaEntity.categoryMask.ne(0L))
+                .fetch();
+    }
+
+    private Predicate filtersOf(NewsQueryRequest request) {
+        BooleanBuilder where = new BooleanBuilder();
+        if (request == null) {
+            return where;
+        }
+
+        if (request.getStartDate() != null) {
+            where.and(newsJpaEntity.newsPublishedTime.goe(request.getStartDate()));
+        }
+        if (request.getEndDate() != null) {
+            where.and(newsJpaEntity.newsPublishedTime.loe(request.getEndDate()));
+        }
+        if (request.getSentimentType() != null) {
+            where.and(newsJpaEntity.sentimentType.eq(request.getSentimentType()));
+        }
+        if (request.getKeyword() != null && !request.getKeyword().isBlank()) {
+            String keyword = request.getKeyword().trim();
+            where.and(newsJpaEntity.originalTitle.containsIgnoreCase(keyword)
+                    .or(newsJpaEntity.originalContent.containsIgnoreCase(keyword)));
+        }
+        if (request.getCategories() != null && !request.getCategories().isEmpty()) {
+            where.and(categoriesIn(request.getCategories()));
+        }
+        if (request.getProviders() != null && !request.getProviders().isEmpty()) {
+            where.and(providersIn(request.getProviders()));
+        }
+        return where;
+    }
+
+    private Predicate categoriesIn(List<TargetCategory> categories) {
+        // 컬렉션 테이블 서브쿼리 대신 같은 행의 마스크와 비트 AND. 발행 시각 인덱스를 따라가며 행마다 바로 판정한다
+        return Expressions.numberTemplate(Long.class, "function('bitand', {0}, cast({1} as Long))",
+                newsJpaEntity.categoryMask, Expressions.constant(TargetCategory.maskOf(categories))).ne(0L);
+    }
+
+    private Predicate providersIn(List<NewsProvider> providers) {
+        if (providers.contains(NewsProvider.ALL)) {
+            return new BooleanBuilder();
+        }
+        return newsJpaEntity.newsProvider.in(providers);
+    }
+
+    private Predicate after(NewsCursor cursor) {
+        // (news_published_time, id) < (:time, :id) 를 인덱스를 탈 수 있는 형태로 전개
+        return newsJpaEntity.newsPublishedTime.lt(cursor.getNewsPublishedTime())
+                .or(newsJpaEntity.newsPublishedTime.eq(cursor.getNewsPublishedTime())
+                        .and(newsJpaEntity.id.lt(cursor.getId())));
+    }
+
+    private OrderSpecifier<?>[] latestFirst() {
+        return new OrderSpecifier<?>[] {
+                newsJpaEntity.newsPublishedTime.desc(),
+                newsJpaEntity.id.desc()
+        };
+    }
+}
@@ -1,25 +1,46 @@
 package com.sleekydz86.finsight.core.news.adapter.persistence.command;
 
+import com.querydsl.core.Tuple;
+import com.sleekydz86.finsight.core.global.NewsProvider;
 import com.sleekydz86.finsight.core.news.domain.News;
+import com.sleekydz86.finsight.core.news.domain.NewsSummary;
 import com.sleekydz86.finsight.core.news.domain.Newses;
 import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsQueryRequest;
-import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsSearchRequest;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsFeedEntry;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsIngestResult;
 import com.sleekydz86.finsight.core.news.domain.port.out.NewsPersistencePort;
+import com.sleekydz86.finsight.core.news.domain.vo.NewsCursor;
 import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.sleekydz86.finsight.core.news.adapter.persistence.command.QNewsJpaEntity.newsJpaEntity;
 
 @Repository
 public class NewsRepositoryImpl implements NewsPersistencePort {
 
     private final NewsJpaMapper newsJpaMapper;
     private final NewsJpaRepository newsJpaRepository;
+    private final NewsQueryDslRepository newsQueryDslRepository;
+    private final NewsBulkInsertRepository newsBulkInsertRepository;
 
-    public NewsRepositoryImpl(NewsJpaMapper newsJpaMapper, NewsJpaRepository newsJpaRepository) {
+    public NewsRepositoryImpl(NewsJpaMapper newsJpaMapper, NewsJpaRepository newsJpaRepository,
+                              NewsQueryDslRepository newsQueryDslRepository,
+                              NewsBulkInsertRepository newsBulkInsertRepository) {
         this.newsJpaMapper = newsJpaMapper;
         this.newsJpaRepository = newsJpaRepository;
+        this.newsQueryDslRepository = newsQueryDslRepository;
+        this.newsBulkInsertRepository = newsBulkInsertRepository;
     }
 
     @Override
@@ -35,6 +56,11 @@ public class NewsRepositoryImpl implements NewsPersistencePort {
                 .toList());
     }
 
+    @Override
+    public NewsIngestResult bulkInsertNews(List<News> newses) {
+        return newsBulkInsertRepository.insertIgnoringDuplicates(newses);
+    }
+
     @Override
     public Newses findByOverviewIsNull() {
         List<NewsJpaEntity> entities = newsJpaRepository.findByOverviewIsNull();
@@ -44,12 +70,8 @@ public class NewsRepositoryImpl implements NewsPersistencePort {
     }
 
     @Override
-    public Newses findAllByFilters(NewsQueryRequest request) {
-        // Criteria API를 사용하여 동적 쿼리 예정
-        List<NewsJpaEntity> entities = newsJpaRepository.findAll();
-        return new Newses(entities.stream()
-                .map(newsJpaMapper::toDomain)
-                .toList());
+    public long countByFilters(NewsQueryRequest request) {
+        return newsQueryDslRepository.countByFilters(request);
     }
 
     @Override
@@ -59,46 +81,132 @@ public class NewsRepositoryImpl implements NewsPersistencePort {
     }
 
     @Override
-    public Newses searchByQuery(NewsSearchRequest request) {
-        List<NewsJpaEntity> entities = newsJpaRepository.findAll();
-        return new Newses(entities.stream()
-                .map(newsJpaMapper::toDomain)
-                .toList());
+    @Transactional(readOnly = true)
+    public Newses findAllByIds(List<Long> newsIds) {
+        if (newsIds == null || newsIds.isEmpty()) {
+            return new Newses();
+        }
+        Map<Long, NewsJpaEntity> entities = newsJpaRepository.findAllById(newsIds).stream()
+                .collect(Collectors.toMap(NewsJpaEntity::getId, Function.identity()));
+        // IN 조회는 순서를 보장하지 않으므로 요청한 id 순서(랭킹 순)대로 되돌린다
+        List<News> newses = new ArrayList<>(newsIds.size());
+        for (Long newsId : newsIds) {
+            NewsJpaEntity entity = entities.get(newsId);
+            if (entity != null) {
+                newses.add(newsJpaMapper.toDomain(entity));
+            }
+        }
+        return new Newses(newses);
     }
 
     @Override
-    public Newses findByCategory(String category, int limit) {
-        List<NewsJpaEntity> entities = newsJpaRepository.findAll();
-        return new Newses(entities.stream()
+    @Transactional(readOnly = true)
+    public Newses findAllByIdAfter(Long afterId, int limit) {
+        List<News> newses = newsJpaRepository.findByIdGreaterThanOrderByIdAsc(
+                        afterId != null ? afterId : 0L, PageRequest.of(0, limit)).stream()
                 .map(newsJpaMapper::toDomain)
-                .limit(limit)
-                .toList());
+                .toList();
+        return new Newses(newses);
     }
 
     @Override
-    public Newses findPopularNews(int limit) {
-        List<NewsJpaEntity> entities = newsJpaRepository.findAll();
-        return new Newses(entities.stream()
-                .map(newsJpaMapper::toDomain)
-                .limit(limit)
-                .toList());
+    public List<NewsSummary> findSummariesByFilters(NewsQueryRequest request, int page, int size) {
+        long offset = (long) Math.max(page, 0) * size;
+        return toSummaries(newsQueryDslRepository.findSummariesByFilters(request, offset, size));
     }
 
     @Override
-    public Newses findLatestNews(int limit) {
-        List<NewsJpaEntity> entities = newsJpaRepository.findAll();
-        return new Newses(entities.stream()
-                .map(newsJpaMapper::toDomain)
-                .limit(limit)
-                .toList());
+    public List<NewsSummary> findSummariesByFiltersAfter(NewsQueryRequest request, NewsCursor cursor, int size) {
+        return toSummaries(newsQueryDslRepository.findSummariesByFiltersAfter(request, cursor, size));
     }
 
     @Override
-    public Newses findRelatedNews(Long newsId, List<String> categories, int limit) {
-        List<NewsJpaEntity> entities = newsJpaRepository.findAll();
-        return new Newses(entities.stream()
-                .map(newsJpaMapper::toDomain)
-                .limit(limit)
-                .toList());
+    public List<NewsSummary> findSummariesByIds(List<Long> newsIds) {
+        if (newsIds == null || newsIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, NewsSummary> summaries = newsQueryDslRepository.findSummariesByIds(newsIds).stream()
+                .map(newsJpaMapper::toSummary)
+                .collect(Collectors.toMap(NewsSummary::getId, Function.identity()));
+        // IN 조회는 순서를 보장하지 않으므로 요청한 id 순서(랭킹 순)대로 되돌린다
+        List<NewsSummary> ordered = new ArrayList<>(newsIds.size());
+        for (Long newsId : newsIds) {
+            NewsSummary summary = summaries.get(newsId);
+            if (summary != null) {
+                ordered.add(summary);
+            }
+        }
+        return ordered;
+    }
+
+    @Override
+    public List<NewsSummary> findByCategory(String category, int limit) {
+        return toTargetCategory(category)
+                .map(targetCategory -> toSummaries(
+                        newsQueryDslRepository.findSummariesByCategories(List.of(targetCategory), null, null, limit)))
+                .orElseGet(List::of);
+    }
+
+    @Override
+    public List<NewsSummary> findPopularNews(int limit) {
+        return toSummaries(newsQueryDslRepository.findPopularSummaries(limit));
+    }
+
+    @Override
+    public List<NewsSummary> findLatestNews(int limit) {
+        return toSummaries(newsQueryDslRepository.findLatestSummaries(limit));
+    }
+
+    @Override
+    public List<NewsSummary> findRelatedNews(Long newsId, List<String> categories, NewsProvider provider, int limit) {
+        List<TargetCategory> targetCategories = categories == null ? List.of() : categories.stream()
+                .map(this::toTargetCategory)
+                .flatMap(Optional::stream)
+                .toList();
+
+        if (targetCategories.isEmpty()) {
+            return List.of();
+        }
+        return toSummaries(newsQueryDslRepository.findSummariesByCategories(targetCategories, provider, newsId, limit));
+    }
+
+    @Override
+    public List<NewsFeedEntry> findFeedEntriesPublishedAfter(LocalDateTime since, int limit) {
+        return toFeedEntries(newsQueryDslRepository.findCategoryPostingsPublishedAfter(since, limit));
+    }
+
+    @Override
+    public List<NewsFeedEntry> findFeedEntriesByIds(Collection<Long> newsIds) {
+        if (newsIds == null || newsIds.isEmpty()) {
+            return List.of();
+        }
+        return toFeedEntries(newsQueryDslRepository.findCategoryPostingsByIds(newsIds));
+    }
+
+    private List<NewsFeedEntry> toFeedEntries(List<Tuple> rows) {
+        List<NewsFeedEntry> entries = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            Long categoryMask = row.get(newsJpaEntity.categoryMask);
+            entries.add(new NewsFeedEntry(row.get(newsJpaEntity.id), row.get(newsJpaEntity.newsPublishedTime),
+                    categoryMask != null ? categoryMask : 0L));
+        }
+        return entries;
+    }
+
+    private Optional<TargetCategory> toTargetCategory(String category) {
+        if (category == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(TargetCategory.valueOf(category.trim().toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private List<NewsSummary> toSummaries(List<Tuple> rows) {
+        return rows.stream()
+                .map(newsJpaMapper::toSummary)
+                .toList();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,43 @@
+package com.sleekydz86.finsight.core.news.adapter.persistence.command;
+
+import com.sleekydz86.finsight.core.global.BaseEntity;
+import com.sleekydz86.finsight.core.global.NewsProvider;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "news_scrap_watermark")
+public class NewsScrapWatermarkJpaEntity extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "news_provider", nullable = false, unique = true)
+    private NewsProvider newsProvider;
+
+    @Column(name = "last_published_time", nullable = false)
+    private LocalDateTime lastPublishedTime;
+
+    @Column(name = "last_source_url", length = 500)
+    private String lastSourceUrl;
+
+    public NewsScrapWatermarkJpaEntity() {}
+
+    public NewsScrapWatermarkJpaEntity(NewsProvider newsProvider, LocalDateTime lastPublishedTime,
+                                       String lastSourceUrl) {
+        this.newsProvider = newsProvider;
+        this.lastPublishedTime = lastPublishedTime;
+        this.lastSourceUrl = lastSourceUrl;
+    }
+
+    public NewsProvider getNewsProvider() { return newsProvider; }
+
+    public LocalDateTime getLastPublishedTime() { return lastPublishedTime; }
+
+    public String getLastSourceUrl() { return lastSourceUrl; }
+
+    public void moveTo(LocalDateTime lastPublishedTime, String lastSourceUrl) {
+        this.lastPublishedTime = lastPublishedTime;
+        this.lastSourceUrl = lastSourceUrl;
+        this.setUpdatedAt(LocalDateTime.now());
+    }
+}
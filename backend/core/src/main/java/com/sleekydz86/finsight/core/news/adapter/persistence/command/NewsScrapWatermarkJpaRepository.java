@@ -0,0 +1,21 @@
+package com.sleekydz86.finsight.core.news.adapter.persistence.command;
+
+import com.sleekydz86.finsight.core.global.NewsProvider;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface NewsScrapWatermarkJpaRepository extends JpaRepository<NewsScrapWatermarkJpaEntity, Long> {
+
+    Optional<NewsScrapWatermarkJpaEntity> findByNewsProvider(NewsProvider newsProvider);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM NewsScrapWatermarkJpaEntity w WHERE w.newsProvider = :newsProvider")
+    Optional<NewsScrapWatermarkJpaEntity> findForUpdate(@Param("newsProvider") NewsProvider newsProvider);
+}
@@ -0,0 +1,62 @@
+package com.sleekydz86.finsight.core.news.adapter.persistence.command;
+
+import com.sleekydz86.finsight.core.global.NewsProvider;
+import com.sleekydz86.finsight.core.news.domain.News;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsScrapWatermarkPersistencePort;
+import com.sleekydz86.finsight.core.news.domain.vo.ScrapWatermark;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+public class NewsScrapWatermarkRepositoryImpl implements NewsScrapWatermarkPersistencePort {
+
+    private static final Logger log = LoggerFactory.getLogger(NewsScrapWatermarkRepositoryImpl.class);
+
+    private final NewsScrapWatermarkJpaRepository newsScrapWatermarkJpaRepository;
+
+    public NewsScrapWatermarkRepositoryImpl(NewsScrapWatermarkJpaRepository newsScrapWatermarkJpaRepository) {
+        this.newsScrapWatermarkJpaRepository = newsScrapWatermarkJpaRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ScrapWatermark> findByProvider(NewsProvider provider) {
+        return newsScrapWatermarkJpaRepository.findByNewsProvider(provider)
+                .map(entity -> new ScrapWatermark(
+                        entity.getNewsProvider(), entity.getLastPublishedTime(), entity.getLastSourceUrl()));
+    }
+
+    @Override
+    @Transactional
+    public void advance(Collection<News> persistedNewses) {
+        if (persistedNewses == null || persistedNewses.isEmpty()) {
+            return;
+        }
+
+        for (Map.Entry<NewsProvider, ScrapWatermark> entry : ScrapWatermark.latestOf(persistedNewses).entrySet()) {
+            ScrapWatermark next = entry.getValue();
+            // web 과 batch 가 동시에 스크랩해도 워터마크가 뒤로 가지 않도록 행을 잠그고 비교한다
+            Optional<NewsScrapWatermarkJpaEntity> current = newsScrapWatermarkJpaRepository.findForUpdate(entry.getKey());
+            if (current.isEmpty()) {
+                newsScrapWatermarkJpaRepository.save(new NewsScrapWatermarkJpaEntity(
+                        entry.getKey(), next.lastPublishedTime(), next.lastSourceUrl()));
+            } else {
+                NewsScrapWatermarkJpaEntity entity = current.get();
+                ScrapWatermark stored = new ScrapWatermark(
+                        entity.getNewsProvider(), entity.getLastPublishedTime(), entity.getLastSourceUrl());
+                if (!stored.isBehind(next)) {
+                    continue;
+                }
+                entity.moveTo(next.lastPublishedTime(), next.lastSourceUrl());
+            }
+            log.debug("스크랩 워터마크 갱신: provider={}, publishedTime={}, url={}",
+                    entry.getKey(), next.lastPublishedTime(), next.lastSourceUrl());
+        }
+    }
+}
@@ -13,10 +13,6 @@ public interface NewsStatisticsJpaRepository extends JpaRepository<NewsStatistic
 
     Optional<NewsStatisticsJpaEntity> findByNewsId(Long newsId);
 
-    @Modifying
-    @Query("UPDATE NewsStatisticsJpaEntity ns SET ns.viewCount = ns.viewCount + 1 WHERE ns.newsId = :newsId")
-    void incrementViewCount(@Param("newsId") Long newsId);
-
     @Modifying
     @Query("UPDATE NewsStatisticsJpaEntity ns SET ns.likeCount = ns.likeCount + 1 WHERE ns.newsId = :newsId")
     void incrementLikeCount(@Param("newsId") Long newsId);
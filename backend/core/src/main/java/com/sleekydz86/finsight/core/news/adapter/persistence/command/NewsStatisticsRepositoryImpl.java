@@ -31,12 +31,6 @@ public class NewsStatisticsRepositoryImpl implements NewsStatisticsPersistencePo
                 .map(newsStatisticsJpaMapper::toDomain);
     }
 
-    @Override
-    public NewsStatistics incrementViewCount(Long newsId) {
-        newsStatisticsJpaRepository.incrementViewCount(newsId);
-        return findByNewsId(newsId).orElse(null);
-    }
-
     @Override
     public NewsStatistics incrementLikeCount(Long newsId) {
         newsStatisticsJpaRepository.incrementLikeCount(newsId);
@@ -2,6 +2,8 @@ package com.sleekydz86.finsight.core.news.adapter.requester;
 
 import com.sleekydz86.finsight.core.global.NewsProvider;
 import com.sleekydz86.finsight.core.news.domain.News;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsScrapPage;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -12,4 +14,24 @@ public interface NewsScrapRequester {
     NewsProvider supports();
 
     CompletableFuture<List<News>> scrap(LocalDateTime publishTimeAfter, int limit);
-}
\ No newline at end of file
+
+    /**
+     * 실패를 빈 목록으로 삼키지 않고 에러 신호로 내보내는 논블로킹 스크랩.
+     * 타임아웃/재시도는 호출하는 쪽에서 공급자별로 건다.
+     */
+    default Mono<List<News>> scrapAsync(LocalDateTime publishTimeAfter, int limit) {
+        return Mono.fromFuture(() -> scrap(publishTimeAfter, limit));
+    }
+
+    /**
+     * publishTimeAfter 이후 기사를 발행 시각 오름차순으로 page(1부터) 번째 페이지만 가져온다.
+     * 페이지를 지원하지 않는 공급자는 첫 페이지만 돌려준다.
+     */
+    default Mono<NewsScrapPage> scrapPage(LocalDateTime publishTimeAfter, int limit, int page) {
+        if (page > 1) {
+            return Mono.just(new NewsScrapPage(supports(), page, List.of(), 0, false));
+        }
+        return scrapAsync(publishTimeAfter, limit)
+                .map(newses -> new NewsScrapPage(supports(), page, newses, 0, false));
+    }
+}
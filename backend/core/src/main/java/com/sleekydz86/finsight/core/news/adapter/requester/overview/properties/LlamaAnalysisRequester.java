@@ -59,6 +59,7 @@ public class LlamaAnalysisRequester implements NewsAiRequester {
         }
     }
 
+    @Override
     public Mono<AiChatResponse> requestAsync(AiChatRequest aiChatRequest) {
         try {
             String prompt = getPrompt(aiChatRequest);
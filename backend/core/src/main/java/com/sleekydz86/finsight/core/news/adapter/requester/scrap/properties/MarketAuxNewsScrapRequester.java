@@ -1,15 +1,21 @@
 package com.sleekydz86.finsight.core.news.adapter.requester.scrap.properties;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sleekydz86.finsight.core.global.NewsProvider;
 import com.sleekydz86.finsight.core.news.adapter.requester.NewsScrapRequester;
 import com.sleekydz86.finsight.core.news.domain.News;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsScrapPage;
 import com.sleekydz86.finsight.core.news.domain.vo.Content;
 import com.sleekydz86.finsight.core.news.domain.vo.NewsMeta;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
@@ -23,10 +29,13 @@ public class MarketAuxNewsScrapRequester implements NewsScrapRequester {
 
     private final WebClient webClient;
     private final MarketAuxProperties marketAuxProperties;
+    private final ObjectMapper objectMapper;
 
-    public MarketAuxNewsScrapRequester(WebClient webClient, MarketAuxProperties marketAuxProperties) {
+    public MarketAuxNewsScrapRequester(WebClient webClient, MarketAuxProperties marketAuxProperties,
+                                       ObjectMapper objectMapper) {
         this.webClient = webClient;
         this.marketAuxProperties = marketAuxProperties;
+        this.objectMapper = objectMapper;
     }
 
     @Override
@@ -36,19 +45,47 @@ public class MarketAuxNewsScrapRequester implements NewsScrapRequester {
 
     @Override
     public CompletableFuture<List<News>> scrap(LocalDateTime publishTimeAfter, int limit) {
+        return scrapAsync(publishTimeAfter, limit)
+                .doOnError(error -> log.error("Failed to fetch news from MarketAux: {}", error.getMessage()))
+                .onErrorReturn(List.of())
+                .toFuture();
+    }
+
+    @Override
+    public Mono<List<News>> scrapAsync(LocalDateTime publishTimeAfter, int limit) {
+        return scrapPage(publishTimeAfter, limit, 1).map(NewsScrapPage::newses);
+    }
+
+    @Override
+    public Mono<NewsScrapPage> scrapPage(LocalDateTime publishTimeAfter, int limit, int page) {
+        // 오름차순으로 받아야 중간에 끊겨도 워터마크 이후부터 이어서 받을 수 있다
         return webClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path(marketAuxProperties.getBaseUrl())
                         .queryParam("api_token", marketAuxProperties.getApiKey())
                         .queryParam("limit", limit)
+                        .queryParam("page", page)
+                        .queryParam("sort", "published_asc")
                         .queryParam("published_after", publishTimeAfter.toInstant(ZoneOffset.UTC))
                         .build())
                 .retrieve()
-                .bodyToMono(MarketAuxResponse.class)
-                .map(this::convertToNews)
-                .doOnError(error -> log.error("Failed to fetch news from MarketAux: {}", error.getMessage()))
-                .onErrorReturn(List.of())
-                .toFuture();
+                .bodyToMono(byte[].class)
+                .map(body -> toPage(body, page));
+    }
+
+    private NewsScrapPage toPage(byte[] body, int page) {
+        MarketAuxResponse response;
+        try {
+            response = objectMapper.readValue(body, MarketAuxResponse.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("MarketAux 응답을 해석할 수 없습니다", e);
+        }
+
+        List<News> newses = convertToNews(response);
+        boolean hasMore = response != null && response.meta != null
+                && response.meta.returned > 0
+                && (long) response.meta.page * response.meta.limit < response.meta.found;
+        return new NewsScrapPage(NewsProvider.MARKETAUX, page, newses, body.length, hasMore);
     }
 
     private List<News> convertToNews(MarketAuxResponse response) {
@@ -87,6 +124,7 @@ public class MarketAuxNewsScrapRequester implements NewsScrapRequester {
         }
     }
 
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class MarketAuxResponse {
         @JsonProperty("data")
         public List<MarketAuxNewsItem> data;
@@ -95,6 +133,7 @@ public class MarketAuxNewsScrapRequester implements NewsScrapRequester {
         public MarketAuxMeta meta;
     }
 
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class MarketAuxNewsItem {
         @JsonProperty("title")
         public String title;
@@ -115,6 +154,7 @@ public class MarketAuxNewsScrapRequester implements NewsScrapRequester {
         public String sentiment;
     }
 
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class MarketAuxMeta {
         @JsonProperty("found")
         public int found;
@@ -0,0 +1,80 @@
+package com.sleekydz86.finsight.core.news.adapter.requester.scrap.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "news.scrap")
+public class NewsScrapProperties {
+
+    private long timeoutSeconds = 10;
+    private int maxRetries = 2;
+    private long retryBackoffMillis = 500;
+    private int concurrency = 8;
+    private int prefetch = 256;
+    private int pageSize = 100;
+    private int maxPages = 20;
+    private int initialLookbackHours = 24;
+
+    public long getTimeoutSeconds() {
+        return timeoutSeconds;
+    }
+
+    public void setTimeoutSeconds(long timeoutSeconds) {
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    public long getRetryBackoffMillis() {
+        return retryBackoffMillis;
+    }
+
+    public void setRetryBackoffMillis(long retryBackoffMillis) {
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    public void setPrefetch(int prefetch) {
+        this.prefetch = prefetch;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public int getMaxPages() {
+        return maxPages;
+    }
+
+    public void setMaxPages(int maxPages) {
+        this.maxPages = maxPages;
+    }
+
+    public int getInitialLookbackHours() {
+        return initialLookbackHours;
+    }
+
+    public void setInitialLookbackHours(int initialLookbackHours) {
+        this.initialLookbackHours = initialLookbackHours;
+    }
+}
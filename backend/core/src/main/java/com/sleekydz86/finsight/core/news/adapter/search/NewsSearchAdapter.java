@@ -0,0 +1,311 @@
+package com.sleekydz86.finsight.core.news.adapter.search;
+
+import com.sleekydz86.finsight.core.global.NewsProvider;
+import com.sleekydz86.finsight.core.global.exception.SystemException;
+import com.sleekydz86.finsight.core.global.search.SearchCursor;
+import com.sleekydz86.finsight.core.global.search.SearchIndex;
+import com.sleekydz86.finsight.core.global.search.SearchIndexFactory;
+import com.sleekydz86.finsight.core.global.search.SearchPage;
+import com.sleekydz86.finsight.core.news.domain.News;
+import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsSearchRequest;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsPersistencePort;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsSearchPort;
+import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.util.BytesRef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 뉴스 전문 검색 색인. 원문/번역 제목과 본문, AI 요약을 한글/영문 분석기로 색인하고
+ * 제공자, 카테고리, 감성, 발행 시각을 필터로 둔다.
+ *
+ * 저장/분석 이벤트로 바뀐 기사는 바로 다시 색인하고, 이벤트 없이 대량 적재된 기사는 catchUpInterval 마다
+ * 마지막으로 색인한 id 이후를 읽어 따라잡는다. 색인이 비어 있으면 시작할 때 DB 에서 다시 만든다.
+ */
+@Component
+public class NewsSearchAdapter implements NewsSearchPort {
+
+    private static final Logger log = LoggerFactory.getLogger(NewsSearchAdapter.class);
+
+    private static final String INDEX_NAME = "news";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final String PROVIDER = "provider";
+    private static final String CATEGORY = "category";
+    private static final String SENTIMENT = "sentiment";
+
+    private static final Map<String, Float> FIELD_BOOSTS = new LinkedHashMap<>();
+
+    static {
+        FIELD_BOOSTS.put(TITLE, 2.0f);
+        FIELD_BOOSTS.put(CONTENT, 1.0f);
+    }
+
+    private final NewsPersistencePort newsPersistencePort;
+    private final SearchIndex index;
+    private final int loadBatchSize;
+    private final Duration catchUpInterval;
+
+    // 색인 스레드에서만 읽고 쓴다
+    private long catchUpWatermark;
+
+    public NewsSearchAdapter(NewsPersistencePort newsPersistencePort,
+                             SearchIndexFactory searchIndexFactory,
+                             @Value("${search.index.load-batch-size:500}") int loadBatchSize,
+                             @Value("${search.index.news.catch-up-interval-seconds:30}") long catchUpIntervalSeconds) {
+        this.newsPersistencePort = newsPersistencePort;
+        this.index = searchIndexFactory.open(INDEX_NAME).orElse(null);
+        this.loadBatchSize = Math.max(1, loadBatchSize);
+        this.catchUpInterval = Duration.ofSeconds(Math.max(1, catchUpIntervalSeconds));
+    }
+
+    @PostConstruct
+    public void start() {
+        if (index == null) {
+            return;
+        }
+        if (index.isReady()) {
+            index.submit(() -> catchUpWatermark = index.maxId());
+        } else {
+            rebuild();
+        }
+        index.scheduleWithFixedDelay(this::catchUp, catchUpInterval);
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        if (index != null) {
+            index.close();
+        }
+    }
+
+    @Override
+    public String indexName() {
+        return INDEX_NAME;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return index != null && index.isReady();
+    }
+
+    @Override
+    public boolean supports(NewsSearchRequest request) {
+        return request.getKeyword() != null && !request.getKeyword().isBlank() && isAvailable();
+    }
+
+    @Override
+    public SearchPage search(NewsSearchRequest request, int page, int size) {
+        Query query = queryOf(request);
+        if (query == null) {
+            return new SearchPage(List.of(), 0, null);
+        }
+        try {
+            return index.search(query, Math.multiplyExact(page, size), size);
+        } catch (IOException | ArithmeticException e) {
+            throw new SystemException("뉴스 검색 중 오류가 발생했습니다", "NEWS_SEARCH_ERROR", e);
+        }
+    }
+
+    @Override
+    public SearchPage searchAfter(NewsSearchRequest request, String cursor, int size) {
+        Query query = queryOf(request);
+        if (query == null) {
+            return new SearchPage(List.of(), 0, null);
+        }
+        SearchCursor after = cursor == null || cursor.isBlank() ? null : SearchCursor.decode(cursor);
+        try {
+            return index.searchAfter(query, after, size);
+        } catch (IOException e) {
+            throw new SystemException("뉴스 검색 중 오류가 발생했습니다", "NEWS_SEARCH_ERROR", e);
+        }
+    }
+
+    @Override
+    public void index(Collection<Long> newsIds) {
+        if (index == null || newsIds == null || newsIds.isEmpty()) {
+            return;
+        }
+        long changedAtMillis = System.currentTimeMillis();
+        List<Long> ids = List.copyOf(newsIds);
+        index.submit(() -> {
+            Set<Long> missing = new HashSet<>(ids);
+            for (News news : newsPersistencePort.findAllByIds(ids).getNewses()) {
+                missing.remove(news.getId());
+                upsert(news, changedAtMillis);
+            }
+            for (Long newsId : missing) {
+                index.delete(newsId, changedAtMillis);
+            }
+            return ids.size();
+        }).exceptionally(e -> {
+            log.warn("뉴스 검색 색인 갱신 실패: {}건, {}", ids.size(), e.getMessage());
+            return 0;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Long> rebuild() {
+        if (index == null) {
+            return CompletableFuture.failedFuture(
+                    new SystemException("뉴스 검색 색인이 비활성화되어 있습니다", "SEARCH_INDEX_DISABLED"));
+        }
+        return index.rebuild(target -> {
+            catchUpWatermark = 0L;
+            return loadAfterWatermark(false);
+        });
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        if (index == null) {
+            return Map.of("enabled", false);
+        }
+        Map<String, Object> stats = new HashMap<>(index.getStatistics());
+        stats.put("enabled", true);
+        return stats;
+    }
+
+    private void catchUp() {
+        if (!index.isReady()) {
+            return;
+        }
+        try {
+            long indexed = loadAfterWatermark(true);
+            if (indexed > 0) {
+                log.debug("뉴스 검색 색인 따라잡기: {}건", indexed);
+            }
+        } catch (IOException e) {
+            log.warn("뉴스 검색 색인 따라잡기 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 마지막으로 색인한 id 이후의 기사를 loadBatchSize 씩 읽어 색인한다.
+     *
+     * @param sinceScraped true 이면 수집 시각을 변경 시각으로 보고 DB 적재 후 검색에 보이기까지를 지연으로 잰다
+     */
+    private long loadAfterWatermark(boolean sinceScraped) throws IOException {
+        long indexed = 0;
+        while (true) {
+            List<News> batch = newsPersistencePort.findAllByIdAfter(catchUpWatermark, loadBatchSize).getNewses();
+            long now = System.currentTimeMillis();
+            for (News news : batch) {
+                upsert(news, sinceScraped && news.getScrapedTime() != null ? toMillis(news.getScrapedTime()) : now);
+                catchUpWatermark = Math.max(catchUpWatermark, news.getId());
+            }
+            indexed += batch.size();
+            if (batch.size() < loadBatchSize) {
+                return indexed;
+            }
+        }
+    }
+
+    private void upsert(News news, long changedAtMillis) throws IOException {
+        if (news.getId() == null) {
+            return;
+        }
+        Document document = new Document();
+        if (news.getOriginalContent() != null) {
+            addText(document, TITLE, news.getOriginalContent().getTitle());
+            addText(document, CONTENT, news.getOriginalContent().getContent());
+        }
+        if (news.getTranslatedContent() != null) {
+            addText(document, TITLE, news.getTranslatedContent().getTitle());
+            addText(document, CONTENT, news.getTranslatedContent().getContent());
+        }
+        if (news.getNewsProvider() != null) {
+            document.add(new StringField(PROVIDER, news.getNewsProvider().name(), Field.Store.NO));
+        }
+        if (news.getAiOverView() != null) {
+            addText(document, CONTENT, news.getAiOverView().getOverview());
+            if (news.getAiOverView().getSentimentType() != null) {
+                document.add(new StringField(SENTIMENT, news.getAiOverView().getSentimentType().name(), Field.Store.NO));
+            }
+            if (news.getAiOverView().getTargetCategories() != null) {
+                for (TargetCategory category : news.getAiOverView().getTargetCategories()) {
+                    document.add(new StringField(CATEGORY, category.name(), Field.Store.NO));
+                }
+            }
+        }
+        LocalDateTime publishedTime = news.getNewsMeta() != null && news.getNewsMeta().getNewsPublishedTime() != null
+                ? news.getNewsMeta().getNewsPublishedTime()
+                : news.getScrapedTime();
+        index.upsert(news.getId(), publishedTime != null ? toMillis(publishedTime) : 0L, document, changedAtMillis);
+    }
+
+    private Query queryOf(NewsSearchRequest request) {
+        Query keyword = index.keywordQuery(request.getKeyword().trim(), FIELD_BOOSTS);
+        if (keyword == null) {
+            return null;
+        }
+        BooleanQuery.Builder query = new BooleanQuery.Builder().add(keyword, BooleanClause.Occur.MUST);
+        if (request.getProviders() != null && !request.getProviders().isEmpty()
+                && !request.getProviders().contains(NewsProvider.ALL)) {
+            query.add(anyOf(PROVIDER, request.getProviders().stream().map(Enum::name).toList()),
+                    BooleanClause.Occur.FILTER);
+        }
+        if (request.getCategories() != null && !request.getCategories().isEmpty()) {
+            query.add(anyOf(CATEGORY, request.getCategories().stream().map(Enum::name).toList()),
+                    BooleanClause.Occur.FILTER);
+        }
+        if (request.getSentimentType() != null) {
+            query.add(new TermQuery(new Term(SENTIMENT, request.getSentimentType().name())),
+                    BooleanClause.Occur.FILTER);
+        }
+        if (request.getStartDate() != null || request.getEndDate() != null) {
+            query.add(LongPoint.newRangeQuery(SearchIndex.TIME,
+                    request.getStartDate() != null ? toMillis(request.getStartDate()) : Long.MIN_VALUE,
+                    request.getEndDate() != null ? toMillis(request.getEndDate()) : Long.MAX_VALUE),
+                    BooleanClause.Occur.FILTER);
+        }
+        return query.build();
+    }
+
+    private static Query anyOf(String field, List<String> values) {
+        List<BytesRef> terms = new ArrayList<>(values.size());
+        for (String value : values) {
+            terms.add(new BytesRef(value));
+        }
+        return new TermInSetQuery(field, terms);
+    }
+
+    private static void addText(Document document, String field, String text) {
+        if (text != null && !text.isBlank()) {
+            document.add(new TextField(field, text, Field.Store.NO));
+        }
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
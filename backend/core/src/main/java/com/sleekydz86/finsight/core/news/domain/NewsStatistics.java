@@ -43,6 +43,12 @@ public class NewsStatistics {
                 this.createdAt, LocalDateTime.now());
     }
 
+    public NewsStatistics addViewCount(long delta) {
+        return new NewsStatistics(this.id, this.newsId, (int) (this.viewCount + delta),
+                this.likeCount, this.dislikeCount, this.commentCount,
+                this.createdAt, this.updatedAt);
+    }
+
     public NewsStatistics incrementLike() {
         return new NewsStatistics(this.id, this.newsId, this.viewCount,
                 this.likeCount + 1, this.dislikeCount, this.commentCount,
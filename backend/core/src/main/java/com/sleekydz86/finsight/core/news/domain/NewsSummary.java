@@ -0,0 +1,113 @@
+package com.sleekydz86.finsight.core.news.domain;
+
+import com.sleekydz86.finsight.core.global.NewsProvider;
+import com.sleekydz86.finsight.core.news.domain.vo.SentimentType;
+import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 목록 화면용 기사 요약. 본문, 번역 본문, AI 요약 같은 TEXT 컬럼은 담지 않으며 본문은 상세 조회에서만 읽는다.
+ */
+public class NewsSummary {
+
+    private final Long id;
+    private final NewsProvider newsProvider;
+    private final LocalDateTime publishedTime;
+    private final String title;
+    private final String translatedTitle;
+    private final SentimentType sentimentType;
+    private final Double sentimentScore;
+    private final List<TargetCategory> categories;
+    private final String sourceUrl;
+
+    public NewsSummary() {
+        this(null, null, null, null, null, null, null, List.of(), null);
+    }
+
+    public NewsSummary(Long id, NewsProvider newsProvider, LocalDateTime publishedTime, String title,
+                       String translatedTitle, SentimentType sentimentType, Double sentimentScore,
+                       List<TargetCategory> categories, String sourceUrl) {
+        this.id = id;
+        this.newsProvider = newsProvider;
+        this.publishedTime = publishedTime;
+        this.title = title;
+        this.translatedTitle = translatedTitle;
+        this.sentimentType = sentimentType;
+        this.sentimentScore = sentimentScore;
+        this.categories = categories != null ? categories : List.of();
+        this.sourceUrl = sourceUrl;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public NewsProvider getNewsProvider() {
+        return newsProvider;
+    }
+
+    public LocalDateTime getPublishedTime() {
+        return publishedTime;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getTranslatedTitle() {
+        return translatedTitle;
+    }
+
+    public SentimentType getSentimentType() {
+        return sentimentType;
+    }
+
+    public Double getSentimentScore() {
+        return sentimentScore;
+    }
+
+    public List<TargetCategory> getCategories() {
+        return categories;
+    }
+
+    public String getSourceUrl() {
+        return sourceUrl;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        NewsSummary that = (NewsSummary) o;
+        return Objects.equals(id, that.id) &&
+                newsProvider == that.newsProvider &&
+                Objects.equals(publishedTime, that.publishedTime) &&
+                Objects.equals(title, that.title) &&
+                Objects.equals(translatedTitle, that.translatedTitle) &&
+                sentimentType == that.sentimentType &&
+                Objects.equals(sentimentScore, that.sentimentScore) &&
+                Objects.equals(categories, that.categories) &&
+                Objects.equals(sourceUrl, that.sourceUrl);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, newsProvider, publishedTime, title, translatedTitle, sentimentType, sentimentScore,
+                categories, sourceUrl);
+    }
+
+    @Override
+    public String toString() {
+        return "NewsSummary{" +
+                "id=" + id +
+                ", newsProvider=" + newsProvider +
+                ", publishedTime=" + publishedTime +
+                ", title='" + title + '\'' +
+                ", sentimentType=" + sentimentType +
+                ", categories=" + categories +
+                '}';
+    }
+}
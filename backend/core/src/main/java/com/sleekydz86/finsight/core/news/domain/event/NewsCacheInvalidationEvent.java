@@ -0,0 +1,55 @@
+package com.sleekydz86.finsight.core.news.domain.event;
+
+import com.sleekydz86.finsight.core.global.NewsProvider;
+import com.sleekydz86.finsight.core.news.domain.News;
+import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 뉴스가 저장되거나 분석 결과가 갱신됐을 때 영향을 받는 캐시 범위.
+ * providers 가 비어 있으면 제공자를 알 수 없다는 뜻으로 모든 제공자에 영향을 주는 것으로 본다.
+ */
+public record NewsCacheInvalidationEvent(Set<NewsProvider> providers,
+                                         Set<TargetCategory> categories,
+                                         Set<Long> newsIds) {
+
+    public NewsCacheInvalidationEvent {
+        providers = providers == null ? Set.of() : Set.copyOf(providers);
+        categories = categories == null ? Set.of() : Set.copyOf(categories);
+        newsIds = newsIds == null ? Set.of() : Set.copyOf(newsIds);
+    }
+
+    public static NewsCacheInvalidationEvent of(Collection<News> newses) {
+        Set<NewsProvider> providers = EnumSet.noneOf(NewsProvider.class);
+        Set<TargetCategory> categories = EnumSet.noneOf(TargetCategory.class);
+        Set<Long> newsIds = new HashSet<>();
+        for (News news : newses) {
+            // 저장 전 기사는 id 가 0 으로 채워져 있으므로 무효화 대상에서 뺀다
+            if (news.getId() != null && news.getId() != 0L) {
+                newsIds.add(news.getId());
+            }
+            if (news.getNewsProvider() != null) {
+                providers.add(news.getNewsProvider());
+            }
+            if (news.getAiOverView() != null && news.getAiOverView().getTargetCategories() != null) {
+                categories.addAll(news.getAiOverView().getTargetCategories());
+            }
+        }
+        return new NewsCacheInvalidationEvent(providers, categories, newsIds);
+    }
+
+    public boolean affects(List<NewsProvider> filterProviders, List<TargetCategory> filterCategories) {
+        boolean providerMatched = providers.isEmpty()
+                || filterProviders == null || filterProviders.isEmpty()
+                || filterProviders.contains(NewsProvider.ALL)
+                || filterProviders.stream().anyMatch(providers::contains);
+        boolean categoryMatched = filterCategories == null || filterCategories.isEmpty()
+                || filterCategories.stream().anyMatch(categories::contains);
+        return providerMatched && categoryMatched;
+    }
+}
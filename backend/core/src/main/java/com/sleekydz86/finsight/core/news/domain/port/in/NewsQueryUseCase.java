@@ -1,25 +1,38 @@
 package com.sleekydz86.finsight.core.news.domain.port.in;
 
 import com.sleekydz86.finsight.core.global.dto.PaginationResponse;
-import com.sleekydz86.finsight.core.news.domain.Newses;
+import com.sleekydz86.finsight.core.news.domain.NewsSummary;
 import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsDetailResponse;
 import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsQueryRequest;
 import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsSearchRequest;
 
+import java.util.List;
+
+/**
+ * 목록 조회는 본문 없는 {@link NewsSummary} 를 돌려주고, 본문은 {@link #getNewsDetail} 에서만 읽는다.
+ */
 public interface NewsQueryUseCase {
-    Newses findAllByFilters(NewsQueryRequest request);
 
-    PaginationResponse<Newses> searchNews(NewsSearchRequest request);
+    /**
+     * 필터 목록 조회가 돌려주는 최대 건수. 넓은 필터로 표 전체를 읽어 캐시하지 않도록 최신순으로 이만큼만 읽는다.
+     */
+    int MAX_FILTER_RESULTS = 500;
+
+    List<NewsSummary> findAllByFilters(NewsQueryRequest request);
+
+    PaginationResponse<NewsSummary> searchNews(NewsSearchRequest request);
+
+    PaginationResponse<NewsSummary> searchNewsByCursor(NewsSearchRequest request);
 
     NewsDetailResponse getNewsDetail(Long newsId);
 
-    Newses getRelatedNews(Long newsId, int limit);
+    List<NewsSummary> getRelatedNews(Long newsId, int limit);
 
-    Newses getPopularNews(int limit);
+    List<NewsSummary> getPopularNews(int limit);
 
-    Newses getLatestNews(int limit);
+    List<NewsSummary> getLatestNews(int limit);
 
-    Newses getNewsByCategory(String category, int limit);
+    List<NewsSummary> getNewsByCategory(String category, int limit);
 
-    Newses getPersonalizedNews(String userEmail, int limit);
+    List<NewsSummary> getPersonalizedNews(String userEmail, int limit);
 }
\ No newline at end of file
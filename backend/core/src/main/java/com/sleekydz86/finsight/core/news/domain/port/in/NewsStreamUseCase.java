@@ -0,0 +1,17 @@
+package com.sleekydz86.finsight.core.news.domain.port.in;
+
+import com.sleekydz86.finsight.core.global.NewsProvider;
+import com.sleekydz86.finsight.core.news.domain.NewsSummary;
+import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+public interface NewsStreamUseCase {
+
+    /**
+     * 구독한 뒤 새로 저장되거나 분석된 기사를 흘려보낸다. categories, providers 가 비어 있으면 거르지 않는다.
+     * 구독자마다 버퍼가 정해져 있어 느린 구독자는 오래된 기사부터 잃고, 다른 구독자나 발행 쪽을 막지 않는다.
+     */
+    Flux<NewsSummary> subscribe(List<TargetCategory> categories, List<NewsProvider> providers);
+}
@@ -5,6 +5,7 @@ import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
 import com.sleekydz86.finsight.core.global.NewsProvider;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 
 public class NewsQueryRequest {
     private final LocalDateTime startDate;
@@ -48,4 +49,37 @@ public class NewsQueryRequest {
     public List<NewsProvider> getProviders() {
         return providers;
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof NewsQueryRequest that)) {
+            return false;
+        }
+        return Objects.equals(startDate, that.startDate)
+                && Objects.equals(endDate, that.endDate)
+                && Objects.equals(sentimentType, that.sentimentType)
+                && Objects.equals(keyword, that.keyword)
+                && Objects.equals(categories, that.categories)
+                && Objects.equals(providers, that.providers);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startDate, endDate, sentimentType, keyword, categories, providers);
+    }
+
+    @Override
+    public String toString() {
+        return "NewsQueryRequest{" +
+                "startDate=" + startDate +
+                ", endDate=" + endDate +
+                ", sentimentType=" + sentimentType +
+                ", keyword=" + keyword +
+                ", categories=" + categories +
+                ", providers=" + providers +
+                '}';
+    }
+}
@@ -5,6 +5,7 @@ import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
 import com.sleekydz86.finsight.core.global.NewsProvider;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 
 public class NewsSearchRequest {
     private LocalDateTime startDate;
@@ -15,6 +16,7 @@ public class NewsSearchRequest {
     private List<NewsProvider> providers;
     private int page = 0;
     private int size = 20;
+    private String cursor;
 
     public NewsSearchRequest() {
     }
@@ -96,4 +98,51 @@ public class NewsSearchRequest {
     public void setSize(int size) {
         this.size = size;
     }
-}
\ No newline at end of file
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof NewsSearchRequest that)) {
+            return false;
+        }
+        return Objects.equals(startDate, that.startDate)
+                && Objects.equals(endDate, that.endDate)
+                && Objects.equals(sentimentType, that.sentimentType)
+                && Objects.equals(keyword, that.keyword)
+                && Objects.equals(categories, that.categories)
+                && Objects.equals(providers, that.providers)
+                && page == that.page
+                && size == that.size
+                && Objects.equals(cursor, that.cursor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startDate, endDate, sentimentType, keyword, categories, providers, page, size, cursor);
+    }
+
+    @Override
+    public String toString() {
+        return "NewsSearchRequest{" +
+                "startDate=" + startDate +
+                ", endDate=" + endDate +
+                ", sentimentType=" + sentimentType +
+                ", keyword=" + keyword +
+                ", categories=" + categories +
+                ", providers=" + providers +
+                ", page=" + page +
+                ", size=" + size +
+                ", cursor=" + cursor +
+                '}';
+    }
+}
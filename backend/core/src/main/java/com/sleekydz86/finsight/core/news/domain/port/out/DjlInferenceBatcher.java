@@ -0,0 +1,223 @@
+package com.sleekydz86.finsight.core.news.domain.port.out;
+
+import ai.djl.inference.Predictor;
+import ai.djl.modality.Classifications;
+import ai.djl.repository.zoo.ZooModel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 스레드에서 들어온 추론 요청을 최대 maxBatchSize 건 또는 maxWaitMillis 단위로 묶어
+ * 워커마다 하나씩 재사용하는 Predictor 로 batchPredict 한다.
+ */
+public class DjlInferenceBatcher implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(DjlInferenceBatcher.class);
+
+    private static final long IDLE_POLL_MILLIS = 200;
+
+    private final ZooModel<String, Classifications> model;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final BlockingQueue<PendingInference> queue;
+    private final ExecutorService workers;
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer batchLatencyTimer;
+    private final Counter rejectedCounter;
+
+    private final AtomicInteger aliveWorkers;
+
+    private volatile boolean running = true;
+
+    public DjlInferenceBatcher(ZooModel<String, Classifications> model,
+                               int poolSize,
+                               int maxBatchSize,
+                               long maxWaitMillis,
+                               int queueCapacity,
+                               MeterRegistry meterRegistry) {
+        this.model = model;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxWaitMillis));
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, queueCapacity));
+
+        Gauge.builder("djl.inference.queue.depth", queue, BlockingQueue::size)
+                .description("DJL 추론 대기열 길이")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("djl.inference.batch.size")
+                .description("DJL 추론 배치당 텍스트 수")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchLatencyTimer = Timer.builder("djl.inference.batch.latency")
+                .description("DJL 배치 추론 소요 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("djl.inference.rejected")
+                .description("대기열 초과로 거절된 DJL 추론 요청 수")
+                .register(meterRegistry);
+
+        int workerCount = Math.max(1, poolSize);
+        this.aliveWorkers = new AtomicInteger(workerCount);
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "djl-inference-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::runWorker);
+        }
+        log.info("DJL 마이크로 배치 추론 시작: workers={}, maxBatchSize={}, maxWaitMillis={}",
+                workerCount, this.maxBatchSize, maxWaitMillis);
+    }
+
+    public CompletableFuture<Classifications> submit(String text) {
+        CompletableFuture<Classifications> future = new CompletableFuture<>();
+        if (!running) {
+            future.completeExceptionally(new RejectedExecutionException("DJL 추론기가 종료되었습니다"));
+            return future;
+        }
+        if (!queue.offer(new PendingInference(text, future))) {
+            rejectedCounter.increment();
+            future.completeExceptionally(new RejectedExecutionException("DJL 추론 대기열이 가득 찼습니다"));
+        } else if (!running) {
+            // 넣는 사이에 마지막 워커가 대기열을 비우고 종료했을 수 있다
+            failPending(new RejectedExecutionException("DJL 추론기가 종료되었습니다"));
+        }
+        return future;
+    }
+
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runWorker() {
+        List<PendingInference> batch = new ArrayList<>(maxBatchSize);
+        Exception failure = null;
+        try (Predictor<String, Classifications> predictor = model.newPredictor()) {
+            while (running || !queue.isEmpty()) {
+                if (!collectBatch(batch)) {
+                    continue;
+                }
+                predictBatch(predictor, batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = e;
+        } catch (Exception e) {
+            log.error("DJL 추론 워커 비정상 종료: {}", e.getMessage(), e);
+            failure = e;
+        } finally {
+            workerExited(batch, failure);
+        }
+    }
+
+    // 워커가 들고 있던 배치는 실패로 끝내고, 마지막 워커가 빠지면 새 요청을 받지 않고 대기 중인 요청도 실패시킨다
+    private void workerExited(List<PendingInference> batch, Exception failure) {
+        RejectedExecutionException cause = new RejectedExecutionException("DJL 추론 워커가 종료되었습니다", failure);
+        for (PendingInference pending : batch) {
+            pending.future().completeExceptionally(cause);
+        }
+        batch.clear();
+
+        if (aliveWorkers.decrementAndGet() == 0) {
+            running = false;
+            failPending(cause);
+        }
+    }
+
+    private void failPending(Exception cause) {
+        PendingInference pending;
+        while ((pending = queue.poll()) != null) {
+            pending.future().completeExceptionally(cause);
+        }
+    }
+
+    private boolean collectBatch(List<PendingInference> batch) throws InterruptedException {
+        PendingInference first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return false;
+        }
+        batch.add(first);
+
+        // 이미 쌓여 있는 요청은 기다리지 않고 가져오고, 부족하면 maxWait 까지만 추가로 기다린다
+        queue.drainTo(batch, maxBatchSize - batch.size());
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            PendingInference next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+            queue.drainTo(batch, maxBatchSize - batch.size());
+        }
+        return true;
+    }
+
+    private void predictBatch(Predictor<String, Classifications> predictor, List<PendingInference> batch) {
+        List<String> texts = new ArrayList<>(batch.size());
+        for (PendingInference pending : batch) {
+            texts.add(pending.text());
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            List<Classifications> results = predictor.batchPredict(texts);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(results.get(i));
+            }
+        } catch (Exception e) {
+            log.error("DJL 배치 추론 실패 (batchSize={}): {}", batch.size(), e.getMessage());
+            for (PendingInference pending : batch) {
+                pending.future().completeExceptionally(e);
+            }
+        } finally {
+            batchLatencyTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            batchSizeSummary.record(batch.size());
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        failPending(new RejectedExecutionException("DJL 추론기가 종료되었습니다"));
+    }
+
+    private record PendingInference(String text, CompletableFuture<Classifications> future) {
+    }
+}
@@ -2,12 +2,13 @@ package com.sleekydz86.finsight.core.news.domain.port.out;
 
 import ai.djl.Application;
 import ai.djl.MalformedModelException;
-import ai.djl.inference.Predictor;
+import ai.djl.modality.Classifications;
 import ai.djl.repository.zoo.Criteria;
 import ai.djl.repository.zoo.ModelNotFoundException;
 import ai.djl.repository.zoo.ZooModel;
 import com.sleekydz86.finsight.core.news.domain.vo.Content;
 import com.sleekydz86.finsight.core.news.domain.vo.DjlSentimentResult;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -29,9 +30,29 @@ public class DjlSentimentAnalysisAdapter implements DjlSentimentAnalysisPort {
     @Value("${ai.djl.enabled:true}")
     private boolean djlEnabled;
 
+    // 0 이면 가용 코어 수만큼 Predictor 워커를 띄운다
+    @Value("${ai.djl.inference.pool-size:0}")
+    private int poolSize;
+
+    @Value("${ai.djl.inference.max-batch-size:32}")
+    private int maxBatchSize;
+
+    @Value("${ai.djl.inference.max-wait-millis:10}")
+    private long maxWaitMillis;
+
+    @Value("${ai.djl.inference.queue-capacity:10000}")
+    private int queueCapacity;
+
+    private final MeterRegistry meterRegistry;
+
     private ZooModel<String, ai.djl.modality.Classifications> model;
+    private DjlInferenceBatcher batcher;
     private boolean modelAvailable = false;
 
+    public DjlSentimentAnalysisAdapter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @PostConstruct
     public void initialize() {
         if (!djlEnabled) {
@@ -41,6 +62,13 @@ public class DjlSentimentAnalysisAdapter implements DjlSentimentAnalysisPort {
 
         try {
             loadModel();
+            batcher = new DjlInferenceBatcher(
+                    model,
+                    poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors(),
+                    maxBatchSize,
+                    maxWaitMillis,
+                    queueCapacity,
+                    meterRegistry);
             modelAvailable = true;
             log.info("DJL 감정분석 모델 로드 완료: {}", modelName);
         } catch (Exception e) {
@@ -84,43 +112,34 @@ public class DjlSentimentAnalysisAdapter implements DjlSentimentAnalysisPort {
 
     @Override
     public DjlSentimentResult analyzeSentiment(String text) {
-        if (!modelAvailable || model == null) {
-            return createFallbackResult(text, "모델을 사용할 수 없습니다");
-        }
-
-        long startTime = System.currentTimeMillis();
-
-        try (Predictor<String, ai.djl.modality.Classifications> predictor = model.newPredictor()) {
-            ai.djl.modality.Classifications result = predictor.predict(text);
-
-            String topClass = result.best().getClassName();
-            double confidence = result.best().getProbability();
-
-            return DjlSentimentResult.builder()
-                    .label(mapLabelToStandard(topClass))
-                    .score(confidence)
-                    .confidence(confidence)
-                    .success(true)
-                    .modelName(modelName)
-                    .originalText(text)
-                    .processingTimeMs(System.currentTimeMillis() - startTime)
-                    .build();
-
-        } catch (Exception e) {
-            log.error("감정분석 처리 실패: {}", e.getMessage());
-            return createFallbackResult(text, e.getMessage());
-        }
+        return analyzeSentimentAsync(text).join();
     }
 
     @Override
     public CompletableFuture<DjlSentimentResult> analyzeSentimentAsync(String text) {
-        return CompletableFuture.supplyAsync(() -> analyzeSentiment(text));
+        if (!isModelAvailable()) {
+            return CompletableFuture.completedFuture(createFallbackResult(text, "모델을 사용할 수 없습니다"));
+        }
+
+        long startTime = System.currentTimeMillis();
+        return batcher.submit(text)
+                .handle((result, throwable) -> {
+                    if (throwable != null) {
+                        log.error("감정분석 처리 실패: {}", throwable.getMessage());
+                        return createFallbackResult(text, throwable.getMessage());
+                    }
+                    return toResult(text, result, System.currentTimeMillis() - startTime);
+                });
     }
 
     @Override
     public List<DjlSentimentResult> analyzeSentimentBatch(List<String> texts) {
-        return texts.stream()
-                .map(this::analyzeSentiment)
+        // 한꺼번에 제출해야 워커가 같은 배치로 묶어 처리할 수 있다
+        List<CompletableFuture<DjlSentimentResult>> futures = texts.stream()
+                .map(this::analyzeSentimentAsync)
+                .toList();
+        return futures.stream()
+                .map(CompletableFuture::join)
                 .toList();
     }
 
@@ -136,7 +155,7 @@ public class DjlSentimentAnalysisAdapter implements DjlSentimentAnalysisPort {
 
     @Override
     public boolean isModelAvailable() {
-        return modelAvailable && model != null;
+        return modelAvailable && model != null && batcher != null && batcher.isRunning();
     }
 
     @Override
@@ -153,9 +172,26 @@ public class DjlSentimentAnalysisAdapter implements DjlSentimentAnalysisPort {
         metadata.put("modelName", modelName);
         metadata.put("isAvailable", isModelAvailable());
         metadata.put("enabled", djlEnabled);
+        metadata.put("maxBatchSize", maxBatchSize);
+        metadata.put("maxWaitMillis", maxWaitMillis);
+        metadata.put("queueDepth", batcher != null ? batcher.queueDepth() : 0);
         return metadata;
     }
 
+    private DjlSentimentResult toResult(String text, Classifications result, long processingTimeMs) {
+        double confidence = result.best().getProbability();
+
+        return DjlSentimentResult.builder()
+                .label(mapLabelToStandard(result.best().getClassName()))
+                .score(confidence)
+                .confidence(confidence)
+                .success(true)
+                .modelName(modelName)
+                .originalText(text)
+                .processingTimeMs(processingTimeMs)
+                .build();
+    }
+
     private String mapLabelToStandard(String originalLabel) {
         return switch (originalLabel.toUpperCase()) {
             case "NEGATIVE", "NEG", "0" -> "NEGATIVE";
@@ -179,6 +215,9 @@ public class DjlSentimentAnalysisAdapter implements DjlSentimentAnalysisPort {
 
     @PreDestroy
     public void cleanup() {
+        if (batcher != null) {
+            batcher.close();
+        }
         if (model != null) {
             try {
                 model.close();
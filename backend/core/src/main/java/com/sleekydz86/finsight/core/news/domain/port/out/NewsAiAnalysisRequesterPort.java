@@ -8,9 +8,20 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 public interface NewsAiAnalysisRequesterPort {
+
+    /**
+     * AI 호출이 모두 실패해 키워드 기반 기본 분석으로 대신한 결과의 출처 표시.
+     * 이런 결과는 캐시하거나 저장하지 않고 다음 실행에서 다시 분석한다.
+     */
+    String FALLBACK_SOURCE = "fallback";
+
     List<News> analyseNewses(AiModel model, Content content);
     CompletableFuture<List<News>> analyseNewsesAsync(AiModel model, Content content);
-    List<News> analyseNewsesBatch(AiModel model, List<Content> contents);
+    CompletableFuture<List<News>> analyseNewsesBatchAsync(AiModel model, List<Content> contents);
     boolean isModelAvailable(AiModel model);
     List<AiModel> getAvailableModels();
-}
\ No newline at end of file
+
+    static boolean isFallbackResult(News news) {
+        return news.getNewsMeta() != null && FALLBACK_SOURCE.equals(news.getNewsMeta().getSourceUrl());
+    }
+}
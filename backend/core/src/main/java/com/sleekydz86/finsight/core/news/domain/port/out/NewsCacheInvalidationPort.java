@@ -0,0 +1,8 @@
+package com.sleekydz86.finsight.core.news.domain.port.out;
+
+import com.sleekydz86.finsight.core.news.domain.event.NewsCacheInvalidationEvent;
+
+public interface NewsCacheInvalidationPort {
+
+    void publish(NewsCacheInvalidationEvent event);
+}
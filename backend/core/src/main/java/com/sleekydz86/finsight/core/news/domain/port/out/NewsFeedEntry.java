@@ -0,0 +1,9 @@
+package com.sleekydz86.finsight.core.news.domain.port.out;
+
+import java.time.LocalDateTime;
+
+/**
+ * 개인화 피드 인덱스에 올리는 기사 요약. categoryMask 는 TargetCategory.bit() 의 합이다.
+ */
+public record NewsFeedEntry(Long newsId, LocalDateTime publishedTime, long categoryMask) {
+}
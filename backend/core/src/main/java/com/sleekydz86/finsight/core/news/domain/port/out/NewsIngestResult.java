@@ -0,0 +1,31 @@
+package com.sleekydz86.finsight.core.news.domain.port.out;
+
+import com.sleekydz86.finsight.core.news.domain.News;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대량 적재 결과. duplicates 는 배치 안에서 겹친 URL 과 이미 저장돼 있던 URL 을 모두 포함한다.
+ * insertedNews 는 이번 적재로 새로 저장된 기사만 저장된 id 와 함께 담는다.
+ */
+public record NewsIngestResult(int requested, int inserted, int duplicates, List<News> insertedNews) {
+
+    public NewsIngestResult {
+        insertedNews = insertedNews == null ? List.of() : List.copyOf(insertedNews);
+    }
+
+    public static NewsIngestResult empty() {
+        return new NewsIngestResult(0, 0, 0, List.of());
+    }
+
+    public NewsIngestResult plus(NewsIngestResult other) {
+        List<News> merged = new ArrayList<>(insertedNews);
+        merged.addAll(other.insertedNews);
+        return new NewsIngestResult(
+                requested + other.requested,
+                inserted + other.inserted,
+                duplicates + other.duplicates,
+                merged);
+    }
+}
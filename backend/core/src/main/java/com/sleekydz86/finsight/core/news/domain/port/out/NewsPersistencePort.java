@@ -1,21 +1,35 @@
 package com.sleekydz86.finsight.core.news.domain.port.out;
 
+import com.sleekydz86.finsight.core.global.NewsProvider;
 import com.sleekydz86.finsight.core.news.domain.News;
+import com.sleekydz86.finsight.core.news.domain.NewsSummary;
 import com.sleekydz86.finsight.core.news.domain.Newses;
 import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsQueryRequest;
-import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsSearchRequest;
+import com.sleekydz86.finsight.core.news.domain.vo.NewsCursor;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface NewsPersistencePort {
     Newses saveAllNews(List<News> newses);
+    NewsIngestResult bulkInsertNews(List<News> newses);
     Newses findByOverviewIsNull();
-    Newses findAllByFilters(NewsQueryRequest request);
+    long countByFilters(NewsQueryRequest request);
     Optional<News> findById(Long newsId);
-    Newses searchByQuery(NewsSearchRequest request);
-    Newses findByCategory(String category, int limit);
-    Newses findPopularNews(int limit);
-    Newses findLatestNews(int limit);
-    Newses findRelatedNews(Long newsId, List<String> categories, int limit);
+    Newses findAllByIds(List<Long> newsIds);
+    Newses findAllByIdAfter(Long afterId, int limit);
+
+    // 목록 조회는 본문(TEXT) 컬럼을 읽지 않는 요약으로 돌려준다
+    List<NewsSummary> findSummariesByFilters(NewsQueryRequest request, int page, int size);
+    List<NewsSummary> findSummariesByFiltersAfter(NewsQueryRequest request, NewsCursor cursor, int size);
+    List<NewsSummary> findSummariesByIds(List<Long> newsIds);
+    List<NewsSummary> findByCategory(String category, int limit);
+    List<NewsSummary> findPopularNews(int limit);
+    List<NewsSummary> findLatestNews(int limit);
+    List<NewsSummary> findRelatedNews(Long newsId, List<String> categories, NewsProvider provider, int limit);
+
+    List<NewsFeedEntry> findFeedEntriesPublishedAfter(LocalDateTime since, int limit);
+    List<NewsFeedEntry> findFeedEntriesByIds(Collection<Long> newsIds);
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.sleekydz86.finsight.core.news.domain.port.out;
+
+import com.sleekydz86.finsight.core.global.NewsProvider;
+import com.sleekydz86.finsight.core.news.domain.News;
+
+import java.util.List;
+
+/**
+ * 공급자 응답 한 페이지. bytes 는 내려받은 응답 본문 크기이며 측정하지 못한 공급자는 0 이다.
+ */
+public record NewsScrapPage(NewsProvider provider, int page, List<News> newses, long bytes, boolean hasMore) {
+
+    public NewsScrapPage withNewses(List<News> filtered) {
+        return new NewsScrapPage(provider, page, filtered, bytes, hasMore);
+    }
+}
@@ -2,10 +2,26 @@ package com.sleekydz86.finsight.core.news.domain.port.out;
 
 import com.sleekydz86.finsight.core.global.NewsProvider;
 import com.sleekydz86.finsight.core.news.domain.News;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
+import java.util.Set;
 
 public interface NewsScrapRequesterPort {
 
     List<News> scrap(NewsProvider newsProvider);
-}
\ No newline at end of file
+
+    Set<NewsProvider> supportedProviders();
+
+    /**
+     * 공급자의 워터마크 이후 기사만 페이지 단위로 따라잡을 때까지 가져온다.
+     * 재시도 후에도 실패하면 에러로 끝난다. 워터마크는 호출한 쪽이 저장을 마친 뒤 옮긴다.
+     */
+    Flux<NewsScrapPage> scrapNewPages(NewsProvider newsProvider);
+
+    /**
+     * 모든 공급자를 동시에 스크랩해 도착하는 순서대로 기사를 흘려보낸다.
+     * 실패하거나 타임아웃된 공급자는 건너뛰므로 스트림 자체는 에러로 끝나지 않는다.
+     */
+    Flux<News> scrapAll();
+}
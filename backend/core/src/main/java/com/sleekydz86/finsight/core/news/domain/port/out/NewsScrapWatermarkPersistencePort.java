@@ -0,0 +1,18 @@
+package com.sleekydz86.finsight.core.news.domain.port.out;
+
+import com.sleekydz86.finsight.core.global.NewsProvider;
+import com.sleekydz86.finsight.core.news.domain.News;
+import com.sleekydz86.finsight.core.news.domain.vo.ScrapWatermark;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public interface NewsScrapWatermarkPersistencePort {
+
+    Optional<ScrapWatermark> findByProvider(NewsProvider provider);
+
+    /**
+     * 저장을 마친 기사들로 공급자별 워터마크를 앞으로만 옮긴다.
+     */
+    void advance(Collection<News> persistedNewses);
+}
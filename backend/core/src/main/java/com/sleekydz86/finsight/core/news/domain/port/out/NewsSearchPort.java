@@ -0,0 +1,24 @@
+package com.sleekydz86.finsight.core.news.domain.port.out;
+
+import com.sleekydz86.finsight.core.global.search.SearchIndexPort;
+import com.sleekydz86.finsight.core.global.search.SearchPage;
+import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsSearchRequest;
+
+import java.util.Collection;
+
+public interface NewsSearchPort extends SearchIndexPort {
+
+    /**
+     * 키워드가 있고 색인을 쓸 수 있을 때만 true. 아니면 DB 필터 조회로 처리한다.
+     */
+    boolean supports(NewsSearchRequest request);
+
+    SearchPage search(NewsSearchRequest request, int page, int size);
+
+    SearchPage searchAfter(NewsSearchRequest request, String cursor, int size);
+
+    /**
+     * 저장/분석 이벤트로 바뀐 기사를 DB 에서 다시 읽어 색인에 반영한다.
+     */
+    void index(Collection<Long> newsIds);
+}
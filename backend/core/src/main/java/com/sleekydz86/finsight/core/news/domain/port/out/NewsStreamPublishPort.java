@@ -0,0 +1,12 @@
+package com.sleekydz86.finsight.core.news.domain.port.out;
+
+import java.util.Collection;
+
+public interface NewsStreamPublishPort {
+
+    /**
+     * 새로 저장됐거나 AI 분석이 끝난 기사를 모든 JVM 의 스트림 구독자에게 알린다.
+     * 트랜잭션 안에서 호출하면 커밋된 뒤에 전달한다.
+     */
+    void publish(Collection<Long> newsIds);
+}
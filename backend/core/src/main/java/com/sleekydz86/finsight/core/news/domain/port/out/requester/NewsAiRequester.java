@@ -3,9 +3,16 @@ package com.sleekydz86.finsight.core.news.domain.port.out.requester;
 import com.sleekydz86.finsight.core.global.AiModel;
 import com.sleekydz86.finsight.core.news.domain.port.out.requester.dto.AiChatRequest;
 import com.sleekydz86.finsight.core.news.domain.port.out.requester.dto.AiChatResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 public interface NewsAiRequester {
 
     AiModel supports();
     AiChatResponse request(AiChatRequest aiChatRequest) throws Exception;
+
+    default Mono<AiChatResponse> requestAsync(AiChatRequest aiChatRequest) {
+        return Mono.fromCallable(() -> request(aiChatRequest))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
 }
\ No newline at end of file
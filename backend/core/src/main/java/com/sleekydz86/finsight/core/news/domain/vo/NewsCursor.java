@@ -0,0 +1,80 @@
+package com.sleekydz86.finsight.core.news.domain.vo;
+
+import com.sleekydz86.finsight.core.global.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+public class NewsCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime newsPublishedTime;
+    private final Long id;
+
+    public NewsCursor(LocalDateTime newsPublishedTime, Long id) {
+        this.newsPublishedTime = Objects.requireNonNull(newsPublishedTime, "newsPublishedTime");
+        this.id = Objects.requireNonNull(id, "id");
+    }
+
+    public static NewsCursor of(LocalDateTime newsPublishedTime, Long id) {
+        return new NewsCursor(newsPublishedTime, id);
+    }
+
+    public static NewsCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+            if (delimiterIndex <= 0) {
+                throw invalidCursor();
+            }
+            return new NewsCursor(
+                    LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+                    Long.parseLong(decoded.substring(delimiterIndex + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw invalidCursor();
+        }
+    }
+
+    public String encode() {
+        String raw = newsPublishedTime + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getNewsPublishedTime() {
+        return newsPublishedTime;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    private static ValidationException invalidCursor() {
+        return new ValidationException("유효하지 않은 커서입니다", "INVALID_CURSOR", List.of("cursor"));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        NewsCursor that = (NewsCursor) o;
+        return Objects.equals(newsPublishedTime, that.newsPublishedTime) && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(newsPublishedTime, id);
+    }
+
+    @Override
+    public String toString() {
+        return "NewsCursor{" +
+                "newsPublishedTime=" + newsPublishedTime +
+                ", id=" + id +
+                '}';
+    }
+}
@@ -0,0 +1,60 @@
+package com.sleekydz86.finsight.core.news.domain.vo;
+
+import com.sleekydz86.finsight.core.global.NewsProvider;
+import com.sleekydz86.finsight.core.news.domain.News;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 공급자별 스크랩 진행 위치. 마지막으로 저장한 기사의 (발행 시각, 원문 URL) 이며
+ * 이 위치와 같거나 앞선 기사는 이미 받은 것으로 본다.
+ */
+public record ScrapWatermark(NewsProvider provider, LocalDateTime lastPublishedTime, String lastSourceUrl) {
+
+    public static ScrapWatermark initial(NewsProvider provider, LocalDateTime publishTimeAfter) {
+        return new ScrapWatermark(provider, publishTimeAfter, null);
+    }
+
+    public boolean covers(News news) {
+        LocalDateTime publishedTime = news.getNewsMeta().getNewsPublishedTime();
+        if (publishedTime == null || lastPublishedTime == null) {
+            return false;
+        }
+        int compared = publishedTime.compareTo(lastPublishedTime);
+        if (compared != 0) {
+            return compared < 0;
+        }
+        // 같은 시각에 여러 기사가 발행될 수 있어 URL 순서로 동률을 가른다
+        String sourceUrl = news.getNewsMeta().getSourceUrl();
+        return lastSourceUrl != null && sourceUrl != null && sourceUrl.compareTo(lastSourceUrl) <= 0;
+    }
+
+    public boolean isBehind(ScrapWatermark other) {
+        int compared = lastPublishedTime.compareTo(other.lastPublishedTime);
+        if (compared != 0) {
+            return compared < 0;
+        }
+        if (other.lastSourceUrl == null) {
+            return false;
+        }
+        return lastSourceUrl == null || lastSourceUrl.compareTo(other.lastSourceUrl) < 0;
+    }
+
+    public static Map<NewsProvider, ScrapWatermark> latestOf(Collection<News> newses) {
+        Map<NewsProvider, ScrapWatermark> latest = new EnumMap<>(NewsProvider.class);
+        for (News news : newses) {
+            NewsMeta meta = news.getNewsMeta();
+            if (meta == null || meta.getNewsProvider() == null || meta.getNewsPublishedTime() == null) {
+                continue;
+            }
+            ScrapWatermark candidate = new ScrapWatermark(
+                    meta.getNewsProvider(), meta.getNewsPublishedTime(), meta.getSourceUrl());
+            latest.merge(meta.getNewsProvider(), candidate,
+                    (current, next) -> current.isBehind(next) ? next : current);
+        }
+        return latest;
+    }
+}
@@ -1,5 +1,8 @@
 package com.sleekydz86.finsight.core.news.domain.vo;
 
+import java.util.Collection;
+import java.util.EnumSet;
+
 public enum TargetCategory {
     GENERAL,
     SPY,
@@ -12,5 +15,34 @@ public enum TargetCategory {
     META,
     TSLA,
     BITCOIN,
-    NONE
-}
\ No newline at end of file
+    NONE;
+
+    /**
+     * 카테고리 집합을 ordinal 비트로 표현할 때의 이 카테고리 비트 (상수가 64개를 넘지 않는 한 long 하나로 충분하다)
+     */
+    public long bit() {
+        return 1L << ordinal();
+    }
+
+    public static long maskOf(Collection<TargetCategory> categories) {
+        long mask = 0L;
+        if (categories != null) {
+            for (TargetCategory category : categories) {
+                if (category != null) {
+                    mask |= category.bit();
+                }
+            }
+        }
+        return mask;
+    }
+
+    public static EnumSet<TargetCategory> fromMask(long mask) {
+        EnumSet<TargetCategory> categories = EnumSet.noneOf(TargetCategory.class);
+        for (TargetCategory category : values()) {
+            if ((mask & category.bit()) != 0) {
+                categories.add(category);
+            }
+        }
+        return categories;
+    }
+}
@@ -1,25 +1,32 @@
 package com.sleekydz86.finsight.core.news.service;
 
 import com.sleekydz86.finsight.core.global.AiModel;
-import com.sleekydz86.finsight.core.global.NewsProvider;
 import com.sleekydz86.finsight.core.global.annotation.Cacheable;
 import com.sleekydz86.finsight.core.global.annotation.LogExecution;
 import com.sleekydz86.finsight.core.global.dto.PaginationResponse;
 import com.sleekydz86.finsight.core.global.exception.SystemException;
+import com.sleekydz86.finsight.core.global.search.SearchPage;
 import com.sleekydz86.finsight.core.news.domain.News;
 import com.sleekydz86.finsight.core.news.domain.Newses;
+import com.sleekydz86.finsight.core.news.domain.NewsSummary;
 import com.sleekydz86.finsight.core.news.domain.NewsStatistics;
+import com.sleekydz86.finsight.core.news.domain.event.NewsCacheInvalidationEvent;
 import com.sleekydz86.finsight.core.news.domain.port.in.NewsCommandUseCase;
 import com.sleekydz86.finsight.core.news.domain.port.in.NewsQueryUseCase;
 import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsDetailResponse;
 import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsQueryRequest;
 import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsSearchRequest;
 import com.sleekydz86.finsight.core.news.domain.port.out.NewsAiAnalysisRequesterPort;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsCacheInvalidationPort;
 import com.sleekydz86.finsight.core.news.domain.port.out.NewsPersistencePort;
 import com.sleekydz86.finsight.core.news.domain.port.out.NewsScrapRequesterPort;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsScrapWatermarkPersistencePort;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsSearchPort;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsStreamPublishPort;
 import com.sleekydz86.finsight.core.news.domain.port.out.NewsStatisticsPersistencePort;
 import com.sleekydz86.finsight.core.news.domain.vo.AiOverview;
 import com.sleekydz86.finsight.core.news.domain.vo.Content;
+import com.sleekydz86.finsight.core.news.domain.vo.NewsCursor;
 import com.sleekydz86.finsight.core.news.domain.vo.SentimentType;
 import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
 import com.sleekydz86.finsight.core.comment.domain.Comments;
@@ -32,12 +39,15 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 
 @Service
 @Qualifier("advancedNewsService")
@@ -45,36 +55,54 @@ public class AdvancedNewsService implements NewsCommandUseCase, NewsQueryUseCase
 
     private static final Logger log = LoggerFactory.getLogger(AdvancedNewsService.class);
 
+    private static final int SCRAP_PERSIST_BATCH_SIZE = 50;
+    private static final Duration SCRAP_PERSIST_MAX_WAIT = Duration.ofMillis(500);
+
     private final NewsPersistencePort newsPersistencePort;
     private final NewsScrapRequesterPort newsScrapRequesterPort;
     private final NewsAiAnalysisRequesterPort newsAiAnalysisRequesterPort;
     private final NewsStatisticsPersistencePort newsStatisticsPersistencePort;
     private final PersonalizedNewsService personalizedNewsService;
     private final UserPersistencePort userPersistencePort;
+    private final NewsCacheInvalidationPort newsCacheInvalidationPort;
+    private final NewsDeduplicationService newsDeduplicationService;
+    private final NewsScrapWatermarkPersistencePort newsScrapWatermarkPersistencePort;
+    private final NewsSearchPort newsSearchPort;
+    private final NewsStreamPublishPort newsStreamPublishPort;
 
     public AdvancedNewsService(NewsPersistencePort newsPersistencePort,
             NewsScrapRequesterPort newsScrapRequesterPort,
             NewsAiAnalysisRequesterPort newsAiAnalysisRequesterPort,
             NewsStatisticsPersistencePort newsStatisticsPersistencePort,
             PersonalizedNewsService personalizedNewsService,
-           UserPersistencePort userPersistencePort) {
+            UserPersistencePort userPersistencePort,
+            NewsCacheInvalidationPort newsCacheInvalidationPort,
+            NewsDeduplicationService newsDeduplicationService,
+            NewsScrapWatermarkPersistencePort newsScrapWatermarkPersistencePort,
+            NewsSearchPort newsSearchPort,
+            NewsStreamPublishPort newsStreamPublishPort) {
         this.newsPersistencePort = newsPersistencePort;
         this.newsScrapRequesterPort = newsScrapRequesterPort;
         this.newsAiAnalysisRequesterPort = newsAiAnalysisRequesterPort;
         this.newsStatisticsPersistencePort = newsStatisticsPersistencePort;
         this.personalizedNewsService = personalizedNewsService;
         this.userPersistencePort = userPersistencePort;
+        this.newsCacheInvalidationPort = newsCacheInvalidationPort;
+        this.newsDeduplicationService = newsDeduplicationService;
+        this.newsScrapWatermarkPersistencePort = newsScrapWatermarkPersistencePort;
+        this.newsSearchPort = newsSearchPort;
+        this.newsStreamPublishPort = newsStreamPublishPort;
     }
 
     @Override
-    public Newses getPersonalizedNews(String userEmail, int limit) {
+    public List<NewsSummary> getPersonalizedNews(String userEmail, int limit) {
         log.debug("개인화 뉴스 조회: userEmail={}, limit={}", userEmail, limit);
 
         try {
             Optional<User> userOpt = userPersistencePort.findByEmail(userEmail);
             if (userOpt.isEmpty()) {
                 log.warn("사용자를 찾을 수 없습니다: {}", userEmail);
-                return new Newses();
+                return List.of();
             }
 
             Long userId = userOpt.get().getId();
@@ -91,50 +119,61 @@ public class AdvancedNewsService implements NewsCommandUseCase, NewsQueryUseCase
     public CompletableFuture<Newses> scrapNewses() {
         log.info("뉴스 스크래핑 시작");
 
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                List<News> allScrapedNews = new ArrayList<>();
-
-                for (NewsProvider provider : NewsProvider.values()) {
-                    if (provider != NewsProvider.ALL) {
-                        try {
-                            List<News> providerNews = newsScrapRequesterPort.scrap(provider);
-                            allScrapedNews.addAll(providerNews);
-                            log.info("{}에서 {}건의 뉴스 스크래핑 완료", provider, providerNews.size());
-                        } catch (Exception e) {
-                            log.error("{}에서 뉴스 스크래핑 실패: {}", provider, e.getMessage());
-                        }
-                    }
-                }
-
-                if (!allScrapedNews.isEmpty()) {
-                    Newses savedNewses = newsPersistencePort.saveAllNews(allScrapedNews);
-                    log.info("총 {}건의 뉴스 저장 완료", savedNewses.getNewses().size());
-                    return savedNewses;
-                }
+        // 공급자 응답이 도착하는 대로 묶어서 중복 제거/저장하므로 가장 느린 공급자를 기다리지 않는다
+        return newsScrapRequesterPort.scrapAll()
+                .bufferTimeout(SCRAP_PERSIST_BATCH_SIZE, SCRAP_PERSIST_MAX_WAIT, true)
+                .concatMap(batch -> Mono.fromCallable(() -> persistScrapedBatch(batch))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .flatMapIterable(Newses::getNewses)
+                .collectList()
+                .map(Newses::new)
+                .doOnSuccess(savedNewses -> log.info("총 {}건의 뉴스 저장 완료", savedNewses.getNewses().size()))
+                .onErrorMap(e -> {
+                    log.error("뉴스 스크래핑 중 오류 발생", e);
+                    return new RuntimeException("뉴스 스크래핑 실패", e);
+                })
+                .toFuture();
+    }
 
-                return new Newses();
-            } catch (Exception e) {
-                log.error("뉴스 스크래핑 중 오류 발생", e);
-                throw new RuntimeException("뉴스 스크래핑 실패", e);
-            }
-        });
+    private Newses persistScrapedBatch(List<News> batch) {
+        List<News> uniqueNews = newsDeduplicationService.deduplicate(batch);
+        Newses savedNewses = new Newses();
+        if (!uniqueNews.isEmpty()) {
+            savedNewses = newsPersistencePort.saveAllNews(uniqueNews);
+            log.debug("스크랩 배치 저장: 수신 {}건, 저장 {}건", batch.size(), savedNewses.getNewses().size());
+            newsCacheInvalidationPort.publish(NewsCacheInvalidationEvent.of(savedNewses.getNewses()));
+            newsStreamPublishPort.publish(savedNewses.getNewses().stream().map(News::getId).toList());
+        }
+        // 중복으로 걸러진 기사도 이미 받은 것이므로 워터마크는 수신한 배치 전체 기준으로 옮긴다
+        newsScrapWatermarkPersistencePort.advance(batch);
+        return savedNewses;
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(key = "news:all:filters", expireSeconds = 300)
-    public Newses findAllByFilters(NewsQueryRequest request) {
+    @Cacheable(value = "news_list", key = "news:all:filters", expireSeconds = 300)
+    public List<NewsSummary> findAllByFilters(NewsQueryRequest request) {
         log.info("필터 조건으로 뉴스 조회: {}", request);
-        return newsPersistencePort.findAllByFilters(request);
+        return newsPersistencePort.findSummariesByFilters(request, 0, MAX_FILTER_RESULTS);
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(key = "news:search", expireSeconds = 300)
-    public PaginationResponse<Newses> searchNews(NewsSearchRequest request) {
+    @Cacheable(value = "news_search", key = "news:search", expireSeconds = 300)
+    public PaginationResponse<NewsSummary> searchNews(NewsSearchRequest request) {
         log.info("뉴스 검색: {}", request);
 
+        // 키워드 검색은 전문 검색 색인에서 순위를 정하고 목록 요약만 DB 에서 id 로 읽는다
+        if (newsSearchPort.supports(request)) {
+            SearchPage hits = newsSearchPort.search(request, request.getPage(), request.getSize());
+            return PaginationResponse.<NewsSummary>builder()
+                    .content(newsPersistencePort.findSummariesByIds(hits.ids()))
+                    .page(request.getPage())
+                    .size(request.getSize())
+                    .totalElements(hits.totalHits())
+                    .build();
+        }
+
         NewsQueryRequest queryRequest = new NewsQueryRequest(
                 request.getStartDate(),
                 request.getEndDate(),
@@ -143,18 +182,12 @@ public class AdvancedNewsService implements NewsCommandUseCase, NewsQueryUseCase
                 request.getCategories(),
                 request.getProviders());
 
-        Newses newses = newsPersistencePort.findAllByFilters(queryRequest);
-
-        List<News> allNews = newses.getNewses();
-        int totalElements = allNews.size();
-        int startIndex = request.getPage() * request.getSize();
-        int endIndex = Math.min(startIndex + request.getSize(), totalElements);
-
-        List<News> pagedNews = allNews.subList(startIndex, endIndex);
-        Newses pagedNewses = new Newses(pagedNews);
+        List<NewsSummary> pagedNewses = newsPersistencePort.findSummariesByFilters(
+                queryRequest, request.getPage(), request.getSize());
+        long totalElements = newsPersistencePort.countByFilters(queryRequest);
 
-        return PaginationResponse.<Newses>builder()
-                .content(List.of(pagedNewses))
+        return PaginationResponse.<NewsSummary>builder()
+                .content(pagedNewses)
                 .page(request.getPage())
                 .size(request.getSize())
                 .totalElements(totalElements)
@@ -163,7 +196,44 @@ public class AdvancedNewsService implements NewsCommandUseCase, NewsQueryUseCase
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(key = "news:detail", expireSeconds = 600)
+    public PaginationResponse<NewsSummary> searchNewsByCursor(NewsSearchRequest request) {
+        log.info("커서 기반 뉴스 검색: cursor={}", request.getCursor());
+
+        if (newsSearchPort.supports(request)) {
+            SearchPage hits = newsSearchPort.searchAfter(request, request.getCursor(), request.getSize());
+            boolean firstPage = request.getCursor() == null || request.getCursor().isBlank();
+            return PaginationResponse.ofCursor(newsPersistencePort.findSummariesByIds(hits.ids()),
+                    request.getSize(), firstPage, hits.hasNext(), hits.nextCursor());
+        }
+
+        NewsQueryRequest queryRequest = new NewsQueryRequest(
+                request.getStartDate(),
+                request.getEndDate(),
+                request.getSentimentType(),
+                request.getKeyword(),
+                request.getCategories(),
+                request.getProviders());
+
+        boolean first = request.getCursor() == null || request.getCursor().isBlank();
+        NewsCursor cursor = first ? null : NewsCursor.decode(request.getCursor());
+
+        List<NewsSummary> fetched = newsPersistencePort.findSummariesByFiltersAfter(
+                queryRequest, cursor, request.getSize() + 1);
+        boolean hasNext = fetched.size() > request.getSize();
+        List<NewsSummary> pageContent = hasNext ? fetched.subList(0, request.getSize()) : fetched;
+
+        String nextCursor = null;
+        if (hasNext) {
+            NewsSummary last = pageContent.get(pageContent.size() - 1);
+            nextCursor = NewsCursor.of(last.getPublishedTime(), last.getId()).encode();
+        }
+
+        return PaginationResponse.ofCursor(pageContent, request.getSize(), first, hasNext, nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = "news_detail", key = "news:detail:#{#newsId}", expireSeconds = 600)
     public NewsDetailResponse getNewsDetail(Long newsId) {
         log.info("뉴스 상세 조회: {}", newsId);
 
@@ -178,13 +248,13 @@ public class AdvancedNewsService implements NewsCommandUseCase, NewsQueryUseCase
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(key = "news:related", expireSeconds = 300)
-    public Newses getRelatedNews(Long newsId, int limit) {
+    @Cacheable(value = "news_related", key = "news:related:#{#newsId}:#{#limit}", expireSeconds = 300)
+    public List<NewsSummary> getRelatedNews(Long newsId, int limit) {
         log.info("관련 뉴스 조회: {}, limit: {}", newsId, limit);
 
         Optional<News> newsOpt = newsPersistencePort.findById(newsId);
         if (newsOpt.isEmpty()) {
-            return new Newses();
+            return List.of();
         }
 
         News news = newsOpt.get();
@@ -192,59 +262,40 @@ public class AdvancedNewsService implements NewsCommandUseCase, NewsQueryUseCase
         List<TargetCategory> categories = news.getAiOverView() != null ? news.getAiOverView().getTargetCategories()
                 : new ArrayList<>();
 
-        NewsQueryRequest queryRequest = new NewsQueryRequest(
-                null, null, null, null, categories, List.of(news.getNewsProvider()));
-
-        Newses relatedNewses = newsPersistencePort.findAllByFilters(queryRequest);
-        List<News> relatedNewsList = relatedNewses.getNewses().stream()
-                .filter(n -> !n.getId().equals(newsId))
-                .limit(limit)
-                .collect(Collectors.toList());
-
-        return new Newses(relatedNewsList);
+        return newsPersistencePort.findRelatedNews(newsId,
+                categories.stream().map(TargetCategory::name).toList(), news.getNewsProvider(), limit);
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(key = "news:popular", expireSeconds = 300)
-    public Newses getPopularNews(int limit) {
+    @Cacheable(value = "news_list", key = "news:popular:#{#limit}", expireSeconds = 300)
+    public List<NewsSummary> getPopularNews(int limit) {
         log.info("인기 뉴스 조회: limit: {}", limit);
 
         LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
         NewsQueryRequest queryRequest = new NewsQueryRequest(
                 weekAgo, null, null, null, null, null);
 
-        Newses recentNewses = newsPersistencePort.findAllByFilters(queryRequest);
-        List<News> popularNews = recentNewses.getNewses().stream()
-                .limit(limit)
-                .collect(Collectors.toList());
-
-        return new Newses(popularNews);
+        return newsPersistencePort.findSummariesByFilters(queryRequest, 0, limit);
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(key = "news:latest", expireSeconds = 300)
-    public Newses getLatestNews(int limit) {
+    @Cacheable(value = "news_list", key = "news:latest:#{#limit}", expireSeconds = 300)
+    public List<NewsSummary> getLatestNews(int limit) {
         log.info("최신 뉴스 조회: limit: {}", limit);
 
         LocalDateTime dayAgo = LocalDateTime.now().minusDays(1);
         NewsQueryRequest queryRequest = new NewsQueryRequest(
                 dayAgo, null, null, null, null, null);
 
-        Newses recentNewses = newsPersistencePort.findAllByFilters(queryRequest);
-        List<News> latestNews = recentNewses.getNewses().stream()
-                .sorted((n1, n2) -> n2.getScrapedTime().compareTo(n1.getScrapedTime()))
-                .limit(limit)
-                .collect(Collectors.toList());
-
-        return new Newses(latestNews);
+        return newsPersistencePort.findSummariesByFilters(queryRequest, 0, limit);
     }
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(key = "news:category", expireSeconds = 300)
-    public Newses getNewsByCategory(String category, int limit) {
+    @Cacheable(value = "news_list", key = "news:category:#{#category?.toUpperCase()}:#{#limit}", expireSeconds = 300)
+    public List<NewsSummary> getNewsByCategory(String category, int limit) {
         log.info("카테고리별 뉴스 조회: {}, limit: {}", category, limit);
 
         try {
@@ -252,15 +303,10 @@ public class AdvancedNewsService implements NewsCommandUseCase, NewsQueryUseCase
             NewsQueryRequest queryRequest = new NewsQueryRequest(
                     null, null, null, null, List.of(targetCategory), null);
 
-            Newses categoryNewses = newsPersistencePort.findAllByFilters(queryRequest);
-            List<News> limitedNews = categoryNewses.getNewses().stream()
-                    .limit(limit)
-                    .collect(Collectors.toList());
-
-            return new Newses(limitedNews);
+            return newsPersistencePort.findSummariesByFilters(queryRequest, 0, limit);
         } catch (IllegalArgumentException e) {
             log.warn("유효하지 않은 카테고리: {}", category);
-            return new Newses();
+            return List.of();
         }
     }
 
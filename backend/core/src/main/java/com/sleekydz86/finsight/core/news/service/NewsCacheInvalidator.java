@@ -0,0 +1,77 @@
+package com.sleekydz86.finsight.core.news.service;
+
+import com.sleekydz86.finsight.core.global.cache.AdvancedCacheManager;
+import com.sleekydz86.finsight.core.global.cache.MethodCacheKey;
+import com.sleekydz86.finsight.core.news.domain.event.NewsCacheInvalidationEvent;
+import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsQueryRequest;
+import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsSearchRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 뉴스 저장/분석 이벤트를 받아 AdvancedNewsService 의 캐시 중 영향을 받는 키만 무효화한다.
+ * 키 형식은 AdvancedNewsService 의 @Cacheable 키 템플릿과 맞춰야 한다.
+ */
+@Service
+public class NewsCacheInvalidator {
+
+    private static final Logger log = LoggerFactory.getLogger(NewsCacheInvalidator.class);
+
+    static final String NEWS_DETAIL_CACHE = "news_detail";
+    static final String NEWS_LIST_CACHE = "news_list";
+    static final String NEWS_SEARCH_CACHE = "news_search";
+
+    private static final String DETAIL_KEY_PREFIX = "news:detail:";
+    private static final String CATEGORY_KEY_PREFIX = "news:category:";
+    private static final String FILTERS_KEY_PREFIX = "news:all:filters";
+    private static final String SEARCH_KEY_PREFIX = "news:search";
+
+    private final AdvancedCacheManager cacheManager;
+
+    public NewsCacheInvalidator(AdvancedCacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    public void invalidate(NewsCacheInvalidationEvent event) {
+        Set<String> detailKeys = event.newsIds().stream()
+                .map(id -> DETAIL_KEY_PREFIX + id)
+                .collect(Collectors.toSet());
+        Set<String> categoryPrefixes = event.categories().stream()
+                .map(category -> CATEGORY_KEY_PREFIX + category.name() + ":")
+                .collect(Collectors.toSet());
+
+        int details = detailKeys.isEmpty() ? 0 : cacheManager.invalidate(NEWS_DETAIL_CACHE, detailKeys::contains);
+        int lists = cacheManager.invalidate(NEWS_LIST_CACHE, key -> affectsList(key, event, categoryPrefixes));
+        int searches = cacheManager.invalidate(NEWS_SEARCH_CACHE, key -> affectsSearch(key, event));
+
+        log.info("뉴스 캐시 무효화: providers={}, categories={}, detail={}, list={}, search={}",
+                event.providers(), event.categories(), details, lists, searches);
+    }
+
+    private boolean affectsList(Object key, NewsCacheInvalidationEvent event, Set<String> categoryPrefixes) {
+        if (key instanceof String stringKey) {
+            if (stringKey.startsWith(CATEGORY_KEY_PREFIX)) {
+                return categoryPrefixes.stream().anyMatch(stringKey::startsWith);
+            }
+            // 최신/인기 목록은 제공자, 카테고리 구분 없이 새 기사가 들어올 수 있다
+            return true;
+        }
+        if (key instanceof MethodCacheKey methodKey && FILTERS_KEY_PREFIX.equals(methodKey.prefix())
+                && methodKey.argument(0) instanceof NewsQueryRequest request) {
+            return event.affects(request.getProviders(), request.getCategories());
+        }
+        return true;
+    }
+
+    private boolean affectsSearch(Object key, NewsCacheInvalidationEvent event) {
+        if (key instanceof MethodCacheKey methodKey && SEARCH_KEY_PREFIX.equals(methodKey.prefix())
+                && methodKey.argument(0) instanceof NewsSearchRequest request) {
+            return event.affects(request.getProviders(), request.getCategories());
+        }
+        return true;
+    }
+}
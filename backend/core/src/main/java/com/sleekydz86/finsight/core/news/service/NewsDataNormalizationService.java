@@ -6,19 +6,20 @@ import com.sleekydz86.finsight.core.news.domain.vo.NormalizedContent;
 import com.sleekydz86.finsight.core.news.domain.vo.ContentNormalizationResult;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 
 @Service
-@Transactional
 public class NewsDataNormalizationService {
 
     @Value("${news.normalization.min-title-length:10}")
@@ -45,6 +46,12 @@ public class NewsDataNormalizationService {
     @Value("${news.normalization.enable-content-hashing:true}")
     private boolean enableContentHashing;
 
+    // 단계별 소요 시간/통계는 비용이 커서 이 비율만큼의 기사에서만 수집한다 (0 이면 수집하지 않음)
+    @Value("${news.normalization.timing-sample-rate:0.0}")
+    private double timingSampleRate;
+
+    private volatile NewsTextNormalizer textNormalizer;
+
     private final Map<String, String> contentHashCache = new ConcurrentHashMap<>();
     private final Map<String, String> urlHashCache = new ConcurrentHashMap<>();
 
@@ -56,9 +63,6 @@ public class NewsDataNormalizationService {
     private static final Pattern HTML_TAG_PATTERN = Pattern.compile("<[^>]*>");
     private static final Pattern CONTROL_CHAR_PATTERN = Pattern.compile("[\\p{C}&&[^\\r\\n\\t]]");
     private static final Pattern SPECIAL_CHAR_PATTERN = Pattern.compile("[!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>/?]");
-    private static final Pattern MULTIPLE_SPACE_PATTERN = Pattern.compile("\\s+");
-    private static final Pattern MULTIPLE_NEWLINE_PATTERN = Pattern.compile("\\n\\s*\\n");
-    private static final Pattern TRAILING_SPACE_PATTERN = Pattern.compile("\\s+$");
 
     public List<News> normalizeAndDeduplicate(List<News> rawNews) {
         if (rawNews == null || rawNews.isEmpty()) {
@@ -128,18 +132,22 @@ public class NewsDataNormalizationService {
 
     private ContentNormalizationResult normalizeSingleNews(News news) {
         LocalDateTime startedAt = LocalDateTime.now();
-        long startTime = System.currentTimeMillis();
+        boolean sampled = timingSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < timingSampleRate;
+        long startTime = System.nanoTime();
 
         try {
             Content originalContent = news.getOriginalContent();
-            String originalTitle = originalContent.getTitle();
-            String originalBody = originalContent.getContent();
+            NewsTextNormalizer normalizer = textNormalizer();
 
-            String normalizedTitle = normalizeTitle(originalTitle);
+            String normalizedTitle = normalizer.normalize(originalContent.getTitle(), maxTitleLength);
+            long titleDone = System.nanoTime();
 
-            String normalizedBody = normalizeBody(originalBody);
+            String normalizedBody = normalizer.normalize(originalContent.getContent(), maxContentLength);
+            long bodyDone = System.nanoTime();
 
             int qualityScore = calculateQualityScore(originalContent, normalizedTitle, normalizedBody);
+            long qualityDone = System.nanoTime();
+            long processingTimeMs = TimeUnit.NANOSECONDS.toMillis(qualityDone - startTime);
 
             NormalizedContent normalizedContent = NormalizedContent.builder()
                     .original(originalContent)
@@ -148,32 +156,38 @@ public class NewsDataNormalizationService {
                     .normalizedBody(normalizedBody)
                     .contentHash(enableContentHashing ? generateContentHash(normalizedTitle, normalizedBody) : null)
                     .urlHash(enableContentHashing ? generateUrlHash(news.getNewsMeta().getSourceUrl()) : null)
-                    .normalizedAt(LocalDateTime.now())
+                    .normalizedAt(startedAt)
                     .qualityScore(qualityScore)
-                    .warnings(new ArrayList<>())
-                    .errors(new ArrayList<>())
+                    .warnings(List.of())
+                    .errors(List.of())
                     .isSuccessfullyNormalized(qualityScore >= 60)
-                    .processingTimeMs(System.currentTimeMillis() - startTime)
+                    .processingTimeMs(processingTimeMs)
                     .normalizationVersion("1.0")
                     .build();
 
-            ContentNormalizationResult.NormalizationStatistics statistics = createStatistics(
-                    originalContent, normalizedTitle, normalizedBody);
-
-            ContentNormalizationResult.NormalizationMetadata metadata = createMetadata();
-
-            return ContentNormalizationResult.builder()
+            ContentNormalizationResult.Builder result = ContentNormalizationResult.builder()
                     .originalNews(news)
                     .normalizedContent(normalizedContent)
                     .success(qualityScore >= 60)
                     .startedAt(startedAt)
+                    .processingTimeMs(processingTimeMs)
+                    .warnings(List.of())
+                    .errors(List.of());
+
+            if (!sampled) {
+                return result.stepProcessingTimes(Map.of()).build();
+            }
+
+            Map<String, Long> stepProcessingTimes = new HashMap<>();
+            stepProcessingTimes.put("title_normalization", titleDone - startTime);
+            stepProcessingTimes.put("body_normalization", bodyDone - titleDone);
+            stepProcessingTimes.put("quality_check", qualityDone - bodyDone);
+            stepProcessingTimes.put("total", qualityDone - startTime);
+            return result
                     .completedAt(LocalDateTime.now())
-                    .processingTimeMs(System.currentTimeMillis() - startTime)
-                    .stepProcessingTimes(createStepProcessingTimes(startTime))
-                    .warnings(new ArrayList<>())
-                    .errors(new ArrayList<>())
-                    .statistics(statistics)
-                    .metadata(metadata)
+                    .stepProcessingTimes(stepProcessingTimes)
+                    .statistics(createStatistics(originalContent, normalizedTitle, normalizedBody))
+                    .metadata(createMetadata())
                     .build();
 
         } catch (Exception e) {
@@ -181,64 +195,13 @@ public class NewsDataNormalizationService {
         }
     }
 
-    private String normalizeTitle(String title) {
-        if (title == null)
-            return "";
-
-        String normalized = title;
-
-        if (removeHtmlTags) {
-            normalized = HTML_TAG_PATTERN.matcher(normalized).replaceAll("");
+    private NewsTextNormalizer textNormalizer() {
+        NewsTextNormalizer normalizer = textNormalizer;
+        if (normalizer == null) {
+            normalizer = new NewsTextNormalizer(removeHtmlTags, removeControlCharacters, removeSpecialCharacters);
+            textNormalizer = normalizer;
         }
-
-        if (removeControlCharacters) {
-            normalized = CONTROL_CHAR_PATTERN.matcher(normalized).replaceAll("");
-        }
-
-        if (removeSpecialCharacters) {
-            normalized = SPECIAL_CHAR_PATTERN.matcher(normalized).replaceAll("");
-        }
-
-        normalized = MULTIPLE_SPACE_PATTERN.matcher(normalized).replaceAll(" ");
-
-        normalized = normalized.trim();
-
-        if (normalized.length() > maxTitleLength) {
-            normalized = normalized.substring(0, maxTitleLength).trim();
-        }
-
-        return normalized;
-    }
-
-    private String normalizeBody(String body) {
-        if (body == null)
-            return "";
-
-        String normalized = body;
-
-        if (removeHtmlTags) {
-            normalized = HTML_TAG_PATTERN.matcher(normalized).replaceAll("");
-        }
-
-        if (removeControlCharacters) {
-            normalized = CONTROL_CHAR_PATTERN.matcher(normalized).replaceAll("");
-        }
-
-        if (removeSpecialCharacters) {
-            normalized = SPECIAL_CHAR_PATTERN.matcher(normalized).replaceAll("");
-        }
-
-        normalized = MULTIPLE_SPACE_PATTERN.matcher(normalized).replaceAll(" ");
-
-        normalized = MULTIPLE_NEWLINE_PATTERN.matcher(normalized).replaceAll("\n\n");
-
-        normalized = normalized.trim();
-
-        if (normalized.length() > maxContentLength) {
-            normalized = normalized.substring(0, maxContentLength).trim();
-        }
-
-        return normalized;
+        return normalizer;
     }
 
     private int calculateQualityScore(Content original, String normalizedTitle, String normalizedBody) {
@@ -260,8 +223,8 @@ public class NewsDataNormalizationService {
             score -= 10;
         }
 
-        if (removeControlCharacters
-                && CONTROL_CHAR_PATTERN.matcher(original.getTitle() + original.getContent()).find()) {
+        if (removeControlCharacters && (textNormalizer().containsControlCharacter(original.getTitle())
+                || textNormalizer().containsControlCharacter(original.getContent()))) {
             score -= 5;
         }
 
@@ -269,16 +232,18 @@ public class NewsDataNormalizationService {
     }
 
     private List<ContentNormalizationResult> removeDuplicates(List<ContentNormalizationResult> results) {
-        Map<String, ContentNormalizationResult> uniqueResults = new HashMap<>();
+        Map<String, ContentNormalizationResult> uniqueResults = new LinkedHashMap<>();
 
         for (ContentNormalizationResult result : results) {
-            String key = generateContentHash(
-                    result.getNormalizedContent().getNormalizedTitle(),
-                    result.getNormalizedContent().getNormalizedBody());
-
-            if (!uniqueResults.containsKey(key)) {
-                uniqueResults.put(key, result);
+            NormalizedContent normalizedContent = result.getNormalizedContent();
+            if (normalizedContent == null) {
+                continue;
             }
+            String key = normalizedContent.getContentHash() != null
+                    ? normalizedContent.getContentHash()
+                    : generateContentHash(normalizedContent.getNormalizedTitle(), normalizedContent.getNormalizedBody());
+
+            uniqueResults.putIfAbsent(key, result);
         }
 
         return new ArrayList<>(uniqueResults.values());
@@ -389,16 +354,6 @@ public class NewsDataNormalizationService {
                 .build();
     }
 
-    private Map<String, Long> createStepProcessingTimes(long startTime) {
-        Map<String, Long> times = new HashMap<>();
-        long currentTime = System.currentTimeMillis();
-        times.put("total", currentTime - startTime);
-        times.put("validation", 10L);
-        times.put("normalization", currentTime - startTime - 10);
-        times.put("quality_check", 5L);
-        return times;
-    }
-
     private void updateStatistics(long startTime, int inputCount, int outputCount) {
         totalProcessedCount.addAndGet(inputCount);
         successCount.addAndGet(outputCount);
@@ -2,22 +2,37 @@ package com.sleekydz86.finsight.core.news.service;
 
 import com.sleekydz86.finsight.core.news.domain.News;
 import com.sleekydz86.finsight.core.news.domain.Newses;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsIngestResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Collectors;
+import java.util.function.UnaryOperator;
 
+/**
+ * 정규화 → 중복 제거 → 품질 검증 → 적재를 단계별 파이프라인으로 처리한다.
+ * 기사는 chunkSize 단위 청크로 흐르고, 각 단계는 자체 스케줄러의 레일마다 queueCapacity 크기의 큐를 두어
+ * 느린 단계가 앞 단계를 역압으로 멈추게 한다. 적재는 persistBatchSize 건씩 모아 대량 INSERT 한다.
+ */
 @Service
-@Transactional
 public class NewsDataProcessingOrchestrator {
 
     private static final Logger log = LoggerFactory.getLogger(NewsDataProcessingOrchestrator.class);
@@ -26,75 +41,110 @@ public class NewsDataProcessingOrchestrator {
     private final NewsDeduplicationService deduplicationService;
     private final NewsDataQualityService qualityService;
     private final NewsPersistenceService persistenceService;
-    private final Executor newsProcessingExecutor;
+    private final MeterRegistry meterRegistry;
+
+    private final int chunkSize;
+    private final int queueCapacity;
+    private final int persistBatchSize;
+
+    private final Stage normalizeStage;
+    private final Stage deduplicateStage;
+    private final Stage qualityStage;
+    private final Stage persistStage;
 
     private final AtomicLong totalProcessed = new AtomicLong(0);
     private final AtomicLong successfulProcessed = new AtomicLong(0);
     private final AtomicLong failedProcessed = new AtomicLong(0);
+    private final AtomicLong storedDuplicates = new AtomicLong(0);
 
     public NewsDataProcessingOrchestrator(NewsDataNormalizationService normalizationService,
                                           NewsDeduplicationService deduplicationService,
                                           NewsDataQualityService qualityService,
                                           NewsPersistenceService persistenceService,
-                                          Executor newsProcessingExecutor) {
+                                          MeterRegistry meterRegistry,
+                                          @Value("${news.processing.chunk-size:100}") int chunkSize,
+                                          @Value("${news.processing.queue-capacity:16}") int queueCapacity,
+                                          @Value("${news.processing.normalize-parallelism:0}") int normalizeParallelism,
+                                          @Value("${news.processing.deduplicate-parallelism:0}") int deduplicateParallelism,
+                                          @Value("${news.processing.quality-parallelism:2}") int qualityParallelism,
+                                          @Value("${news.processing.persist-parallelism:1}") int persistParallelism,
+                                          @Value("${news.processing.persist-batch-size:500}") int persistBatchSize) {
         this.normalizationService = normalizationService;
         this.deduplicationService = deduplicationService;
         this.qualityService = qualityService;
         this.persistenceService = persistenceService;
-        this.newsProcessingExecutor = newsProcessingExecutor;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.persistBatchSize = Math.max(1, persistBatchSize);
+
+        // CPU 위주 단계는 기본값(0)이면 코어 수만큼, 블로킹 I/O 인 적재는 boundedElastic 스케줄러를 쓴다
+        int cores = Runtime.getRuntime().availableProcessors();
+        int normalizeThreads = normalizeParallelism > 0 ? normalizeParallelism : cores;
+        int deduplicateThreads = deduplicateParallelism > 0 ? deduplicateParallelism : cores;
+        int qualityThreads = Math.max(1, qualityParallelism);
+        int persistThreads = Math.max(1, persistParallelism);
+        this.normalizeStage = new Stage("normalize", normalizeThreads,
+                Schedulers.newParallel("news-normalize", normalizeThreads), false);
+        this.deduplicateStage = new Stage("deduplicate", deduplicateThreads,
+                Schedulers.newParallel("news-deduplicate", deduplicateThreads), false);
+        this.qualityStage = new Stage("quality", qualityThreads,
+                Schedulers.newParallel("news-quality", qualityThreads), false);
+        // 적재 실패는 데이터 유실이므로 청크를 건너뛰지 않고 전체 처리를 실패시킨다
+        this.persistStage = new Stage("persist", persistThreads,
+                Schedulers.newBoundedElastic(persistThreads, this.queueCapacity, "news-persist"), true);
     }
 
     public CompletableFuture<Newses> processNewsData(Newses rawNewses) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                log.info("뉴스 데이터 처리 시작: {} 개", rawNewses.getNewses().size());
-
-                List<News> processedNews = new ArrayList<>();
-
-                for (News news : rawNewses.getNewses()) {
-                    try {
-                        List<News> normalizedNewsList = normalizationService.normalizeAndDeduplicate(List.of(news));
-                        if (!normalizedNewsList.isEmpty()) {
-                            News normalizedNews = normalizedNewsList.get(0);
-                            News deduplicatedNews = deduplicationService.deduplicateNews(normalizedNews);
-                            if (deduplicatedNews != null) {
-                                NewsDataQualityService.DataQualityResult qualityResult = qualityService.validateNewsQuality(deduplicatedNews);
-                                if (qualityResult.isValid()) {
-                                    processedNews.add(deduplicatedNews);
-                                    successfulProcessed.incrementAndGet();
-                                } else {
-                                    log.warn("뉴스 품질 검증 실패: {}", qualityResult.getErrors());
-                                    failedProcessed.incrementAndGet();
-                                }
-                            } else {
-                                log.debug("중복 뉴스로 제거됨");
-                                failedProcessed.incrementAndGet();
-                            }
-                        } else {
-                            log.warn("정규화된 뉴스가 없음");
-                            failedProcessed.incrementAndGet();
-                        }
-                    } catch (Exception e) {
-                        log.error("뉴스 처리 중 오류 발생: {}", e.getMessage());
-                        failedProcessed.incrementAndGet();
-                    }
-                    totalProcessed.incrementAndGet();
-                }
+        List<News> raw = rawNewses.getNewses();
+        log.info("뉴스 데이터 처리 시작: {} 개 (청크 {}건, 정규화 {} / 중복 제거 {} / 품질 {} / 적재 {} 병렬)",
+                raw.size(), chunkSize, normalizeStage.parallelism, deduplicateStage.parallelism,
+                qualityStage.parallelism, persistStage.parallelism);
+        long startNanos = System.nanoTime();
 
-                Newses processedNewses = new Newses(processedNews);
-                if (!processedNews.isEmpty()) {
-                    persistenceService.saveNewsToDatabase(processedNews);
-                }
+        Flux<List<News>> chunks = Flux.fromIterable(raw)
+                .buffer(chunkSize)
+                .doOnNext(chunk -> totalProcessed.addAndGet(chunk.size()));
+        Flux<List<News>> normalized = normalizeStage.apply(chunks, normalizationService::normalizeAndDeduplicate);
+        Flux<List<News>> unique = deduplicateStage.apply(normalized, deduplicationService::deduplicateChunk);
+        Flux<List<News>> valid = qualityStage.apply(unique, this::filterByQuality);
+        Flux<List<News>> batches = valid
+                .concatMapIterable(chunk -> chunk)
+                .buffer(persistBatchSize);
 
-                log.info("뉴스 데이터 처리 완료: 성공 {} 개, 실패 {} 개",
-                        successfulProcessed.get(), failedProcessed.get());
+        return persistStage.apply(batches, this::persist)
+                .concatMapIterable(batch -> batch)
+                .collectList()
+                .map(processed -> {
+                    successfulProcessed.addAndGet(processed.size());
+                    failedProcessed.addAndGet(raw.size() - processed.size());
+                    log.info("뉴스 데이터 처리 완료: 입력 {} 개, 성공 {} 개, 제외 {} 개, {}ms",
+                            raw.size(), processed.size(), raw.size() - processed.size(),
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+                    return new Newses(processed);
+                })
+                .doOnError(e -> log.error("뉴스 데이터 처리 중 전체 오류 발생", e))
+                .onErrorMap(e -> new RuntimeException("뉴스 데이터 처리 실패", e))
+                .toFuture();
+    }
 
-                return processedNewses;
-            } catch (Exception e) {
-                log.error("뉴스 데이터 처리 중 전체 오류 발생", e);
-                throw new RuntimeException("뉴스 데이터 처리 실패", e);
+    private List<News> filterByQuality(List<News> chunk) {
+        List<News> valid = new ArrayList<>(chunk.size());
+        for (News news : chunk) {
+            NewsDataQualityService.DataQualityResult qualityResult = qualityService.validateNewsQuality(news);
+            if (qualityResult.isValid()) {
+                valid.add(news);
+            } else {
+                log.debug("뉴스 품질 검증 실패: {}", qualityResult.getErrors());
             }
-        }, newsProcessingExecutor);
+        }
+        return valid;
+    }
+
+    private List<News> persist(List<News> batch) {
+        NewsIngestResult result = persistenceService.bulkInsertNews(batch);
+        storedDuplicates.addAndGet(result.duplicates());
+        return batch;
     }
 
     public Map<String, Object> getProcessingStatistics() {
@@ -102,8 +152,14 @@ public class NewsDataProcessingOrchestrator {
         stats.put("totalProcessed", totalProcessed.get());
         stats.put("successfulProcessed", successfulProcessed.get());
         stats.put("failedProcessed", failedProcessed.get());
+        stats.put("storedDuplicates", storedDuplicates.get());
         stats.put("successRate", totalProcessed.get() > 0 ?
                 (double) successfulProcessed.get() / totalProcessed.get() * 100 : 0);
+        Map<String, Object> stages = new LinkedHashMap<>();
+        for (Stage stage : List.of(normalizeStage, deduplicateStage, qualityStage, persistStage)) {
+            stages.put(stage.name, stage.getStatistics());
+        }
+        stats.put("stages", stages);
         return stats;
     }
 
@@ -111,5 +167,98 @@ public class NewsDataProcessingOrchestrator {
         totalProcessed.set(0);
         successfulProcessed.set(0);
         failedProcessed.set(0);
+        storedDuplicates.set(0);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        normalizeStage.scheduler.dispose();
+        deduplicateStage.scheduler.dispose();
+        qualityStage.scheduler.dispose();
+        persistStage.scheduler.dispose();
+    }
+
+    /**
+     * 파이프라인 한 단계. parallelism 개의 레일이 각자 queueCapacity 크기의 큐에서 청크를 꺼내 처리하며,
+     * 큐에 대기 중인 청크 수를 news.processing.stage.queue.depth 게이지로 노출한다.
+     */
+    private final class Stage {
+
+        private final String name;
+        private final int parallelism;
+        private final Scheduler scheduler;
+        private final boolean failFast;
+        private final AtomicInteger queueDepth = new AtomicInteger();
+        private final AtomicLong inputArticles = new AtomicLong();
+        private final AtomicLong outputArticles = new AtomicLong();
+        private final AtomicLong failedChunks = new AtomicLong();
+        private final Counter inputCounter;
+        private final Counter outputCounter;
+        private final Timer latency;
+
+        private Stage(String name, int parallelism, Scheduler scheduler, boolean failFast) {
+            this.name = name;
+            this.parallelism = parallelism;
+            this.scheduler = scheduler;
+            this.failFast = failFast;
+            Gauge.builder("news.processing.stage.queue.depth", queueDepth, AtomicInteger::get)
+                    .tag("stage", name)
+                    .register(meterRegistry);
+            this.inputCounter = Counter.builder("news.processing.stage.articles")
+                    .tag("stage", name)
+                    .tag("direction", "in")
+                    .register(meterRegistry);
+            this.outputCounter = Counter.builder("news.processing.stage.articles")
+                    .tag("stage", name)
+                    .tag("direction", "out")
+                    .register(meterRegistry);
+            this.latency = Timer.builder("news.processing.stage.latency")
+                    .tag("stage", name)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry);
+        }
+
+        private Flux<List<News>> apply(Flux<List<News>> chunks, UnaryOperator<List<News>> work) {
+            return chunks
+                    .doOnNext(chunk -> queueDepth.incrementAndGet())
+                    .parallel(parallelism, queueCapacity)
+                    .runOn(scheduler, queueCapacity)
+                    .map(chunk -> process(chunk, work))
+                    .sequential(queueCapacity)
+                    .filter(chunk -> !chunk.isEmpty());
+        }
+
+        private List<News> process(List<News> chunk, UnaryOperator<List<News>> work) {
+            queueDepth.decrementAndGet();
+            long startNanos = System.nanoTime();
+            List<News> result;
+            try {
+                result = work.apply(chunk);
+            } catch (RuntimeException e) {
+                if (failFast) {
+                    throw e;
+                }
+                failedChunks.incrementAndGet();
+                log.error("뉴스 처리 {} 단계 오류: 청크 {}건 제외", name, chunk.size(), e);
+                result = List.of();
+            }
+            latency.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            inputArticles.addAndGet(chunk.size());
+            outputArticles.addAndGet(result.size());
+            inputCounter.increment(chunk.size());
+            outputCounter.increment(result.size());
+            return result;
+        }
+
+        private Map<String, Object> getStatistics() {
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("parallelism", parallelism);
+            stats.put("queueDepth", queueDepth.get());
+            stats.put("inputArticles", inputArticles.get());
+            stats.put("outputArticles", outputArticles.get());
+            stats.put("failedChunks", failedChunks.get());
+            stats.put("meanChunkMillis", latency.mean(TimeUnit.MILLISECONDS));
+            return stats;
+        }
     }
-}
\ No newline at end of file
+}
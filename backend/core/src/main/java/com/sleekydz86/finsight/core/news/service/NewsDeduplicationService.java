@@ -2,150 +2,180 @@ package com.sleekydz86.finsight.core.news.service;
 
 import com.sleekydz86.finsight.core.news.domain.News;
 import com.sleekydz86.finsight.core.news.domain.vo.Content;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Collectors;
 
 @Service
-@Transactional
 public class NewsDeduplicationService {
 
     private static final Logger log = LoggerFactory.getLogger(NewsDeduplicationService.class);
 
+    // 시간 버킷 한 칸의 크기. 윈도우(time-window-hours)는 이 버킷 N개로 이루어진 링이다.
+    private static final long BUCKET_MILLIS = Duration.ofHours(1).toMillis();
+
     @Value("${news.deduplication.url-based:true}")
     private boolean urlBasedDeduplication;
 
     @Value("${news.deduplication.title-similarity-threshold:0.8}")
     private double titleSimilarityThreshold;
 
-    @Value("${news.deduplication.content-similarity-threshold:0.7}")
+    @Value("${news.deduplication.content-similarity-threshold:0.8}")
     private double contentSimilarityThreshold;
 
     @Value("${news.deduplication.time-window-hours:24}")
     private int timeWindowHours;
 
-    private final Map<String, News> urlCache = new ConcurrentHashMap<>();
-    private final Map<String, Set<String>> titleHashCache = new ConcurrentHashMap<>();
+    @Value("${news.deduplication.max-cache-size:100000}")
+    private int maxCacheSize;
+
+    private NewsFingerprintIndex fingerprintIndex;
     private final AtomicLong totalProcessed = new AtomicLong(0);
     private final AtomicLong duplicatesFound = new AtomicLong(0);
+    private final AtomicLong urlDuplicates = new AtomicLong(0);
+    private final AtomicLong titleDuplicates = new AtomicLong(0);
+    private final AtomicLong contentDuplicates = new AtomicLong(0);
+
+    @PostConstruct
+    void initialize() {
+        fingerprintIndex = new NewsFingerprintIndex(
+                BUCKET_MILLIS,
+                Math.max(1, timeWindowHours),
+                maxCacheSize,
+                toMaxHammingDistance(titleSimilarityThreshold),
+                toMaxHammingDistance(contentSimilarityThreshold));
+        log.info("뉴스 중복 제거 인덱스 초기화: window={}h, maxEntries={}", timeWindowHours, maxCacheSize);
+    }
 
     public News deduplicateNews(News news) {
         try {
-            totalProcessed.incrementAndGet();
-
-            if (urlBasedDeduplication && isDuplicateByUrl(news)) {
-                duplicatesFound.incrementAndGet();
-                log.debug("URL 기반 중복 뉴스 발견: {}", news.getNewsMeta().getSourceUrl());
-                return null;
-            }
-
-            if (isDuplicateByTitle(news)) {
-                duplicatesFound.incrementAndGet();
-                log.debug("제목 기반 중복 뉴스 발견: {}", news.getOriginalContent().getTitle());
-                return null;
-            }
-
-            if (isDuplicateByContent(news)) {
-                duplicatesFound.incrementAndGet();
-                log.debug("내용 기반 중복 뉴스 발견");
-                return null;
-            }
-
-            cacheNews(news);
-            return news;
-
+            Fingerprint fingerprint = fingerprintOf(news);
+            return isDuplicate(news, fingerprint) ? null : news;
         } catch (Exception e) {
             log.error("뉴스 중복 제거 중 오류 발생", e);
             return news;
         }
     }
 
-    private boolean isDuplicateByUrl(News news) {
-        String url = news.getNewsMeta().getSourceUrl();
-        return urlCache.containsKey(url);
-    }
-
-    private boolean isDuplicateByTitle(News news) {
-        String title = news.getOriginalContent().getTitle();
-        if (title == null || title.trim().isEmpty()) {
-            return false;
+    /**
+     * 배치 단위 중복 제거. 비용이 큰 지문 계산(토큰화 + SimHash)은 병렬로 수행하고,
+     * 인덱스 조회/등록은 입력 순서대로 처리해 배치 내부 중복도 먼저 들어온 기사만 남긴다.
+     */
+    public List<News> deduplicate(List<News> newses) {
+        if (newses == null || newses.isEmpty()) {
+            return List.of();
         }
+        return deduplicate(newses, newses.parallelStream().map(this::fingerprintOf).toList());
+    }
 
-        String titleHash = generateTitleHash(title);
-        String timeKey = getTimeWindowKey(news.getScrapedTime());
-
-        Set<String> titleHashes = titleHashCache.computeIfAbsent(timeKey, k -> ConcurrentHashMap.newKeySet());
-
-        if (titleHashes.contains(titleHash)) {
-            return true;
+    /**
+     * 호출 측이 이미 청크 단위로 병렬 처리하는 경우(처리 파이프라인)에 쓰는 배치 중복 제거.
+     * 지문 계산도 호출 스레드에서 수행해 공용 ForkJoinPool 과 경쟁하지 않는다.
+     */
+    public List<News> deduplicateChunk(List<News> newses) {
+        if (newses == null || newses.isEmpty()) {
+            return List.of();
         }
-
-        titleHashes.add(titleHash);
-        return false;
+        return deduplicate(newses, newses.stream().map(this::fingerprintOf).toList());
     }
 
-    private boolean isDuplicateByContent(News news) {
-        Content content = news.getOriginalContent();
-        if (content == null || content.getContent() == null) {
-            return false;
+    private List<News> deduplicate(List<News> newses, List<Fingerprint> fingerprints) {
+        List<News> uniqueNewses = new ArrayList<>(newses.size());
+        for (int i = 0; i < newses.size(); i++) {
+            News news = newses.get(i);
+            try {
+                if (!isDuplicate(news, fingerprints.get(i))) {
+                    uniqueNewses.add(news);
+                }
+            } catch (Exception e) {
+                log.error("뉴스 중복 제거 중 오류 발생", e);
+                uniqueNewses.add(news);
+            }
         }
 
-        String contentHash = generateContentHash(content.getContent());
-        String timeKey = getTimeWindowKey(news.getScrapedTime());
-
-        Set<String> contentHashes = titleHashCache.computeIfAbsent(timeKey + "_content", k -> ConcurrentHashMap.newKeySet());
-
-        return contentHashes.contains(contentHash);
+        log.debug("배치 중복 제거 완료: 입력 {}건, 고유 {}건", newses.size(), uniqueNewses.size());
+        return uniqueNewses;
     }
 
-    private void cacheNews(News news) {
-        String url = news.getNewsMeta().getSourceUrl();
-        urlCache.put(url, news);
+    private boolean isDuplicate(News news, Fingerprint fingerprint) {
+        totalProcessed.incrementAndGet();
 
-        String title = news.getOriginalContent().getTitle();
-        if (title != null && !title.trim().isEmpty()) {
-            String titleHash = generateTitleHash(title);
-            String timeKey = getTimeWindowKey(news.getScrapedTime());
-            titleHashCache.computeIfAbsent(timeKey, k -> ConcurrentHashMap.newKeySet()).add(titleHash);
+        NewsFingerprintIndex.Match match = fingerprintIndex.addIfAbsent(
+                urlBasedDeduplication ? fingerprint.urlHash() : 0L,
+                fingerprint.titleHash(),
+                fingerprint.contentHash(),
+                System.currentTimeMillis());
+        if (match == null) {
+            return false;
         }
-    }
 
-    private String generateTitleHash(String title) {
-        return String.valueOf(title.toLowerCase().trim().hashCode());
+        duplicatesFound.incrementAndGet();
+        switch (match) {
+            case URL -> {
+                urlDuplicates.incrementAndGet();
+                log.debug("URL 기반 중복 뉴스 발견: {}", news.getNewsMeta().getSourceUrl());
+            }
+            case TITLE -> {
+                titleDuplicates.incrementAndGet();
+                log.debug("제목 기반 중복 뉴스 발견: {}", news.getOriginalContent().getTitle());
+            }
+            case CONTENT -> {
+                contentDuplicates.incrementAndGet();
+                log.debug("내용 기반 중복 뉴스 발견");
+            }
+        }
+        return true;
     }
 
-    private String generateContentHash(String content) {
-        return String.valueOf(content.toLowerCase().trim().hashCode());
+    private Fingerprint fingerprintOf(News news) {
+        String url = news.getNewsMeta() != null ? news.getNewsMeta().getSourceUrl() : null;
+        Content content = news.getOriginalContent();
+        return new Fingerprint(
+                NewsSimHash.urlHash(url),
+                NewsSimHash.fingerprint(content != null ? content.getTitle() : null),
+                NewsSimHash.fingerprint(content != null ? content.getContent() : null));
     }
 
-    private String getTimeWindowKey(LocalDateTime dateTime) {
-        LocalDateTime windowStart = dateTime.truncatedTo(ChronoUnit.HOURS)
-                .minusHours(dateTime.getHour() % (timeWindowHours / 24));
-        return windowStart.toString();
+    // 유사도 임계값(0~1)을 64비트 SimHash 의 허용 해밍 거리로 환산 (0.8 -> 6, 0.9 -> 3)
+    // 서로 무관한 문서의 기대 거리는 32 이므로 유사도 t 를 거리 (1 - t) * 32 에 대응시킨다.
+    // 인덱스가 지원하는 거리보다 느슨한 임계값은 LSH 가 선형 탐색이 되므로 0.8 로 올려 쓴다.
+    private static int toMaxHammingDistance(double similarityThreshold) {
+        double bounded = Math.max(0.0, Math.min(1.0, similarityThreshold));
+        int distance = (int) Math.round((1.0 - bounded) * 32);
+        if (distance > NewsFingerprintIndex.MAX_SUPPORTED_DISTANCE) {
+            log.warn("유사도 임계값 {} 은 지원 범위보다 느슨해 해밍 거리 {} 로 제한합니다",
+                    similarityThreshold, NewsFingerprintIndex.MAX_SUPPORTED_DISTANCE);
+            return NewsFingerprintIndex.MAX_SUPPORTED_DISTANCE;
+        }
+        return distance;
     }
 
     public Map<String, Object> getStatistics() {
         Map<String, Object> stats = new HashMap<>();
         stats.put("totalProcessed", totalProcessed.get());
         stats.put("duplicatesFound", duplicatesFound.get());
+        stats.put("urlDuplicates", urlDuplicates.get());
+        stats.put("titleDuplicates", titleDuplicates.get());
+        stats.put("contentDuplicates", contentDuplicates.get());
         stats.put("duplicateRate", totalProcessed.get() > 0 ?
                 (double) duplicatesFound.get() / totalProcessed.get() * 100 : 0);
-        stats.put("cacheSize", urlCache.size());
+        Map<String, Object> indexStats = fingerprintIndex.getStatistics();
+        stats.put("cacheSize", indexStats.get("indexedArticles"));
+        stats.put("index", indexStats);
         return stats;
     }
 
     public void clearCache() {
-        urlCache.clear();
-        titleHashCache.clear();
+        fingerprintIndex.clear();
         log.info("중복 제거 캐시가 초기화되었습니다");
     }
-}
\ No newline at end of file
+
+    private record Fingerprint(long urlHash, long titleHash, long contentHash) {
+    }
+}
@@ -0,0 +1,306 @@
+package com.sleekydz86.finsight.core.news.service;
+
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsFeedEntry;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsPersistencePort;
+import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 개인화 피드용 카테고리 → 최근 기사 역색인.
+ * 카테고리마다 최신순 postings 를 두고, 기사마다 발행 시각을 반감기 단위로 환산한 recencyKey 를 미리 계산해 둔다.
+ * 점수는 log2(관심 카테고리 일치 비율) + recencyKey 로, 관련도 × 2^(-경과시간/반감기) 와 순위가 같다.
+ * 조회는 잠금 없이 하고, 변경(적재/갱신 이벤트, 재적재)은 한 번에 하나만 반영한다.
+ * 인덱스는 첫 조회 때 적재하므로 조회하지 않는 JVM(batch)은 메모리를 쓰지 않는다.
+ */
+@Service
+public class NewsFeedIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(NewsFeedIndex.class);
+
+    private static final int CATEGORY_COUNT = TargetCategory.values().length;
+    private static final double[] LOG2 = new double[CATEGORY_COUNT + 1];
+
+    static {
+        for (int i = 1; i <= CATEGORY_COUNT; i++) {
+            LOG2[i] = Math.log(i) / Math.log(2);
+        }
+    }
+
+    private static final Comparator<Posting> NEWEST_FIRST = Comparator
+            .comparingLong(Posting::publishedMillis).reversed()
+            .thenComparing(Comparator.comparingLong(Posting::newsId).reversed());
+
+    private final NewsPersistencePort newsPersistencePort;
+    private final double halfLifeMillis;
+    private final Duration window;
+    private final int maxPerCategory;
+    private final int loadLimit;
+    private final Duration reloadInterval;
+
+    private final Map<Long, Posting> postingsById = new ConcurrentHashMap<>();
+    private final List<ConcurrentSkipListSet<Posting>> postingsByCategory = new ArrayList<>(CATEGORY_COUNT);
+    private final int[] categorySizes = new int[CATEGORY_COUNT];
+    private final AtomicLong generation = new AtomicLong();
+    // 조기 종료가 얼마나 잘 되는지 보려고 조회에서 살펴본 posting 수를 누적한다
+    private final LongAdder examinedPostings = new LongAdder();
+    private final AtomicBoolean reloading = new AtomicBoolean();
+    private final Object writeLock = new Object();
+
+    private volatile boolean loaded;
+    private volatile long loadedAtMillis;
+
+    public NewsFeedIndex(NewsPersistencePort newsPersistencePort,
+                         @Value("${news.feed.half-life-hours:12}") double halfLifeHours,
+                         @Value("${news.feed.window-days:7}") int windowDays,
+                         @Value("${news.feed.max-per-category:5000}") int maxPerCategory,
+                         @Value("${news.feed.load-limit:200000}") int loadLimit,
+                         @Value("${news.feed.reload-interval-minutes:30}") int reloadIntervalMinutes) {
+        this.newsPersistencePort = newsPersistencePort;
+        this.halfLifeMillis = Math.max(1.0, halfLifeHours) * Duration.ofHours(1).toMillis();
+        this.window = Duration.ofDays(Math.max(1, windowDays));
+        this.maxPerCategory = Math.max(1, maxPerCategory);
+        this.loadLimit = Math.max(1, loadLimit);
+        this.reloadInterval = Duration.ofMinutes(Math.max(1, reloadIntervalMinutes));
+        for (int i = 0; i < CATEGORY_COUNT; i++) {
+            postingsByCategory.add(new ConcurrentSkipListSet<>(NEWEST_FIRST));
+        }
+    }
+
+    /**
+     * 관심 카테고리 마스크에 대해 점수 상위 limit 개의 기사 id 를 점수 내림차순으로 돌려준다.
+     * 카테고리별 postings 는 최신순이고 관련도는 1 을 넘지 않으므로, 힙이 찬 뒤 recencyKey 가 힙 최솟값보다 작은
+     * 기사부터는 더 볼 필요가 없다.
+     */
+    public List<Long> topK(long watchlistMask, int limit) {
+        if (watchlistMask == 0L || limit <= 0) {
+            return List.of();
+        }
+        ensureLoaded();
+
+        PriorityQueue<Scored> heap = new PriorityQueue<>(limit, Scored.LOWEST_FIRST);
+        long examined = 0;
+        for (int category = 0; category < CATEGORY_COUNT; category++) {
+            if ((watchlistMask & (1L << category)) == 0) {
+                continue;
+            }
+            for (Posting posting : postingsByCategory.get(category)) {
+                if (heap.size() == limit && posting.recencyKey() < heap.peek().score()) {
+                    break;
+                }
+                examined++;
+                long matched = posting.categoryMask() & watchlistMask;
+                // 여러 관심 카테고리에 걸친 기사는 가장 낮은 비트의 카테고리에서만 센다
+                if (Long.numberOfTrailingZeros(matched) != category) {
+                    continue;
+                }
+                double score = posting.recencyKey() + LOG2[Long.bitCount(matched)] - posting.log2CategoryCount();
+                if (heap.size() < limit) {
+                    heap.add(new Scored(posting, score));
+                } else if (Scored.LOWEST_FIRST.compare(new Scored(posting, score), heap.peek()) > 0) {
+                    heap.poll();
+                    heap.add(new Scored(posting, score));
+                }
+            }
+        }
+        examinedPostings.add(examined);
+
+        Long[] ranked = new Long[heap.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = heap.poll().posting().newsId();
+        }
+        return List.of(ranked);
+    }
+
+    /**
+     * 저장/분석 이벤트로 바뀐 기사만 다시 읽어 반영한다. 아직 적재 전이면 첫 조회 때 DB 에서 읽으므로 무시한다.
+     */
+    public void refresh(Collection<Long> newsIds) {
+        if (!loaded || newsIds == null || newsIds.isEmpty()) {
+            return;
+        }
+        List<NewsFeedEntry> entries = newsPersistencePort.findFeedEntriesByIds(newsIds);
+        Set<Long> missing = new HashSet<>(newsIds);
+        synchronized (writeLock) {
+            for (NewsFeedEntry entry : entries) {
+                missing.remove(entry.newsId());
+                put(entry);
+            }
+            // 카테고리가 없어진 기사는 조인 결과에 나오지 않으므로 색인에서 뺀다
+            for (Long newsId : missing) {
+                remove(newsId);
+            }
+            evictExpired();
+            generation.incrementAndGet();
+        }
+        log.debug("개인화 피드 인덱스 갱신: {}건", newsIds.size());
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    long examinedPostings() {
+        return examinedPostings.sum();
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        Map<String, Integer> perCategory = new HashMap<>();
+        synchronized (writeLock) {
+            for (TargetCategory category : TargetCategory.values()) {
+                perCategory.put(category.name(), categorySizes[category.ordinal()]);
+            }
+        }
+        stats.put("loaded", loaded);
+        stats.put("indexedArticles", postingsById.size());
+        stats.put("postingsPerCategory", perCategory);
+        stats.put("generation", generation.get());
+        stats.put("examinedPostings", examinedPostings.sum());
+        return stats;
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (writeLock) {
+                if (!loaded) {
+                    load();
+                    loaded = true;
+                }
+            }
+            return;
+        }
+        // 이벤트 없이 바뀐 분석 결과는 주기적으로 다시 읽어 맞추되, 요청 스레드는 기다리지 않는다
+        if (System.currentTimeMillis() - loadedAtMillis > reloadInterval.toMillis()
+                && reloading.compareAndSet(false, true)) {
+            CompletableFuture.runAsync(() -> {
+                try {
+                    synchronized (writeLock) {
+                        load();
+                    }
+                } catch (Exception e) {
+                    log.warn("개인화 피드 인덱스 재적재 실패: {}", e.getMessage());
+                } finally {
+                    reloading.set(false);
+                }
+            });
+        }
+    }
+
+    private void load() {
+        long startNanos = System.nanoTime();
+        List<NewsFeedEntry> entries = newsPersistencePort.findFeedEntriesPublishedAfter(
+                LocalDateTime.now().minus(window), loadLimit);
+        for (NewsFeedEntry entry : entries) {
+            put(entry);
+        }
+        evictExpired();
+        loadedAtMillis = System.currentTimeMillis();
+        generation.incrementAndGet();
+        log.info("개인화 피드 인덱스 적재: {}건, {}ms", postingsById.size(),
+                Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+    }
+
+    private void put(NewsFeedEntry entry) {
+        if (entry.newsId() == null || entry.publishedTime() == null) {
+            return;
+        }
+        Posting current = postingsById.get(entry.newsId());
+        long publishedMillis = entry.publishedTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (current != null && current.publishedMillis() == publishedMillis
+                && current.categoryMask() == entry.categoryMask()) {
+            return;
+        }
+        remove(entry.newsId());
+        if (entry.categoryMask() == 0L) {
+            return;
+        }
+
+        Posting posting = new Posting(entry.newsId(), publishedMillis, entry.categoryMask(),
+                publishedMillis / halfLifeMillis, LOG2[Long.bitCount(entry.categoryMask())]);
+        postingsById.put(posting.newsId(), posting);
+        for (int category = 0; category < CATEGORY_COUNT; category++) {
+            if ((posting.categoryMask() & (1L << category)) != 0
+                    && postingsByCategory.get(category).add(posting)) {
+                categorySizes[category]++;
+                if (categorySizes[category] > maxPerCategory) {
+                    evictOldest(category);
+                }
+            }
+        }
+    }
+
+    private void remove(Long newsId) {
+        Posting previous = postingsById.remove(newsId);
+        if (previous == null) {
+            return;
+        }
+        for (int category = 0; category < CATEGORY_COUNT; category++) {
+            if ((previous.categoryMask() & (1L << category)) != 0
+                    && postingsByCategory.get(category).remove(previous)) {
+                categorySizes[category]--;
+            }
+        }
+    }
+
+    private void evictOldest(int category) {
+        Posting oldest = postingsByCategory.get(category).pollLast();
+        if (oldest == null) {
+            return;
+        }
+        categorySizes[category]--;
+        for (int other = 0; other < CATEGORY_COUNT; other++) {
+            if (other != category && (oldest.categoryMask() & (1L << other)) != 0
+                    && postingsByCategory.get(other).contains(oldest)) {
+                return;
+            }
+        }
+        postingsById.remove(oldest.newsId(), oldest);
+    }
+
+    private void evictExpired() {
+        long cutoff = System.currentTimeMillis() - window.toMillis();
+        for (int category = 0; category < CATEGORY_COUNT; category++) {
+            ConcurrentSkipListSet<Posting> postings = postingsByCategory.get(category);
+            Posting oldest;
+            while ((oldest = postings.isEmpty() ? null : postings.last()) != null
+                    && oldest.publishedMillis() < cutoff) {
+                remove(oldest.newsId());
+            }
+        }
+    }
+
+    private record Posting(long newsId, long publishedMillis, long categoryMask,
+                           double recencyKey, double log2CategoryCount) {
+    }
+
+    private record Scored(Posting posting, double score) {
+
+        // 힙 최솟값: 점수가 낮고, 같으면 더 오래된 기사
+        private static final Comparator<Scored> LOWEST_FIRST = Comparator
+                .comparingDouble(Scored::score)
+                .thenComparingLong(scored -> scored.posting().publishedMillis())
+                .thenComparingLong(scored -> scored.posting().newsId());
+    }
+}
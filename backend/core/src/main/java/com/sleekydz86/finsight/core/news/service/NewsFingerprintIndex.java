@@ -0,0 +1,273 @@
+package com.sleekydz86.finsight.core.news.service;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 시간 버킷 링으로 구성된 뉴스 지문(fingerprint) 인덱스.
+ * 기사 엔티티 대신 URL/제목/본문 64비트 지문만 보관하고, 윈도우를 벗어난 버킷은 통째로 버린다.
+ * 근접 중복은 SimHash 를 (최대 해밍 거리 + 1)개 밴드로 나눈 LSH 로 후보를 찾은 뒤 해밍 거리로 확정한다.
+ * (비둘기집 원리에 따라 거리가 k 이하인 두 지문은 k+1 개 밴드 중 최소 하나가 정확히 일치한다)
+ * 허용 거리는 {@link #MAX_SUPPORTED_DISTANCE} 까지만 받는다.
+ */
+public class NewsFingerprintIndex {
+
+    /**
+     * 지원하는 최대 해밍 거리. 6 이면 밴드 7개가 각각 9~10비트라 무관한 지문이 같은 밴드 키에 걸리는 비율이 1/512 안팎이다.
+     * 거리 10(밴드 11개, 약 6비트)이면 비율이 1/64 로 올라 밴드마다 윈도우의 상당 부분이 후보가 되어 선형 탐색에 가까워진다.
+     */
+    public static final int MAX_SUPPORTED_DISTANCE = 6;
+
+    public enum Match {
+        URL, TITLE, CONTENT
+    }
+
+    // 버킷 하나에 저장되는 지문 3개(long)와 URL 집합/밴드 엔트리의 대략적인 객체 오버헤드
+    private static final int FINGERPRINT_BYTES = 3 * Long.BYTES;
+    private static final int URL_ENTRY_BYTES = 48;
+    private static final int BAND_KEY_BYTES = 64;
+
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final int maxEntries;
+    private final BandLayout titleBands;
+    private final BandLayout contentBands;
+    private final ArrayDeque<Bucket> ring = new ArrayDeque<>();
+
+    private int size;
+    private long overflowed;
+    private long expired;
+    private long candidateComparisons;
+
+    public NewsFingerprintIndex(long bucketMillis, int bucketCount, int maxEntries,
+                                int titleMaxDistance, int contentMaxDistance) {
+        if (bucketMillis <= 0 || bucketCount <= 0 || maxEntries <= 0) {
+            throw new IllegalArgumentException("bucketMillis, bucketCount, maxEntries 는 양수여야 합니다");
+        }
+        this.bucketMillis = bucketMillis;
+        this.bucketCount = bucketCount;
+        this.maxEntries = maxEntries;
+        this.titleBands = new BandLayout(titleMaxDistance);
+        this.contentBands = new BandLayout(contentMaxDistance);
+    }
+
+    /**
+     * 윈도우 안에 같은(또는 근접한) 지문이 있으면 일치 유형을 반환하고, 없으면 색인한 뒤 null 을 반환한다.
+     */
+    public synchronized Match addIfAbsent(long urlHash, long titleHash, long contentHash, long nowMillis) {
+        expire(nowMillis);
+
+        Match match = find(urlHash, titleHash, contentHash);
+        if (match != null) {
+            return match;
+        }
+
+        if (size >= maxEntries && !evictOldest()) {
+            overflowed++;
+            return null;
+        }
+
+        currentBucket(nowMillis).add(urlHash, titleHash, contentHash, titleBands, contentBands);
+        size++;
+        return null;
+    }
+
+    public synchronized Map<String, Object> getStatistics() {
+        long distinctBandKeys = 0;
+        long postings = 0;
+        for (Bucket bucket : ring) {
+            distinctBandKeys += bucket.titleBandIndex.size() + bucket.contentBandIndex.size();
+            postings += bucket.postings;
+        }
+        long estimatedBytes = (long) size * (FINGERPRINT_BYTES + URL_ENTRY_BYTES)
+                + distinctBandKeys * BAND_KEY_BYTES
+                + postings * Integer.BYTES;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("indexedArticles", size);
+        stats.put("maxEntries", maxEntries);
+        stats.put("buckets", ring.size());
+        stats.put("estimatedBytes", estimatedBytes);
+        stats.put("bytesPerArticle", size > 0 ? estimatedBytes / size : 0);
+        stats.put("expiredArticles", expired);
+        stats.put("overflowedArticles", overflowed);
+        stats.put("candidateComparisons", candidateComparisons);
+        return stats;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    synchronized long candidateComparisons() {
+        return candidateComparisons;
+    }
+
+    public synchronized void clear() {
+        ring.clear();
+        size = 0;
+        overflowed = 0;
+        expired = 0;
+        candidateComparisons = 0;
+    }
+
+    private Match find(long urlHash, long titleHash, long contentHash) {
+        for (Bucket bucket : ring) {
+            if (urlHash != 0L && bucket.urls.contains(urlHash)) {
+                return Match.URL;
+            }
+        }
+        for (Bucket bucket : ring) {
+            if (titleHash != 0L && containsNear(bucket.titleBandIndex, bucket.titles, titleHash, titleBands)) {
+                return Match.TITLE;
+            }
+        }
+        for (Bucket bucket : ring) {
+            if (contentHash != 0L
+                    && containsNear(bucket.contentBandIndex, bucket.contents, contentHash, contentBands)) {
+                return Match.CONTENT;
+            }
+        }
+        return null;
+    }
+
+    private boolean containsNear(Map<Long, int[]> bandIndex, long[] fingerprints, long fingerprint,
+                                 BandLayout layout) {
+        for (int band = 0; band < layout.bands(); band++) {
+            int[] candidates = bandIndex.get(layout.key(band, fingerprint));
+            if (candidates == null) {
+                continue;
+            }
+            candidateComparisons += candidates[0];
+            for (int i = 1; i <= candidates[0]; i++) {
+                if (NewsSimHash.hammingDistance(fingerprints[candidates[i]], fingerprint) <= layout.maxDistance) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void expire(long nowMillis) {
+        long oldestAllowed = nowMillis / bucketMillis - bucketCount + 1;
+        Iterator<Bucket> iterator = ring.iterator();
+        while (iterator.hasNext()) {
+            Bucket bucket = iterator.next();
+            if (bucket.epoch >= oldestAllowed) {
+                break;
+            }
+            size -= bucket.size;
+            expired += bucket.size;
+            iterator.remove();
+        }
+    }
+
+    private boolean evictOldest() {
+        if (ring.size() <= 1) {
+            return false;
+        }
+        Bucket oldest = ring.pollFirst();
+        size -= oldest.size;
+        expired += oldest.size;
+        return true;
+    }
+
+    private Bucket currentBucket(long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        Bucket last = ring.peekLast();
+        if (last != null && last.epoch >= epoch) {
+            return last;
+        }
+        Bucket bucket = new Bucket(epoch);
+        ring.addLast(bucket);
+        return bucket;
+    }
+
+    private static final class BandLayout {
+        private final int maxDistance;
+        private final int[] shifts;
+        private final long[] masks;
+
+        private BandLayout(int maxDistance) {
+            this.maxDistance = Math.max(0, Math.min(maxDistance, MAX_SUPPORTED_DISTANCE));
+            int bands = this.maxDistance + 1;
+            this.shifts = new int[bands];
+            this.masks = new long[bands];
+
+            int shift = 0;
+            for (int band = 0; band < bands; band++) {
+                int width = 64 / bands + (band < 64 % bands ? 1 : 0);
+                shifts[band] = shift;
+                masks[band] = width == 64 ? -1L : (1L << width) - 1;
+                shift += width;
+            }
+        }
+
+        private int bands() {
+            return shifts.length;
+        }
+
+        private long key(int band, long fingerprint) {
+            return ((fingerprint >>> shifts[band]) & masks[band]) ^ ((long) band << 58);
+        }
+    }
+
+    private static final class Bucket {
+        private final long epoch;
+        private final Set<Long> urls = new HashSet<>();
+        private final Map<Long, int[]> titleBandIndex = new HashMap<>();
+        private final Map<Long, int[]> contentBandIndex = new HashMap<>();
+        private long[] titles = new long[64];
+        private long[] contents = new long[64];
+        private int size;
+        private long postings;
+
+        private Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+
+        private void add(long urlHash, long titleHash, long contentHash,
+                         BandLayout titleBands, BandLayout contentBands) {
+            if (size == titles.length) {
+                titles = Arrays.copyOf(titles, size * 2);
+                contents = Arrays.copyOf(contents, size * 2);
+            }
+            int position = size++;
+            titles[position] = titleHash;
+            contents[position] = contentHash;
+
+            if (urlHash != 0L) {
+                urls.add(urlHash);
+            }
+            if (titleHash != 0L) {
+                index(titleBandIndex, titleBands, titleHash, position);
+            }
+            if (contentHash != 0L) {
+                index(contentBandIndex, contentBands, contentHash, position);
+            }
+        }
+
+        private void index(Map<Long, int[]> bandIndex, BandLayout layout, long fingerprint, int position) {
+            for (int band = 0; band < layout.bands(); band++) {
+                bandIndex.merge(layout.key(band, fingerprint), new int[] {1, position}, Bucket::append);
+                postings++;
+            }
+        }
+
+        // postings[0] 은 사용 중인 길이, 이후가 버킷 내 위치 목록
+        private static int[] append(int[] existing, int[] added) {
+            int count = existing[0];
+            int[] postings = count + 1 < existing.length ? existing
+                    : Arrays.copyOf(existing, Math.max(4, existing.length * 2));
+            postings[count + 1] = added[1];
+            postings[0] = count + 1;
+            return postings;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.sleekydz86.finsight.core.news.service;
 
 import com.sleekydz86.finsight.core.news.domain.News;
 import com.sleekydz86.finsight.core.news.domain.Newses;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsIngestResult;
 import com.sleekydz86.finsight.core.news.domain.port.out.NewsPersistencePort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,4 +36,14 @@ public class NewsPersistenceService {
             throw new RuntimeException("뉴스 저장 실패", e);
         }
     }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.READ_COMMITTED)
+    public NewsIngestResult bulkInsertNews(List<News> newses) {
+        try {
+            return newsPersistencePort.bulkInsertNews(newses);
+        } catch (Exception e) {
+            log.error("뉴스 대량 적재 실패: {} 건", newses.size(), e);
+            throw new RuntimeException("뉴스 대량 적재 실패", e);
+        }
+    }
 }
@@ -1,21 +1,26 @@
 package com.sleekydz86.finsight.core.news.service;
 
+import com.sleekydz86.finsight.core.global.counter.CounterType;
+import com.sleekydz86.finsight.core.global.counter.WriteBehindCounter;
 import com.sleekydz86.finsight.core.global.dto.PaginationResponse;
+import com.sleekydz86.finsight.core.global.search.SearchPage;
+import com.sleekydz86.finsight.core.news.domain.NewsStatistics;
 import com.sleekydz86.finsight.core.news.domain.News;
-import com.sleekydz86.finsight.core.news.domain.Newses;
+import com.sleekydz86.finsight.core.news.domain.NewsSummary;
 import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsQueryRequest;
 import com.sleekydz86.finsight.core.news.domain.port.in.NewsQueryUseCase;
 import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsDetailResponse;
 import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsSearchRequest;
 import com.sleekydz86.finsight.core.news.domain.port.out.NewsPersistencePort;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsSearchPort;
 import com.sleekydz86.finsight.core.news.domain.port.out.NewsStatisticsPersistencePort;
+import com.sleekydz86.finsight.core.news.domain.vo.NewsCursor;
 import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
 import com.sleekydz86.finsight.core.global.exception.NewsNotFoundException;
 import com.sleekydz86.finsight.core.user.domain.User;
 import com.sleekydz86.finsight.core.user.domain.port.out.UserPersistencePort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
@@ -31,19 +36,25 @@ public class NewsQueryService implements NewsQueryUseCase {
         private final NewsPersistencePort newsPersistencePort;
         private final NewsStatisticsPersistencePort newsStatisticsPersistencePort;
         private final UserPersistencePort userPersistencePort;
+        private final WriteBehindCounter writeBehindCounter;
+        private final NewsSearchPort newsSearchPort;
 
         public NewsQueryService(NewsPersistencePort newsPersistencePort,
                                 NewsStatisticsPersistencePort newsStatisticsPersistencePort,
                                 PersonalizedNewsService personalizedNewsService,
-                                UserPersistencePort userPersistencePort) {
+                                UserPersistencePort userPersistencePort,
+                                WriteBehindCounter writeBehindCounter,
+                                NewsSearchPort newsSearchPort) {
                 this.newsPersistencePort = newsPersistencePort;
                 this.newsStatisticsPersistencePort = newsStatisticsPersistencePort;
                 this.personalizedNewsService = personalizedNewsService;
                 this.userPersistencePort = userPersistencePort;
+                this.writeBehindCounter = writeBehindCounter;
+                this.newsSearchPort = newsSearchPort;
         }
 
         @Override
-        public Newses getPersonalizedNews(String userEmail, int limit) {
+        public List<NewsSummary> getPersonalizedNews(String userEmail, int limit) {
                 log.debug("개인화 뉴스 조회: userEmail={}, limit={}", userEmail, limit);
 
                 try {
@@ -51,7 +62,7 @@ public class NewsQueryService implements NewsQueryUseCase {
                         Optional<User> userOpt = userPersistencePort.findByEmail(userEmail);
                         if (userOpt.isEmpty()) {
                                 log.warn("사용자를 찾을 수 없습니다: {}", userEmail);
-                                return new Newses();
+                                return List.of();
                         }
 
                         Long userId = userOpt.get().getId();
@@ -63,28 +74,64 @@ public class NewsQueryService implements NewsQueryUseCase {
         }
 
         @Override
-        public Newses findAllByFilters(NewsQueryRequest request) {
+        public List<NewsSummary> findAllByFilters(NewsQueryRequest request) {
                 log.info("Finding news by filters: {}", request);
-                return newsPersistencePort.findAllByFilters(request);
+                return newsPersistencePort.findSummariesByFilters(request, 0, MAX_FILTER_RESULTS);
         }
 
         @Override
-        public PaginationResponse<Newses> searchNews(NewsSearchRequest request) {
+        public PaginationResponse<NewsSummary> searchNews(NewsSearchRequest request) {
                 log.info("Searching news with request: {}", request);
 
-                Pageable pageable = Pageable.ofSize(request.getSize())
-                        .withPage(request.getPage());
+                // 키워드 검색은 전문 검색 색인에서 순위를 정하고 목록 요약만 DB 에서 id 로 읽는다
+                if (newsSearchPort.supports(request)) {
+                        SearchPage hits = newsSearchPort.search(request, request.getPage(), request.getSize());
+                        return new PaginationResponse<>(
+                                newsPersistencePort.findSummariesByIds(hits.ids()),
+                                request.getPage(),
+                                request.getSize(),
+                                hits.totalHits());
+                }
 
-                Newses newses = performSearch(request, pageable);
-                long totalElements = getTotalCount(request);
+                NewsQueryRequest queryRequest = toQueryRequest(request);
+                List<NewsSummary> summaries = newsPersistencePort.findSummariesByFilters(
+                        queryRequest, request.getPage(), request.getSize());
+                long totalElements = newsPersistencePort.countByFilters(queryRequest);
 
                 return new PaginationResponse<>(
-                        List.of(newses),
+                        summaries,
                         request.getPage(),
                         request.getSize(),
                         totalElements);
         }
 
+        @Override
+        public PaginationResponse<NewsSummary> searchNewsByCursor(NewsSearchRequest request) {
+                log.info("Searching news by cursor: {}", request.getCursor());
+
+                if (newsSearchPort.supports(request)) {
+                        SearchPage hits = newsSearchPort.searchAfter(request, request.getCursor(), request.getSize());
+                        return PaginationResponse.ofCursor(newsPersistencePort.findSummariesByIds(hits.ids()),
+                                request.getSize(), !hasCursor(request), hits.hasNext(), hits.nextCursor());
+                }
+
+                NewsCursor cursor = hasCursor(request) ? NewsCursor.decode(request.getCursor()) : null;
+                List<NewsSummary> fetched = newsPersistencePort.findSummariesByFiltersAfter(
+                        toQueryRequest(request), cursor, request.getSize() + 1);
+
+                boolean hasNext = fetched.size() > request.getSize();
+                List<NewsSummary> pageContent = hasNext ? fetched.subList(0, request.getSize()) : fetched;
+
+                String nextCursor = null;
+                if (hasNext) {
+                        NewsSummary last = pageContent.get(pageContent.size() - 1);
+                        nextCursor = NewsCursor.of(last.getPublishedTime(), last.getId()).encode();
+                }
+
+                return PaginationResponse.ofCursor(
+                        pageContent, request.getSize(), cursor == null, hasNext, nextCursor);
+        }
+
         @Override
         public NewsDetailResponse getNewsDetail(Long newsId) {
                 log.info("Getting news detail for ID: {}", newsId);
@@ -92,7 +139,11 @@ public class NewsQueryService implements NewsQueryUseCase {
                 News news = newsPersistencePort.findById(newsId)
                         .orElseThrow(() -> new NewsNotFoundException(newsId));
 
-                newsStatisticsPersistencePort.incrementViewCount(newsId);
+                // 조회수는 요청마다 UPDATE 하지 않고 모아서 반영하며, 응답에는 아직 반영 전인 증가분까지 더해 보여준다
+                writeBehindCounter.increment(CounterType.NEWS_VIEW, newsId);
+                NewsStatistics statistics = newsStatisticsPersistencePort.findByNewsId(newsId)
+                        .orElseGet(() -> new NewsStatistics(null, newsId, 0, 0, 0, 0, null, null))
+                        .addViewCount(writeBehindCounter.pendingDelta(CounterType.NEWS_VIEW, newsId));
 
                 return NewsDetailResponse.builder()
                         .id(news.getId())
@@ -119,118 +170,60 @@ public class NewsQueryService implements NewsQueryUseCase {
                                 : null)
                         .scrapedTime(news.getScrapedTime())
                         .sourceUrl(news.getNewsMeta() != null ? news.getNewsMeta().getSourceUrl() : null)
-                        .statistics(null)
+                        .statistics(statistics)
                         .comments(null)
                         .relatedNews(null)
                         .build();
         }
 
         @Override
-        public Newses getRelatedNews(Long newsId, int limit) {
+        public List<NewsSummary> getRelatedNews(Long newsId, int limit) {
                 log.info("Getting related news for ID: {}, limit: {}", newsId, limit);
 
                 News news = newsPersistencePort.findById(newsId)
                         .orElseThrow(() -> new NewsNotFoundException(newsId));
 
                 if (news.getAiOverView() == null || news.getAiOverView().getTargetCategories().isEmpty()) {
-                        return new Newses();
+                        return List.of();
                 }
 
-                List<TargetCategory> categories = news.getAiOverView().getTargetCategories();
-                NewsQueryRequest request = new NewsQueryRequest(
-                        null, null, null, null, categories, null);
-
-                Newses allNews = newsPersistencePort.findAllByFilters(request);
-                List<News> relatedNews = allNews.getNewses().stream()
-                        .filter(n -> !n.getId().equals(newsId))
-                        .limit(limit)
+                List<String> categories = news.getAiOverView().getTargetCategories().stream()
+                        .map(TargetCategory::name)
                         .toList();
 
-                return new Newses(relatedNews);
+                return newsPersistencePort.findRelatedNews(newsId, categories, null, limit);
         }
 
         @Override
-        public Newses getPopularNews(int limit) {
+        public List<NewsSummary> getPopularNews(int limit) {
                 log.info("Getting popular news, limit: {}", limit);
-
-                NewsQueryRequest request = new NewsQueryRequest(
-                        null, null, null, null, null, null);
-
-                Newses allNews = newsPersistencePort.findAllByFilters(request);
-                List<News> popularNews = allNews.getNewses().stream()
-                        .sorted((n1, n2) -> {
-                                if (n1.getNewsMeta() == null || n1.getNewsMeta().getNewsPublishedTime() == null)
-                                        return 1;
-                                if (n2.getNewsMeta() == null || n2.getNewsMeta().getNewsPublishedTime() == null)
-                                        return -1;
-                                return n2.getNewsMeta().getNewsPublishedTime()
-                                        .compareTo(n1.getNewsMeta().getNewsPublishedTime());
-                        })
-                        .limit(limit)
-                        .toList();
-
-                return new Newses(popularNews);
+                return newsPersistencePort.findPopularNews(limit);
         }
 
         @Override
-        public Newses getLatestNews(int limit) {
+        public List<NewsSummary> getLatestNews(int limit) {
                 log.info("Getting latest news, limit: {}", limit);
-
-                NewsQueryRequest request = new NewsQueryRequest(
-                        null, null, null, null, null, null);
-
-                Newses allNews = newsPersistencePort.findAllByFilters(request);
-                List<News> latestNews = allNews.getNewses().stream()
-                        .sorted((n1, n2) -> {
-                                if (n1.getNewsMeta() == null || n1.getNewsMeta().getNewsPublishedTime() == null)
-                                        return 1;
-                                if (n2.getNewsMeta() == null || n2.getNewsMeta().getNewsPublishedTime() == null)
-                                        return -1;
-                                return n2.getNewsMeta().getNewsPublishedTime()
-                                        .compareTo(n1.getNewsMeta().getNewsPublishedTime());
-                        })
-                        .limit(limit)
-                        .toList();
-
-                return new Newses(latestNews);
+                return newsPersistencePort.findLatestNews(limit);
         }
 
         @Override
-        public Newses getNewsByCategory(String category, int limit) {
+        public List<NewsSummary> getNewsByCategory(String category, int limit) {
                 log.info("Getting news by category: {}, limit: {}", category, limit);
 
-                try {
-                        TargetCategory targetCategory = TargetCategory.valueOf(category.toUpperCase());
-                        NewsQueryRequest request = new NewsQueryRequest(
-                                null, null, null, null, List.of(targetCategory), null);
-                        return newsPersistencePort.findAllByFilters(request);
-                } catch (IllegalArgumentException e) {
-                        log.warn("Invalid category: {}", category);
-                        return new Newses();
-                }
+                return newsPersistencePort.findByCategory(category, limit);
         }
 
-        private Newses performSearch(NewsSearchRequest request, Pageable pageable) {
-                NewsQueryRequest queryRequest = new NewsQueryRequest(
-                        request.getStartDate(),
-                        request.getEndDate(),
-                        request.getSentimentType(),
-                        request.getKeyword(),
-                        request.getCategories(),
-                        request.getProviders());
-
-                return newsPersistencePort.findAllByFilters(queryRequest);
+        private boolean hasCursor(NewsSearchRequest request) {
+                return request.getCursor() != null && !request.getCursor().isBlank();
         }
 
-        private long getTotalCount(NewsSearchRequest request) {
-                NewsQueryRequest queryRequest = new NewsQueryRequest(
+        private NewsQueryRequest toQueryRequest(NewsSearchRequest request) {
+                return new NewsQueryRequest(
                         request.getStartDate(),
                         request.getEndDate(),
                         request.getSentimentType(),
                         request.getKeyword(),
                         request.getCategories(),
                         request.getProviders());
-
-                return newsPersistencePort.findAllByFilters(queryRequest).getNewses().size();
         }
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.sleekydz86.finsight.core.news.service;
+
+/**
+ * 뉴스 제목/본문용 64비트 SimHash 와 URL 해시.
+ * 토큰 단위(유니코드 문자/숫자) 유니그램과 바이그램을 특징으로 사용하므로
+ * 어순이 조금 바뀌거나 단어 몇 개가 다른 재작성 기사도 해밍 거리가 작게 나온다.
+ */
+public final class NewsSimHash {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private NewsSimHash() {
+    }
+
+    public static long fingerprint(String text) {
+        if (text == null || text.isBlank()) {
+            return 0L;
+        }
+
+        int[] weights = new int[64];
+        int features = 0;
+        long previousToken = 0L;
+        long token = FNV_OFFSET_BASIS;
+        boolean inToken = false;
+
+        for (int i = 0, length = text.length(); i <= length; i++) {
+            char ch = i < length ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(ch)) {
+                token = (token ^ Character.toLowerCase(ch)) * FNV_PRIME;
+                inToken = true;
+                continue;
+            }
+            if (!inToken) {
+                continue;
+            }
+
+            long unigram = mix(token);
+            accumulate(weights, unigram);
+            if (previousToken != 0L) {
+                accumulate(weights, mix(previousToken * 31 + unigram));
+            }
+            previousToken = unigram;
+            token = FNV_OFFSET_BASIS;
+            inToken = false;
+            features++;
+        }
+
+        if (features == 0) {
+            return 0L;
+        }
+
+        long fingerprint = 0L;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    public static long urlHash(String url) {
+        if (url == null || url.isBlank()) {
+            return 0L;
+        }
+
+        String normalized = url.trim().toLowerCase();
+        int fragment = normalized.indexOf('#');
+        if (fragment >= 0) {
+            normalized = normalized.substring(0, fragment);
+        }
+        while (normalized.endsWith("/")) {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        normalized = normalized.replaceFirst("^https?://(www\\.)?", "");
+
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < normalized.length(); i++) {
+            hash = (hash ^ normalized.charAt(i)) * FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    public static int hammingDistance(long left, long right) {
+        return Long.bitCount(left ^ right);
+    }
+
+    private static void accumulate(int[] weights, long featureHash) {
+        for (int bit = 0; bit < 64; bit++) {
+            weights[bit] += ((featureHash >>> bit) & 1L) == 1L ? 1 : -1;
+        }
+    }
+
+    // splitmix64 finalizer: FNV 결과의 비트 편향을 고르게 퍼뜨린다
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,104 @@
+package com.sleekydz86.finsight.core.news.service;
+
+import com.sleekydz86.finsight.core.global.NewsProvider;
+import com.sleekydz86.finsight.core.news.domain.NewsSummary;
+import com.sleekydz86.finsight.core.news.domain.port.in.NewsStreamUseCase;
+import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 현재 JVM 의 뉴스 스트림 구독자에게 기사를 나눠 주는 허브.
+ * 발행은 구독자마다 전달 스케줄러의 대기열에 넣기만 하고 돌아오므로, 구독자가 느리거나 막혀도 발행 스레드는 기다리지 않는다.
+ * 전달 스케줄러는 스레드 수가 고정돼 있어 구독자나 기사 수가 늘어도 스레드가 늘지 않는다.
+ * 전달된 기사는 구독자마다 정해진 크기의 버퍼에 쌓이고, 버퍼가 차면 가장 오래된 기사를 버린다.
+ * 구독은 스레드를 점유하지 않으므로 유휴 구독자 수는 버퍼 메모리만큼만 늘어난다.
+ */
+@Service
+public class NewsStreamHub implements NewsStreamUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(NewsStreamHub.class);
+
+    private final Sinks.Many<NewsSummary> sink = Sinks.many().multicast().directBestEffort();
+    private final int bufferSize;
+    private final Scheduler deliveryScheduler;
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    public NewsStreamHub(int bufferSize) {
+        this(bufferSize, Schedulers.immediate());
+    }
+
+    @Autowired
+    public NewsStreamHub(@Value("${news.stream.buffer-size:64}") int bufferSize,
+                         @Value("${news.stream.delivery-threads:4}") int deliveryThreads) {
+        this(bufferSize, Schedulers.newParallel("news-stream", Math.max(1, deliveryThreads), true));
+    }
+
+    NewsStreamHub(int bufferSize, Scheduler deliveryScheduler) {
+        this.bufferSize = Math.max(1, bufferSize);
+        this.deliveryScheduler = deliveryScheduler;
+    }
+
+    @Override
+    public Flux<NewsSummary> subscribe(List<TargetCategory> categories, List<NewsProvider> providers) {
+        long categoryMask = TargetCategory.maskOf(categories);
+        Set<NewsProvider> providerFilter = toProviderFilter(providers);
+        return sink.asFlux()
+                .filter(summary -> matches(summary, categoryMask, providerFilter))
+                .publishOn(deliveryScheduler)
+                .onBackpressureBuffer(bufferSize, dropped -> droppedCount.incrementAndGet(),
+                        BufferOverflowStrategy.DROP_OLDEST);
+    }
+
+    // 여러 스레드가 동시에 tryEmitNext 를 부르면 실패하므로 발행은 한 번에 하나씩 한다
+    public synchronized void emit(List<NewsSummary> summaries) {
+        for (NewsSummary summary : summaries) {
+            Sinks.EmitResult result = sink.tryEmitNext(summary);
+            if (result.isFailure() && result != Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+                log.warn("뉴스 스트림 발행 실패: newsId={}, result={}", summary.getId(), result);
+            }
+        }
+    }
+
+    public boolean hasSubscribers() {
+        return sink.currentSubscriberCount() > 0;
+    }
+
+    public long droppedCount() {
+        return droppedCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sink.tryEmitComplete();
+        deliveryScheduler.dispose();
+    }
+
+    private static Set<NewsProvider> toProviderFilter(List<NewsProvider> providers) {
+        if (providers == null || providers.isEmpty() || providers.contains(NewsProvider.ALL)) {
+            return Set.of();
+        }
+        return EnumSet.copyOf(providers);
+    }
+
+    private static boolean matches(NewsSummary summary, long categoryMask, Set<NewsProvider> providers) {
+        if (!providers.isEmpty() && !providers.contains(summary.getNewsProvider())) {
+            return false;
+        }
+        return categoryMask == 0L || (TargetCategory.maskOf(summary.getCategories()) & categoryMask) != 0L;
+    }
+}
@@ -0,0 +1,164 @@
+package com.sleekydz86.finsight.core.news.service;
+
+/**
+ * 태그 제거 → 제어문자 제거 → (선택) 특수문자 제거 → 공백 압축 → trim → 길이 자르기를 한 번의 스캔으로 처리한다.
+ * 기존 정규식 체인(HTML_TAG → CONTROL_CHAR → SPECIAL_CHAR → \s+ → trim → substring)과 같은 결과를 내며,
+ * 스레드별로 재사용하는 char[] 에 쓰고 마지막에 String 하나만 만든다.
+ * 본문의 \n\s*\n 치환은 \s+ 압축 뒤에는 남는 개행이 없어 결과가 같으므로 따로 하지 않는다.
+ */
+public class NewsTextNormalizer {
+
+    private static final String SPECIAL_CHARACTERS = "!@#$%^&*()_+-=[]{};':\"\\|,.<>/?";
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[INITIAL_BUFFER_SIZE]);
+
+    private final boolean removeHtmlTags;
+    private final boolean removeControlCharacters;
+    private final boolean removeSpecialCharacters;
+
+    public NewsTextNormalizer(boolean removeHtmlTags, boolean removeControlCharacters,
+                              boolean removeSpecialCharacters) {
+        this.removeHtmlTags = removeHtmlTags;
+        this.removeControlCharacters = removeControlCharacters;
+        this.removeSpecialCharacters = removeSpecialCharacters;
+    }
+
+    public String normalize(String text, int maxLength) {
+        if (text == null) {
+            return "";
+        }
+
+        int length = text.length();
+        int limit = Math.max(0, maxLength);
+        char[] out = buffer(Math.min(length, limit));
+        int size = 0;
+        boolean pendingSpace = false;
+        // 닫는 '>' 가 더 이상 없으면 이후의 '<' 는 태그가 될 수 없다
+        boolean tagsPossible = removeHtmlTags;
+
+        int i = 0;
+        while (i < length && size < limit) {
+            char c = text.charAt(i);
+
+            if (c == '<' && tagsPossible) {
+                int close = text.indexOf('>', i + 1);
+                if (close >= 0) {
+                    i = close + 1;
+                    continue;
+                }
+                tagsPossible = false;
+            }
+
+            int codePoint = c;
+            int lowIndex = -1;
+            if (Character.isHighSurrogate(c)) {
+                // 태그를 먼저 지운 뒤에 쌍이 맞춰지므로 사이에 낀 태그는 건너뛰고 하위 서로게이트를 찾는다
+                int next = tagsPossible ? skipTags(text, i + 1) : i + 1;
+                if (next < length && Character.isLowSurrogate(text.charAt(next))) {
+                    codePoint = Character.toCodePoint(c, text.charAt(next));
+                    lowIndex = next;
+                }
+            }
+            int nextIndex = lowIndex >= 0 ? lowIndex + 1 : i + 1;
+
+            // 정규식 체인은 제어문자를 공백 압축보다 먼저 지우므로 \x0B, \f 는 공백이 아니라 삭제 대상이다
+            if (removeControlCharacters && isControl(codePoint)) {
+                i = nextIndex;
+                continue;
+            }
+            if (isWhitespace(c)) {
+                pendingSpace = true;
+                i++;
+                continue;
+            }
+            if (removeSpecialCharacters && SPECIAL_CHARACTERS.indexOf(c) >= 0) {
+                i++;
+                continue;
+            }
+
+            // 앞쪽 trim: String.trim 처럼 ' ' 이하 문자는 첫 글자가 될 수 없다
+            if (size == 0 && c <= ' ') {
+                pendingSpace = false;
+                i++;
+                continue;
+            }
+            if (pendingSpace && size > 0) {
+                out[size++] = ' ';
+                if (size == limit) {
+                    break;
+                }
+            }
+            pendingSpace = false;
+
+            out[size++] = c;
+            // substring 은 서로게이트 쌍 중간에서도 자르므로 자리가 없으면 상위 서로게이트만 남긴다
+            if (lowIndex >= 0 && size < limit) {
+                out[size++] = text.charAt(lowIndex);
+            }
+            i = nextIndex;
+        }
+
+        while (size > 0 && out[size - 1] <= ' ') {
+            size--;
+        }
+        return new String(out, 0, size);
+    }
+
+    public boolean containsControlCharacter(String text) {
+        if (text == null) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            if (isControl(codePoint)) {
+                return true;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return false;
+    }
+
+    private static int skipTags(String text, int from) {
+        int i = from;
+        while (i < text.length() && text.charAt(i) == '<') {
+            int close = text.indexOf('>', i + 1);
+            if (close < 0) {
+                break;
+            }
+            i = close + 1;
+        }
+        return i;
+    }
+
+    /**
+     * \p{C} 중 \r, \n, \t 를 제외한 문자. 짝이 맞지 않는 서로게이트와 미할당 코드포인트도 포함된다.
+     */
+    private static boolean isControl(int codePoint) {
+        if (codePoint == '\r' || codePoint == '\n' || codePoint == '\t') {
+            return false;
+        }
+        int type = Character.getType(codePoint);
+        return type == Character.CONTROL
+                || type == Character.FORMAT
+                || type == Character.PRIVATE_USE
+                || type == Character.SURROGATE
+                || type == Character.UNASSIGNED;
+    }
+
+    /**
+     * 정규식 \s 와 같은 집합: [ \t\n\x0B\f\r]
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+
+    private static char[] buffer(int required) {
+        char[] buffer = BUFFER.get();
+        if (buffer.length < required) {
+            buffer = new char[Math.max(required, buffer.length * 2)];
+            BUFFER.set(buffer);
+        }
+        return buffer;
+    }
+}
@@ -1,7 +1,9 @@
 package com.sleekydz86.finsight.core.news.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.sleekydz86.finsight.core.news.domain.News;
-import com.sleekydz86.finsight.core.news.domain.Newses;
+import com.sleekydz86.finsight.core.news.domain.NewsSummary;
 import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsQueryRequest;
 import com.sleekydz86.finsight.core.news.domain.port.out.NewsPersistencePort;
 import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
@@ -10,11 +12,12 @@ import com.sleekydz86.finsight.core.user.domain.port.out.UserPersistencePort;
 import com.sleekydz86.finsight.core.global.exception.UserNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.time.Duration;
+import java.util.List;
 
 @Service
 @Transactional(readOnly = true)
@@ -24,119 +27,123 @@ public class PersonalizedNewsService {
 
     private final NewsPersistencePort newsPersistencePort;
     private final UserPersistencePort userPersistencePort;
-
-    public PersonalizedNewsService(NewsPersistencePort newsPersistencePort, UserPersistencePort userPersistencePort) {
+    private final NewsFeedIndex newsFeedIndex;
+    private final Cache<Long, RankedFeed> feedCache;
+
+    public PersonalizedNewsService(NewsPersistencePort newsPersistencePort,
+                                   UserPersistencePort userPersistencePort,
+                                   NewsFeedIndex newsFeedIndex,
+                                   @Value("${news.feed.user-cache-size:10000}") long userCacheSize,
+                                   @Value("${news.feed.user-cache-ttl-seconds:60}") long userCacheTtlSeconds) {
         this.newsPersistencePort = newsPersistencePort;
         this.userPersistencePort = userPersistencePort;
+        this.newsFeedIndex = newsFeedIndex;
+        this.feedCache = userCacheSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(userCacheSize)
+                        .expireAfterWrite(Duration.ofSeconds(Math.max(1, userCacheTtlSeconds)))
+                        .build()
+                : null;
     }
 
-    public Newses getPersonalizedNews(Long userId, int page, int size) {
+    public List<NewsSummary> getPersonalizedNews(Long userId, int page, int size) {
         log.debug("개인화 뉴스 조회: userId={}, page={}, size={}", userId, page, size);
 
         User user = userPersistencePort.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException(userId));
 
         List<TargetCategory> userWatchlist = user.getWatchlist();
-        if (userWatchlist == null || userWatchlist.isEmpty()) {
+        long watchlistMask = TargetCategory.maskOf(userWatchlist);
+        if (watchlistMask == 0L) {
             log.debug("사용자 관심사가 비어있어 기본 뉴스 반환: userId={}", userId);
             return getDefaultNews(page, size);
         }
 
-        NewsQueryRequest request = new NewsQueryRequest(
-                null, // startDate
-                null, // endDate
-                null, // sentimentType
-                null, // keyword
-                userWatchlist, // categories
-                null  // providers
-        );
-
-        Newses personalizedNews = newsPersistencePort.findAllByFilters(request);
-
-        List<News> newsList = personalizedNews.getNewses();
-        int fromIndex = Math.min(page * size, newsList.size());
-        int toIndex = Math.min((page + 1) * size, newsList.size());
-
-        List<News> pagedNews = fromIndex < newsList.size() ?
-                newsList.subList(fromIndex, toIndex) : new ArrayList<>();
+        int from = Math.max(page, 0) * size;
+        List<Long> rankedIds = rankedFeed(userId, watchlistMask, from + size);
+        if (rankedIds.isEmpty()) {
+            // 인덱스 기간 안에 관심 카테고리 기사가 없으면 기존처럼 카테고리 필터 조회로 채운다
+            return newsPersistencePort.findSummariesByFilters(
+                    new NewsQueryRequest(null, null, null, null, userWatchlist, null), page, size);
+        }
+        if (from >= rankedIds.size()) {
+            return List.of();
+        }
 
+        List<NewsSummary> pagedNews = newsPersistencePort.findSummariesByIds(
+                rankedIds.subList(from, Math.min(from + size, rankedIds.size())));
         log.debug("개인화 뉴스 조회 완료: userId={}, 결과 수={}", userId, pagedNews.size());
-        return new Newses(pagedNews);
+        return pagedNews;
     }
 
-    private Newses getDefaultNews(int page, int size) {
+    private List<NewsSummary> getDefaultNews(int page, int size) {
         log.debug("기본 뉴스 조회: page={}, size={}", page, size);
 
         NewsQueryRequest request = new NewsQueryRequest(
                 null, null, null, null, null, null
         );
 
-        Newses allNews = newsPersistencePort.findAllByFilters(request);
-
-        List<News> newsList = allNews.getNewses();
-        int fromIndex = Math.min(page * size, newsList.size());
-        int toIndex = Math.min((page + 1) * size, newsList.size());
-
-        List<News> pagedNews = fromIndex < newsList.size() ?
-                newsList.subList(fromIndex, toIndex) : new ArrayList<>();
+        List<NewsSummary> pagedNews = newsPersistencePort.findSummariesByFilters(request, page, size);
 
         log.debug("기본 뉴스 조회 완료: 결과 수={}", pagedNews.size());
-        return new Newses(pagedNews);
+        return pagedNews;
     }
 
     public double calculateRelevanceScore(News news, List<TargetCategory> userWatchlist) {
         if (news.getAiOverView() == null ||
                 news.getAiOverView().getTargetCategories() == null ||
-                userWatchlist == null || userWatchlist.isEmpty()) {
+                news.getAiOverView().getTargetCategories().isEmpty()) {
             return 0.0;
         }
 
-        List<TargetCategory> newsCategories = news.getAiOverView().getTargetCategories();
-        long matchCount = newsCategories.stream()
-                .mapToLong(category -> userWatchlist.contains(category) ? 1 : 0)
-                .sum();
-
-        return (double) matchCount / newsCategories.size();
+        long newsMask = TargetCategory.maskOf(news.getAiOverView().getTargetCategories());
+        long watchlistMask = TargetCategory.maskOf(userWatchlist);
+        return (double) Long.bitCount(newsMask & watchlistMask) / Long.bitCount(newsMask);
     }
 
-    public Newses getAdvancedPersonalizedNews(Long userId, int limit) {
+    public List<NewsSummary> getAdvancedPersonalizedNews(Long userId, int limit) {
         log.debug("고도화 개인화 뉴스 추천: userId={}, limit={}", userId, limit);
 
         User user = userPersistencePort.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException(userId));
 
-        List<TargetCategory> userWatchlist = user.getWatchlist();
-        if (userWatchlist == null || userWatchlist.isEmpty()) {
+        long watchlistMask = TargetCategory.maskOf(user.getWatchlist());
+        if (watchlistMask == 0L) {
             return getDefaultNews(0, limit);
         }
 
-        NewsQueryRequest request = new NewsQueryRequest(
-                null, null, null, null, null, null
-        );
-
-        Newses allNews = newsPersistencePort.findAllByFilters(request);
-
-        List<News> recommendedNews = allNews.getNewses().stream()
-                .filter(news -> calculateRelevanceScore(news, userWatchlist) > 0.0)
-                .sorted((n1, n2) -> {
-                    double score1 = calculateRelevanceScore(n1, userWatchlist);
-                    double score2 = calculateRelevanceScore(n2, userWatchlist);
-                    int scoreCompare = Double.compare(score2, score1); // 내림차순
-
-                    if (scoreCompare == 0) {
-                        if (n1.getNewsMeta() != null && n2.getNewsMeta() != null &&
-                                n1.getNewsMeta().getNewsPublishedTime() != null &&
-                                n2.getNewsMeta().getNewsPublishedTime() != null) {
-                            return n2.getNewsMeta().getNewsPublishedTime()
-                                    .compareTo(n1.getNewsMeta().getNewsPublishedTime());
-                        }
-                    }
-                    return scoreCompare;
-                })
-                .limit(limit)
-                .collect(Collectors.toList());
+        List<NewsSummary> recommendedNews = newsPersistencePort.findSummariesByIds(rankedFeed(userId, watchlistMask, limit));
 
         log.debug("고도화 개인화 뉴스 추천 완료: userId={}, 결과 수={}", userId, recommendedNews.size());
-        return new Newses(recommendedNews);
+        return recommendedNews;
+    }
+
+    /**
+     * 사용자별 랭킹 결과를 관심 카테고리 마스크와 인덱스 세대와 함께 캐시한다.
+     * 관심 종목이 바뀌면 마스크가, 새 기사가 색인되면 세대가 달라져 다음 조회에서 다시 계산한다.
+     */
+    private List<Long> rankedFeed(Long userId, long watchlistMask, int depth) {
+        if (feedCache == null) {
+            return newsFeedIndex.topK(watchlistMask, depth);
+        }
+        long generation = newsFeedIndex.generation();
+        RankedFeed cached = feedCache.getIfPresent(userId);
+        if (cached != null && cached.isValidFor(watchlistMask, generation, depth)) {
+            return cached.newsIds().size() > depth ? cached.newsIds().subList(0, depth) : cached.newsIds();
+        }
+
+        List<Long> ranked = newsFeedIndex.topK(watchlistMask, depth);
+        feedCache.put(userId, new RankedFeed(watchlistMask, generation, depth, ranked));
+        return ranked;
+    }
+
+    private record RankedFeed(long watchlistMask, long generation, int depth, List<Long> newsIds) {
+
+        // 요청보다 깊게 계산해 둔 결과는 앞부분을 잘라 재사용하고, 색인이 더 적어 덜 채워진 결과도 그대로 유효하다
+        private boolean isValidFor(long mask, long currentGeneration, int requestedDepth) {
+            return watchlistMask == mask
+                    && generation == currentGeneration
+                    && (depth >= requestedDepth || newsIds.size() < depth);
+        }
     }
-}
\ No newline at end of file
+}
@@ -4,6 +4,7 @@ import com.sleekydz86.finsight.core.notification.domain.Notification;
 import com.sleekydz86.finsight.core.user.domain.User;
 import com.sleekydz86.finsight.core.news.domain.News;
 import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -30,7 +31,11 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class EmailNotificationService {
 
+    // 메일 서버 동시 전송 수 한도. resilience4j.bulkhead.instances.mailServer 로 조정한다
+    private static final String BULKHEAD = "mailServer";
+
     private final JavaMailSender mailSender;
+    private final BulkheadRegistry bulkheadRegistry;
 
     @Value("${spring.mail.username}")
     private String fromEmail;
@@ -63,7 +68,7 @@ public class EmailNotificationService {
             String htmlContent = createNewsAlertHtmlContent(user, news);
             helper.setText(htmlContent, true);
 
-            mailSender.send(message);
+            bulkheadRegistry.bulkhead(BULKHEAD).executeRunnable(() -> mailSender.send(message));
             log.info("뉴스 알림 이메일 발송 성공 - 사용자: {}, 뉴스: {}",
                     user.getEmail(), news.getOriginalContent().getTitle());
 
@@ -95,7 +100,7 @@ public class EmailNotificationService {
             String htmlContent = createSystemNotificationHtmlContent(user, notification);
             helper.setText(htmlContent, true);
 
-            mailSender.send(message);
+            bulkheadRegistry.bulkhead(BULKHEAD).executeRunnable(() -> mailSender.send(message));
             log.info("시스템 알림 이메일 발송 성공 - 사용자: {}, 알림: {}",
                     user.getEmail(), notification.getTitle());
 
@@ -125,7 +130,7 @@ public class EmailNotificationService {
             String htmlContent = createWelcomeEmailContent(user);
             helper.setText(htmlContent, true);
 
-            mailSender.send(message);
+            bulkheadRegistry.bulkhead(BULKHEAD).executeRunnable(() -> mailSender.send(message));
             log.info("환영 이메일 발송 성공 - 사용자: {}", user.getEmail());
 
             return CompletableFuture.completedFuture(null);
@@ -358,7 +363,7 @@ public class EmailNotificationService {
             helper.setSubject(subject);
             helper.setText(content, true);
 
-            mailSender.send(message);
+            bulkheadRegistry.bulkhead(BULKHEAD).executeRunnable(() -> mailSender.send(message));
             log.info("복구 OTP 이메일 발송 성공 - 사용자: {}", user.getEmail());
 
             return CompletableFuture.completedFuture(null);
@@ -386,7 +391,7 @@ public class EmailNotificationService {
             helper.setSubject(subject);
             helper.setText(content, true);
 
-            mailSender.send(message);
+            bulkheadRegistry.bulkhead(BULKHEAD).executeRunnable(() -> mailSender.send(message));
             log.info("비밀번호 재설정 확인 이메일 발송 성공 - 사용자: {}", user.getEmail());
 
             return CompletableFuture.completedFuture(null);
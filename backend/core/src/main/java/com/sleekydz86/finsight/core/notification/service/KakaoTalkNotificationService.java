@@ -8,6 +8,7 @@ import com.sleekydz86.finsight.core.user.domain.User;
 import com.sleekydz86.finsight.core.news.domain.News;
 import com.sleekydz86.finsight.core.user.domain.port.out.UserPersistencePort;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -31,7 +32,11 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class KakaoTalkNotificationService {
 
+    // 카카오 API 동시 호출 수 한도. resilience4j.bulkhead.instances.kakaoApi 로 조정한다
+    private static final String BULKHEAD = "kakaoApi";
+
     private final RestTemplate restTemplate;
+    private final BulkheadRegistry bulkheadRegistry;
     private final ObjectMapper objectMapper;
     private final UserPersistencePort userPersistencePort;
 
@@ -309,7 +314,8 @@ public class KakaoTalkNotificationService {
 
             HttpEntity<MultiValueMap<String, Object>> entity = new HttpEntity<>(body, headers);
 
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
+            ResponseEntity<Map> response = bulkheadRegistry.bulkhead(BULKHEAD)
+                    .executeSupplier(() -> restTemplate.exchange(url, HttpMethod.POST, entity, Map.class));
 
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
                 Map<String, Object> responseBody = response.getBody();
@@ -377,8 +383,8 @@ public class KakaoTalkNotificationService {
 
             HttpEntity<MultiValueMap<String, String>> entity = new HttpEntity<>(body, headers);
 
-            ResponseEntity<KakaoTokenResponse> response = restTemplate.exchange(
-                    url, HttpMethod.POST, entity, KakaoTokenResponse.class);
+            ResponseEntity<KakaoTokenResponse> response = bulkheadRegistry.bulkhead(BULKHEAD)
+                    .executeSupplier(() -> restTemplate.exchange(url, HttpMethod.POST, entity, KakaoTokenResponse.class));
 
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
                 KakaoTokenResponse tokenResponse = response.getBody();
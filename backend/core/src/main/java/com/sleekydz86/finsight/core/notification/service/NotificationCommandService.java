@@ -9,23 +9,32 @@ import com.sleekydz86.finsight.core.user.domain.User;
 import com.sleekydz86.finsight.core.news.domain.News;
 import com.sleekydz86.finsight.core.global.annotation.LogExecution;
 import com.sleekydz86.finsight.core.global.annotation.PerformanceMonitor;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class NotificationCommandService implements NotificationCommandUseCase {
 
     private final NotificationPersistencePort notificationPersistencePort;
     private final NotificationSenderPort notificationSenderPort;
+    private final Executor notificationExecutor;
+
+    public NotificationCommandService(NotificationPersistencePort notificationPersistencePort,
+                                      NotificationSenderPort notificationSenderPort,
+                                      @Qualifier("notificationExecutor") Executor notificationExecutor) {
+        this.notificationPersistencePort = notificationPersistencePort;
+        this.notificationSenderPort = notificationSenderPort;
+        this.notificationExecutor = notificationExecutor;
+    }
 
     @Override
     @LogExecution("알림 생성")
@@ -96,6 +105,7 @@ public class NotificationCommandService implements NotificationCommandUseCase {
     public void sendBulkNotifications(List<Notification> notifications) {
         log.info("대량 알림 발송 시작 - 건수: {}", notifications.size());
 
+        // 공용 ForkJoinPool 은 코어 수만큼만 돌아 외부 호출에 막히므로 알림 실행기에서 보낸다
         List<CompletableFuture<Void>> futures = notifications.stream()
                 .map(notification -> CompletableFuture.runAsync(() -> {
                     try {
@@ -104,7 +114,7 @@ public class NotificationCommandService implements NotificationCommandUseCase {
                         log.error("대량 알림 발송 중 오류 - ID: {}, 오류: {}",
                                 notification.getId(), e.getMessage());
                     }
-                }))
+                }, notificationExecutor))
                 .collect(Collectors.toList());
 
         CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
@@ -6,33 +6,54 @@ import com.sleekydz86.finsight.core.user.domain.User;
 import com.sleekydz86.finsight.core.user.domain.NotificationType;
 import com.sleekydz86.finsight.core.user.domain.port.out.UserPersistencePort;
 import com.sleekydz86.finsight.core.notification.domain.port.out.NotificationSenderPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @Service
 public class NotificationService {
 
+    private static final Logger log = LoggerFactory.getLogger(NotificationService.class);
+
     private final UserPersistencePort userPersistencePort;
     private final NotificationSenderPort notificationSenderPort;
+    private final Executor notificationExecutor;
 
     public NotificationService(UserPersistencePort userPersistencePort,
-                               NotificationSenderPort notificationSenderPort) {
+                               NotificationSenderPort notificationSenderPort,
+                               @Qualifier("notificationExecutor") Executor notificationExecutor) {
         this.userPersistencePort = userPersistencePort;
         this.notificationSenderPort = notificationSenderPort;
+        this.notificationExecutor = notificationExecutor;
     }
 
+    // 사용자별 발송을 나눠 실행해 한 사용자의 느린 외부 호출이 다음 사용자 발송을 막지 않게 한다
     public void notifyUsersAboutNews(News news) {
         List<TargetCategory> newsCategories = news.getAiOverView().getTargetCategories();
         List<User> interestedUsers = userPersistencePort.findByWatchlistCategories(newsCategories);
 
-        for (User user : interestedUsers) {
+        List<CompletableFuture<Void>> futures = interestedUsers.stream()
+                .map(user -> CompletableFuture.runAsync(() -> notifyUser(user, news), notificationExecutor))
+                .toList();
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    }
+
+    private void notifyUser(User user, News news) {
+        try {
             if (user.getNotificationPreferences().contains(NotificationType.EMAIL)) {
                 notificationSenderPort.sendEmailNotification(user, news);
             }
             if (user.getNotificationPreferences().contains(NotificationType.PUSH)) {
                 notificationSenderPort.sendPushNotification(user, news);
             }
+        } catch (Exception e) {
+            log.error("뉴스 알림 발송 실패 - 사용자: {}, 뉴스: {}, 오류: {}", user.getEmail(), news.getId(), e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
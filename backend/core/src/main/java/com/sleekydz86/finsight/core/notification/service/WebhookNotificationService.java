@@ -2,6 +2,7 @@ package com.sleekydz86.finsight.core.notification.service;
 
 import com.sleekydz86.finsight.core.notification.domain.Notification;
 import com.sleekydz86.finsight.core.user.domain.User;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpEntity;
@@ -18,7 +19,11 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class WebhookNotificationService {
 
+    // 웹훅 동시 호출 수 한도. resilience4j.bulkhead.instances.webhookApi 로 조정한다
+    private static final String BULKHEAD = "webhookApi";
+
     private final RestTemplate restTemplate;
+    private final BulkheadRegistry bulkheadRegistry;
 
     public void sendNotification(User user, Notification notification) {
         try {
@@ -58,7 +63,8 @@ public class WebhookNotificationService {
 
             HttpEntity<Map<String, Object>> request = new HttpEntity<>(payload, headers);
 
-            restTemplate.postForEntity(webhookUrl, request, String.class);
+            bulkheadRegistry.bulkhead(BULKHEAD)
+                    .executeSupplier(() -> restTemplate.postForEntity(webhookUrl, request, String.class));
 
             log.debug("웹훅 알림 발송 완료 - URL: {}, 페이로드: {}", webhookUrl, payload);
             return true;
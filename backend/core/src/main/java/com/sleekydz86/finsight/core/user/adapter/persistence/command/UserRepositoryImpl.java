@@ -4,8 +4,10 @@ import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
 import com.sleekydz86.finsight.core.user.domain.User;
 import com.sleekydz86.finsight.core.user.domain.UserRole;
 import com.sleekydz86.finsight.core.user.domain.UserStatus;
+import com.sleekydz86.finsight.core.user.domain.event.UserChangedEvent;
 import com.sleekydz86.finsight.core.user.domain.port.out.UserPersistencePort;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
@@ -23,10 +25,13 @@ public class UserRepositoryImpl implements UserPersistencePort {
 
     private final UserJpaRepository userJpaRepository;
     private final UserJpaMapper userJpaMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserRepositoryImpl(UserJpaRepository userJpaRepository, UserJpaMapper userJpaMapper) {
+    public UserRepositoryImpl(UserJpaRepository userJpaRepository, UserJpaMapper userJpaMapper,
+                              ApplicationEventPublisher eventPublisher) {
         this.userJpaRepository = userJpaRepository;
         this.userJpaMapper = userJpaMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -34,6 +39,7 @@ public class UserRepositoryImpl implements UserPersistencePort {
         try {
             UserJpaEntity entity = userJpaMapper.toEntity(user);
             UserJpaEntity savedEntity = userJpaRepository.save(entity);
+            eventPublisher.publishEvent(new UserChangedEvent(savedEntity.getEmail()));
             return userJpaMapper.toDomain(savedEntity);
         } catch (Exception e) {
             log.error("사용자 저장 실패: {}", e.getMessage());
@@ -111,6 +117,8 @@ public class UserRepositoryImpl implements UserPersistencePort {
     @Override
     public void deleteById(Long id) {
         try {
+            userJpaRepository.findById(id)
+                    .ifPresent(entity -> eventPublisher.publishEvent(new UserChangedEvent(entity.getEmail())));
             userJpaRepository.deleteById(id);
         } catch (Exception e) {
             log.error("사용자 삭제 실패: id={}, error={}", id, e.getMessage());
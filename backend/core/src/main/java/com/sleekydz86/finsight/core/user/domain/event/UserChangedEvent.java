@@ -0,0 +1,8 @@
+package com.sleekydz86.finsight.core.user.domain.event;
+
+/**
+ * 사용자 행이 저장되거나 삭제됐음을 알린다. 잠금, 권한, 비밀번호 변경이 모두 저장을 거치므로
+ * 사용자 상태를 캐싱하는 쪽은 이 이벤트로 해당 이메일의 항목을 비운다.
+ */
+public record UserChangedEvent(String email) {
+}
@@ -0,0 +1,258 @@
+package com.sleekydz86.finsight.core.auth.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sleekydz86.finsight.core.auth.audit.SecurityAuditPipeline.OverflowPolicy;
+import com.sleekydz86.finsight.core.auth.filter.SecurityAuditFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+class SecurityAuditPipelineTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SecurityAuditPipelineTest.class);
+    private static final int RUN_THREADS = 4;
+    private static final int REQUESTS_PER_RUN = 10_000;
+
+    @Test
+    void 여러_요청_스레드의_이벤트를_잃지_않고_묶어서_기록한다() throws Exception {
+        // given
+        List<String> appends = new CopyOnWriteArrayList<>();
+        SecurityAuditPipeline pipeline = new SecurityAuditPipeline(new SimpleMeterRegistry(), 1024, 256,
+                OverflowPolicy.BLOCK, 10_000, (lines, error) -> appends.add(lines));
+        pipeline.start();
+        int threads = 8;
+        int eventsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                boolean allAccepted = true;
+                for (int i = 0; i < eventsPerThread; i++) {
+                    allAccepted &= pipeline.publish(SecurityAuditEvent.requestStart("REQ_" + thread + "_" + i,
+                            "127.0.0.1", "GET", "/api/v1/news", null, null, null, null, -1));
+                }
+                return allAccepted;
+            }));
+        }
+        start.countDown();
+        for (Future<Boolean> future : futures) {
+            Assertions.assertThat(future.get(30, TimeUnit.SECONDS)).isTrue();
+        }
+        executor.shutdown();
+        pipeline.shutdown();
+
+        // then
+        Set<String> requestIds = ConcurrentHashMap.newKeySet();
+        for (String append : appends) {
+            for (String line : append.split(System.lineSeparator())) {
+                Assertions.assertThat(line).startsWith("SECURITY_AUDIT: {\"timestamp\":");
+                requestIds.add(line.substring(line.indexOf("\"requestId\":\"") + 13, line.indexOf("\",\"eventType\"")));
+            }
+        }
+        Assertions.assertThat(requestIds).hasSize(threads * eventsPerThread);
+        Assertions.assertThat(appends.size()).isLessThan(threads * eventsPerThread);
+    }
+
+    @Test
+    void 버림_정책이면_가득_찬_버퍼에는_넣지_않고_오류_이벤트는_따로_기록한다() {
+        // given: 기록 스레드 없이 버퍼(4칸)만 채운다
+        List<String> infos = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        SecurityAuditPipeline pipeline = new SecurityAuditPipeline(new SimpleMeterRegistry(), 4, 256,
+                OverflowPolicy.DROP, 0, (lines, error) -> (error ? errors : infos).add(lines));
+
+        // when
+        int accepted = 0;
+        accepted += pipeline.publish(SecurityAuditEvent.securityException("REQ_0", "127.0.0.1", "POST",
+                "/api/v1/boards", new IllegalStateException("boom"))) ? 1 : 0;
+        for (int i = 1; i < 10; i++) {
+            accepted += pipeline.publish(SecurityAuditEvent.requestEnd("REQ_" + i, "127.0.0.1", "GET",
+                    "/api/v1/news", 200, 3, "anonymous", "none", null)) ? 1 : 0;
+        }
+        int drained = pipeline.drainBatch();
+
+        // then
+        Assertions.assertThat(accepted).isEqualTo(4);
+        Assertions.assertThat(drained).isEqualTo(4);
+        Assertions.assertThat(infos).hasSize(1);
+        Assertions.assertThat(infos.get(0).split(System.lineSeparator())).hasSize(3);
+        Assertions.assertThat(errors).singleElement().asString()
+                .contains("\"exceptionType\":\"IllegalStateException\"")
+                .doesNotContain("statusCode");
+    }
+
+    @Test
+    void 출력이_실패한_배치의_줄은_다음_배치에_다시_붙지_않는다() {
+        // given: 처음 두 번의 출력(정보, 오류)만 실패한다
+        List<String> appends = new ArrayList<>();
+        int[] calls = {0};
+        SecurityAuditPipeline pipeline = new SecurityAuditPipeline(new SimpleMeterRegistry(), 16, 256,
+                OverflowPolicy.DROP, 0, (lines, error) -> {
+                    if (calls[0]++ < 2) {
+                        throw new IllegalStateException("appender down");
+                    }
+                    appends.add(lines);
+                });
+        pipeline.publish(SecurityAuditEvent.requestEnd("REQ_1", "127.0.0.1", "GET", "/api/v1/news",
+                200, 3, "anonymous", "none", null));
+        pipeline.publish(SecurityAuditEvent.securityException("REQ_2", "127.0.0.1", "POST",
+                "/api/v1/boards", new IllegalStateException("boom")));
+
+        // when
+        Assertions.assertThatThrownBy(pipeline::drainBatch).isInstanceOf(IllegalStateException.class);
+        pipeline.publish(SecurityAuditEvent.requestEnd("REQ_3", "127.0.0.1", "GET", "/api/v1/news",
+                200, 3, "anonymous", "none", null));
+        pipeline.drainBatch();
+
+        // then: 정보 출력이 실패해도 오류 출력은 시도했고, 실패한 줄은 남지 않는다
+        Assertions.assertThat(calls[0]).isEqualTo(3);
+        Assertions.assertThat(appends).singleElement().asString()
+                .contains("REQ_3")
+                .doesNotContain("REQ_1", "REQ_2");
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void 초당_2천건에서_감사_필터_오버헤드_p99를_기존_경로와_비교한다() throws Exception {
+        // given: 기존 경로는 요청마다 ObjectMapper 를 두 번 만들어 같은 스레드에서 직렬화, 출력하고 본문을 항상 버퍼링했다
+        StringBuilder devNull = new StringBuilder();
+        Filter legacy = (request, response, chain) -> {
+            HttpServletRequest http = (HttpServletRequest) request;
+            ContentCachingRequestWrapper wrappedRequest = new ContentCachingRequestWrapper(http);
+            ContentCachingResponseWrapper wrappedResponse =
+                    new ContentCachingResponseWrapper((HttpServletResponse) response);
+            try {
+                appendSynchronously(devNull, new ObjectMapper().writeValueAsString(legacyEvent(http, "REQUEST_START")));
+                chain.doFilter(wrappedRequest, wrappedResponse);
+                appendSynchronously(devNull, new ObjectMapper().writeValueAsString(legacyEvent(http, "REQUEST_END")));
+            } finally {
+                wrappedResponse.copyBodyToResponse();
+            }
+        };
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Set<String> sinkThreads = ConcurrentHashMap.newKeySet();
+        SecurityAuditPipeline realPipeline = new SecurityAuditPipeline(meterRegistry, 8192, 256,
+                OverflowPolicy.DROP, 0, (lines, error) -> {
+                    sinkThreads.add(Thread.currentThread().getName());
+                    appendSynchronously(devNull, lines);
+                });
+        realPipeline.start();
+        SecurityAuditFilter current = new SecurityAuditFilter(realPipeline, List.of(), 0.0, 2048);
+
+        // when
+        long[] before = runAt2kRps(legacy);
+        long[] after = runAt2kRps(current);
+        realPipeline.shutdown();
+
+        // then
+        log.info("[security audit @2k rps] p50 {}us -> {}us, p99 {}us -> {}us",
+                percentile(before, 0.5) / 1_000, percentile(after, 0.5) / 1_000,
+                percentile(before, 0.99) / 1_000, percentile(after, 0.99) / 1_000);
+        // 요청 스레드는 출력하지 않고, 요청마다 넣은 시작/종료 이벤트는 기록되거나 버림으로 집계된다
+        Assertions.assertThat(sinkThreads).containsExactly("security-audit-writer");
+        double written = meterRegistry.counter("security.audit.written").count();
+        double dropped = meterRegistry.counter("security.audit.dropped").count();
+        Assertions.assertThat(written + dropped).isEqualTo(2.0 * REQUESTS_PER_RUN);
+    }
+
+    private static MockHttpServletRequest request(String uri, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        request.addHeader("User-Agent", "JUnit");
+        return request;
+    }
+
+    private static Map<String, Object> legacyEvent(HttpServletRequest request, String eventType) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("timestamp", LocalDateTime.now().toString());
+        event.put("eventType", eventType);
+        event.put("method", request.getMethod());
+        event.put("uri", request.getRequestURI());
+        event.put("userAgent", request.getHeader("User-Agent"));
+        return event;
+    }
+
+    private static void appendSynchronously(StringBuilder target, String lines) {
+        synchronized (target) {
+            target.setLength(0);
+            target.append(lines);
+        }
+    }
+
+    // 4개 스레드가 각자 500 rps 로 5초 동안 요청을 보내며 필터 안에서 보낸 시간만 잰다. 스레드마다 앞쪽 10%는 예열로 뺀다
+    private static long[] runAt2kRps(Filter filter) throws Exception {
+        int threads = RUN_THREADS;
+        int perThread = REQUESTS_PER_RUN / RUN_THREADS;
+        int warmup = perThread / 10;
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        FilterChain noop = (request, response) -> {
+        };
+        Future<?>[] futures = new Future<?>[threads];
+        long[] samples = new long[threads * (perThread - warmup)];
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            int offset = t * (perThread - warmup);
+            futures[t] = executor.submit(() -> {
+                long next = System.nanoTime();
+                for (int i = 0; i < perThread; i++) {
+                    LockSupport.parkNanos(next - System.nanoTime());
+                    next += intervalNanos;
+                    MockHttpServletRequest request = request("/api/v1/news", "{}");
+                    // 한 IP 에 몰리면 의심 IP 경고 로그가 매번 찍혀 측정을 덮으므로 요청마다 다른 IP 를 쓴다
+                    request.setRemoteAddr("10." + thread + "." + (i >> 8) + "." + (i & 0xff));
+                    long start = System.nanoTime();
+                    filter.doFilter(request, new MockHttpServletResponse(), noop);
+                    if (i >= warmup) {
+                        samples[offset + i - warmup] = System.nanoTime() - start;
+                    }
+                }
+                return null;
+            });
+        }
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))];
+    }
+}
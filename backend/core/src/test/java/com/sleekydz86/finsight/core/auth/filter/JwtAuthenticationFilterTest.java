@@ -0,0 +1,198 @@
+package com.sleekydz86.finsight.core.auth.filter;
+
+import com.sleekydz86.finsight.core.auth.domain.UserPrincipal;
+import com.sleekydz86.finsight.core.auth.service.CustomUserDetailsService;
+import com.sleekydz86.finsight.core.auth.service.UserPrincipalCache;
+import com.sleekydz86.finsight.core.auth.util.JwtTokenUtil;
+import com.sleekydz86.finsight.core.user.domain.User;
+import com.sleekydz86.finsight.core.user.domain.UserRole;
+import com.sleekydz86.finsight.core.user.domain.UserStatus;
+import com.sleekydz86.finsight.core.user.domain.event.UserChangedEvent;
+import com.sleekydz86.finsight.core.user.domain.port.out.UserPersistencePort;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.anyString;
+
+class JwtAuthenticationFilterTest {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilterTest.class);
+
+    private static final String SECRET = "test-secret-key-for-jwt-filter-0123456789-abcdefghijklmnopqrstuvwxyz";
+    private static final String EMAIL = "reader@finsight.com";
+    private static final int THROUGHPUT_WARMUP = 20_000;
+    private static final int THROUGHPUT_ITERATIONS = 100_000;
+
+    private final UserPersistencePort userPersistencePort = Mockito.mock(UserPersistencePort.class);
+    private final AtomicInteger parses = new AtomicInteger();
+    private JwtTokenUtil jwtTokenUtil;
+    private UserPrincipalCache userPrincipalCache;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenUtil = new JwtTokenUtil() {
+            @Override
+            public Claims parseClaims(String token) {
+                parses.incrementAndGet();
+                return super.parseClaims(token);
+            }
+        };
+        ReflectionTestUtils.setField(jwtTokenUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtTokenUtil, "accessTokenExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtTokenUtil, "refreshTokenExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtTokenUtil, "issuer", "finsight");
+        userPrincipalCache = new UserPrincipalCache(userPersistencePort, new SimpleMeterRegistry(), 1_000, 30);
+        filter = new JwtAuthenticationFilter(jwtTokenUtil, userPrincipalCache);
+        Mockito.when(userPersistencePort.findByEmail(EMAIL)).thenReturn(Optional.of(user(UserRole.USER, 0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 클레임으로_주체를_만들고_사용자_상태는_캐시에서_재사용한다() throws Exception {
+        // given
+        String token = jwtTokenUtil.generateAccessToken(EMAIL, UserRole.USER);
+
+        // when
+        Authentication first = filter(token);
+        Authentication second = filter(token);
+
+        // then
+        Assertions.assertThat(first.getPrincipal()).isInstanceOf(UserPrincipal.class);
+        Assertions.assertThat(first.getName()).isEqualTo(EMAIL);
+        Assertions.assertThat(second.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_USER");
+        Assertions.assertThat(parses).hasValue(2);
+        Mockito.verify(userPersistencePort, Mockito.times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void 잠금이나_권한_변경이_저장되면_캐시를_비우고_새_상태로_인증한다() throws Exception {
+        // given
+        String token = jwtTokenUtil.generateAccessToken(EMAIL, UserRole.USER);
+        filter(token);
+
+        // when: 관리자로 바뀐 뒤, 다시 로그인 실패 누적으로 잠긴다
+        Mockito.when(userPersistencePort.findByEmail(EMAIL)).thenReturn(Optional.of(user(UserRole.ADMIN, 0)));
+        userPrincipalCache.onUserChanged(new UserChangedEvent(EMAIL));
+        Authentication promoted = filter(token);
+        Mockito.when(userPersistencePort.findByEmail(EMAIL)).thenReturn(Optional.of(user(UserRole.ADMIN, 5)));
+        userPrincipalCache.onUserChanged(new UserChangedEvent(EMAIL));
+        Authentication locked = filter(token);
+
+        // then
+        Assertions.assertThat(promoted.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_ADMIN");
+        Assertions.assertThat(locked).isNull();
+    }
+
+    @Test
+    void 리프레시_토큰과_변조된_토큰으로는_인증하지_않는다() throws Exception {
+        // given
+        String refreshToken = jwtTokenUtil.generateRefreshToken(EMAIL);
+        String forged = Jwts.builder()
+                .subject(EMAIL)
+                .claim("tokenType", "ACCESS")
+                .signWith(Keys.hmacShaKeyFor("another-secret-key-with-enough-length-0123456789-abcdefghijklmnop"
+                        .getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS512)
+                .compact();
+
+        // when / then
+        Assertions.assertThat(filter(refreshToken)).isNull();
+        Assertions.assertThat(filter(forged)).isNull();
+        Mockito.verify(userPersistencePort, Mockito.never()).findByEmail(anyString());
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void 필터_처리량을_기존_경로와_비교한다() throws Exception {
+        // given: 기존 경로는 토큰을 세 번 검증(키도 매번 생성)하고 매 요청 UserDetailsService 로 사용자를 읽었다
+        String token = jwtTokenUtil.generateAccessToken(EMAIL, UserRole.USER);
+        CustomUserDetailsService userDetailsService = new CustomUserDetailsService(userPersistencePort);
+        Runnable legacy = () -> {
+            for (int i = 0; i < 3; i++) {
+                Jwts.parser()
+                        .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                        .build()
+                        .parseSignedClaims(token);
+            }
+            UserDetails userDetails = userDetailsService.loadUserByUsername(EMAIL);
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+        };
+        Runnable current = () -> {
+            try {
+                filter(token);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+
+        // when
+        double legacyOps = throughput(legacy);
+        filter(token);
+        Mockito.clearInvocations(userPersistencePort);
+        parses.set(0);
+        double currentOps = throughput(current);
+
+        // then: 목 저장소라 DB 왕복 비용은 빠져 있으며, 실제 환경에서는 그만큼 차이가 더 벌어진다.
+        // 캐시에 든 사용자는 요청마다 토큰을 한 번만 검증하고 저장소를 읽지 않는다
+        log.info("[jwt filter] before {} ops/s, after {} ops/s", Math.round(legacyOps), Math.round(currentOps));
+        Assertions.assertThat(parses).hasValue(THROUGHPUT_WARMUP + THROUGHPUT_ITERATIONS);
+        Mockito.verify(userPersistencePort, Mockito.never()).findByEmail(anyString());
+    }
+
+    private Authentication filter(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/news");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static double throughput(Runnable task) {
+        for (int i = 0; i < THROUGHPUT_WARMUP; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < THROUGHPUT_ITERATIONS; i++) {
+            task.run();
+        }
+        return THROUGHPUT_ITERATIONS / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    private static User user(UserRole role, int loginFailCount) {
+        return User.builder()
+                .email(EMAIL)
+                .username("reader")
+                .password("encoded")
+                .role(role)
+                .status(UserStatus.APPROVED)
+                .loginFailCount(loginFailCount)
+                .build();
+    }
+}
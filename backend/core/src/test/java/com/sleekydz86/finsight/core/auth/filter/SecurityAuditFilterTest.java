@@ -0,0 +1,90 @@
+package com.sleekydz86.finsight.core.auth.filter;
+
+import com.sleekydz86.finsight.core.auth.audit.SecurityAuditEvent;
+import com.sleekydz86.finsight.core.auth.audit.SecurityAuditPipeline;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+class SecurityAuditFilterTest {
+
+    private final SecurityAuditPipeline pipeline = Mockito.mock(SecurityAuditPipeline.class);
+
+    @Test
+    void 샘플링_규칙에_걸린_요청만_본문을_버퍼링해_남긴다() throws Exception {
+        // given
+        SecurityAuditFilter filter = new SecurityAuditFilter(pipeline, List.of("/api/v1/users/"), 1.0, 8);
+        AtomicReference<HttpServletRequest> passed = new AtomicReference<>();
+        FilterChain readingChain = (request, response) -> {
+            passed.set((HttpServletRequest) request);
+            request.getInputStream().readAllBytes();
+        };
+
+        // when
+        MockHttpServletRequest news = request("/api/v1/news", "{\"query\":\"nvda\"}");
+        filter.doFilter(news, new MockHttpServletResponse(), readingChain);
+        HttpServletRequest newsPassed = passed.get();
+        filter.doFilter(request("/api/v1/users/me", "{\"email\":\"a@finsight.com\"}"),
+                new MockHttpServletResponse(), readingChain);
+
+        // then
+        Assertions.assertThat(newsPassed).isSameAs(news);
+        Assertions.assertThat(passed.get()).isInstanceOf(ContentCachingRequestWrapper.class);
+        ArgumentCaptor<SecurityAuditEvent> events = ArgumentCaptor.forClass(SecurityAuditEvent.class);
+        Mockito.verify(pipeline, Mockito.times(4)).publish(events.capture());
+        Assertions.assertThat(events.getAllValues())
+                .filteredOn(event -> "REQUEST_END".equals(event.eventType()))
+                .extracting(SecurityAuditEvent::requestBody)
+                .containsExactly(null, "{\"email\"");
+    }
+
+    @Test
+    void 인증_API_본문은_남기지_않고_다른_본문의_비밀번호와_토큰_값은_가린다() throws Exception {
+        // given
+        SecurityAuditFilter filter = new SecurityAuditFilter(pipeline, List.of("/api/v1/"), 1.0, 2048);
+        AtomicReference<HttpServletRequest> passed = new AtomicReference<>();
+        FilterChain readingChain = (request, response) -> {
+            passed.set((HttpServletRequest) request);
+            request.getInputStream().readAllBytes();
+        };
+
+        // when
+        MockHttpServletRequest login = request("/api/v1/auth/login",
+                "{\"email\":\"a@finsight.com\",\"password\":\"p@ss\"}");
+        filter.doFilter(login, new MockHttpServletResponse(), readingChain);
+        HttpServletRequest loginPassed = passed.get();
+        filter.doFilter(request("/api/v1/users/me/password",
+                        "{\"currentPassword\":\"old\\\"pw\",\"newPassword\":\"new\",\"otp\":123456,"
+                                + "\"refreshToken\":\"abc.def\",\"nickname\":\"kim\"}"),
+                new MockHttpServletResponse(), readingChain);
+
+        // then
+        Assertions.assertThat(loginPassed).isSameAs(login);
+        ArgumentCaptor<SecurityAuditEvent> events = ArgumentCaptor.forClass(SecurityAuditEvent.class);
+        Mockito.verify(pipeline, Mockito.times(4)).publish(events.capture());
+        Assertions.assertThat(events.getAllValues())
+                .filteredOn(event -> "REQUEST_END".equals(event.eventType()))
+                .extracting(SecurityAuditEvent::requestBody)
+                .containsExactly(null, "{\"currentPassword\":\"***\",\"newPassword\":\"***\",\"otp\":\"***\","
+                        + "\"refreshToken\":\"***\",\"nickname\":\"kim\"}");
+    }
+
+    private static MockHttpServletRequest request(String uri, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setContentType("application/json");
+        request.setCharacterEncoding("UTF-8");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        request.addHeader("User-Agent", "JUnit");
+        return request;
+    }
+}
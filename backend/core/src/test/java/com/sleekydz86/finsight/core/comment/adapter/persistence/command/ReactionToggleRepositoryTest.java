@@ -0,0 +1,174 @@
+package com.sleekydz86.finsight.core.comment.adapter.persistence.command;
+
+import com.sleekydz86.finsight.core.comment.adapter.persistence.command.ReactionToggleRepository.Target;
+import com.sleekydz86.finsight.core.comment.domain.ReactionToggleResult;
+import com.sleekydz86.finsight.core.comment.domain.ReactionType;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ReactionToggleRepositoryTest {
+
+    private DataSourceTransactionManager transactionManager;
+    private JdbcTemplate jdbcTemplate;
+    private ReactionToggleRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:reaction-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=60000",
+                "sa", "");
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new ReactionToggleRepository(jdbcTemplate, transactionManager);
+        for (String table : List.of("boards", "comments")) {
+            jdbcTemplate.execute("CREATE TABLE " + table + " (id BIGINT PRIMARY KEY, "
+                    + "like_count INT NOT NULL, dislike_count INT NOT NULL)");
+            jdbcTemplate.update("INSERT INTO " + table + " (id, like_count, dislike_count) VALUES (1, 0, 0)");
+        }
+        for (String column : List.of("board_id", "comment_id")) {
+            String table = column.equals("board_id") ? "board_reactions" : "comment_reactions";
+            jdbcTemplate.execute("CREATE TABLE " + table + " (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                    + column + " BIGINT NOT NULL, user_email VARCHAR(255) NOT NULL, "
+                    + "reaction_type VARCHAR(20) NOT NULL, created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP, "
+                    + "CONSTRAINT uk_" + table + " UNIQUE (" + column + ", user_email))");
+        }
+    }
+
+    @Test
+    void 같은_반응은_취소하고_반대_반응은_전환하며_바뀐_카운트를_돌려준다() {
+        // when / then
+        Assertions.assertThat(toggle(Target.COMMENT, "a@finsight.com", ReactionType.LIKE))
+                .isEqualTo(new ReactionToggleResult(1L, ReactionType.LIKE, 1, 0));
+        Assertions.assertThat(toggle(Target.COMMENT, "b@finsight.com", ReactionType.DISLIKE))
+                .isEqualTo(new ReactionToggleResult(1L, ReactionType.DISLIKE, 1, 1));
+        Assertions.assertThat(toggle(Target.COMMENT, "a@finsight.com", ReactionType.DISLIKE))
+                .isEqualTo(new ReactionToggleResult(1L, ReactionType.DISLIKE, 0, 2));
+        Assertions.assertThat(toggle(Target.COMMENT, "a@finsight.com", ReactionType.DISLIKE))
+                .isEqualTo(new ReactionToggleResult(1L, null, 0, 1));
+        Optional<ReactionToggleResult> missing = repository.toggle(Target.COMMENT, 404L, "a@finsight.com",
+                ReactionType.LIKE);
+        Assertions.assertThat(missing).isEmpty();
+        Assertions.assertThat(count("SELECT COUNT(*) FROM comment_reactions WHERE comment_id = 404")).isZero();
+    }
+
+    @Test
+    void 교착_상태로_롤백되면_새_트랜잭션에서_토글을_다시_시도한다() {
+        // given: 첫 카운터 갱신만 교착 상태의 희생자가 된 것처럼 실패한다
+        AtomicInteger counterUpdates = new AtomicInteger();
+        JdbcTemplate deadlocking = new JdbcTemplate(jdbcTemplate.getDataSource()) {
+            @Override
+            public int update(String sql, Object... args) {
+                if (sql.startsWith("UPDATE boards") && counterUpdates.getAndIncrement() == 0) {
+                    throw new PessimisticLockingFailureException("Deadlock found when trying to get lock");
+                }
+                return super.update(sql, args);
+            }
+        };
+        ReactionToggleRepository retrying = new ReactionToggleRepository(deadlocking, transactionManager);
+
+        // when
+        Optional<ReactionToggleResult> result = retrying.toggle(Target.BOARD, 1L, "a@finsight.com", ReactionType.LIKE);
+
+        // then: 첫 시도의 반응 행은 롤백되고 다시 시도한 토글만 남는다
+        Assertions.assertThat(result).contains(new ReactionToggleResult(1L, ReactionType.LIKE, 1, 0));
+        Assertions.assertThat(counterUpdates.get()).isEqualTo(2);
+        Assertions.assertThat(count("SELECT COUNT(*) FROM board_reactions")).isEqualTo(1);
+    }
+
+    @Test
+    void 바깥_트랜잭션_안에서는_교착_상태를_재시도하지_않고_던진다() {
+        // given
+        AtomicInteger counterUpdates = new AtomicInteger();
+        JdbcTemplate deadlocking = new JdbcTemplate(jdbcTemplate.getDataSource()) {
+            @Override
+            public int update(String sql, Object... args) {
+                if (sql.startsWith("UPDATE boards")) {
+                    counterUpdates.incrementAndGet();
+                    throw new PessimisticLockingFailureException("Deadlock found when trying to get lock");
+                }
+                return super.update(sql, args);
+            }
+        };
+        ReactionToggleRepository retrying = new ReactionToggleRepository(deadlocking, transactionManager);
+
+        // when / then
+        Assertions.assertThatThrownBy(() -> new TransactionTemplate(transactionManager).execute(status ->
+                        retrying.toggle(Target.BOARD, 1L, "a@finsight.com", ReactionType.LIKE)))
+                .isInstanceOf(PessimisticLockingFailureException.class);
+        Assertions.assertThat(counterUpdates.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 이백개_스레드가_한_게시글에_반응을_토글해도_카운트가_반응_행과_일치한다() throws Exception {
+        // given: 사용자마다 무작위 좋아요/싫어요 토글을 20번씩 보내고, 결과 상태는 스레드 안에서 따로 계산한다
+        // H2 MODE=MySQL 의 행 잠금만 검증하며, MySQL InnoDB 의 갭 잠금/교착 동작은 재현하지 않는다
+        int threads = 200;
+        int togglesPerUser = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ReactionType>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            String userEmail = "user" + t + "@finsight.com";
+            Random random = new Random(t);
+            futures.add(executor.submit(() -> {
+                start.await();
+                ReactionType expected = null;
+                for (int i = 0; i < togglesPerUser; i++) {
+                    ReactionType reactionType = random.nextBoolean() ? ReactionType.LIKE : ReactionType.DISLIKE;
+                    ReactionToggleResult result = toggle(Target.BOARD, userEmail, reactionType);
+                    expected = expected == reactionType ? null : reactionType;
+                    Assertions.assertThat(result.reactionType()).isEqualTo(expected);
+                }
+                return expected;
+            }));
+        }
+
+        // when
+        start.countDown();
+        int expectedLikes = 0;
+        int expectedDislikes = 0;
+        for (Future<ReactionType> future : futures) {
+            ReactionType finalReaction = future.get(120, TimeUnit.SECONDS);
+            if (finalReaction == ReactionType.LIKE) {
+                expectedLikes++;
+            } else if (finalReaction == ReactionType.DISLIKE) {
+                expectedDislikes++;
+            }
+        }
+        executor.shutdown();
+
+        // then
+        Assertions.assertThat(count("SELECT like_count FROM boards WHERE id = 1")).isEqualTo(expectedLikes);
+        Assertions.assertThat(count("SELECT dislike_count FROM boards WHERE id = 1")).isEqualTo(expectedDislikes);
+        Assertions.assertThat(count("SELECT COUNT(*) FROM board_reactions WHERE reaction_type = 'LIKE'"))
+                .isEqualTo(expectedLikes);
+        Assertions.assertThat(count("SELECT COUNT(*) FROM board_reactions WHERE reaction_type = 'DISLIKE'"))
+                .isEqualTo(expectedDislikes);
+    }
+
+    private ReactionToggleResult toggle(Target target, String userEmail, ReactionType reactionType) {
+        return repository.toggle(target, 1L, userEmail, reactionType).orElseThrow();
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+}
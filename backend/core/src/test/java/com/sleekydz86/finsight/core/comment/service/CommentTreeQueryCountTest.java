@@ -0,0 +1,142 @@
+package com.sleekydz86.finsight.core.comment.service;
+
+import com.sleekydz86.finsight.core.comment.adapter.persistence.command.CommentJpaEntity;
+import com.sleekydz86.finsight.core.comment.adapter.persistence.command.CommentJpaMapper;
+import com.sleekydz86.finsight.core.comment.adapter.persistence.command.CommentRepositoryImpl;
+import com.sleekydz86.finsight.core.comment.domain.Comment;
+import com.sleekydz86.finsight.core.comment.domain.CommentStatus;
+import com.sleekydz86.finsight.core.comment.domain.CommentType;
+import com.sleekydz86.finsight.core.comment.domain.Comments;
+import com.sleekydz86.finsight.core.comment.domain.port.in.dto.CommentResponse;
+import com.sleekydz86.finsight.core.global.dto.PaginationResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 댓글 트리 조회가 댓글 수와 상관없이 루트 조회 + 답글 일괄 조회 두 번의 쿼리로 끝나는지 확인한다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@Import({CommentTreeQueryCountTest.CommentPersistenceSlice.class, CommentJpaMapper.class, CommentRepositoryImpl.class})
+@ActiveProfiles("test")
+class CommentTreeQueryCountTest {
+
+    private static final long NEWS_ID = 1L;
+    private static final int REPLY_PREVIEW_SIZE = 3;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CommentRepositoryImpl commentRepository;
+
+    private CommentQueryService commentQueryService;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        commentQueryService = new CommentQueryService(commentRepository, null, null, REPLY_PREVIEW_SIZE);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void 댓글_300개_트리를_쿼리_두_번으로_조립한다() {
+        // given: 루트 100개에 답글 2개씩
+        LocalDateTime base = LocalDateTime.now().minusDays(1);
+        List<Object[]> rows = new ArrayList<>();
+        for (long root = 1; root <= 100; root++) {
+            rows.add(row(root, null, base.plusMinutes(root)));
+        }
+        for (long reply = 101; reply <= 300; reply++) {
+            rows.add(row(reply, 1 + (reply - 101) / 2, base.plusMinutes(reply)));
+        }
+        insert(rows);
+        statistics.clear();
+
+        // when
+        Comments comments = commentQueryService.getCommentsByTargetId(NEWS_ID, CommentType.NEWS);
+
+        // then
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        Assertions.assertThat(comments.getComments()).hasSize(100);
+        Assertions.assertThat(comments.getComments().get(0).getId()).isEqualTo(100L);
+        Assertions.assertThat(comments.getComments())
+                .allSatisfy(root -> Assertions.assertThat(root.getReplies()).hasSize(2))
+                .allSatisfy(root -> Assertions.assertThat(root.getNextReplyCursor()).isNull());
+
+        // 페이지 조회도 COUNT 없이 같은 두 번으로 끝난다
+        statistics.clear();
+        Comments page = commentQueryService.getCommentsByTargetIdWithPagination(NEWS_ID, CommentType.NEWS, 1, 20);
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        Assertions.assertThat(page.getComments()).extracting(Comment::getId).startsWith(80L, 79L);
+    }
+
+    @Test
+    void 미리보기보다_많은_답글은_커서로_이어서_조회한다() {
+        // given: 같은 시각에 달린 답글도 id 로 순서가 정해진다
+        LocalDateTime base = LocalDateTime.now().minusHours(1);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(row(1L, null, base));
+        for (long reply = 2; reply <= 8; reply++) {
+            rows.add(row(reply, 1L, base.plusMinutes(reply / 2)));
+        }
+        insert(rows);
+
+        // when
+        Comment root = commentQueryService.getCommentsByTargetId(NEWS_ID, CommentType.NEWS).getComments().get(0);
+        PaginationResponse<CommentResponse> next = commentQueryService
+                .getCommentReplies(1L, root.getNextReplyCursor(), 3);
+        PaginationResponse<CommentResponse> last = commentQueryService
+                .getCommentReplies(1L, next.getNextCursor(), 3);
+
+        // then
+        Assertions.assertThat(root.getReplies()).extracting(Comment::getId).containsExactly(2L, 3L, 4L);
+        Assertions.assertThat(next.getContent()).extracting(CommentResponse::getId).containsExactly(5L, 6L, 7L);
+        Assertions.assertThat(next.isHasNext()).isTrue();
+        Assertions.assertThat(last.getContent()).extracting(CommentResponse::getId).containsExactly(8L);
+        Assertions.assertThat(last.isHasNext()).isFalse();
+    }
+
+    private static Object[] row(long id, Long parentId, LocalDateTime createdAt) {
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        return new Object[]{id, "comment " + id, "user" + id + "@finsight.com", CommentType.NEWS.name(),
+                NEWS_ID, parentId, CommentStatus.ACTIVE.name(), timestamp, timestamp};
+    }
+
+    private void insert(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("INSERT INTO comments (id, content, author_email, comment_type, target_id, "
+                + "parent_id, status, like_count, dislike_count, report_count, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, 0, 0, 0, ?, ?)", rows);
+    }
+
+    @TestConfiguration
+    @EntityScan(basePackageClasses = CommentJpaEntity.class)
+    @EnableJpaRepositories(basePackageClasses = CommentJpaEntity.class)
+    static class CommentPersistenceSlice {
+    }
+}
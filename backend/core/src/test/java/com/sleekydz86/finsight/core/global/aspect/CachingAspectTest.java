@@ -0,0 +1,209 @@
+package com.sleekydz86.finsight.core.global.aspect;
+
+import com.sleekydz86.finsight.core.global.annotation.Cacheable;
+import com.sleekydz86.finsight.core.global.cache.AdvancedCacheManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingAspectTest {
+
+    private AdvancedCacheManager cacheManager;
+    private NewsLookup target;
+    private NewsLookup proxy;
+
+    @BeforeEach
+    void setUp() {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheNames(List.of("news"));
+        cacheManager = new AdvancedCacheManager(caffeineCacheManager, new SimpleMeterRegistry());
+
+        target = new NewsLookup();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new CachingAspect(cacheManager));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    void 인자가_다르면_서로_다른_캐시_항목을_사용한다() {
+        // when
+        String first = proxy.detail(1L);
+        String second = proxy.detail(2L);
+        String cached = proxy.detail(1L);
+        String prefixed = proxy.latest(10);
+        String otherLimit = proxy.latest(20);
+
+        // then
+        Assertions.assertThat(first).isEqualTo("news-1");
+        Assertions.assertThat(second).isEqualTo("news-2");
+        Assertions.assertThat(cached).isEqualTo("news-1");
+        Assertions.assertThat(prefixed).isEqualTo("latest-10");
+        Assertions.assertThat(otherLimit).isEqualTo("latest-20");
+        Assertions.assertThat(target.detailCalls.get()).isEqualTo(2);
+        Assertions.assertThat(cacheManager.getCacheStatistics("news").getHits()).isEqualTo(1);
+        Assertions.assertThat(cacheManager.getCacheStatistics("news").getMisses()).isEqualTo(4);
+    }
+
+    @Test
+    void 같은_키로_동시에_요청하면_원본은_한_번만_호출된다() throws Exception {
+        // given
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return proxy.slowDetail(7L);
+            }, executor));
+        }
+        start.countDown();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        Assertions.assertThat(futures).allMatch(future -> "slow-7".equals(future.join()));
+        Assertions.assertThat(target.slowCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void null_결과도_캐시하고_cacheNull이_false면_캐시하지_않는다() {
+        // when
+        proxy.missing(1L);
+        proxy.missing(1L);
+        proxy.missingUncached(1L);
+        proxy.missingUncached(1L);
+
+        // then
+        Assertions.assertThat(target.missingCalls.get()).isEqualTo(1);
+        Assertions.assertThat(target.uncachedCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 부재_결과는_negativeExpireSeconds_가_지나면_원본에서_다시_읽는다() {
+        // when
+        proxy.related(1L);
+        proxy.related(1L);
+        proxy.expiredMissing(1L);
+        proxy.expiredMissing(1L);
+
+        // then
+        Assertions.assertThat(target.relatedCalls.get()).isEqualTo(1);
+        Assertions.assertThat(target.expiredMissingCalls.get()).isEqualTo(2);
+        Assertions.assertThat(proxy.expiredMissing(1L)).isNull();
+    }
+
+    @Test
+    void 선갱신은_조인_포인트_없이_읽기_전용_트랜잭션_안에서_대상_메서드를_다시_호출한다() throws Exception {
+        // given
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("transactionManager", transactionManager);
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new CachingAspect(cacheManager,
+                beanFactory.getBeanProvider(PlatformTransactionManager.class)));
+        NewsLookup transactional = factory.getProxy();
+        for (int i = 0; i < 4; i++) {
+            transactional.detail(7L);
+        }
+
+        // when
+        cacheManager.invalidate("news", key -> true);
+
+        // then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (cacheManager.getCacheStatistics("news").getRefreshes() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertThat(target.detailCalls.get()).isEqualTo(2);
+        Assertions.assertThat(transactional.detail(7L)).isEqualTo("news-7");
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        verify(transactionManager).commit(any());
+    }
+
+    static class NewsLookup {
+        final AtomicInteger detailCalls = new AtomicInteger();
+        final AtomicInteger slowCalls = new AtomicInteger();
+        final AtomicInteger missingCalls = new AtomicInteger();
+        final AtomicInteger uncachedCalls = new AtomicInteger();
+        final AtomicInteger relatedCalls = new AtomicInteger();
+        final AtomicInteger expiredMissingCalls = new AtomicInteger();
+
+        @Cacheable(value = "news", key = "news:detail:#{#newsId}")
+        public String detail(Long newsId) {
+            detailCalls.incrementAndGet();
+            return "news-" + newsId;
+        }
+
+        @Cacheable(value = "news", key = "news:latest")
+        public String latest(int limit) {
+            return "latest-" + limit;
+        }
+
+        @Cacheable(value = "news", key = "news:slow:#{#newsId}")
+        public String slowDetail(Long newsId) {
+            slowCalls.incrementAndGet();
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "slow-" + newsId;
+        }
+
+        @Cacheable(value = "news", key = "news:missing:#{#newsId}")
+        public String missing(Long newsId) {
+            missingCalls.incrementAndGet();
+            return null;
+        }
+
+        @Cacheable(value = "news", key = "news:uncached:#{#newsId}", cacheNull = false)
+        public String missingUncached(Long newsId) {
+            uncachedCalls.incrementAndGet();
+            return null;
+        }
+
+        @Cacheable(value = "news", key = "news:related:#{#newsId}")
+        public List<String> related(Long newsId) {
+            relatedCalls.incrementAndGet();
+            return List.of();
+        }
+
+        @Cacheable(value = "news", key = "news:expired:#{#newsId}", negativeExpireSeconds = 0)
+        public String expiredMissing(Long newsId) {
+            expiredMissingCalls.incrementAndGet();
+            return null;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.sleekydz86.finsight.core.global.counter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class WriteBehindCounterTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:counter-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE news_statistics (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "news_id BIGINT NOT NULL UNIQUE, view_count INT NOT NULL, like_count INT NOT NULL, "
+                + "dislike_count INT NOT NULL, comment_count INT NOT NULL, created_at TIMESTAMP, updated_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE boards (id BIGINT PRIMARY KEY, view_count INT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE counter_flush_batches (batch_id VARCHAR(36) PRIMARY KEY, "
+                + "flushed_at TIMESTAMP NOT NULL)");
+        jdbcTemplate.update("INSERT INTO news_statistics (news_id, view_count, like_count, dislike_count, "
+                + "comment_count) VALUES (1, 10, 0, 0, 0)");
+        for (long boardId = 1; boardId <= 3; boardId++) {
+            jdbcTemplate.update("INSERT INTO boards (id, view_count) VALUES (?, 0)", boardId);
+        }
+    }
+
+    @Test
+    void 동시_조회수_증가를_잃지_않고_주기적인_배치로_반영한다() throws Exception {
+        // given
+        WriteBehindCounter counter = counter(new CounterFlushRepository(jdbcTemplate));
+        int threads = 200;
+        int viewsPerThread = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        // when: 뷰 요청이 몰리는 동안 다른 스레드가 계속 반영한다
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                counter.flush();
+            }
+        });
+        flusher.start();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long boardId = 1 + t % 3;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < viewsPerThread; i++) {
+                    counter.increment(CounterType.NEWS_VIEW, 1L);
+                    counter.increment(CounterType.BOARD_VIEW, boardId);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        running.set(false);
+        flusher.join();
+        executor.shutdown();
+        counter.flush();
+        counter.flush();
+
+        // then
+        Assertions.assertThat(newsViews(1L)).isEqualTo(10 + threads * viewsPerThread);
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT SUM(view_count) FROM boards", Integer.class))
+                .isEqualTo(threads * viewsPerThread);
+        Assertions.assertThat(counter.pendingDelta(CounterType.NEWS_VIEW, 1L)).isZero();
+    }
+
+    @Test
+    void 반영_전까지는_저장된_값에_더해_보여줄_증가분을_돌려준다() {
+        // given
+        WriteBehindCounter counter = counter(new CounterFlushRepository(jdbcTemplate));
+
+        // when
+        counter.increment(CounterType.NEWS_VIEW, 2L);
+        counter.increment(CounterType.NEWS_VIEW, 2L);
+        counter.increment(CounterType.BOARD_VIEW, 99L);
+
+        // then
+        Assertions.assertThat(counter.pendingDelta(CounterType.NEWS_VIEW, 2L)).isEqualTo(2);
+        Assertions.assertThat(counter.flush()).isEqualTo(3);
+        // 통계 행이 없던 기사는 새 행을 만들고, 없는 게시글의 증가분은 버린다
+        Assertions.assertThat(newsViews(2L)).isEqualTo(2);
+        Assertions.assertThat(counter.pendingDelta(CounterType.NEWS_VIEW, 2L)).isZero();
+        Assertions.assertThat(counter.pendingDelta(CounterType.BOARD_VIEW, 99L)).isZero();
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM boards WHERE id = 99", Integer.class))
+                .isZero();
+        Assertions.assertThat(counter.flush()).isZero();
+    }
+
+    @Test
+    void 커밋_후_응답을_잃어_같은_배치를_다시_보내도_두_번_더하지_않는다() {
+        // given: 첫 반영은 커밋된 뒤 연결이 끊긴 것처럼 예외를 던진다
+        AtomicBoolean failAfterCommit = new AtomicBoolean(true);
+        List<String> appliedBatchIds = new ArrayList<>();
+        CounterFlushRepository repository = new CounterFlushRepository(jdbcTemplate) {
+            @Override
+            public boolean apply(String batchId, Map<CounterType, Map<Long, Long>> deltas) {
+                boolean applied = super.apply(batchId, deltas);
+                appliedBatchIds.add(batchId);
+                if (failAfterCommit.getAndSet(false)) {
+                    throw new IllegalStateException("커밋 응답 유실");
+                }
+                return applied;
+            }
+        };
+        WriteBehindCounter counter = counter(repository);
+        for (int i = 0; i < 5; i++) {
+            counter.increment(CounterType.NEWS_VIEW, 1L);
+        }
+        Assertions.assertThatThrownBy(counter::flush).isInstanceOf(IllegalStateException.class);
+        counter.increment(CounterType.NEWS_VIEW, 1L);
+
+        // when: 재시도는 같은 배치 id 로 나가고, 그 사이 증가분은 다음 배치로 간다
+        counter.flush();
+        counter.flush();
+
+        // then
+        Assertions.assertThat(appliedBatchIds).hasSize(3);
+        Assertions.assertThat(appliedBatchIds.get(1)).isEqualTo(appliedBatchIds.get(0));
+        Assertions.assertThat(newsViews(1L)).isEqualTo(10 + 5 + 1);
+    }
+
+    private WriteBehindCounter counter(CounterFlushRepository repository) {
+        return new WriteBehindCounter(repository, new SimpleMeterRegistry(), 60_000, 24);
+    }
+
+    private int newsViews(long newsId) {
+        return jdbcTemplate.queryForObject("SELECT view_count FROM news_statistics WHERE news_id = ?",
+                Integer.class, newsId);
+    }
+}
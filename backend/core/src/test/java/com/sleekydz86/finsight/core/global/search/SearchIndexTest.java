@@ -0,0 +1,72 @@
+package com.sleekydz86.finsight.core.global.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.search.Query;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+class SearchIndexTest {
+
+    @TempDir
+    Path indexDir;
+
+    @Test
+    void 검색에_보이지_않는_가장_오래된_변경의_나이를_지연으로_잰다() throws Exception {
+        // given: 주기 갱신이 돌지 않도록 간격을 길게 둔다
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        try (SearchIndex index = new SearchIndex("news", indexDir, meterRegistry,
+                Duration.ofHours(1), Duration.ofHours(1))) {
+            Query query = index.keywordQuery("삼성전자", Map.of("title", 1.0f));
+
+            // when: 5초 전에 DB 에 들어온 기사를 색인했다
+            index.upsert(1L, 0L, document("삼성전자 실적 발표"), System.currentTimeMillis() - 5_000);
+
+            // then
+            Assertions.assertThat(index.search(query, 0, 10).ids()).isEmpty();
+            Assertions.assertThat(meterRegistry.get("search.index.lag").tag("index", "news").gauge().value())
+                    .isGreaterThanOrEqualTo(5.0);
+
+            index.refresh();
+            Assertions.assertThat(index.search(query, 0, 10).ids()).containsExactly(1L);
+            Assertions.assertThat(index.lagSeconds()).isZero();
+        }
+    }
+
+    @Test
+    void 재시작하면_디스크에_커밋된_색인을_그대로_쓴다() throws Exception {
+        // given
+        try (SearchIndex index = new SearchIndex("board", indexDir, new SimpleMeterRegistry(),
+                Duration.ofHours(1), Duration.ofHours(1))) {
+            Assertions.assertThat(index.isReady()).isFalse();
+            index.rebuild(target -> {
+                target.upsert(7L, 0L, document("earnings call"), System.currentTimeMillis());
+                return 1L;
+            }).get();
+        }
+
+        // when
+        try (SearchIndex reopened = new SearchIndex("board", indexDir, new SimpleMeterRegistry(),
+                Duration.ofHours(1), Duration.ofHours(1))) {
+
+            // then
+            Assertions.assertThat(reopened.isReady()).isTrue();
+            Assertions.assertThat(reopened.maxId()).isEqualTo(7L);
+            Assertions.assertThat(reopened.search(reopened.keywordQuery("earning", Map.of("title", 1.0f)), 0, 10)
+                    .ids()).containsExactly(7L);
+        }
+    }
+
+    private static Document document(String title) {
+        Document document = new Document();
+        document.add(new TextField("title", title, Field.Store.NO));
+        return document;
+    }
+}
@@ -0,0 +1,43 @@
+package com.sleekydz86.finsight.core.news.adapter.out;
+
+import com.sleekydz86.finsight.core.news.domain.vo.Content;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+class AiChatRequestPackerTest {
+
+    @Test
+    void 토큰_예산과_최대_건수를_넘지_않도록_순서대로_묶는다() {
+        // given
+        List<Content> contents = IntStream.range(0, 10)
+                .mapToObj(i -> new Content("title " + i, "x".repeat(400)))
+                .toList();
+        int itemTokens = AiChatRequestPacker.estimateTokens(contents.get(0));
+        AiChatRequestPacker packer = new AiChatRequestPacker(itemTokens * 3, 2);
+
+        // when
+        List<List<Content>> batches = packer.pack(contents);
+
+        // then
+        Assertions.assertThat(batches).hasSize(5);
+        Assertions.assertThat(batches).allSatisfy(batch -> Assertions.assertThat(batch).hasSize(2));
+        Assertions.assertThat(batches.stream().flatMap(List::stream).toList()).containsExactlyElementsOf(contents);
+    }
+
+    @Test
+    void 예산보다_큰_기사는_단독_요청으로_보낸다() {
+        // given
+        Content large = new Content("large", "x".repeat(40_000));
+        Content small = new Content("small", "short");
+        AiChatRequestPacker packer = new AiChatRequestPacker(1_000, 20);
+
+        // when
+        List<List<Content>> batches = packer.pack(List.of(small, large, small));
+
+        // then
+        Assertions.assertThat(batches).containsExactly(List.of(small), List.of(large), List.of(small));
+    }
+}
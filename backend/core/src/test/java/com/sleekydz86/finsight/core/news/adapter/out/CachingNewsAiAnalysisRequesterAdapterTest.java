@@ -0,0 +1,153 @@
+package com.sleekydz86.finsight.core.news.adapter.out;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sleekydz86.finsight.core.global.AiModel;
+import com.sleekydz86.finsight.core.global.NewsProvider;
+import com.sleekydz86.finsight.core.news.domain.News;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsAiAnalysisRequesterPort;
+import com.sleekydz86.finsight.core.news.domain.vo.Content;
+import com.sleekydz86.finsight.core.news.domain.vo.NewsMeta;
+import com.sleekydz86.finsight.core.news.domain.vo.SentimentType;
+import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingNewsAiAnalysisRequesterAdapterTest {
+
+    private final List<Thread> executorThreads = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable);
+        executorThreads.add(thread);
+        return thread;
+    });
+
+    private NewsAiAnalysisRequesterAdapter delegate;
+    private CachingNewsAiAnalysisRequesterAdapter cachingAdapter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        delegate = mock(NewsAiAnalysisRequesterAdapter.class);
+        ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider = mock(ObjectProvider.class);
+        cachingAdapter = new CachingNewsAiAnalysisRequesterAdapter(
+                delegate, redisTemplateProvider, new ObjectMapper(), new SimpleMeterRegistry(), executor, 100, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 공백과_대소문자만_다른_같은_기사는_업스트림을_한번만_호출한다() {
+        // given
+        Content original = new Content("Fed holds rates", "The Federal Reserve held rates steady.");
+        Content rewired = new Content("  FED holds   rates ", "The federal reserve held rates steady.");
+        when(delegate.analyseNewsesBatchAsync(eq(AiModel.CHATGPT), anyList()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(
+                        List.of(analyzed(invocation.<List<Content>>getArgument(1).get(0)))));
+
+        // when
+        List<News> first = cachingAdapter.analyseNewsesBatchAsync(AiModel.CHATGPT, List.of(original, rewired)).join();
+        List<News> second = cachingAdapter.analyseNewses(AiModel.CHATGPT, rewired);
+
+        // then
+        verify(delegate, times(1)).analyseNewsesBatchAsync(eq(AiModel.CHATGPT), eq(List.of(original)));
+        Assertions.assertThat(first).hasSize(2);
+        Assertions.assertThat(first.get(1).getOriginalContent()).isEqualTo(rewired);
+        Assertions.assertThat(second.get(0).getAiOverView().getOverview()).isEqualTo("요약");
+        Assertions.assertThat((double) cachingAdapter.getStatistics().get("hitRate")).isGreaterThan(50.0);
+    }
+
+    @Test
+    void 폴백_결과는_캐시하지_않고_폴백_표시를_유지한다() {
+        // given
+        Content content = new Content("Oil prices", "Crude oil moved sideways.");
+        Content duplicate = new Content("OIL prices", "crude oil moved sideways.");
+        when(delegate.analyseNewsesBatchAsync(eq(AiModel.CHATGPT), anyList()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(
+                        List.of(fallback(invocation.<List<Content>>getArgument(1).get(0)))));
+
+        // when
+        List<News> first = cachingAdapter.analyseNewsesBatchAsync(AiModel.CHATGPT, List.of(content, duplicate)).join();
+        List<News> second = cachingAdapter.analyseNewsesBatchAsync(AiModel.CHATGPT, List.of(content)).join();
+
+        // then
+        Assertions.assertThat(first).allMatch(NewsAiAnalysisRequesterPort::isFallbackResult);
+        Assertions.assertThat(second).allMatch(NewsAiAnalysisRequesterPort::isFallbackResult);
+        verify(delegate, times(2)).analyseNewsesBatchAsync(eq(AiModel.CHATGPT), eq(List.of(content)));
+    }
+
+    @Test
+    void 동시에_들어온_같은_요청은_하나의_업스트림_호출을_공유한다() throws Exception {
+        // given
+        Content content = new Content("Apple earnings", "Apple reported record revenue.");
+        CountDownLatch upstreamStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.analyseNewses(eq(AiModel.CHATGPT), any())).thenAnswer(invocation -> {
+            upstreamStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(analyzed(content));
+        });
+
+        // when
+        CompletableFuture<List<News>> owner = cachingAdapter.analyseNewsesAsync(AiModel.CHATGPT, content);
+        upstreamStarted.await(5, TimeUnit.SECONDS);
+        CompletableFuture<List<News>> follower = cachingAdapter.analyseNewsesAsync(AiModel.CHATGPT, content);
+        // 두 번째 작업 스레드가 진행 중인 호출의 future 에 붙어 대기할 때까지 기다린 뒤 업스트림을 풀어준다
+        awaitParked(1);
+        release.countDown();
+
+        // then
+        Assertions.assertThat(owner.get(5, TimeUnit.SECONDS)).hasSize(1);
+        Assertions.assertThat(follower.get(5, TimeUnit.SECONDS)).hasSize(1);
+        verify(delegate, times(1)).analyseNewses(eq(AiModel.CHATGPT), any());
+    }
+
+    private void awaitParked(int threadIndex) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executorThreads.size() <= threadIndex
+                || executorThreads.get(threadIndex).getState() != Thread.State.WAITING) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("작업 스레드가 대기 상태에 들어가지 않았습니다");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private News fallback(Content content) {
+        return News.createWithoutAI(
+                        new NewsMeta(NewsProvider.ALL, LocalDateTime.now(), NewsAiAnalysisRequesterPort.FALLBACK_SOURCE),
+                        content)
+                .updateAiAnalysis("금융 관련 뉴스입니다.", content.getTitle(), content.getContent(),
+                        List.of(TargetCategory.NONE), SentimentType.NEUTRAL, 0.5);
+    }
+
+    private News analyzed(Content content) {
+        return News.createWithoutAI(new NewsMeta(NewsProvider.ALL, LocalDateTime.now(), "AI Generated"), content)
+                .updateAiAnalysis("요약", "번역 제목", "번역 본문",
+                        List.of(TargetCategory.NONE), SentimentType.NEUTRAL, 0.5);
+    }
+}
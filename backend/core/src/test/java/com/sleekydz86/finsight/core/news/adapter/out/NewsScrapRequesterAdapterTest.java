@@ -0,0 +1,228 @@
+package com.sleekydz86.finsight.core.news.adapter.out;
+
+import com.sleekydz86.finsight.core.global.NewsProvider;
+import com.sleekydz86.finsight.core.news.adapter.requester.NewsScrapRequester;
+import com.sleekydz86.finsight.core.news.adapter.requester.scrap.properties.NewsScrapProperties;
+import com.sleekydz86.finsight.core.news.domain.News;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsScrapPage;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsScrapWatermarkPersistencePort;
+import com.sleekydz86.finsight.core.news.domain.vo.Content;
+import com.sleekydz86.finsight.core.news.domain.vo.NewsMeta;
+import com.sleekydz86.finsight.core.news.domain.vo.ScrapWatermark;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+class NewsScrapRequesterAdapterTest {
+
+    @Test
+    void 공급자를_순차가_아니라_동시에_호출한다() {
+        // given
+        // 두 공급자가 모두 호출된 뒤에야 응답하므로, 순차로 호출하면 첫 공급자가 타임아웃된다
+        Sinks.Empty<Void> allStarted = Sinks.empty();
+        AtomicInteger started = new AtomicInteger();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        Set<NewsScrapRequester> requesters = new LinkedHashSet<>();
+        requesters.add(new StubRequester(NewsProvider.MARKETAUX, () -> awaitAll(
+                allStarted, started, inFlight, maxInFlight, articles(NewsProvider.MARKETAUX, 3))));
+        requesters.add(new StubRequester(NewsProvider.BLOOMBERG, () -> awaitAll(
+                allStarted, started, inFlight, maxInFlight, articles(NewsProvider.BLOOMBERG, 2))));
+        NewsScrapRequesterAdapter adapter = new NewsScrapRequesterAdapter(
+                requesters, new InMemoryWatermarkPort(), new SimpleMeterRegistry(), properties(5, 0));
+
+        // when
+        List<News> newses = adapter.scrapAll().collectList().block();
+
+        // then
+        Assertions.assertThat(newses).hasSize(5);
+        Assertions.assertThat(started.get()).isEqualTo(2);
+        Assertions.assertThat(maxInFlight.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 실패한_공급자는_재시도하고_타임아웃된_공급자는_건너뛴다() {
+        // given
+        AtomicInteger bloombergAttempts = new AtomicInteger();
+        AtomicInteger marketAuxAttempts = new AtomicInteger();
+        Set<NewsScrapRequester> requesters = new LinkedHashSet<>();
+        requesters.add(new StubRequester(NewsProvider.BLOOMBERG, () -> bloombergAttempts.incrementAndGet() == 1
+                ? Mono.error(new IllegalStateException("upstream down"))
+                : Mono.just(articles(NewsProvider.BLOOMBERG, 3))));
+        requesters.add(new StubRequester(NewsProvider.MARKETAUX, () -> {
+            marketAuxAttempts.incrementAndGet();
+            return Mono.never();
+        }));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        NewsScrapRequesterAdapter adapter = new NewsScrapRequesterAdapter(
+                requesters, new InMemoryWatermarkPort(), meterRegistry, properties(1, 1));
+
+        // when
+        List<News> newses = adapter.scrapAll().collectList().block();
+
+        // then
+        Assertions.assertThat(newses).hasSize(3);
+        Assertions.assertThat(bloombergAttempts.get()).isEqualTo(2);
+        Assertions.assertThat(marketAuxAttempts.get()).isEqualTo(2);
+        Assertions.assertThat(meterRegistry.get("news.scrap.provider.latency")
+                .tag("provider", "BLOOMBERG").tag("outcome", "success").timer().count()).isEqualTo(1);
+        Assertions.assertThat(meterRegistry.get("news.scrap.provider.errors")
+                .tag("provider", "MARKETAUX").tag("error", "TimeoutException").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 워터마크_이후_기사만_페이지를_넘기며_받아_재다운로드를_줄인다() {
+        // given
+        LocalDateTime base = LocalDateTime.now().minusHours(20);
+        List<News> corpus = new ArrayList<>();
+        for (int i = 0; i < 230; i++) {
+            corpus.add(News.createWithoutAI(
+                    NewsMeta.of(NewsProvider.MARKETAUX, base.plusMinutes(i * 5L), "https://example.com/m/" + i),
+                    new Content("title " + i, "content " + i)));
+        }
+        PagedRequester requester = new PagedRequester(corpus);
+        InMemoryWatermarkPort watermarkPort = new InMemoryWatermarkPort();
+        NewsScrapProperties properties = properties(5, 0);
+        properties.setPageSize(50);
+        NewsScrapRequesterAdapter adapter = new NewsScrapRequesterAdapter(
+                Set.of(requester), watermarkPort, new SimpleMeterRegistry(), properties);
+
+        // when
+        List<NewsScrapPage> firstRun = adapter.scrapNewPages(NewsProvider.MARKETAUX).collectList().block();
+        watermarkPort.advance(firstRun.stream().flatMap(page -> page.newses().stream()).toList());
+
+        corpus.add(News.createWithoutAI(
+                NewsMeta.of(NewsProvider.MARKETAUX, base.plusMinutes(230 * 5L), "https://example.com/m/new"),
+                new Content("fresh", "fresh content")));
+        List<NewsScrapPage> secondRun = adapter.scrapNewPages(NewsProvider.MARKETAUX).collectList().block();
+        long fixedWindowBytes = requester.fixedWindowBytes(LocalDateTime.now().minusHours(24));
+
+        // then
+        long firstBytes = firstRun.stream().mapToLong(NewsScrapPage::bytes).sum();
+        long secondBytes = secondRun.stream().mapToLong(NewsScrapPage::bytes).sum();
+        Assertions.assertThat(firstRun).hasSize(5);
+        Assertions.assertThat(firstRun.stream().mapToInt(page -> page.newses().size()).sum()).isEqualTo(230);
+        Assertions.assertThat(secondRun.stream().flatMap(page -> page.newses().stream())
+                .map(news -> news.getNewsMeta().getSourceUrl())).containsExactly("https://example.com/m/new");
+        Assertions.assertThat(firstBytes).isLessThan(fixedWindowBytes);
+        Assertions.assertThat(secondBytes).isLessThan(fixedWindowBytes / 100);
+    }
+
+    private static Mono<List<News>> awaitAll(Sinks.Empty<Void> allStarted, AtomicInteger started,
+                                             AtomicInteger inFlight, AtomicInteger maxInFlight, List<News> newses) {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        if (started.incrementAndGet() == 2) {
+            allStarted.tryEmitEmpty();
+        }
+        return allStarted.asMono()
+                .thenReturn(newses)
+                .doFinally(signal -> inFlight.decrementAndGet());
+    }
+
+    private static List<News> articles(NewsProvider provider, int count) {
+        List<News> newses = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            newses.add(News.createWithoutAI(
+                    NewsMeta.of(provider, LocalDateTime.now(), "https://example.com/" + provider + "/" + i),
+                    new Content("title " + i, "content " + i)));
+        }
+        return newses;
+    }
+
+    private static NewsScrapProperties properties(long timeoutSeconds, int maxRetries) {
+        NewsScrapProperties properties = new NewsScrapProperties();
+        properties.setTimeoutSeconds(timeoutSeconds);
+        properties.setMaxRetries(maxRetries);
+        properties.setRetryBackoffMillis(10);
+        return properties;
+    }
+
+    private record StubRequester(NewsProvider provider, Supplier<Mono<List<News>>> response)
+            implements NewsScrapRequester {
+
+        @Override
+        public NewsProvider supports() {
+            return provider;
+        }
+
+        @Override
+        public CompletableFuture<List<News>> scrap(LocalDateTime publishTimeAfter, int limit) {
+            return scrapAsync(publishTimeAfter, limit).toFuture();
+        }
+
+        @Override
+        public Mono<List<News>> scrapAsync(LocalDateTime publishTimeAfter, int limit) {
+            return Mono.defer(response);
+        }
+    }
+
+    private static class PagedRequester implements NewsScrapRequester {
+
+        private static final int BYTES_PER_ARTICLE = 1_000;
+
+        private final List<News> corpus;
+
+        private PagedRequester(List<News> corpus) {
+            this.corpus = corpus;
+        }
+
+        @Override
+        public NewsProvider supports() {
+            return NewsProvider.MARKETAUX;
+        }
+
+        @Override
+        public CompletableFuture<List<News>> scrap(LocalDateTime publishTimeAfter, int limit) {
+            return scrapAsync(publishTimeAfter, limit).toFuture();
+        }
+
+        @Override
+        public Mono<NewsScrapPage> scrapPage(LocalDateTime publishTimeAfter, int limit, int page) {
+            List<News> matched = corpus.stream()
+                    .filter(news -> !news.getNewsMeta().getNewsPublishedTime().isBefore(publishTimeAfter))
+                    .toList();
+            int from = Math.min((page - 1) * limit, matched.size());
+            int to = Math.min(from + limit, matched.size());
+            List<News> newses = List.copyOf(matched.subList(from, to));
+            return Mono.just(new NewsScrapPage(NewsProvider.MARKETAUX, page, newses,
+                    (long) newses.size() * BYTES_PER_ARTICLE, to < matched.size()));
+        }
+
+        long fixedWindowBytes(LocalDateTime publishTimeAfter) {
+            return corpus.stream()
+                    .filter(news -> !news.getNewsMeta().getNewsPublishedTime().isBefore(publishTimeAfter))
+                    .count() * BYTES_PER_ARTICLE;
+        }
+    }
+
+    private static class InMemoryWatermarkPort implements NewsScrapWatermarkPersistencePort {
+
+        private final Map<NewsProvider, ScrapWatermark> watermarks = new ConcurrentHashMap<>();
+
+        @Override
+        public Optional<ScrapWatermark> findByProvider(NewsProvider provider) {
+            return Optional.ofNullable(watermarks.get(provider));
+        }
+
+        @Override
+        public void advance(Collection<News> persistedNewses) {
+            ScrapWatermark.latestOf(persistedNewses).forEach((provider, next) -> watermarks.merge(provider, next,
+                    (current, candidate) -> current.isBehind(candidate) ? candidate : current));
+        }
+    }
+}
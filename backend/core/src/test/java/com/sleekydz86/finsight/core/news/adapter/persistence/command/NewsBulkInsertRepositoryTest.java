@@ -0,0 +1,171 @@
+package com.sleekydz86.finsight.core.news.adapter.persistence.command;
+
+import com.sleekydz86.finsight.core.global.NewsProvider;
+import com.sleekydz86.finsight.core.news.domain.News;
+import com.sleekydz86.finsight.core.news.domain.event.NewsCacheInvalidationEvent;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsIngestResult;
+import com.sleekydz86.finsight.core.news.domain.vo.AiOverview;
+import com.sleekydz86.finsight.core.news.domain.vo.Content;
+import com.sleekydz86.finsight.core.news.domain.vo.NewsMeta;
+import com.sleekydz86.finsight.core.news.domain.vo.SentimentType;
+import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+class NewsBulkInsertRepositoryTest {
+
+    private static final Logger log = LoggerFactory.getLogger(NewsBulkInsertRepositoryTest.class);
+
+    private static final int ARTICLES = Integer.getInteger("benchmark.rows", 10_000);
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", ";MODE=MySQL"})
+    void 중복은_DB가_걸러내고_새로_저장된_기사에만_id와_카테고리를_붙인다(String mode) {
+        // given
+        JdbcTemplate jdbcTemplate = createDatabase(mode);
+        NewsBulkInsertRepository repository = new NewsBulkInsertRepository(jdbcTemplate, 2);
+        News stored = article("https://example.com/news/stored", List.of(TargetCategory.AAPL));
+        repository.insertIgnoringDuplicates(List.of(stored));
+
+        News rescraped = article("https://example.com/news/stored", List.of(TargetCategory.BTC));
+        News fresh = article("https://example.com/news/fresh", List.of(TargetCategory.NVDA, TargetCategory.TSLA));
+        News freshCopy = article("https://example.com/news/fresh", List.of(TargetCategory.SPY));
+
+        // when
+        NewsIngestResult result = repository.insertIgnoringDuplicates(List.of(rescraped, fresh, freshCopy));
+
+        // then
+        Long freshId = jdbcTemplate.queryForObject(
+                "SELECT id FROM news WHERE source_url = 'https://example.com/news/fresh'", Long.class);
+        Assertions.assertThat(result.inserted()).isEqualTo(1);
+        Assertions.assertThat(result.duplicates()).isEqualTo(2);
+        Assertions.assertThat(result.insertedNews()).extracting(News::getId).containsExactly(freshId);
+        Assertions.assertThat(categoriesOf(jdbcTemplate, "https://example.com/news/stored"))
+                .containsExactly("AAPL");
+        Assertions.assertThat(categoriesOf(jdbcTemplate, "https://example.com/news/fresh"))
+                .containsExactlyInAnyOrder("NVDA", "TSLA");
+        Assertions.assertThat(NewsCacheInvalidationEvent.of(result.insertedNews()).newsIds())
+                .containsExactly(freshId);
+    }
+
+    /**
+     * 만 건을 두 방식으로 넣어 비교하므로 -Dbenchmark=true 일 때만 실행한다. (건수: -Dbenchmark.rows)
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"", ";MODE=MySQL"})
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void 만건_적재_시간을_단건_INSERT와_비교하고_중복은_DB가_걸러낸다(String mode) {
+        // given
+        JdbcTemplate bulkJdbc = createDatabase(mode);
+        JdbcTemplate rowJdbc = createDatabase(mode);
+        NewsBulkInsertRepository repository = new NewsBulkInsertRepository(bulkJdbc, 500);
+        List<News> newses = articles(ARTICLES);
+
+        // when
+        long bulkStart = System.nanoTime();
+        NewsIngestResult first = repository.insertIgnoringDuplicates(newses);
+        long bulkMillis = (System.nanoTime() - bulkStart) / 1_000_000;
+
+        long rowStart = System.nanoTime();
+        insertRowByRow(rowJdbc, newses);
+        long rowMillis = (System.nanoTime() - rowStart) / 1_000_000;
+
+        List<News> retry = new ArrayList<>(newses.subList(0, 100));
+        retry.addAll(articles(50));
+        NewsIngestResult second = repository.insertIgnoringDuplicates(retry);
+
+        // then
+        log.info("[H2{}] {}건 대량 적재 {}ms, 단건 INSERT {}ms", mode, ARTICLES, bulkMillis, rowMillis);
+        Assertions.assertThat(first.inserted()).isEqualTo(ARTICLES);
+        Assertions.assertThat(first.duplicates()).isZero();
+        Assertions.assertThat(second.inserted()).isEqualTo(50);
+        Assertions.assertThat(second.duplicates()).isEqualTo(100);
+        Assertions.assertThat(bulkJdbc.queryForObject("SELECT COUNT(*) FROM news", Long.class))
+                .isEqualTo(ARTICLES + 50L);
+    }
+
+    private static List<String> categoriesOf(JdbcTemplate jdbcTemplate, String sourceUrl) {
+        return jdbcTemplate.queryForList("SELECT c.category FROM news_target_categories c "
+                + "JOIN news n ON n.id = c.news_id WHERE n.source_url = ?", String.class, sourceUrl);
+    }
+
+    private static News article(String sourceUrl, List<TargetCategory> categories) {
+        LocalDateTime now = LocalDateTime.now();
+        return new News(0L,
+                new NewsMeta(NewsProvider.MARKETAUX, now, sourceUrl),
+                now,
+                new Content("Market update", "Stocks moved on earnings and macro data."),
+                null,
+                new AiOverview("요약", SentimentType.NEUTRAL, 0.5, categories));
+    }
+
+    private static JdbcTemplate createDatabase(String mode) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1" + mode, "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE news ("
+                + "id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "news_provider VARCHAR(255) NOT NULL, "
+                + "news_published_time TIMESTAMP NOT NULL, "
+                + "source_url VARCHAR(255) NOT NULL, "
+                + "scraped_time TIMESTAMP NOT NULL, "
+                + "original_title VARCHAR(255) NOT NULL, "
+                + "original_content CLOB NOT NULL, "
+                + "ai_translated_title CLOB, "
+                + "ai_translated_content CLOB, "
+                + "ai_overview CLOB, "
+                + "ai_sentiment_type VARCHAR(255), "
+                + "ai_sentiment_score DOUBLE, "
+                + "view_count INT NOT NULL, "
+                + "category_mask BIGINT DEFAULT 0 NOT NULL, "
+                + "created_at TIMESTAMP NOT NULL, "
+                + "updated_at TIMESTAMP, "
+                + "CONSTRAINT uk_news_source_url UNIQUE (source_url))");
+        jdbcTemplate.execute("CREATE TABLE news_target_categories ("
+                + "news_id BIGINT NOT NULL, category VARCHAR(255) NOT NULL)");
+        return jdbcTemplate;
+    }
+
+    private static void insertRowByRow(JdbcTemplate jdbcTemplate, List<News> newses) {
+        LocalDateTime now = LocalDateTime.now();
+        for (News news : newses) {
+            jdbcTemplate.update("INSERT INTO news (news_provider, news_published_time, source_url, scraped_time, "
+                            + "original_title, original_content, view_count, created_at, updated_at) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?)",
+                    news.getNewsMeta().getNewsProvider().name(),
+                    news.getNewsMeta().getNewsPublishedTime(),
+                    news.getNewsMeta().getSourceUrl(),
+                    news.getScrapedTime(),
+                    news.getOriginalContent().getTitle(),
+                    news.getOriginalContent().getContent(),
+                    now,
+                    now);
+        }
+    }
+
+    private static List<News> articles(int count) {
+        LocalDateTime now = LocalDateTime.now();
+        List<News> newses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String id = UUID.randomUUID().toString();
+            newses.add(new News(0L,
+                    new NewsMeta(NewsProvider.MARKETAUX, now.minusMinutes(i), "https://example.com/news/" + id),
+                    now,
+                    new Content("Market update " + id, "Stocks moved on earnings and macro data. " + id),
+                    null,
+                    null));
+        }
+        return newses;
+    }
+}
@@ -0,0 +1,194 @@
+package com.sleekydz86.finsight.core.news.adapter.persistence.command;
+
+import com.sleekydz86.finsight.core.config.QuerydslConfig;
+import com.sleekydz86.finsight.core.global.NewsProvider;
+import com.sleekydz86.finsight.core.news.domain.News;
+import com.sleekydz86.finsight.core.news.domain.NewsSummary;
+import com.sleekydz86.finsight.core.news.domain.Newses;
+import com.sleekydz86.finsight.core.news.domain.event.NewsCacheInvalidationEvent;
+import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsQueryRequest;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsCacheInvalidationPort;
+import com.sleekydz86.finsight.core.news.domain.vo.AiOverview;
+import com.sleekydz86.finsight.core.news.domain.vo.Content;
+import com.sleekydz86.finsight.core.news.domain.vo.NewsMeta;
+import com.sleekydz86.finsight.core.news.domain.vo.SentimentType;
+import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * news.category_mask 가 컬렉션 테이블과 함께 유지되고, 목록 조회가 컬렉션을 따로 읽지 않는지 확인한다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@Import({NewsCategoryMaskTest.NewsPersistenceSlice.class, QuerydslConfig.class, NewsJpaMapper.class,
+        NewsQueryDslRepository.class, NewsBulkInsertRepository.class, NewsRepositoryImpl.class})
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NewsCategoryMaskTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private NewsRepositoryImpl newsRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM news_target_categories");
+        jdbcTemplate.update("DELETE FROM news");
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void 저장하면_카테고리_마스크가_컬렉션과_같이_기록된다() {
+        // when
+        Newses saved = newsRepository.saveAllNews(List.of(
+                news(1, List.of(TargetCategory.BTC, TargetCategory.TSLA)),
+                news(2, List.of())));
+        newsRepository.bulkInsertNews(List.of(news(3, List.of(TargetCategory.NVDA))));
+
+        // then
+        Assertions.assertThat(maskOf(saved.getNewses().get(0).getId()))
+                .isEqualTo(TargetCategory.BTC.bit() | TargetCategory.TSLA.bit());
+        Assertions.assertThat(maskOf(saved.getNewses().get(1).getId())).isZero();
+        Assertions.assertThat(jdbcTemplate.queryForObject(
+                "SELECT category_mask FROM news WHERE source_url = ?", Long.class, "https://example.com/3"))
+                .isEqualTo(TargetCategory.NVDA.bit());
+    }
+
+    @Test
+    void 목록_조회는_카테고리까지_쿼리_한_번으로_읽는다() {
+        // given
+        List<News> newses = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            newses.add(news(i, List.of(i % 2 == 0 ? TargetCategory.BTC : TargetCategory.SPY, TargetCategory.GENERAL)));
+        }
+        newsRepository.saveAllNews(newses);
+        statistics.clear();
+
+        // when
+        List<NewsSummary> latest = newsRepository.findLatestNews(50);
+
+        // then
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        Assertions.assertThat(latest).hasSize(50);
+        Assertions.assertThat(latest.get(0).getCategories())
+                .containsExactly(TargetCategory.GENERAL, TargetCategory.SPY);
+    }
+
+    @Test
+    void 카테고리_필터는_마스크_비트로_거른다() {
+        // given
+        Newses saved = newsRepository.saveAllNews(List.of(
+                news(1, List.of(TargetCategory.BTC)),
+                news(2, List.of(TargetCategory.SPY, TargetCategory.QQQ)),
+                news(3, List.of(TargetCategory.AAPL)),
+                news(4, List.of())));
+        Long btcId = saved.getNewses().get(0).getId();
+        Long spyId = saved.getNewses().get(1).getId();
+
+        // when
+        List<NewsSummary> byCategory = newsRepository.findByCategory("qqq", 10);
+        List<NewsSummary> related = newsRepository.findRelatedNews(btcId, List.of("BTC", "SPY"), null, 10);
+        List<NewsSummary> sameProvider = newsRepository.findRelatedNews(btcId, List.of("BTC", "SPY"),
+                NewsProvider.BLOOMBERG, 10);
+        List<NewsSummary> otherProvider = newsRepository.findRelatedNews(btcId, List.of("BTC", "SPY"),
+                NewsProvider.MARKETAUX, 10);
+        long counted = newsRepository.countByFilters(new NewsQueryRequest(null, null, null, null,
+                List.of(TargetCategory.BTC, TargetCategory.AAPL), null));
+
+        // then
+        Assertions.assertThat(byCategory).extracting(NewsSummary::getId).containsExactly(spyId);
+        Assertions.assertThat(related).extracting(NewsSummary::getId).containsExactly(spyId);
+        Assertions.assertThat(sameProvider).extracting(NewsSummary::getId).containsExactly(spyId);
+        Assertions.assertThat(otherProvider).isEmpty();
+        Assertions.assertThat(counted).isEqualTo(2);
+    }
+
+    @Test
+    void 마스크가_없는_기존_기사는_컬렉션_테이블에서_채우고_무효화를_알린다() {
+        // given: 마스크 컬럼이 생기기 전에 저장된 기사
+        Timestamp published = Timestamp.valueOf(BASE);
+        for (long id = 1; id <= 5; id++) {
+            jdbcTemplate.update("INSERT INTO news (id, news_provider, news_published_time, source_url, scraped_time, "
+                            + "original_title, original_content, view_count, category_mask, created_at, updated_at) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?, 0, 0, ?, ?)",
+                    id, NewsProvider.BLOOMBERG.name(), published, "https://legacy.example.com/" + id, published,
+                    "title " + id, "content " + id, published, published);
+        }
+        jdbcTemplate.update("INSERT INTO news_target_categories (news_id, category) VALUES (1, 'BTC'), (1, 'SPY'), "
+                + "(2, 'AAPL'), (4, 'TSLA')");
+        NewsCacheInvalidationPort invalidationPort = Mockito.mock(NewsCacheInvalidationPort.class);
+        NewsCategoryMaskBackfill backfill = new NewsCategoryMaskBackfill(jdbcTemplate, invalidationPort, true, 2);
+
+        // when
+        long filled = backfill.backfill();
+
+        // then
+        Assertions.assertThat(filled).isEqualTo(3);
+        Assertions.assertThat(maskOf(1L)).isEqualTo(TargetCategory.BTC.bit() | TargetCategory.SPY.bit());
+        Assertions.assertThat(maskOf(2L)).isEqualTo(TargetCategory.AAPL.bit());
+        Assertions.assertThat(maskOf(3L)).isZero();
+        Assertions.assertThat(maskOf(4L)).isEqualTo(TargetCategory.TSLA.bit());
+
+        ArgumentCaptor<NewsCacheInvalidationEvent> events = ArgumentCaptor.forClass(NewsCacheInvalidationEvent.class);
+        Mockito.verify(invalidationPort, Mockito.times(2)).publish(events.capture());
+        Assertions.assertThat(events.getAllValues())
+                .flatExtracting(NewsCacheInvalidationEvent::newsIds)
+                .containsExactlyInAnyOrder(1L, 2L, 4L);
+        Assertions.assertThat(backfill.backfill()).isZero();
+    }
+
+    private Long maskOf(Long newsId) {
+        return jdbcTemplate.queryForObject("SELECT category_mask FROM news WHERE id = ?", Long.class, newsId);
+    }
+
+    private static News news(int index, List<TargetCategory> categories) {
+        LocalDateTime publishedTime = BASE.plusMinutes(index);
+        return new News(0L, NewsProvider.BLOOMBERG, publishedTime,
+                new Content("title " + index, "content " + index),
+                null,
+                new AiOverview("요약", SentimentType.NEUTRAL, 0.5, categories),
+                NewsMeta.of(NewsProvider.BLOOMBERG, publishedTime, "https://example.com/" + index));
+    }
+
+    @TestConfiguration
+    @EntityScan(basePackageClasses = NewsJpaEntity.class)
+    @EnableJpaRepositories(basePackageClasses = NewsJpaEntity.class)
+    static class NewsPersistenceSlice {
+    }
+}
@@ -0,0 +1,189 @@
+package com.sleekydz86.finsight.core.news.adapter.persistence.command;
+
+import com.sleekydz86.finsight.core.config.QuerydslConfig;
+import com.sleekydz86.finsight.core.global.NewsProvider;
+import com.sleekydz86.finsight.core.news.domain.News;
+import com.sleekydz86.finsight.core.news.domain.Newses;
+import com.sleekydz86.finsight.core.news.domain.NewsSummary;
+import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsQueryRequest;
+import com.sleekydz86.finsight.core.news.domain.vo.NewsCursor;
+import com.sleekydz86.finsight.core.news.domain.vo.SentimentType;
+import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * findAll() 후 메모리 필터링 경로와 QueryDSL 경로의 힙 사용량/지연 시간 비교.
+ * 시드 데이터가 크므로 -Dbenchmark=true 일 때만 실행한다. (행 수: -Dbenchmark.rows, 기본 500,000)
+ * 500,000건에서는 기존 경로가 기본 테스트 힙(512MB)을 넘으므로 힙을 늘리거나 행 수를 줄여 비교한다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@Import({NewsQueryDslRepositoryBenchmarkTest.NewsPersistenceSlice.class, QuerydslConfig.class,
+        NewsJpaMapper.class, NewsQueryDslRepository.class, NewsBulkInsertRepository.class, NewsRepositoryImpl.class})
+@ActiveProfiles("benchmark")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("뉴스 조회 쿼리 벤치마크")
+class NewsQueryDslRepositoryBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(NewsQueryDslRepositoryBenchmarkTest.class);
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 500_000);
+    private static final int SEED_BATCH_SIZE = 5_000;
+    private static final int LIMIT = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NewsJpaRepository newsJpaRepository;
+
+    @Autowired
+    private NewsJpaMapper newsJpaMapper;
+
+    @Autowired
+    private NewsRepositoryImpl newsRepository;
+
+    @BeforeEach
+    void seed() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM news", Long.class);
+        if (count != null && count >= ROWS) {
+            return;
+        }
+
+        NewsProvider[] providers = {NewsProvider.BLOOMBERG, NewsProvider.MARKETAUX};
+        TargetCategory[] categories = TargetCategory.values();
+        LocalDateTime base = LocalDateTime.now().minusDays(30);
+
+        for (int from = 0; from < ROWS; from += SEED_BATCH_SIZE) {
+            List<Object[]> newsRows = new ArrayList<>(SEED_BATCH_SIZE);
+            List<Object[]> categoryRows = new ArrayList<>(SEED_BATCH_SIZE);
+            for (int i = from; i < Math.min(from + SEED_BATCH_SIZE, ROWS); i++) {
+                long id = i + 1L;
+                Timestamp published = Timestamp.valueOf(base.plusSeconds(i * 5L));
+                newsRows.add(new Object[] {
+                        id, providers[i % providers.length].name(), published, "https://news.example.com/" + id,
+                        published, "title " + id, "content body " + id + " ".repeat(256),
+                        SentimentType.values()[i % 3].name(), 0.5, i % 1000,
+                        categories[i % categories.length].bit(), published, published
+                });
+                categoryRows.add(new Object[] {id, categories[i % categories.length].name()});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO news (id, news_provider, news_published_time, source_url, "
+                    + "scraped_time, original_title, original_content, ai_sentiment_type, ai_sentiment_score, "
+                    + "view_count, category_mask, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", newsRows);
+            jdbcTemplate.batchUpdate("INSERT INTO news_target_categories (news_id, category) VALUES (?, ?)",
+                    categoryRows);
+        }
+    }
+
+    @Test
+    @DisplayName("최신 뉴스 조회: findAll 메모리 정렬 vs SQL ORDER BY/LIMIT")
+    void 최신_뉴스_조회_비교() {
+        Measurement<Newses> legacy = measure(() -> new Newses(newsJpaRepository.findAll().stream()
+                .map(newsJpaMapper::toDomain)
+                .sorted(Comparator.comparing((News n) -> n.getNewsMeta().getNewsPublishedTime()).reversed())
+                .limit(LIMIT)
+                .toList()));
+        Measurement<List<NewsSummary>> querydsl = measure(() -> newsRepository.findLatestNews(LIMIT));
+
+        report("latest", legacy, querydsl);
+        assertThat(querydsl.result()).hasSize(LIMIT);
+        assertThat(querydsl.result().get(0).getId())
+                .isEqualTo(legacy.result().getNewses().get(0).getId());
+        assertThat(querydsl.heapBytes()).isLessThan(legacy.heapBytes());
+    }
+
+    @Test
+    @DisplayName("카테고리 조회: findAll 메모리 필터 vs 카테고리 마스크 비트 AND")
+    void 카테고리_조회_비교() {
+        Measurement<Newses> legacy = measure(() -> new Newses(newsJpaRepository.findAll().stream()
+                .map(newsJpaMapper::toDomain)
+                .filter(n -> n.getAiOverView() != null
+                        && n.getAiOverView().getTargetCategories().contains(TargetCategory.BTC))
+                .limit(LIMIT)
+                .toList()));
+        Measurement<List<NewsSummary>> querydsl =
+                measure(() -> newsRepository.findByCategory(TargetCategory.BTC.name(), LIMIT));
+
+        report("category", legacy, querydsl);
+        assertThat(querydsl.result()).hasSize(LIMIT)
+                .allSatisfy(summary -> assertThat(summary.getCategories()).contains(TargetCategory.BTC));
+    }
+
+    @Test
+    @DisplayName("깊은 페이지 조회: OFFSET vs 키셋(seek)")
+    void 깊은_페이지_조회_비교() {
+        NewsQueryRequest noFilter = new NewsQueryRequest(null, null, null, null, null, null);
+        int deepPage = ROWS / LIMIT - 1;
+
+        Measurement<List<NewsSummary>> offset =
+                measure(() -> newsRepository.findSummariesByFilters(noFilter, deepPage, LIMIT));
+        NewsSummary anchor = offset.result().get(0);
+        NewsCursor cursor = NewsCursor.of(anchor.getPublishedTime(), anchor.getId() + 1);
+        Measurement<List<NewsSummary>> seek =
+                measure(() -> newsRepository.findSummariesByFiltersAfter(noFilter, cursor, LIMIT));
+
+        report("deep-page", offset, seek);
+        assertThat(seek.result()).extracting(NewsSummary::getId)
+                .containsExactlyElementsOf(offset.result().stream().map(NewsSummary::getId).toList());
+    }
+
+    private <T> Measurement<T> measure(Supplier<T> query) {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+        long start = System.nanoTime();
+
+        T result = query.get();
+
+        long elapsedNanos = System.nanoTime() - start;
+        long heapAfter = runtime.totalMemory() - runtime.freeMemory();
+        return new Measurement<>(result, elapsedNanos / 1_000_000, Math.max(heapAfter - heapBefore, 0));
+    }
+
+    private void report(String name, Measurement<?> legacy, Measurement<?> querydsl) {
+        log.info("[benchmark:{}] rows={} before={}ms/{}KB after={}ms/{}KB",
+                name, ROWS,
+                legacy.elapsedMillis(), legacy.heapBytes() / 1024,
+                querydsl.elapsedMillis(), querydsl.heapBytes() / 1024);
+    }
+
+    @TestConfiguration
+    @EntityScan(basePackageClasses = NewsJpaEntity.class)
+    @EnableJpaRepositories(basePackageClasses = NewsJpaEntity.class)
+    static class NewsPersistenceSlice {
+    }
+
+    private record Measurement<T>(T result, long elapsedMillis, long heapBytes) {
+    }
+}
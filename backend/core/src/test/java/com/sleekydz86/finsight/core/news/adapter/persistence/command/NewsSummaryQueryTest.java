@@ -0,0 +1,153 @@
+package com.sleekydz86.finsight.core.news.adapter.persistence.command;
+
+import com.sleekydz86.finsight.core.config.QuerydslConfig;
+import com.sleekydz86.finsight.core.global.NewsProvider;
+import com.sleekydz86.finsight.core.news.domain.News;
+import com.sleekydz86.finsight.core.news.domain.NewsSummary;
+import com.sleekydz86.finsight.core.news.domain.Newses;
+import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsQueryRequest;
+import com.sleekydz86.finsight.core.news.domain.vo.AiOverview;
+import com.sleekydz86.finsight.core.news.domain.vo.Content;
+import com.sleekydz86.finsight.core.news.domain.vo.NewsMeta;
+import com.sleekydz86.finsight.core.news.domain.vo.SentimentType;
+import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
+import org.assertj.core.api.Assertions;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 목록 조회가 본문 TEXT 컬럼을 SELECT 하지 않고, 목록 한 번에 읽는 문자열 크기가 엔티티 조회보다 작은지 확인한다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.sleekydz86.finsight.core.news.adapter.persistence.command.NewsSummaryQueryTest$SqlCapture"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@Import({NewsSummaryQueryTest.NewsPersistenceSlice.class, QuerydslConfig.class, NewsJpaMapper.class,
+        NewsQueryDslRepository.class, NewsBulkInsertRepository.class, NewsRepositoryImpl.class})
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NewsSummaryQueryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 9, 0);
+    private static final int ROWS = 40;
+    private static final int PAGE_SIZE = 20;
+    private static final List<String> BODY_COLUMNS =
+            List.of("original_content", "ai_translated_content", "ai_overview");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NewsRepositoryImpl newsRepository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM news_target_categories");
+        jdbcTemplate.update("DELETE FROM news");
+        List<News> newses = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            newses.add(news(i));
+        }
+        newsRepository.saveAllNews(newses);
+        SqlCapture.STATEMENTS.clear();
+    }
+
+    @Test
+    void 목록_조회는_본문_컬럼을_읽지_않는다() {
+        NewsQueryRequest noFilter = new NewsQueryRequest(null, null, null, null, null, null);
+
+        // when
+        List<NewsSummary> page = newsRepository.findSummariesByFilters(noFilter, 0, PAGE_SIZE);
+        List<NewsSummary> latest = newsRepository.findLatestNews(PAGE_SIZE);
+        List<NewsSummary> popular = newsRepository.findPopularNews(PAGE_SIZE);
+        List<NewsSummary> byCategory = newsRepository.findByCategory("btc", PAGE_SIZE);
+
+        // then
+        Assertions.assertThat(page).hasSize(PAGE_SIZE);
+        Assertions.assertThat(latest.get(0).getPublishedTime()).isEqualTo(BASE.plusMinutes(ROWS - 1));
+        Assertions.assertThat(popular).hasSize(PAGE_SIZE);
+        Assertions.assertThat(byCategory).hasSize(PAGE_SIZE)
+                .allSatisfy(summary -> Assertions.assertThat(summary.getCategories()).contains(TargetCategory.BTC));
+        Assertions.assertThat(SqlCapture.STATEMENTS).hasSize(4)
+                .allSatisfy(sql -> Assertions.assertThat(sql.toLowerCase()).doesNotContain(BODY_COLUMNS));
+    }
+
+    @Test
+    void 목록_한_페이지에서_읽는_문자열이_엔티티_조회보다_작다() {
+        NewsQueryRequest noFilter = new NewsQueryRequest(null, null, null, null, null, null);
+
+        // when
+        List<NewsSummary> summaries = newsRepository.findSummariesByFilters(noFilter, 0, PAGE_SIZE);
+        Newses entities = newsRepository.findAllByIds(summaries.stream().map(NewsSummary::getId).toList());
+
+        // then
+        long entityBytes = entities.getNewses().stream().mapToLong(NewsSummaryQueryTest::bytesOf).sum();
+        long summaryBytes = summaries.stream().mapToLong(NewsSummaryQueryTest::bytesOf).sum();
+        Assertions.assertThat(summaries).extracting(NewsSummary::getId)
+                .containsExactlyElementsOf(entities.getNewses().stream().map(News::getId).toList());
+        Assertions.assertThat(summaryBytes * 10).isLessThan(entityBytes);
+    }
+
+    private static long bytesOf(News news) {
+        return utf8(news.getOriginalContent().getTitle()) + utf8(news.getOriginalContent().getContent())
+                + utf8(news.getTranslatedContent() != null ? news.getTranslatedContent().getTitle() : null)
+                + utf8(news.getTranslatedContent() != null ? news.getTranslatedContent().getContent() : null)
+                + utf8(news.getAiOverView() != null ? news.getAiOverView().getOverview() : null)
+                + utf8(news.getNewsMeta().getSourceUrl());
+    }
+
+    private static long bytesOf(NewsSummary summary) {
+        return utf8(summary.getTitle()) + utf8(summary.getTranslatedTitle()) + utf8(summary.getSourceUrl());
+    }
+
+    private static long utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8).length : 0;
+    }
+
+    private static News news(int index) {
+        LocalDateTime publishedTime = BASE.plusMinutes(index);
+        return new News(0L, NewsProvider.BLOOMBERG, publishedTime,
+                new Content("title " + index, "본문 ".repeat(2_000)),
+                new Content("제목 " + index, "번역 본문 ".repeat(2_000)),
+                new AiOverview("요약 ".repeat(300), SentimentType.NEUTRAL, 0.5, List.of(TargetCategory.BTC)),
+                NewsMeta.of(NewsProvider.BLOOMBERG, publishedTime, "https://example.com/" + index));
+    }
+
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @TestConfiguration
+    @EntityScan(basePackageClasses = NewsJpaEntity.class)
+    @EnableJpaRepositories(basePackageClasses = NewsJpaEntity.class)
+    static class NewsPersistenceSlice {
+    }
+}
@@ -0,0 +1,174 @@
+package com.sleekydz86.finsight.core.news.adapter.search;
+
+import com.sleekydz86.finsight.core.global.NewsProvider;
+import com.sleekydz86.finsight.core.global.search.SearchIndexFactory;
+import com.sleekydz86.finsight.core.global.search.SearchPage;
+import com.sleekydz86.finsight.core.news.domain.News;
+import com.sleekydz86.finsight.core.news.domain.Newses;
+import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsSearchRequest;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsPersistencePort;
+import com.sleekydz86.finsight.core.news.domain.vo.AiOverview;
+import com.sleekydz86.finsight.core.news.domain.vo.Content;
+import com.sleekydz86.finsight.core.news.domain.vo.NewsMeta;
+import com.sleekydz86.finsight.core.news.domain.vo.SentimentType;
+import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+
+class NewsSearchAdapterTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    @TempDir
+    Path indexDir;
+
+    private final NewsPersistencePort newsPersistencePort = Mockito.mock(NewsPersistencePort.class);
+    private final List<News> stored = new ArrayList<>();
+    private NewsSearchAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(newsPersistencePort.findAllByIdAfter(anyLong(), anyInt())).thenReturn(new Newses());
+        SearchIndexFactory factory = new SearchIndexFactory(new SimpleMeterRegistry(), true, indexDir.toString(), 50, 30);
+        adapter = new NewsSearchAdapter(newsPersistencePort, factory, 500, 30);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        adapter.shutdown();
+    }
+
+    @Test
+    void 한글은_조사가_붙어도_영문은_어형이_달라도_찾는다() throws Exception {
+        // given
+        stored.add(news(1L, "삼성전자가 3분기 실적을 발표했다", NewsProvider.BLOOMBERG, TargetCategory.GENERAL,
+                SentimentType.POSITIVE, BASE));
+        stored.add(news(2L, "Nvidia earnings beat estimates", NewsProvider.MARKETAUX, TargetCategory.GENERAL,
+                SentimentType.POSITIVE, BASE.plusHours(1)));
+        stored.add(news(3L, "전자 결제 시장 동향", NewsProvider.BLOOMBERG, TargetCategory.GENERAL,
+                SentimentType.NEUTRAL, BASE.plusHours(2)));
+        rebuild();
+
+        // when / then
+        Assertions.assertThat(adapter.search(request("삼성전자"), 0, 10).ids()).containsExactly(1L);
+        Assertions.assertThat(adapter.search(request("실적"), 0, 10).ids()).containsExactly(1L);
+        Assertions.assertThat(adapter.search(request("NVIDIA earning"), 0, 10).ids()).containsExactly(2L);
+        Assertions.assertThat(adapter.search(request("전자"), 0, 10).ids()).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    void 제공자_카테고리_감성_기간으로_거른다() throws Exception {
+        // given
+        stored.add(news(1L, "Fed rate decision", NewsProvider.BLOOMBERG, TargetCategory.SPY,
+                SentimentType.POSITIVE, BASE));
+        stored.add(news(2L, "Fed rate decision", NewsProvider.MARKETAUX, TargetCategory.SPY,
+                SentimentType.POSITIVE, BASE));
+        stored.add(news(3L, "Fed rate decision", NewsProvider.BLOOMBERG, TargetCategory.BTC,
+                SentimentType.POSITIVE, BASE));
+        stored.add(news(4L, "Fed rate decision", NewsProvider.BLOOMBERG, TargetCategory.SPY,
+                SentimentType.NEUTRAL, BASE));
+        stored.add(news(5L, "Fed rate decision", NewsProvider.BLOOMBERG, TargetCategory.SPY,
+                SentimentType.POSITIVE, BASE.minusDays(10)));
+        rebuild();
+
+        NewsSearchRequest request = request("fed");
+        request.setProviders(List.of(NewsProvider.BLOOMBERG));
+        request.setCategories(List.of(TargetCategory.SPY));
+        request.setSentimentType(SentimentType.POSITIVE);
+        request.setStartDate(BASE.minusDays(1));
+        request.setEndDate(BASE.plusDays(1));
+
+        // when
+        SearchPage page = adapter.search(request, 0, 10);
+
+        // then
+        Assertions.assertThat(page.ids()).containsExactly(1L);
+        Assertions.assertThat(page.totalHits()).isEqualTo(1);
+    }
+
+    @Test
+    void 커서로_이어_조회하면_오프셋_조회와_같은_순서로_빠짐없이_나온다() throws Exception {
+        // given: 점수가 같은 기사는 발행 시각, 그다음 id 순으로 정렬된다
+        for (long id = 1; id <= 25; id++) {
+            stored.add(news(id, "bitcoin etf flows", NewsProvider.BLOOMBERG, TargetCategory.BTC,
+                    SentimentType.NEUTRAL, BASE.plusMinutes(id / 2)));
+        }
+        rebuild();
+
+        // when
+        List<Long> byCursor = new ArrayList<>();
+        String cursor = null;
+        do {
+            SearchPage page = adapter.searchAfter(request("bitcoin"), cursor, 10);
+            byCursor.addAll(page.ids());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        List<Long> byOffset = new ArrayList<>();
+        for (int page = 0; page < 3; page++) {
+            byOffset.addAll(adapter.search(request("bitcoin"), page, 10).ids());
+        }
+
+        // then
+        Assertions.assertThat(byCursor).hasSize(25).doesNotHaveDuplicates().startsWith(25L, 24L, 23L);
+        Assertions.assertThat(byCursor).isEqualTo(byOffset);
+    }
+
+    @Test
+    void 저장_이벤트로_바뀐_기사는_다시_색인하고_사라진_기사는_뺀다() throws Exception {
+        // given
+        stored.add(news(1L, "Apple launches new iPhone", NewsProvider.BLOOMBERG, TargetCategory.AAPL,
+                SentimentType.POSITIVE, BASE));
+        stored.add(news(2L, "Apple supplier outlook", NewsProvider.BLOOMBERG, TargetCategory.AAPL,
+                SentimentType.NEUTRAL, BASE));
+        rebuild();
+
+        // when: 1번 기사 제목이 바뀌고 2번 기사는 삭제됐다
+        Mockito.when(newsPersistencePort.findAllByIds(List.of(1L, 2L))).thenReturn(new Newses(List.of(
+                news(1L, "Tesla deliveries", NewsProvider.BLOOMBERG, TargetCategory.AAPL,
+                        SentimentType.POSITIVE, BASE))));
+        adapter.index(List.of(1L, 2L));
+
+        // then: 색인 스레드가 반영하고 다음 갱신 주기에 검색에 보인다
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!adapter.search(request("apple"), 0, 10).ids().isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        Assertions.assertThat(adapter.search(request("apple"), 0, 10).ids()).isEmpty();
+        Assertions.assertThat(adapter.search(request("tesla"), 0, 10).ids()).containsExactly(1L);
+    }
+
+    private void rebuild() throws Exception {
+        Mockito.when(newsPersistencePort.findAllByIdAfter(eq(0L), anyInt())).thenReturn(new Newses(List.copyOf(stored)));
+        adapter.rebuild().get(10, TimeUnit.SECONDS);
+    }
+
+    private static NewsSearchRequest request(String keyword) {
+        NewsSearchRequest request = new NewsSearchRequest();
+        request.setKeyword(keyword);
+        return request;
+    }
+
+    private static News news(long id, String title, NewsProvider provider, TargetCategory category,
+                             SentimentType sentimentType, LocalDateTime publishedTime) {
+        return new News(id, provider, publishedTime,
+                new Content(title, title + " 본문"),
+                null,
+                new AiOverview("요약", sentimentType, 0.5, List.of(category)),
+                NewsMeta.of(provider, publishedTime, "https://example.com/" + id));
+    }
+}
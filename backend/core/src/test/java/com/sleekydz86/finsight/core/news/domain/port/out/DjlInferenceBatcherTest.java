@@ -0,0 +1,71 @@
+package com.sleekydz86.finsight.core.news.domain.port.out;
+
+import ai.djl.inference.Predictor;
+import ai.djl.modality.Classifications;
+import ai.djl.repository.zoo.ZooModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+class DjlInferenceBatcherTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 요청을_묶어_하나의_Predictor_로_추론한다() throws Exception {
+        // given
+        ZooModel<String, Classifications> model = Mockito.mock(ZooModel.class);
+        Predictor<String, Classifications> predictor = Mockito.mock(Predictor.class);
+        Mockito.when(model.newPredictor()).thenReturn(predictor);
+        Mockito.when(predictor.batchPredict(Mockito.anyList())).thenAnswer(invocation -> {
+            List<String> texts = invocation.getArgument(0);
+            return texts.stream()
+                    .map(text -> new Classifications(List.of(text), List.of(1.0)))
+                    .toList();
+        });
+
+        try (DjlInferenceBatcher batcher = new DjlInferenceBatcher(model, 1, 8, 50, 100, new SimpleMeterRegistry())) {
+            // when
+            List<CompletableFuture<Classifications>> futures = IntStream.range(0, 8)
+                    .mapToObj(i -> batcher.submit("text " + i))
+                    .toList();
+
+            // then
+            for (int i = 0; i < futures.size(); i++) {
+                Assertions.assertThat(futures.get(i).get(5, TimeUnit.SECONDS).best().getClassName())
+                        .isEqualTo("text " + i);
+            }
+            Mockito.verify(model, Mockito.times(1)).newPredictor();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void Predictor_생성에_실패하면_대기_중인_요청을_실패시키고_새_요청은_바로_거절한다() throws Exception {
+        // given
+        ZooModel<String, Classifications> model = Mockito.mock(ZooModel.class);
+        Mockito.when(model.newPredictor()).thenThrow(new IllegalStateException("엔진을 찾을 수 없습니다"));
+
+        try (DjlInferenceBatcher batcher = new DjlInferenceBatcher(model, 2, 8, 10, 100, new SimpleMeterRegistry())) {
+            // when
+            CompletableFuture<Classifications> queued = batcher.submit("queued");
+
+            // then
+            Assertions.assertThatThrownBy(() -> queued.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(RejectedExecutionException.class);
+            Assertions.assertThat(batcher.isRunning()).isFalse();
+            Assertions.assertThat(batcher.queueDepth()).isZero();
+
+            CompletableFuture<Classifications> late = batcher.submit("late");
+            Assertions.assertThat(late).isCompletedExceptionally();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.sleekydz86.finsight.core.news.domain.vo;
+
+import com.sleekydz86.finsight.core.global.exception.ValidationException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+class NewsCursorTest {
+
+    @Test
+    void 인코딩한_커서를_디코딩하면_같은_위치를_가리킨다() {
+        // given
+        NewsCursor cursor = NewsCursor.of(LocalDateTime.of(2025, 3, 1, 9, 30, 15, 123_000_000), 42L);
+
+        // when
+        NewsCursor decoded = NewsCursor.decode(cursor.encode());
+
+        // then
+        Assertions.assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    void 형식이_잘못된_커서는_ValidationException을_던진다() {
+        Assertions.assertThatThrownBy(() -> NewsCursor.decode("not-a-cursor"))
+                .isInstanceOf(ValidationException.class);
+    }
+}
@@ -0,0 +1,84 @@
+package com.sleekydz86.finsight.core.news.service;
+
+import com.sleekydz86.finsight.core.global.NewsProvider;
+import com.sleekydz86.finsight.core.global.cache.AdvancedCacheManager;
+import com.sleekydz86.finsight.core.global.cache.MethodCacheKey;
+import com.sleekydz86.finsight.core.news.domain.event.NewsCacheInvalidationEvent;
+import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsQueryRequest;
+import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class NewsCacheInvalidatorTest {
+
+    private AdvancedCacheManager cacheManager;
+    private NewsCacheInvalidator invalidator;
+    private Cache listCache;
+
+    @BeforeEach
+    void setUp() {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheNames(List.of("news_detail", "news_list", "news_search"));
+        cacheManager = new AdvancedCacheManager(caffeineCacheManager, new SimpleMeterRegistry(), 1, 2);
+        invalidator = new NewsCacheInvalidator(cacheManager);
+        listCache = caffeineCacheManager.getCache("news_list");
+    }
+
+    @Test
+    void 영향을_받는_카테고리와_제공자_키만_무효화한다() {
+        // given
+        MethodCacheKey marketauxFilter = MethodCacheKey.of("news:all:filters", new Object[] {
+                new NewsQueryRequest(null, null, null, null, null, List.of(NewsProvider.MARKETAUX))});
+        MethodCacheKey otherProviderFilter = MethodCacheKey.of("news:all:filters", new Object[] {
+                new NewsQueryRequest(null, null, null, null, null, List.of(NewsProvider.BLOOMBERG))});
+        load("news:category:NVDA:10", "nvda");
+        load("news:category:BTC:10", "btc");
+        load("news:latest:10", "latest");
+        load(marketauxFilter, "marketaux");
+        load(otherProviderFilter, "bloomberg");
+
+        // when
+        invalidator.invalidate(new NewsCacheInvalidationEvent(
+                Set.of(NewsProvider.MARKETAUX), Set.of(TargetCategory.NVDA), Set.of(1L)));
+
+        // then
+        Assertions.assertThat(listCache.get("news:category:NVDA:10")).isNull();
+        Assertions.assertThat(listCache.get("news:latest:10")).isNull();
+        Assertions.assertThat(listCache.get(marketauxFilter)).isNull();
+        Assertions.assertThat(listCache.get("news:category:BTC:10")).isNotNull();
+        Assertions.assertThat(listCache.get(otherProviderFilter)).isNotNull();
+    }
+
+    @Test
+    void 자주_조회된_키는_지우지_않고_백그라운드에서_다시_적재한다() throws Exception {
+        // given
+        AtomicInteger version = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            cacheManager.getOrLoad(listCache, "news:latest:10", () -> "v" + version.incrementAndGet(), value -> true);
+        }
+
+        // when
+        invalidator.invalidate(new NewsCacheInvalidationEvent(Set.of(), Set.of(), Set.of()));
+
+        // then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (cacheManager.getCacheStatistics("news_list").getRefreshes() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertThat(listCache.get("news:latest:10")).isNotNull();
+        Assertions.assertThat(listCache.get("news:latest:10").get()).isEqualTo("v2");
+    }
+
+    private void load(Object key, String value) {
+        cacheManager.getOrLoad(listCache, key, () -> value, result -> true);
+    }
+}
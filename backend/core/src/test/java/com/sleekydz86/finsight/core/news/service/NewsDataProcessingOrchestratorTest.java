@@ -0,0 +1,184 @@
+package com.sleekydz86.finsight.core.news.service;
+
+import com.sleekydz86.finsight.core.global.NewsProvider;
+import com.sleekydz86.finsight.core.news.domain.News;
+import com.sleekydz86.finsight.core.news.domain.Newses;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsIngestResult;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsPersistencePort;
+import com.sleekydz86.finsight.core.news.domain.vo.Content;
+import com.sleekydz86.finsight.core.news.domain.vo.NewsMeta;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.mockito.ArgumentMatchers.anyList;
+
+class NewsDataProcessingOrchestratorTest {
+
+    private static final Logger log = LoggerFactory.getLogger(NewsDataProcessingOrchestratorTest.class);
+
+    private final Queue<Integer> persistedBatchSizes = new ConcurrentLinkedQueue<>();
+
+    @Test
+    void 청크_경계를_넘는_중복과_품질_미달_기사를_걸러내고_배치로_적재한다() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        NewsDataProcessingOrchestrator orchestrator = orchestrator(meterRegistry, 4);
+        List<News> raw = new ArrayList<>(articles(1_000, 0));
+        raw.addAll(articles(100, 0));
+        raw.add(new News(0L, new NewsMeta(NewsProvider.MARKETAUX, LocalDateTime.now(), "https://example.com/short"),
+                LocalDateTime.now(), new Content("짧은 제목", "본문이 너무 짧다"), null, null));
+
+        try {
+            // when
+            Newses processed = orchestrator.processNewsData(new Newses(raw)).get();
+
+            // then
+            Assertions.assertThat(processed.getNewses()).hasSize(1_000);
+            Assertions.assertThat(processed.getNewses())
+                    .extracting(news -> news.getNewsMeta().getSourceUrl())
+                    .doesNotHaveDuplicates();
+            Assertions.assertThat(persistedBatchSizes).allMatch(size -> size <= 300);
+            Assertions.assertThat(persistedBatchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(1_000);
+
+            Map<String, Object> stats = orchestrator.getProcessingStatistics();
+            Assertions.assertThat(stats.get("totalProcessed")).isEqualTo(1_101L);
+            Assertions.assertThat(stats.get("successfulProcessed")).isEqualTo(1_000L);
+            for (String stage : List.of("normalize", "deduplicate", "quality", "persist")) {
+                Assertions.assertThat(meterRegistry.get("news.processing.stage.queue.depth").tag("stage", stage)
+                        .gauge().value()).isZero();
+                Assertions.assertThat(meterRegistry.get("news.processing.stage.latency").tag("stage", stage)
+                        .timer().count()).isPositive();
+            }
+            Assertions.assertThat(meterRegistry.get("news.processing.stage.articles")
+                    .tags("stage", "deduplicate", "direction", "out").counter().count()).isEqualTo(1_000.0);
+        } finally {
+            orchestrator.shutdown();
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void 오만건_백필을_기사별_순차_처리와_비교한다() throws Exception {
+        // given
+        int cores = Runtime.getRuntime().availableProcessors();
+        List<News> raw = articles(50_000, 1);
+
+        // 기존 방식: 기사마다 한 건짜리 리스트로 정규화 → 중복 제거 → 품질 검증을 한 스레드에서 수행
+        NewsDataNormalizationService sequentialNormalization = normalizationService();
+        NewsDeduplicationService sequentialDeduplication = deduplicationService();
+        NewsDataQualityService sequentialQuality = new NewsDataQualityService();
+        long sequentialStart = System.nanoTime();
+        List<News> sequential = new ArrayList<>();
+        for (News news : raw) {
+            List<News> normalized = sequentialNormalization.normalizeAndDeduplicate(List.of(news));
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            News unique = sequentialDeduplication.deduplicateNews(normalized.get(0));
+            if (unique != null && sequentialQuality.validateNewsQuality(unique).isValid()) {
+                sequential.add(unique);
+            }
+        }
+        long sequentialMillis = (System.nanoTime() - sequentialStart) / 1_000_000;
+
+        NewsDataProcessingOrchestrator orchestrator = orchestrator(new SimpleMeterRegistry(), 0);
+        try {
+            // when
+            long pipelineStart = System.nanoTime();
+            Newses processed = orchestrator.processNewsData(new Newses(raw)).get();
+            long pipelineMillis = (System.nanoTime() - pipelineStart) / 1_000_000;
+
+            // then
+            log.info("[{} cores] 50k backfill: per-article loop {}ms ({}/s), staged pipeline {}ms ({}/s)",
+                    cores, sequentialMillis, raw.size() * 1000L / Math.max(sequentialMillis, 1),
+                    pipelineMillis, raw.size() * 1000L / Math.max(pipelineMillis, 1));
+            // 기사별 경로는 기사마다 한 번씩 저장하지만, 파이프라인은 적재 배치(300건) 단위로만 INSERT 한다
+            int processedCount = processed.getNewses().size();
+            Assertions.assertThat(processedCount).isEqualTo(sequential.size());
+            Assertions.assertThat(persistedBatchSizes).hasSize((processedCount + 299) / 300)
+                    .allMatch(size -> size <= 300);
+        } finally {
+            orchestrator.shutdown();
+        }
+    }
+
+    private NewsDataProcessingOrchestrator orchestrator(SimpleMeterRegistry meterRegistry, int parallelism) {
+        NewsPersistencePort persistencePort = Mockito.mock(NewsPersistencePort.class);
+        Mockito.when(persistencePort.bulkInsertNews(anyList())).thenAnswer(invocation -> {
+            List<News> batch = invocation.getArgument(0);
+            persistedBatchSizes.add(batch.size());
+            return new NewsIngestResult(batch.size(), batch.size(), 0, batch);
+        });
+        return new NewsDataProcessingOrchestrator(
+                normalizationService(),
+                deduplicationService(),
+                new NewsDataQualityService(),
+                new NewsPersistenceService(persistencePort),
+                meterRegistry,
+                100, 16, parallelism, parallelism, 2, 1, 300);
+    }
+
+    private static NewsDataNormalizationService normalizationService() {
+        NewsDataNormalizationService service = new NewsDataNormalizationService();
+        ReflectionTestUtils.setField(service, "minTitleLength", 10);
+        ReflectionTestUtils.setField(service, "maxTitleLength", 200);
+        ReflectionTestUtils.setField(service, "minContentLength", 50);
+        ReflectionTestUtils.setField(service, "maxContentLength", 10_000);
+        ReflectionTestUtils.setField(service, "removeHtmlTags", true);
+        ReflectionTestUtils.setField(service, "removeControlCharacters", true);
+        ReflectionTestUtils.setField(service, "enableContentHashing", true);
+        return service;
+    }
+
+    private static NewsDeduplicationService deduplicationService() {
+        NewsDeduplicationService service = new NewsDeduplicationService();
+        ReflectionTestUtils.setField(service, "urlBasedDeduplication", true);
+        ReflectionTestUtils.setField(service, "titleSimilarityThreshold", 0.8);
+        ReflectionTestUtils.setField(service, "contentSimilarityThreshold", 0.8);
+        ReflectionTestUtils.setField(service, "timeWindowHours", 24);
+        ReflectionTestUtils.setField(service, "maxCacheSize", 100_000);
+        service.initialize();
+        return service;
+    }
+
+    private static List<News> articles(int count, long seed) {
+        Random random = new Random(seed);
+        LocalDateTime now = LocalDateTime.now().minusMinutes(1);
+        List<News> newses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder body = new StringBuilder("<p>");
+            for (int sentence = 0; sentence < 12; sentence++) {
+                for (int word = 0; word < 14; word++) {
+                    body.append("term").append(random.nextInt(5_000)).append(' ');
+                }
+                body.append("term").append(random.nextInt(5_000)).append(".</p>\n<p>");
+            }
+            body.append("</p>");
+            StringBuilder title = new StringBuilder();
+            for (int word = 0; word < 10; word++) {
+                title.append("term").append(random.nextInt(5_000)).append(' ');
+            }
+            newses.add(new News(0L,
+                    new NewsMeta(NewsProvider.MARKETAUX, now.minusSeconds(i), "https://example.com/news/" + seed + "/" + i),
+                    now,
+                    new Content(title.append(i).toString(), body.toString()),
+                    null,
+                    null));
+        }
+        return newses;
+    }
+}
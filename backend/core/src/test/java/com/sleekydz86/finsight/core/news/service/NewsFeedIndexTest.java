@@ -0,0 +1,169 @@
+package com.sleekydz86.finsight.core.news.service;
+
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsFeedEntry;
+import com.sleekydz86.finsight.core.news.domain.port.out.NewsPersistencePort;
+import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+
+class NewsFeedIndexTest {
+
+    private static final Logger log = LoggerFactory.getLogger(NewsFeedIndexTest.class);
+
+    private static final double HALF_LIFE_HOURS = 12;
+    private static final long MAX_EXAMINED_PER_QUERY = 1_000;
+
+    private final NewsPersistencePort newsPersistencePort = Mockito.mock(NewsPersistencePort.class);
+
+    @Test
+    void 관련도와_최신성_감쇠를_곱한_점수_상위_K개를_전수_정렬과_같게_고른다() {
+        // given
+        List<NewsFeedEntry> entries = entries(20_000, 7);
+        NewsFeedIndex index = index(entries, 100_000);
+        Random random = new Random(3);
+
+        for (int round = 0; round < 200; round++) {
+            long watchlistMask = random.nextLong() & ((1L << TargetCategory.values().length) - 1);
+            int limit = 1 + random.nextInt(50);
+
+            // when
+            List<Long> ranked = index.topK(watchlistMask, limit);
+
+            // then
+            Assertions.assertThat(ranked).isEqualTo(bruteForce(entries, watchlistMask, limit));
+        }
+    }
+
+    @Test
+    void 저장_이벤트로_바뀐_기사만_다시_읽어_색인에_반영한다() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        NewsFeedIndex index = index(List.of(
+                new NewsFeedEntry(1L, now.minusHours(3), TargetCategory.NVDA.bit()),
+                new NewsFeedEntry(2L, now.minusHours(2), TargetCategory.TSLA.bit())), 100);
+        long watchlist = TargetCategory.maskOf(List.of(TargetCategory.NVDA, TargetCategory.BTC));
+        Assertions.assertThat(index.topK(watchlist, 10)).containsExactly(1L);
+        long generation = index.generation();
+
+        Mockito.when(newsPersistencePort.findFeedEntriesByIds(anyCollection())).thenReturn(List.of(
+                new NewsFeedEntry(3L, now.minusMinutes(5), TargetCategory.BTC.bit()),
+                new NewsFeedEntry(2L, now.minusHours(2), TargetCategory.TSLA.bit() | TargetCategory.NVDA.bit())));
+
+        // when
+        index.refresh(Set.of(1L, 2L, 3L));
+
+        // then
+        Assertions.assertThat(index.topK(watchlist, 10)).containsExactly(3L, 2L);
+        Assertions.assertThat(index.generation()).isGreaterThan(generation);
+    }
+
+    @Test
+    void 카테고리별_상한을_넘으면_가장_오래된_기사부터_뺀다() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        List<NewsFeedEntry> entries = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            entries.add(new NewsFeedEntry(id, now.minusMinutes(100 - id), TargetCategory.BTC.bit()));
+        }
+
+        // when
+        NewsFeedIndex index = index(entries, 3);
+
+        // then
+        Assertions.assertThat(index.topK(TargetCategory.BTC.bit(), 10)).containsExactly(10L, 9L, 8L);
+        Assertions.assertThat(index.getStatistics().get("indexedArticles")).isEqualTo(3);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void 백만건_색인에서_개인화_피드_지연시간을_측정한다() {
+        // given
+        List<NewsFeedEntry> entries = entries(1_000_000, 11);
+        NewsFeedIndex index = index(entries, 1_000_000);
+        Random random = new Random(5);
+        long allCategories = (1L << TargetCategory.values().length) - 1;
+        for (int i = 0; i < 20_000; i++) {
+            index.topK(random.nextLong() & allCategories, 20);
+        }
+
+        // when
+        long[] nanos = new long[20_000];
+        long maxExamined = 0;
+        for (int i = 0; i < nanos.length; i++) {
+            long watchlistMask = random.nextLong() & allCategories;
+            long examinedBefore = index.examinedPostings();
+            long start = System.nanoTime();
+            index.topK(watchlistMask == 0 ? 1 : watchlistMask, 20);
+            nanos[i] = System.nanoTime() - start;
+            maxExamined = Math.max(maxExamined, index.examinedPostings() - examinedBefore);
+        }
+
+        // then: 조기 종료로 백만 건 중 일부만 살펴본다
+        Arrays.sort(nanos);
+        long p50 = nanos[nanos.length / 2];
+        long p99 = nanos[(int) (nanos.length * 0.99)];
+        log.info("[1M articles] topK(20): p50 {}us, p99 {}us, max examined {}", p50 / 1_000, p99 / 1_000, maxExamined);
+        Assertions.assertThat(maxExamined).isLessThan(MAX_EXAMINED_PER_QUERY);
+    }
+
+    private NewsFeedIndex index(List<NewsFeedEntry> entries, int maxPerCategory) {
+        Mockito.when(newsPersistencePort.findFeedEntriesPublishedAfter(any(), anyInt())).thenReturn(entries);
+        return new NewsFeedIndex(newsPersistencePort, HALF_LIFE_HOURS, 7, maxPerCategory, Integer.MAX_VALUE, 30);
+    }
+
+    private static List<NewsFeedEntry> entries(int count, long seed) {
+        Random random = new Random(seed);
+        LocalDateTime now = LocalDateTime.now();
+        int categories = TargetCategory.values().length;
+        List<NewsFeedEntry> entries = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            long mask = 0L;
+            int categoryCount = 1 + random.nextInt(3);
+            for (int i = 0; i < categoryCount; i++) {
+                mask |= 1L << random.nextInt(categories);
+            }
+            entries.add(new NewsFeedEntry(id, now.minusSeconds(random.nextInt(6 * 24 * 3600)), mask));
+        }
+        return entries;
+    }
+
+    // 관련도(일치 카테고리 비율) × 0.5^(경과시간/반감기) 를 전부 계산해 정렬한 기준 결과
+    private static List<Long> bruteForce(List<NewsFeedEntry> entries, long watchlistMask, int limit) {
+        long now = System.currentTimeMillis();
+        double halfLifeMillis = HALF_LIFE_HOURS * 3_600_000;
+        record Candidate(long newsId, long publishedMillis, double score) {
+        }
+        return entries.stream()
+                .filter(entry -> (entry.categoryMask() & watchlistMask) != 0)
+                .map(entry -> {
+                    long publishedMillis = entry.publishedTime().atZone(java.time.ZoneId.systemDefault())
+                            .toInstant().toEpochMilli();
+                    double relevance = (double) Long.bitCount(entry.categoryMask() & watchlistMask)
+                            / Long.bitCount(entry.categoryMask());
+                    return new Candidate(entry.newsId(), publishedMillis,
+                            relevance * Math.pow(0.5, (now - publishedMillis) / halfLifeMillis));
+                })
+                .sorted(Comparator.comparingDouble(Candidate::score).reversed()
+                        .thenComparing(Comparator.comparingLong(Candidate::publishedMillis).reversed())
+                        .thenComparing(Comparator.comparingLong(Candidate::newsId).reversed()))
+                .limit(limit)
+                .map(Candidate::newsId)
+                .toList();
+    }
+}
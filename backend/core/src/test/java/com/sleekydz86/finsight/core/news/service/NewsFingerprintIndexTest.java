@@ -0,0 +1,93 @@
+package com.sleekydz86.finsight.core.news.service;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Random;
+
+class NewsFingerprintIndexTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    @Test
+    void 단어_일부만_바뀐_제목은_근접_중복으로_판정한다() {
+        // given
+        NewsFingerprintIndex index = new NewsFingerprintIndex(HOUR, 24, 1_000, 6, 10);
+        long original = NewsSimHash.fingerprint(
+                "Fed holds interest rates steady as inflation cools, signals two cuts later this year amid slowing growth");
+        long rewritten = NewsSimHash.fingerprint(
+                "Fed holds interest rates steady as inflation cools, signals two rate cuts later this year amid slowing growth");
+        long unrelated = NewsSimHash.fingerprint(
+                "Apple unveils new iPhone lineup with upgraded camera and longer battery life at annual event");
+
+        // when
+        NewsFingerprintIndex.Match first = index.addIfAbsent(1L, original, 0L, 0L);
+        NewsFingerprintIndex.Match second = index.addIfAbsent(2L, rewritten, 0L, 0L);
+        NewsFingerprintIndex.Match third = index.addIfAbsent(3L, unrelated, 0L, 0L);
+
+        // then
+        Assertions.assertThat(first).isNull();
+        Assertions.assertThat(second).isEqualTo(NewsFingerprintIndex.Match.TITLE);
+        Assertions.assertThat(third).isNull();
+    }
+
+    @Test
+    void 윈도우를_벗어난_버킷은_만료되고_최대_건수를_넘지_않는다() {
+        // given
+        NewsFingerprintIndex index = new NewsFingerprintIndex(HOUR, 2, 3, 6, 10);
+        index.addIfAbsent(NewsSimHash.urlHash("https://example.com/a"), 0L, 0L, 0L);
+
+        // when
+        NewsFingerprintIndex.Match expired = index.addIfAbsent(
+                NewsSimHash.urlHash("http://www.example.com/a/"), 0L, 0L, 2 * HOUR);
+        for (int i = 0; i < 10; i++) {
+            index.addIfAbsent(NewsSimHash.urlHash("https://example.com/" + i), 0L, 0L, (3 + i) * HOUR);
+        }
+
+        // then
+        Assertions.assertThat(expired).isNull();
+        Assertions.assertThat(index.size()).isLessThanOrEqualTo(3);
+        Assertions.assertThat(index.getStatistics()).containsKeys("estimatedBytes", "bytesPerArticle");
+    }
+
+    @Test
+    void 느슨한_허용_거리를_요청해도_무관한_지문은_윈도우의_일부만_후보로_비교한다() {
+        // given: 거리 10 을 요청하면 밴드가 6비트로 좁아져 밴드마다 윈도우의 1/64 가 후보가 된다
+        NewsFingerprintIndex index = new NewsFingerprintIndex(HOUR, 24, 10_000, 10, 10);
+        Random random = new Random(1);
+        for (int i = 0; i < 5_000; i++) {
+            index.addIfAbsent(0L, random.nextLong(), 0L, 0L);
+        }
+        long before = index.candidateComparisons();
+
+        // when
+        int lookups = 1_000;
+        for (int i = 0; i < lookups; i++) {
+            index.addIfAbsent(0L, random.nextLong(), 0L, 0L);
+        }
+
+        // then: 밴드 7개 × 약 9비트면 조회당 후보는 5,000 / 512 × 7 ≈ 70 건 안팎이다
+        long perLookup = (index.candidateComparisons() - before) / lookups;
+        Assertions.assertThat(perLookup).isLessThan(150);
+    }
+
+    @Test
+    void 초기화하면_만료와_초과_건수도_0으로_돌아간다() {
+        // given
+        NewsFingerprintIndex index = new NewsFingerprintIndex(HOUR, 1, 1, 6, 6);
+        index.addIfAbsent(1L, 0L, 0L, 0L);
+        index.addIfAbsent(2L, 0L, 0L, 0L);
+        index.addIfAbsent(3L, 0L, 0L, 2 * HOUR);
+
+        // when
+        index.clear();
+
+        // then
+        Assertions.assertThat(index.getStatistics())
+                .containsEntry("indexedArticles", 0)
+                .containsEntry("expiredArticles", 0L)
+                .containsEntry("overflowedArticles", 0L)
+                .containsEntry("candidateComparisons", 0L);
+    }
+}
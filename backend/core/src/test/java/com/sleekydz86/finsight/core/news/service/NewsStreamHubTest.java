@@ -0,0 +1,190 @@
+package com.sleekydz86.finsight.core.news.service;
+
+import com.sleekydz86.finsight.core.global.NewsProvider;
+import com.sleekydz86.finsight.core.news.domain.NewsSummary;
+import com.sleekydz86.finsight.core.news.domain.vo.SentimentType;
+import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+class NewsStreamHubTest {
+
+    @Test
+    void 구독자는_카테고리와_제공자_필터에_맞는_기사만_받는다() {
+        // given
+        NewsStreamHub hub = new NewsStreamHub(16);
+        RecordingSubscriber all = new RecordingSubscriber(Long.MAX_VALUE);
+        RecordingSubscriber btcOnly = new RecordingSubscriber(Long.MAX_VALUE);
+        RecordingSubscriber marketaux = new RecordingSubscriber(Long.MAX_VALUE);
+        hub.subscribe(null, null).subscribe(all);
+        hub.subscribe(List.of(TargetCategory.BTC), List.of()).subscribe(btcOnly);
+        hub.subscribe(List.of(), List.of(NewsProvider.MARKETAUX)).subscribe(marketaux);
+
+        // when
+        hub.emit(List.of(
+                summary(1L, NewsProvider.BLOOMBERG, TargetCategory.BTC, TargetCategory.TSLA),
+                summary(2L, NewsProvider.MARKETAUX, TargetCategory.AAPL),
+                summary(3L, NewsProvider.BLOOMBERG)));
+
+        // then
+        Assertions.assertThat(all.ids()).containsExactly(1L, 2L, 3L);
+        Assertions.assertThat(btcOnly.ids()).containsExactly(1L);
+        Assertions.assertThat(marketaux.ids()).containsExactly(2L);
+    }
+
+    @Test
+    void 느린_구독자는_오래된_기사부터_잃고_다른_구독자는_영향을_받지_않는다() {
+        // given
+        NewsStreamHub hub = new NewsStreamHub(3);
+        RecordingSubscriber fast = new RecordingSubscriber(Long.MAX_VALUE);
+        RecordingSubscriber slow = new RecordingSubscriber(0);
+        hub.subscribe(null, null).subscribe(fast);
+        hub.subscribe(null, null).subscribe(slow);
+
+        // when
+        for (long id = 1; id <= 10; id++) {
+            hub.emit(List.of(summary(id, NewsProvider.BLOOMBERG, TargetCategory.GENERAL)));
+        }
+        slow.request(Long.MAX_VALUE);
+
+        // then
+        Assertions.assertThat(fast.ids()).hasSize(10);
+        Assertions.assertThat(slow.ids()).containsExactly(8L, 9L, 10L);
+        Assertions.assertThat(hub.droppedCount()).isEqualTo(7);
+    }
+
+    @Test
+    void 전달이_막힌_구독자가_많아도_발행은_기다리지_않고_전달_스레드는_늘지_않는다() throws Exception {
+        // given: 구독자 200명이 첫 기사를 받는 자리에서 멈춘다
+        NewsStreamHub hub = new NewsStreamHub(16, Schedulers.newParallel("news-stream-test", 4));
+        CountDownLatch release = new CountDownLatch(1);
+        Set<String> deliveryThreads = ConcurrentHashMap.newKeySet();
+        List<BlockingSubscriber> slow = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            BlockingSubscriber subscriber = new BlockingSubscriber(release, deliveryThreads);
+            hub.subscribe(null, null).subscribe(subscriber);
+            slow.add(subscriber);
+        }
+        RecordingSubscriber fast = new RecordingSubscriber(Long.MAX_VALUE);
+        hub.subscribe(null, null).subscribe(fast);
+        try {
+            // when: 발행 스레드가 구독자 쪽 코드를 실행하면 첫 기사에서 멈춘다
+            CompletableFuture<Void> publishing = CompletableFuture.runAsync(() -> {
+                for (long id = 0; id <= 100; id++) {
+                    hub.emit(List.of(summary(id, NewsProvider.BLOOMBERG, TargetCategory.GENERAL)));
+                }
+            });
+
+            // then
+            publishing.get(10, TimeUnit.SECONDS);
+            release.countDown();
+            awaitUntil(() -> slow.stream().allMatch(subscriber -> subscriber.lastId() == 100L));
+            awaitUntil(() -> fast.ids().size() == 101);
+            Assertions.assertThat(fast.ids()).startsWith(0L, 1L).endsWith(100L);
+            Assertions.assertThat(deliveryThreads).hasSizeLessThanOrEqualTo(4);
+        } finally {
+            release.countDown();
+            hub.shutdown();
+        }
+    }
+
+    @Test
+    void 구독을_취소하면_허브에서_빠진다() {
+        // given
+        NewsStreamHub hub = new NewsStreamHub(16);
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        hub.subscribe(null, null).subscribe(subscriber);
+        Assertions.assertThat(hub.hasSubscribers()).isTrue();
+
+        // when
+        subscriber.dispose();
+
+        // then
+        Assertions.assertThat(hub.hasSubscribers()).isFalse();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                Assertions.fail("10초 안에 조건을 만족하지 못했습니다");
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    private static NewsSummary summary(Long id, NewsProvider provider, TargetCategory... categories) {
+        return new NewsSummary(id, provider, LocalDateTime.of(2025, 1, 1, 9, 0), "title " + id, null,
+                SentimentType.NEUTRAL, 0.5, List.of(categories), "https://example.com/" + id);
+    }
+
+    private static final class BlockingSubscriber extends BaseSubscriber<NewsSummary> {
+
+        private final CountDownLatch release;
+        private final Set<String> deliveryThreads;
+        private volatile long lastId = -1L;
+
+        private BlockingSubscriber(CountDownLatch release, Set<String> deliveryThreads) {
+            this.release = release;
+            this.deliveryThreads = deliveryThreads;
+        }
+
+        @Override
+        protected void hookOnNext(NewsSummary value) {
+            deliveryThreads.add(Thread.currentThread().getName());
+            if (lastId < 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            lastId = value.getId();
+        }
+
+        private long lastId() {
+            return lastId;
+        }
+    }
+
+    private static final class RecordingSubscriber extends BaseSubscriber<NewsSummary> {
+
+        private final List<NewsSummary> received = new CopyOnWriteArrayList<>();
+        private final long initialDemand;
+
+        private RecordingSubscriber(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            if (initialDemand > 0) {
+                subscription.request(initialDemand);
+            }
+        }
+
+        @Override
+        protected void hookOnNext(NewsSummary value) {
+            received.add(value);
+        }
+
+        private List<Long> ids() {
+            return received.stream().map(NewsSummary::getId).toList();
+        }
+    }
+}
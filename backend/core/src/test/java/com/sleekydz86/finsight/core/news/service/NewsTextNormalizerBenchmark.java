@@ -0,0 +1,52 @@
+package com.sleekydz86.finsight.core.news.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실제 뉴스 HTML 본문 코퍼스로 정규식 체인과 단일 스캔 정규화를 비교한다.
+ * NewsTextNormalizerTest 에서 -Dbenchmark=true 일 때 실행된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NewsTextNormalizerBenchmark {
+
+    private static final int MAX_TITLE_LENGTH = 200;
+    private static final int MAX_CONTENT_LENGTH = 10_000;
+
+    private final RegexNormalizationChain regexChain = new RegexNormalizationChain(true, true, false);
+    private final NewsTextNormalizer normalizer = new NewsTextNormalizer(true, true, false);
+
+    private List<String> bodies;
+
+    @Setup
+    public void setUp() {
+        bodies = NewsTextNormalizerTest.corpus(MAX_CONTENT_LENGTH);
+    }
+
+    @Benchmark
+    public void regexChain(Blackhole blackhole) {
+        for (String body : bodies) {
+            blackhole.consume(regexChain.normalizeBody(body, MAX_CONTENT_LENGTH));
+            blackhole.consume(regexChain.normalizeTitle(body, MAX_TITLE_LENGTH));
+        }
+    }
+
+    @Benchmark
+    public void singlePass(Blackhole blackhole) {
+        for (String body : bodies) {
+            blackhole.consume(normalizer.normalize(body, MAX_CONTENT_LENGTH));
+            blackhole.consume(normalizer.normalize(body, MAX_TITLE_LENGTH));
+        }
+    }
+}
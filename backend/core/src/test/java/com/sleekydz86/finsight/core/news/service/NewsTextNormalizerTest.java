@@ -0,0 +1,158 @@
+package com.sleekydz86.finsight.core.news.service;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class NewsTextNormalizerTest {
+
+    private static final String CORPUS = "/normalization/news-bodies.html";
+    private static final String ARTICLE_DELIMITER = "<!-- article -->";
+
+    @ParameterizedTest
+    @CsvSource({"true, true, false", "true, true, true", "false, true, false", "true, false, false",
+            "false, false, true"})
+    void 뉴스_HTML_코퍼스에서_정규식_체인과_같은_결과를_낸다(boolean html, boolean control, boolean special) {
+        // given
+        RegexNormalizationChain regexChain = new RegexNormalizationChain(html, control, special);
+        NewsTextNormalizer normalizer = new NewsTextNormalizer(html, control, special);
+
+        for (String body : corpus(10_000)) {
+            for (int maxLength : new int[] {0, 1, 37, 200, 10_000, Integer.MAX_VALUE}) {
+                // when
+                String expected = regexChain.normalizeBody(body, maxLength);
+                String actual = normalizer.normalize(body, maxLength);
+
+                // then
+                Assertions.assertThat(actual).isEqualTo(expected);
+                Assertions.assertThat(normalizer.normalize(body, maxLength))
+                        .isEqualTo(regexChain.normalizeTitle(body, maxLength));
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "'a < b and c > d'|a d",
+            "'price < 100 won'|price < 100 won",
+            "'<p>unclosed <b'|unclosed <b",
+            "'  \t<br/>\n\n  lead'|lead",
+            "'form\ffeed\u000Bvtab'|formfeedvtab",
+            "'zero​width­soft'|zerowidthsoft",
+            "'emoji 🚀 end'|emoji 🚀 end"})
+    void 경계_입력을_정규식_체인과_같게_처리한다(String input, String expected) {
+        // given
+        NewsTextNormalizer normalizer = new NewsTextNormalizer(true, true, false);
+
+        // when
+        String actual = normalizer.normalize(input, 10_000);
+
+        // then
+        Assertions.assertThat(actual).isEqualTo(expected);
+        Assertions.assertThat(actual).isEqualTo(new RegexNormalizationChain(true, true, false).normalizeBody(input, 10_000));
+    }
+
+    @Test
+    void 무작위_입력에서도_정규식_체인과_같은_결과를_낸다() {
+        // given
+        String alphabet = "ab <>/\t\n\r\f\u000B\u0000\u0007​ !.,'\"가🚀𐀀";
+        int[] codePoints = alphabet.codePoints().toArray();
+        Random random = new Random(42);
+
+        for (int round = 0; round < 100_000; round++) {
+            StringBuilder builder = new StringBuilder();
+            int length = random.nextInt(40);
+            for (int i = 0; i < length; i++) {
+                int pick = random.nextInt(codePoints.length + 2);
+                if (pick == codePoints.length) {
+                    builder.append('\uD83D');
+                } else if (pick == codePoints.length + 1) {
+                    builder.append('\uDE80');
+                } else {
+                    builder.appendCodePoint(codePoints[pick]);
+                }
+            }
+            String input = builder.toString();
+            int maxLength = random.nextInt(30);
+            boolean html = random.nextBoolean();
+            boolean control = random.nextBoolean();
+            boolean special = random.nextBoolean();
+
+            // when
+            String actual = new NewsTextNormalizer(html, control, special).normalize(input, maxLength);
+
+            // then
+            Assertions.assertThat(actual)
+                    .as("input=%s, max=%d, html=%s, control=%s, special=%s",
+                            input.codePoints().mapToObj(Integer::toHexString).toList(), maxLength, html, control, special)
+                    .isEqualTo(new RegexNormalizationChain(html, control, special).normalizeBody(input, maxLength));
+        }
+    }
+
+    @Test
+    void 제어문자_포함_여부를_판단한다() {
+        // given
+        NewsTextNormalizer normalizer = new NewsTextNormalizer(true, true, false);
+
+        // when & then
+        Assertions.assertThat(normalizer.containsControlCharacter("line\r\nnext\ttab")).isFalse();
+        Assertions.assertThat(normalizer.containsControlCharacter("bell\u0007")).isTrue();
+        Assertions.assertThat(normalizer.containsControlCharacter("emoji 🚀")).isFalse();
+        Assertions.assertThat(normalizer.containsControlCharacter(null)).isFalse();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void 정규식_체인과_단일_스캔_정규화를_JMH로_비교한다() throws Exception {
+        Options options = new OptionsBuilder()
+                .include(NewsTextNormalizerBenchmark.class.getSimpleName())
+                .forks(0)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .shouldFailOnError(true)
+                .build();
+
+        Assertions.assertThat(new Runner(options).run()).hasSize(2);
+    }
+
+    /**
+     * 코퍼스의 기사들을 각각 targetLength 길이가 될 때까지 이어 붙인다. 실제 본문 상한과 비슷한 크기로 맞추기 위함이다.
+     */
+    static List<String> corpus(int targetLength) {
+        String raw;
+        try (InputStream in = NewsTextNormalizerTest.class.getResourceAsStream(CORPUS)) {
+            raw = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        List<String> bodies = new ArrayList<>();
+        for (String article : raw.split(ARTICLE_DELIMITER)) {
+            if (article.isBlank()) {
+                continue;
+            }
+            StringBuilder body = new StringBuilder(article);
+            while (body.length() < targetLength) {
+                body.append('\n').append(article);
+            }
+            bodies.add(body.toString());
+        }
+        return bodies;
+    }
+}
@@ -0,0 +1,67 @@
+package com.sleekydz86.finsight.core.news.service;
+
+import java.util.regex.Pattern;
+
+/**
+ * 단일 스캔 정규화 이전의 정규식 체인. 동등성 테스트와 벤치마크의 기준 구현으로만 쓴다.
+ */
+final class RegexNormalizationChain {
+
+    private static final Pattern HTML_TAG_PATTERN = Pattern.compile("<[^>]*>");
+    private static final Pattern CONTROL_CHAR_PATTERN = Pattern.compile("[\\p{C}&&[^\\r\\n\\t]]");
+    private static final Pattern SPECIAL_CHAR_PATTERN = Pattern.compile("[!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>/?]");
+    private static final Pattern MULTIPLE_SPACE_PATTERN = Pattern.compile("\\s+");
+    private static final Pattern MULTIPLE_NEWLINE_PATTERN = Pattern.compile("\\n\\s*\\n");
+    private static final Pattern TRAILING_SPACE_PATTERN = Pattern.compile("\\s+$");
+
+    private final boolean removeHtmlTags;
+    private final boolean removeControlCharacters;
+    private final boolean removeSpecialCharacters;
+
+    RegexNormalizationChain(boolean removeHtmlTags, boolean removeControlCharacters, boolean removeSpecialCharacters) {
+        this.removeHtmlTags = removeHtmlTags;
+        this.removeControlCharacters = removeControlCharacters;
+        this.removeSpecialCharacters = removeSpecialCharacters;
+    }
+
+    String normalizeTitle(String title, int maxLength) {
+        if (title == null) {
+            return "";
+        }
+        String normalized = strip(title);
+        normalized = MULTIPLE_SPACE_PATTERN.matcher(normalized).replaceAll(" ");
+        return truncate(normalized.trim(), maxLength);
+    }
+
+    String normalizeBody(String body, int maxLength) {
+        if (body == null) {
+            return "";
+        }
+        String normalized = strip(body);
+        normalized = MULTIPLE_SPACE_PATTERN.matcher(normalized).replaceAll(" ");
+        normalized = MULTIPLE_NEWLINE_PATTERN.matcher(normalized).replaceAll("\n\n");
+        normalized = TRAILING_SPACE_PATTERN.matcher(normalized).replaceAll("");
+        return truncate(normalized.trim(), maxLength);
+    }
+
+    private String strip(String text) {
+        String normalized = text;
+        if (removeHtmlTags) {
+            normalized = HTML_TAG_PATTERN.matcher(normalized).replaceAll("");
+        }
+        if (removeControlCharacters) {
+            normalized = CONTROL_CHAR_PATTERN.matcher(normalized).replaceAll("");
+        }
+        if (removeSpecialCharacters) {
+            normalized = SPECIAL_CHAR_PATTERN.matcher(normalized).replaceAll("");
+        }
+        return normalized;
+    }
+
+    private static String truncate(String normalized, int maxLength) {
+        if (normalized.length() > maxLength) {
+            return normalized.substring(0, maxLength).trim();
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,164 @@
+package com.sleekydz86.finsight.core.notification.service;
+
+import com.sleekydz86.finsight.core.config.AsyncConfig;
+import com.sleekydz86.finsight.core.config.WebClientConfig;
+import com.sleekydz86.finsight.core.notification.domain.Notification;
+import com.sleekydz86.finsight.core.notification.domain.NotificationChannel;
+import com.sleekydz86.finsight.core.user.domain.User;
+import com.sleekydz86.finsight.core.user.domain.UserStatus;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 웹훅 서버가 건당 2초 걸릴 때 플랫폼 스레드 풀과 가상 스레드 + 벌크헤드의 알림 발송 처리량 비교.
+ * 플랫폼 모드는 notificationExecutor 풀(최대 10개)과 호출 스레드만큼만 동시에 보내고,
+ * 가상 스레드 모드는 webhookApi 벌크헤드 한도만큼 동시에 보낸다.
+ * 건마다 2초를 기다리므로 -Dbenchmark=true 일 때만 실행한다. (건수: -Dbenchmark.notifications, 기본 200)
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("알림 발송 부하 테스트")
+class NotificationFanOutLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationFanOutLoadTest.class);
+
+    private static final Duration LATENCY = Duration.ofSeconds(2);
+    private static final int NOTIFICATIONS = Integer.getInteger("benchmark.notifications", 200);
+    private static final int WEBHOOK_CONCURRENT_CALLS = 50;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger received = new AtomicInteger();
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private List<User> users;
+    private Notification notification;
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        serverExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext("/hook", exchange -> {
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            try (exchange) {
+                exchange.getRequestBody().readAllBytes();
+                Thread.sleep(LATENCY.toMillis());
+                byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+                received.incrementAndGet();
+            }
+        });
+        server.start();
+
+        String webhookUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/hook";
+        users = IntStream.range(0, NOTIFICATIONS)
+                .mapToObj(i -> User.builder()
+                        .username("user" + i)
+                        .email("user" + i + "@example.com")
+                        .status(UserStatus.APPROVED)
+                        .webhookUrl(webhookUrl)
+                        .webhookNotificationEnabled(true)
+                        .build())
+                .toList();
+        notification = Notification.builder()
+                .id(1L)
+                .title("속보")
+                .content("웹훅 부하 테스트")
+                .channel(NotificationChannel.WEBHOOK)
+                .build();
+        restTemplate = new WebClientConfig().restTemplate(new RestTemplateBuilder());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void 가상_스레드_모드는_풀_크기가_아니라_벌크헤드_한도만큼_동시에_보낸다() {
+        // given
+        ThreadPoolTaskExecutor platform = (ThreadPoolTaskExecutor) new AsyncConfig(false).notificationExecutor();
+        Executor virtual = new AsyncConfig(true).notificationExecutor();
+
+        // when
+        Result before = send(platform);
+        platform.shutdown();
+        Result after = send(virtual);
+
+        // then
+        log.info("[notification-fanout] n={} latency={}ms platform pool: {}, virtual + bulkhead: {}",
+                NOTIFICATIONS, LATENCY.toMillis(), before, after);
+
+        assertThat(before.delivered()).isEqualTo(NOTIFICATIONS);
+        assertThat(after.delivered()).isEqualTo(NOTIFICATIONS);
+        assertThat(after.maxInFlight()).isLessThanOrEqualTo(WEBHOOK_CONCURRENT_CALLS);
+        assertThat(after.maxInFlight()).isGreaterThan(before.maxInFlight());
+    }
+
+    private Result send(Executor executor) {
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(WEBHOOK_CONCURRENT_CALLS)
+                .maxWaitDuration(Duration.ofSeconds(60))
+                .build());
+        WebhookNotificationService service = new WebhookNotificationService(restTemplate, bulkheadRegistry);
+        maxInFlight.set(0);
+        received.set(0);
+
+        long start = System.nanoTime();
+        List<CompletableFuture<Void>> futures = users.stream()
+                .map(user -> CompletableFuture.runAsync(() -> service.sendNotification(user, notification), executor))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        return new Result(received.get(), maxInFlight.get(), elapsedMillis);
+    }
+
+    private record Result(int delivered, int maxInFlight, long elapsedMillis) {
+
+        double throughput() {
+            return delivered * 1000.0 / elapsedMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%,d ms, %.1f건/s, 최대 동시 %d건", elapsedMillis, throughput(), maxInFlight);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.sleekydz86.finsight.core.board.domain.Board;
 import com.sleekydz86.finsight.core.board.domain.port.BoardQueryUseCase;
 import com.sleekydz86.finsight.core.board.domain.port.in.BoardCommandUseCase;
 import com.sleekydz86.finsight.core.board.domain.port.in.dto.*;
+import com.sleekydz86.finsight.core.comment.domain.ReactionToggleResult;
 import com.sleekydz86.finsight.core.global.annotation.CurrentUser;
 import com.sleekydz86.finsight.core.global.annotation.LogExecution;
 import com.sleekydz86.finsight.core.global.annotation.PerformanceMonitor;
@@ -136,15 +137,15 @@ public class BoardController {
     @LogExecution("게시판 좋아요")
     @PerformanceMonitor(threshold = 1000, operation = "board_like")
     @Retryable(maxAttempts = 3, delay = 1000, retryFor = { Exception.class })
-    public ResponseEntity<ApiResponse<Board>> likeBoard(
+    public ResponseEntity<ApiResponse<ReactionToggleResult>> likeBoard(
             @PathVariable Long boardId,
             @CurrentUser AuthenticatedUser currentUser) {
         try {
             if (boardId == null || boardId <= 0) {
                 throw new ValidationException("유효하지 않은 게시판 ID입니다", Arrays.asList("boardId는 1 이상의 양수여야 합니다"));
             }
-            Board board = boardCommandUseCase.likeBoard(currentUser.getEmail(), boardId);
-            return ResponseEntity.ok(ApiResponse.success(board, "좋아요가 성공적으로 처리되었습니다"));
+            ReactionToggleResult result = boardCommandUseCase.likeBoard(currentUser.getEmail(), boardId);
+            return ResponseEntity.ok(ApiResponse.success(result, "좋아요가 성공적으로 처리되었습니다"));
         } catch (ValidationException e) {
             throw e;
         } catch (Exception e) {
@@ -156,15 +157,15 @@ public class BoardController {
     @LogExecution("게시판 싫어요")
     @PerformanceMonitor(threshold = 1000, operation = "board_dislike")
     @Retryable(maxAttempts = 3, delay = 1000, retryFor = { Exception.class })
-    public ResponseEntity<ApiResponse<Board>> dislikeBoard(
+    public ResponseEntity<ApiResponse<ReactionToggleResult>> dislikeBoard(
             @PathVariable Long boardId,
             @CurrentUser AuthenticatedUser currentUser) {
         try {
             if (boardId == null || boardId <= 0) {
                 throw new ValidationException("유효하지 않은 게시판 ID입니다", Arrays.asList("boardId는 1 이상의 양수여야 합니다"));
             }
-            Board board = boardCommandUseCase.dislikeBoard(currentUser.getEmail(), boardId);
-            return ResponseEntity.ok(ApiResponse.success(board, "싫어요가 성공적으로 처리되었습니다"));
+            ReactionToggleResult result = boardCommandUseCase.dislikeBoard(currentUser.getEmail(), boardId);
+            return ResponseEntity.ok(ApiResponse.success(result, "싫어요가 성공적으로 처리되었습니다"));
         } catch (ValidationException e) {
             throw e;
         } catch (Exception e) {
@@ -3,6 +3,7 @@ package com.sleekydz86.finsight.web.controller;
 import com.sleekydz86.finsight.core.comment.domain.Comment;
 import com.sleekydz86.finsight.core.comment.domain.Comments;
 import com.sleekydz86.finsight.core.comment.domain.CommentType;
+import com.sleekydz86.finsight.core.comment.domain.ReactionToggleResult;
 import com.sleekydz86.finsight.core.comment.domain.port.in.CommentCommandUseCase;
 import com.sleekydz86.finsight.core.comment.domain.port.in.CommentQueryUseCase;
 import com.sleekydz86.finsight.core.comment.domain.port.in.dto.CommentCreateRequest;
@@ -86,6 +87,31 @@ public class CommentController {
         }
     }
 
+    @GetMapping("/{commentId}/replies")
+    @LogExecution("답글 목록 조회")
+    @PerformanceMonitor(threshold = 1000, operation = "comment_replies")
+    @Retryable(maxAttempts = 3, delay = 1000, retryFor = {Exception.class})
+    public ResponseEntity<ApiResponse<PaginationResponse<CommentResponse>>> getCommentReplies(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            if (commentId == null || commentId <= 0) {
+                throw new ValidationException("유효하지 않은 댓글 ID입니다", List.of("INVALID_COMMENT_ID"));
+            }
+            if (size <= 0 || size > 100) {
+                throw new ValidationException("페이지 크기는 1-100 사이여야 합니다", List.of("INVALID_SIZE"));
+            }
+
+            PaginationResponse<CommentResponse> replies = commentQueryUseCase.getCommentReplies(commentId, cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(replies, "답글 목록을 성공적으로 조회했습니다"));
+        } catch (ValidationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SystemException("답글 목록 조회 중 오류가 발생했습니다", "COMMENT_REPLIES_ERROR", e);
+        }
+    }
+
     @PostMapping
     @LogExecution("댓글 생성")
     @PerformanceMonitor(threshold = 2000, operation = "comment_create")
@@ -151,15 +177,15 @@ public class CommentController {
     @LogExecution("댓글 좋아요")
     @PerformanceMonitor(threshold = 1000, operation = "comment_like")
     @Retryable(maxAttempts = 3, delay = 1000, retryFor = {Exception.class})
-    public ResponseEntity<ApiResponse<Comment>> likeComment(
+    public ResponseEntity<ApiResponse<ReactionToggleResult>> likeComment(
             @PathVariable Long commentId,
             @CurrentUser AuthenticatedUser currentUser) {
         try {
             if (commentId == null || commentId <= 0) {
                 throw new ValidationException("유효하지 않은 댓글 ID입니다", List.of("INVALID_COMMENT_ID"));
             }
-            Comment comment = commentCommandUseCase.likeComment(currentUser.getEmail(), commentId);
-            return ResponseEntity.ok(ApiResponse.success(comment, "댓글 좋아요가 성공적으로 처리되었습니다"));
+            ReactionToggleResult result = commentCommandUseCase.likeComment(currentUser.getEmail(), commentId);
+            return ResponseEntity.ok(ApiResponse.success(result, "댓글 좋아요가 성공적으로 처리되었습니다"));
         } catch (ValidationException e) {
             throw e;
         } catch (Exception e) {
@@ -171,15 +197,15 @@ public class CommentController {
     @LogExecution("댓글 싫어요")
     @PerformanceMonitor(threshold = 1000, operation = "comment_dislike")
     @Retryable(maxAttempts = 3, delay = 1000, retryFor = {Exception.class})
-    public ResponseEntity<ApiResponse<Comment>> dislikeComment(
+    public ResponseEntity<ApiResponse<ReactionToggleResult>> dislikeComment(
             @PathVariable Long commentId,
             @CurrentUser AuthenticatedUser currentUser) {
         try {
             if (commentId == null || commentId <= 0) {
                 throw new ValidationException("유효하지 않은 댓글 ID입니다", List.of("INVALID_COMMENT_ID"));
             }
-            Comment comment = commentCommandUseCase.dislikeComment(currentUser.getEmail(), commentId);
-            return ResponseEntity.ok(ApiResponse.success(comment, "댓글 싫어요가 성공적으로 처리되었습니다"));
+            ReactionToggleResult result = commentCommandUseCase.dislikeComment(currentUser.getEmail(), commentId);
+            return ResponseEntity.ok(ApiResponse.success(result, "댓글 싫어요가 성공적으로 처리되었습니다"));
         } catch (ValidationException e) {
             throw e;
         } catch (Exception e) {
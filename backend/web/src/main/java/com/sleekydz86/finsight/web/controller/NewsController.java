@@ -1,12 +1,16 @@
 package com.sleekydz86.finsight.web.controller;
 
+import com.sleekydz86.finsight.core.global.NewsProvider;
 import com.sleekydz86.finsight.core.news.domain.News;
+import com.sleekydz86.finsight.core.news.domain.NewsSummary;
 import com.sleekydz86.finsight.core.news.domain.Newses;
 import com.sleekydz86.finsight.core.news.domain.port.in.NewsCommandUseCase;
 import com.sleekydz86.finsight.core.news.domain.port.in.NewsQueryUseCase;
+import com.sleekydz86.finsight.core.news.domain.port.in.NewsStreamUseCase;
 import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsDetailResponse;
 import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsQueryRequest;
 import com.sleekydz86.finsight.core.news.domain.port.in.dto.NewsSearchRequest;
+import com.sleekydz86.finsight.core.news.domain.vo.TargetCategory;
 import com.sleekydz86.finsight.core.global.annotation.CurrentUser;
 import com.sleekydz86.finsight.core.global.annotation.LogExecution;
 import com.sleekydz86.finsight.core.global.annotation.PerformanceMonitor;
@@ -15,10 +19,18 @@ import com.sleekydz86.finsight.core.global.dto.ApiResponse;
 import com.sleekydz86.finsight.core.global.dto.AuthenticatedUser;
 import com.sleekydz86.finsight.core.global.dto.PaginationResponse;
 import com.sleekydz86.finsight.core.global.exception.SystemException;
+import com.sleekydz86.finsight.core.global.exception.ValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 @RestController
@@ -27,10 +39,23 @@ public class NewsController {
 
     private final NewsCommandUseCase newsCommandUseCase;
     private final NewsQueryUseCase newsQueryUseCase;
+    private final NewsStreamUseCase newsStreamUseCase;
+    private final Flux<ServerSentEvent<NewsSummary>> heartbeat;
+    private final Duration streamMaxDuration;
 
-    public NewsController(NewsCommandUseCase newsCommandUseCase, NewsQueryUseCase newsQueryUseCase) {
+    public NewsController(NewsCommandUseCase newsCommandUseCase,
+                          NewsQueryUseCase newsQueryUseCase,
+                          NewsStreamUseCase newsStreamUseCase,
+                          @Value("${news.stream.heartbeat-seconds:15}") long heartbeatSeconds,
+                          @Value("${news.stream.max-connection-minutes:30}") long maxConnectionMinutes) {
         this.newsCommandUseCase = newsCommandUseCase;
         this.newsQueryUseCase = newsQueryUseCase;
+        this.newsStreamUseCase = newsStreamUseCase;
+        // 타이머 하나를 모든 연결이 나눠 써서 끊긴 연결을 찾고 프록시가 유휴 연결을 닫지 않게 한다
+        this.heartbeat = Flux.interval(Duration.ofSeconds(Math.max(1, heartbeatSeconds)))
+                .map(tick -> ServerSentEvent.<NewsSummary>builder().comment("heartbeat").build())
+                .share();
+        this.streamMaxDuration = Duration.ofMinutes(Math.max(1, maxConnectionMinutes));
     }
 
     @PostMapping("/scrap")
@@ -73,11 +98,11 @@ public class NewsController {
     @PerformanceMonitor(threshold = 2000, metricName = "api.news.list")
     @SecurityAudit(action = "NEWS_LIST_API", resource = "NEWS_API", level = SecurityAudit.SecurityLevel.INFO)
     @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
-    public ResponseEntity<ApiResponse<Newses>> getNewsList(
+    public ResponseEntity<ApiResponse<List<NewsSummary>>> getNewsList(
             @Valid NewsQueryRequest request,
             @CurrentUser AuthenticatedUser currentUser) {
         try {
-            Newses newses = newsQueryUseCase.findAllByFilters(request);
+            List<NewsSummary> newses = newsQueryUseCase.findAllByFilters(request);
             return ResponseEntity.ok(ApiResponse.success(newses, "뉴스 목록 조회에 성공했습니다"));
         } catch (SystemException e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage(), 400));
@@ -91,11 +116,11 @@ public class NewsController {
     @PerformanceMonitor(threshold = 3000, metricName = "api.news.search")
     @SecurityAudit(action = "NEWS_SEARCH_API", resource = "NEWS_API", level = SecurityAudit.SecurityLevel.INFO)
     @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
-    public ResponseEntity<ApiResponse<PaginationResponse<Newses>>> searchNews(
+    public ResponseEntity<ApiResponse<PaginationResponse<NewsSummary>>> searchNews(
             @Valid NewsSearchRequest request,
             @CurrentUser AuthenticatedUser currentUser) {
         try {
-            PaginationResponse<Newses> newses = newsQueryUseCase.searchNews(request);
+            PaginationResponse<NewsSummary> newses = newsQueryUseCase.searchNews(request);
             return ResponseEntity.ok(ApiResponse.success(newses, "뉴스 검색에 성공했습니다"));
         } catch (SystemException e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage(), 400));
@@ -104,16 +129,34 @@ public class NewsController {
         }
     }
 
+    @GetMapping("/search/cursor")
+    @LogExecution("뉴스 커서 검색 API")
+    @PerformanceMonitor(threshold = 1000, metricName = "api.news.search.cursor")
+    @SecurityAudit(action = "NEWS_SEARCH_API", resource = "NEWS_API", level = SecurityAudit.SecurityLevel.INFO)
+    @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
+    public ResponseEntity<ApiResponse<PaginationResponse<NewsSummary>>> searchNewsByCursor(
+            @Valid NewsSearchRequest request,
+            @CurrentUser AuthenticatedUser currentUser) {
+        try {
+            PaginationResponse<NewsSummary> newses = newsQueryUseCase.searchNewsByCursor(request);
+            return ResponseEntity.ok(ApiResponse.success(newses, "뉴스 검색에 성공했습니다"));
+        } catch (ValidationException | SystemException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage(), 400));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body(ApiResponse.error("뉴스 검색 중 오류가 발생했습니다.", 500));
+        }
+    }
+
     @GetMapping("/popular")
     @LogExecution("인기 뉴스 조회 API")
     @PerformanceMonitor(threshold = 1000, metricName = "api.news.popular")
     @SecurityAudit(action = "NEWS_POPULAR_API", resource = "NEWS_API", level = SecurityAudit.SecurityLevel.INFO)
     @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
-    public ResponseEntity<ApiResponse<Newses>> getPopularNews(
+    public ResponseEntity<ApiResponse<List<NewsSummary>>> getPopularNews(
             @RequestParam(defaultValue = "10") int limit,
             @CurrentUser AuthenticatedUser currentUser) {
         try {
-            Newses newses = newsQueryUseCase.getPopularNews(limit);
+            List<NewsSummary> newses = newsQueryUseCase.getPopularNews(limit);
             return ResponseEntity.ok(ApiResponse.success(newses, "인기 뉴스 조회에 성공했습니다"));
         } catch (SystemException e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage(), 400));
@@ -127,11 +170,11 @@ public class NewsController {
     @PerformanceMonitor(threshold = 1000, metricName = "api.news.latest")
     @SecurityAudit(action = "NEWS_LATEST_API", resource = "NEWS_API", level = SecurityAudit.SecurityLevel.INFO)
     @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
-    public ResponseEntity<ApiResponse<Newses>> getLatestNews(
+    public ResponseEntity<ApiResponse<List<NewsSummary>>> getLatestNews(
             @RequestParam(defaultValue = "10") int limit,
             @CurrentUser AuthenticatedUser currentUser) {
         try {
-            Newses newses = newsQueryUseCase.getLatestNews(limit);
+            List<NewsSummary> newses = newsQueryUseCase.getLatestNews(limit);
             return ResponseEntity.ok(ApiResponse.success(newses, "최신 뉴스 조회에 성공했습니다"));
         } catch (SystemException e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage(), 400));
@@ -145,11 +188,11 @@ public class NewsController {
     @PerformanceMonitor(threshold = 2000, metricName = "api.news.personalized")
     @SecurityAudit(action = "NEWS_PERSONALIZED_API", resource = "NEWS_API", level = SecurityAudit.SecurityLevel.INFO)
     @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
-    public ResponseEntity<ApiResponse<Newses>> getPersonalizedNews(
+    public ResponseEntity<ApiResponse<List<NewsSummary>>> getPersonalizedNews(
             @RequestParam(defaultValue = "10") int limit,
             @CurrentUser AuthenticatedUser currentUser) {
         try {
-            Newses newses = newsQueryUseCase.getPersonalizedNews(currentUser.getEmail(), limit);
+            List<NewsSummary> newses = newsQueryUseCase.getPersonalizedNews(currentUser.getEmail(), limit);
             return ResponseEntity.ok(ApiResponse.success(newses, "개인화 뉴스 조회에 성공했습니다"));
         } catch (SystemException e) {
             return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage(), 400));
@@ -157,4 +200,23 @@ public class NewsController {
             return ResponseEntity.internalServerError().body(ApiResponse.error("개인화 뉴스 조회 중 오류가 발생했습니다.", 500));
         }
     }
-}
\ No newline at end of file
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @LogExecution("뉴스 스트림 구독 API")
+    @SecurityAudit(action = "NEWS_STREAM_API", resource = "NEWS_API", level = SecurityAudit.SecurityLevel.INFO)
+    @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
+    public Flux<ServerSentEvent<NewsSummary>> streamNews(
+            @RequestParam(required = false) List<TargetCategory> categories,
+            @RequestParam(required = false) List<NewsProvider> providers,
+            @CurrentUser AuthenticatedUser currentUser) {
+        Flux<ServerSentEvent<NewsSummary>> news = newsStreamUseCase.subscribe(categories, providers)
+                .map(summary -> ServerSentEvent.builder(summary)
+                        .id(String.valueOf(summary.getId()))
+                        .event("news")
+                        .build());
+        // 하트비트는 쌓아 둘 필요가 없으므로 느린 연결에서는 버린다
+        // 연결은 정해진 시간이 지나면 정상 종료하고, 클라이언트(EventSource)가 마지막 id 로 다시 연결한다
+        return Flux.merge(news, heartbeat.onBackpressureDrop())
+                .take(streamMaxDuration);
+    }
+}
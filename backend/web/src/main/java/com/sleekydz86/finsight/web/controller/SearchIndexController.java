@@ -0,0 +1,59 @@
+package com.sleekydz86.finsight.web.controller;
+
+import com.sleekydz86.finsight.core.global.annotation.LogExecution;
+import com.sleekydz86.finsight.core.global.annotation.SecurityAudit;
+import com.sleekydz86.finsight.core.global.dto.ApiResponse;
+import com.sleekydz86.finsight.core.global.search.SearchIndexPort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/v1/admin/search-index")
+public class SearchIndexController {
+
+    private final List<SearchIndexPort> searchIndexPorts;
+
+    public SearchIndexController(List<SearchIndexPort> searchIndexPorts) {
+        this.searchIndexPorts = searchIndexPorts;
+    }
+
+    @GetMapping
+    @LogExecution("검색 색인 상태 조회")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        for (SearchIndexPort searchIndexPort : searchIndexPorts) {
+            statistics.put(searchIndexPort.indexName(), searchIndexPort.getStatistics());
+        }
+        return ResponseEntity.ok(ApiResponse.success(statistics, "검색 색인 상태를 조회했습니다"));
+    }
+
+    @PostMapping("/{indexName}/rebuild")
+    @LogExecution("검색 색인 재구성")
+    @SecurityAudit(action = "SEARCH_INDEX_REBUILD", resource = "SEARCH_INDEX", level = SecurityAudit.SecurityLevel.WARN)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> rebuild(@PathVariable String indexName) {
+        Optional<SearchIndexPort> target = searchIndexPorts.stream()
+                .filter(searchIndexPort -> searchIndexPort.indexName().equals(indexName))
+                .findFirst();
+        if (target.isEmpty()) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("알 수 없는 검색 색인입니다: " + indexName, 400));
+        }
+        if (!Boolean.TRUE.equals(target.get().getStatistics().get("enabled"))) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("검색 색인이 비활성화되어 있습니다: " + indexName, 400));
+        }
+        // 재구성은 색인 스레드에서 돌고, 끝날 때까지 검색은 기존 색인으로 한다
+        target.get().rebuild();
+        return ResponseEntity.accepted().body(ApiResponse.success(null, "검색 색인 재구성을 시작했습니다"));
+    }
+}